@@ -0,0 +1,596 @@
+package zjava.collection;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import zjava.collection.sketch.CountMinSketch;
+
+/**
+ * Cache, which holds limited number (or total weight) of entries.<br>
+ * When the limit is exceeded, entries are evicted according to W-TinyLFU policy:
+ * new entries get into a small admission window, and entries evicted from the
+ * window are admitted to the main region only if they were accessed more often
+ * than entries they displace. Access frequencies are estimated by the
+ * {@link CountMinSketch} from the {@link #get(Object) get} calls, and the
+ * sketch is halved periodically, so frequencies of the past accesses decay. Both regions choose their victims with CLOCK algorithm.
+ *
+ * <p>Entries are kept in dense arrays, and the hash table keeps only their
+ * positions together with hashes, so no objects are allocated per entry and
+ * cache operations don't produce garbage.
+ *
+ * <p>Entries may optionally expire after given time since they were written.
+ * Expired entries are removed lazily when accessed, or by {@link #cleanUp()}.
+ *
+ * <p>Neither keys nor values may be <tt>null</tt>.
+ *
+ * <p>Note that this implementation is not synchronized. See
+ * {@link ConcurrentBoundedCache} for thread-safe version.
+ *
+ * @param <K> - the type of keys
+ * @param <V> - the type of values
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class BoundedCache<K, V> {
+
+	/**
+	 * Calculates weights of cache entries.
+	 *
+	 * @param <K> - the type of keys
+	 * @param <V> - the type of values
+	 */
+	public interface Weigher<K, V> {
+
+		/**
+		 * Returns weight of the entry. Weight must not be negative.
+		 *
+		 * @param key key of the entry
+		 * @param value value of the entry
+		 * @return weight of the entry
+		 */
+		int weigh(K key, V value);
+	}
+
+	/** Part of the maximum weight, which belongs to admission window */
+	private static final int WINDOW_PERCENT = 1;
+
+	private static final int MIN_TABLE_SIZE = 16;
+
+	/** Initial number of entries of each region */
+	private static final int MIN_CAPACITY = 16;
+
+	/** Maximal number of entries of each region */
+	private static final int MAX_CAPACITY = 1 << 29;
+
+	/** Number of counters in each row of frequency sketch is limited by that value */
+	private static final int MAX_SKETCH_WIDTH = 1 << 20;
+
+	/** Multiplier of Fibonacci hashing, which chooses home slot of the hash */
+	private static final int SPREAD = 0x9E3779B9;
+
+	/** Marks entries of admission window in the hash table */
+	private static final int WINDOW_BIT = 1 << 30;
+
+	private static final int POSITION_MASK = WINDOW_BIT - 1;
+
+	/**
+	 * Entries of one region of the cache, kept in parallel arrays.<br>
+	 * Free positions have <tt>null</tt> key.
+	 */
+	private static final class Region {
+
+		Object[] keys;
+		Object[] values;
+		int[] hashes;
+		int[] weights;
+		long[] writeTimes;
+		boolean[] referenced;
+
+		/** Positions freed below {@link #used} */
+		int[] free;
+		int freeCount;
+
+		/** Positions at and above this one have never been used */
+		int used;
+
+		int count;
+		long weight;
+
+		/** Position, which CLOCK algorithm will check next */
+		int hand;
+
+		Region(final boolean expiring) {
+			init(expiring);
+		}
+
+		void init(final boolean expiring) {
+			keys = new Object[MIN_CAPACITY];
+			values = new Object[MIN_CAPACITY];
+			hashes = new int[MIN_CAPACITY];
+			weights = new int[MIN_CAPACITY];
+			writeTimes = expiring ? new long[MIN_CAPACITY] : null;
+			referenced = new boolean[MIN_CAPACITY];
+			free = new int[MIN_CAPACITY];
+			freeCount = used = count = hand = 0;
+			weight = 0;
+		}
+
+		// - returns free position, growing arrays if necessary
+		int allocate() {
+			count++;
+			if (freeCount > 0)
+				return free[--freeCount];
+			if (used == keys.length) {
+				if (used >= MAX_CAPACITY)
+					throw new OutOfMemoryError("Required array size too large");
+				final int capacity = used << 1;
+				keys = Arrays.copyOf(keys, capacity);
+				values = Arrays.copyOf(values, capacity);
+				hashes = Arrays.copyOf(hashes, capacity);
+				weights = Arrays.copyOf(weights, capacity);
+				if (writeTimes != null)
+					writeTimes = Arrays.copyOf(writeTimes, capacity);
+				referenced = Arrays.copyOf(referenced, capacity);
+				free = Arrays.copyOf(free, capacity);
+			}
+			return used++;
+		}
+
+		void release(final int position) {
+			keys[position] = null;
+			values[position] = null;
+			weight -= weights[position];
+			count--;
+			free[freeCount++] = position;
+		}
+
+		// - returns position of the entry, which wasn't referenced since the hand passed it last time
+		// - region must not be empty
+		int victim() {
+			for (;;) {
+				if (hand >= used)
+					hand = 0;
+				final int position = hand++;
+				if (keys[position] == null)
+					continue;
+				if (!referenced[position])
+					return position;
+				referenced[position] = false;
+			}
+		}
+	}
+
+	private final long maximumWeight;
+	private final long windowMaximumWeight;
+	private final Weigher<? super K, ? super V> weigher;
+	private final long expireAfterWriteNanos;
+
+	private final Region window;
+	private final Region main;
+
+	/**
+	 * Hash table with linear probing. Non-empty slot keeps hash of the key in the
+	 * higher 32 bits and position of the entry plus one in the lower bits.
+	 * Positions of the admission window entries are marked with {@link #WINDOW_BIT}
+	 */
+	private long[] table;
+
+	/** Home slot of hash <tt>h</tt> is <tt>(h * SPREAD) &gt;&gt;&gt; shift</tt> */
+	private int shift;
+
+	private final CountMinSketch<Object> sketch;
+
+	/** Number of accesses recorded in the sketch since it was halved last time */
+	private long samples;
+	private final long sampleSize;
+
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
+
+	/**
+	 * Constructs cache, which holds at most given number of entries.
+	 *
+	 * @param maximumSize maximal number of entries
+	 * @throws IllegalArgumentException if maximal size isn't positive
+	 */
+	public BoundedCache(long maximumSize) {
+		this(maximumSize, null);
+	}
+
+	/**
+	 * Constructs cache, which holds entries of at most given total weight.
+	 *
+	 * @param maximumWeight maximal total weight of entries
+	 * @param weigher calculates weights of entries; if <tt>null</tt>, weight
+	 *        of every entry is 1
+	 * @throws IllegalArgumentException if maximal weight isn't positive
+	 */
+	public BoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+		this(maximumWeight, weigher, 0, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Constructs cache, which holds entries of at most given total weight and
+	 * expires entries after given time since they were written.
+	 *
+	 * @param maximumWeight maximal total weight of entries
+	 * @param weigher calculates weights of entries; if <tt>null</tt>, weight
+	 *        of every entry is 1
+	 * @param expireAfterWrite time after which entries expire; 0 if entries never expire
+	 * @param unit time unit of <tt>expireAfterWrite</tt>
+	 * @throws IllegalArgumentException if maximal weight isn't positive or
+	 *         expiration time is negative
+	 */
+	public BoundedCache(long maximumWeight, Weigher<? super K, ? super V> weigher, long expireAfterWrite, TimeUnit unit) {
+		if (maximumWeight <= 0)
+			throw new IllegalArgumentException("Maximum weight: " + maximumWeight);
+		if (expireAfterWrite < 0)
+			throw new IllegalArgumentException("Expire after write: " + expireAfterWrite);
+		this.maximumWeight = maximumWeight;
+		this.windowMaximumWeight = Math.max(1, maximumWeight / 100 * WINDOW_PERCENT);
+		this.weigher = weigher;
+		this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+		this.window = new Region(expireAfterWriteNanos > 0);
+		this.main = new Region(expireAfterWriteNanos > 0);
+		initTable(MIN_TABLE_SIZE);
+		final int width = (int) Math.max(MIN_CAPACITY, Math.min(maximumWeight, MAX_SKETCH_WIDTH));
+		this.sketch = new CountMinSketch<Object>(Math.E / width, 0.02);
+		this.sampleSize = 10L * width;
+	}
+
+	private void initTable(final int size) {
+		table = new long[size];
+		shift = Integer.numberOfLeadingZeros(size) + 1;
+	}
+
+	static int hash(Object key) {
+		int h = key.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        return h ^ (h >>> 7) ^ (h >>> 4);
+	}
+
+	private Region region(final long entry) {
+		return ((entry & WINDOW_BIT) != 0) ? window : main;
+	}
+
+	private static int position(final long entry) {
+		return ((int) entry & POSITION_MASK) - 1;
+	}
+
+	// - returns slot of the given key or binary complement of the empty slot, where it should be inserted
+	private int slotOf(final Object key, final int hash) {
+		final int mask = table.length - 1;
+		for (int slot = (hash * SPREAD) >>> shift; ; slot = (slot + 1) & mask) {
+			final long entry = table[slot];
+			if (entry == 0)
+				return ~slot;
+			if ((int) (entry >>> 32) == hash) {
+				final Object k = region(entry).keys[position(entry)];
+				if (k == key || key.equals(k))
+					return slot;
+			}
+		}
+	}
+
+	// - returns slot, which refers to the given position of the region
+	private int slotOfPosition(final Region region, final int position) {
+		final int mask = table.length - 1;
+		final int code = (position + 1) | ((region == window) ? WINDOW_BIT : 0);
+		int slot = (region.hashes[position] * SPREAD) >>> shift;
+		while ((int) table[slot] != code)
+			slot = (slot + 1) & mask;
+		return slot;
+	}
+
+	// - frees the slot and moves following entries of the cluster back,
+	// - so lookups never stop at the freed slot before reaching their keys
+	private void freeSlot(int slot) {
+		final int mask = table.length - 1;
+		for (int next = (slot + 1) & mask; ; next = (next + 1) & mask) {
+			final long entry = table[next];
+			if (entry == 0)
+				break;
+			final int home = ((int) (entry >>> 32) * SPREAD) >>> shift;
+			// - entry may be moved only if its home slot isn't located between freed slot and the entry
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				table[slot] = entry;
+				slot = next;
+			}
+		}
+		table[slot] = 0;
+	}
+
+	// - doubles the table, so its load factor stays at most 1/2
+	private void growTable() {
+		final long[] oldTable = table;
+		initTable(oldTable.length << 1);
+		final int mask = table.length - 1;
+		for (final long entry : oldTable) {
+			if (entry == 0)
+				continue;
+			int slot = ((int) (entry >>> 32) * SPREAD) >>> shift;
+			while (table[slot] != 0)
+				slot = (slot + 1) & mask;
+			table[slot] = entry;
+		}
+	}
+
+	private void removeSlot(final int slot) {
+		final long entry = table[slot];
+		region(entry).release(position(entry));
+		freeSlot(slot);
+	}
+
+	private void evict(final Region region, final int position) {
+		removeSlot(slotOfPosition(region, position));
+		evictionCount++;
+	}
+
+	private boolean isExpired(final Region region, final int position, final long now) {
+		return expireAfterWriteNanos > 0 && now - region.writeTimes[position] >= expireAfterWriteNanos;
+	}
+
+	private long now() {
+		return (expireAfterWriteNanos > 0) ? System.nanoTime() : 0;
+	}
+
+	// - counts access to the key, so it can compete for admission to the main region
+	private void recordAccess(final Object key) {
+		sketch.add(key);
+		if (++samples >= sampleSize) {
+			sketch.halve();
+			samples >>>= 1;
+		}
+	}
+
+	private int weigh(final K key, final V value) {
+		if (weigher == null)
+			return 1;
+		final int weight = weigher.weigh(key, value);
+		if (weight < 0)
+			throw new IllegalArgumentException("Weight: " + weight);
+		return weight;
+	}
+
+	/**
+	 * Returns value associated with the key or <tt>null</tt> if there is no
+	 * such value in the cache.
+	 *
+	 * @param key the key
+	 * @return value associated with the key or <tt>null</tt>
+	 * @throws NullPointerException if key is <tt>null</tt>
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(K key) {
+		recordAccess(key);
+		final int slot = slotOf(key, hash(key));
+		if (slot >= 0) {
+			final long entry = table[slot];
+			final Region region = region(entry);
+			final int position = position(entry);
+			if (!isExpired(region, position, now())) {
+				region.referenced[position] = true;
+				hitCount++;
+				return (V) region.values[position];
+			}
+			removeSlot(slot);
+			evictionCount++;
+		}
+		missCount++;
+		return null;
+	}
+
+	/**
+	 * Associates value with the key. Entry, which is heavier than maximum weight
+	 * of the cache, is not cached.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return previous value associated with the key or <tt>null</tt>
+	 * @throws NullPointerException if either key or value is <tt>null</tt>
+	 * @throws IllegalArgumentException if weigher returns negative weight
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if (value == null)
+			throw new NullPointerException();
+		final int hash = hash(key);
+		final int weight = weigh(key, value);
+		final long now = now();
+		int slot = slotOf(key, hash);
+		if (slot >= 0) {
+			final long entry = table[slot];
+			final Region region = region(entry);
+			final int position = position(entry);
+			final V previous = isExpired(region, position, now) ? null : (V) region.values[position];
+			if (weight > maximumWeight) {
+				removeSlot(slot);
+				return previous;
+			}
+			region.values[position] = value;
+			region.weight += weight - region.weights[position];
+			region.weights[position] = weight;
+			region.referenced[position] = true;
+			if (region.writeTimes != null)
+				region.writeTimes[position] = now;
+			evict();
+			return previous;
+		}
+		if (weight > maximumWeight)
+			return null;
+		if ((long) (window.count + main.count + 1) << 1 > table.length) {
+			growTable();
+			slot = slotOf(key, hash);
+		}
+		final int position = window.allocate();
+		window.keys[position] = key;
+		window.values[position] = value;
+		window.hashes[position] = hash;
+		window.weights[position] = weight;
+		window.referenced[position] = true;
+		if (window.writeTimes != null)
+			window.writeTimes[position] = now;
+		window.weight += weight;
+		table[~slot] = ((long) hash << 32) | ((position + 1) | WINDOW_BIT);
+		evict();
+		return null;
+	}
+
+	// - moves entries from the overflowed window to the main region if they win against its victims,
+	// - then evicts entries from the main region until it fits into its maximum weight
+	private void evict() {
+		final long mainMaximumWeight = maximumWeight - windowMaximumWeight;
+		while (window.weight > windowMaximumWeight) {
+			final int candidate = window.victim();
+			final int weight = window.weights[candidate];
+			boolean admit = weight <= mainMaximumWeight;
+			long frequency = -1;
+			while (admit && main.weight + weight > mainMaximumWeight) {
+				final int victim = main.victim();
+				if (frequency < 0)
+					frequency = sketch.estimateCount(window.keys[candidate]);
+				if (frequency > sketch.estimateCount(main.keys[victim]))
+					evict(main, victim);
+				else
+					admit = false;
+			}
+			if (admit)
+				moveToMain(candidate);
+			else
+				evict(window, candidate);
+		}
+		while (main.weight > mainMaximumWeight)
+			evict(main, main.victim());
+	}
+
+	private void moveToMain(final int candidate) {
+		final int slot = slotOfPosition(window, candidate);
+		final int position = main.allocate();
+		main.keys[position] = window.keys[candidate];
+		main.values[position] = window.values[candidate];
+		main.hashes[position] = window.hashes[candidate];
+		main.weights[position] = window.weights[candidate];
+		main.referenced[position] = false;
+		if (main.writeTimes != null)
+			main.writeTimes[position] = window.writeTimes[candidate];
+		main.weight += window.weights[candidate];
+		window.release(candidate);
+		table[slot] = (table[slot] & 0xFFFFFFFF00000000L) | (position + 1);
+	}
+
+	/**
+	 * Removes entry with the given key from the cache.
+	 *
+	 * @param key the key
+	 * @return removed value or <tt>null</tt> if there was no value for the key
+	 * @throws NullPointerException if key is <tt>null</tt>
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(K key) {
+		final int slot = slotOf(key, hash(key));
+		if (slot < 0)
+			return null;
+		final long entry = table[slot];
+		final Region region = region(entry);
+		final int position = position(entry);
+		final V value = isExpired(region, position, now()) ? null : (V) region.values[position];
+		removeSlot(slot);
+		return value;
+	}
+
+	/**
+	 * Removes all entries from the cache. Statistics and access frequencies are kept.
+	 */
+	public void clear() {
+		window.init(expireAfterWriteNanos > 0);
+		main.init(expireAfterWriteNanos > 0);
+		initTable(MIN_TABLE_SIZE);
+	}
+
+	/**
+	 * Removes all expired entries from the cache.
+	 */
+	public void cleanUp() {
+		if (expireAfterWriteNanos == 0)
+			return;
+		final long now = now();
+		for (final Region region : new Region[] {window, main})
+			for (int position = 0; position < region.used; position++)
+				if (region.keys[position] != null && isExpired(region, position, now))
+					evict(region, position);
+	}
+
+	/**
+	 * Returns number of entries in the cache, including expired ones,
+	 * which weren't removed yet.
+	 *
+	 * @return number of entries in the cache
+	 */
+	public int size() {
+		return window.count + main.count;
+	}
+
+	/**
+	 * Returns total weight of the entries in the cache.
+	 *
+	 * @return total weight of the entries
+	 */
+	public long weightedSize() {
+		return window.weight + main.weight;
+	}
+
+	/**
+	 * Returns maximal total weight of the entries in the cache.
+	 *
+	 * @return maximum weight
+	 */
+	public long maximumWeight() {
+		return maximumWeight;
+	}
+
+	/**
+	 * Returns number of {@link #get(Object) get} calls, which found the value.
+	 *
+	 * @return number of cache hits
+	 */
+	public long hitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns number of {@link #get(Object) get} calls, which didn't find the value.
+	 *
+	 * @return number of cache misses
+	 */
+	public long missCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns number of entries evicted by size or weight limit or removed since they expired.
+	 *
+	 * @return number of evicted entries
+	 */
+	public long evictionCount() {
+		return evictionCount;
+	}
+
+	/**
+	 * Returns ratio of cache hits to all {@link #get(Object) get} calls,
+	 * or 1 if there were no calls.
+	 *
+	 * @return hit rate of the cache
+	 */
+	public double hitRate() {
+		final long requests = hitCount + missCount;
+		return (requests == 0) ? 1.0 : (double) hitCount / requests;
+	}
+
+	public String toString() {
+		return "BoundedCache[size=" + size() + ", weight=" + weightedSize() + "/" + maximumWeight
+			+ ", hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + "]";
+	}
+}
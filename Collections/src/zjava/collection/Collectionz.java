@@ -1,411 +1,1529 @@
-package zjava.collection;
-
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.Iterator;
-import java.util.Set;
-
-/**
- * This class contains number of useful methods that operate on collections.
- *
- * <p>The methods of this class usually throw a <tt>NullPointerException</tt>
- * if the collections or class objects provided to them are null.<br>
- *
- * @since Zjava 1.0
- * 
- * @author Ivan Zaitsau
- *
- */
-final public class Collectionz {
-
-	private static final int TO_STRING_SIZE_THRESHOLD = 4000;
-	
-	/**
-	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
-	 * instance and returns index of position right after the last element which is
-	 * strictly less than given object.<br>
-	 * If list contains object, returned value is equal to position, otherwise it's
-	 * equal to binary inverse of the position.<br>
-	 * The array must be sorted in ascending order according to the
-	 * {@linkplain Comparable natural ordering} of its elements.
-	 * 
-	 * @param array <tt>HugeArray</tt> to be searched
-	 * @param o object to search for
-	 * 
-	 * @return index of position right after the last element strictly less than given
-	 *         object (or it's inverse)
-	 * 
-	 * @throws NullPointerException if the specified object is null
-	 */
-	public static <E, K extends Comparable<? super E>> long binarySearch(HugeArray<E> array, K o) {
-		if (o == null)
-			throw new NullPointerException();
-		
-		final long size = array.size();
-		if (size == 0)
-			return ~0;
-		
-		long low = 0, high = size - 1;
-		while (low < high) {
-			long i = (low + high) / 2;
-			if (o.compareTo(array.get(i)) <= 0)
-				high = i;
-			else
-				low = i + 1;
-		}
-		int lastCmp = o.compareTo(array.get(low));
-		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low : ~(low+1);
-	}
-
-	/**
-	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
-	 * instance and returns index of position right after the last element which is
-	 * strictly less than given object.<br>
-	 * If list contains object, returned value is equal to position, otherwise it's
-	 * equal to binary inverse of the position.<br>
-     * The array must be sorted in ascending order according to the specified comparator
-     * before making this call.
-	 * 
-	 * @param array <tt>HugeArray</tt> to be searched
-	 * @param o object to search for
-	 * @param comparator the comparator by which the list is ordered or null (if natural
-	 *                   ordering should be used)
-	 * 
-	 * @return index of position (or it's inverse) right after the last element strictly
-	 *         less than given object
-	 * 
-	 * @throws NullPointerException if the specified object is null and comparator doesn't permit null elements
-	 */
-	public static <T, E extends T, K extends T> long binarySearch(HugeArray<E> array, K o, Comparator<T> comparator) {
-		if (comparator == null) {
-			@SuppressWarnings("unchecked")
-			Comparable<? super E> comparable = (Comparable<? super E>) o;
-			return binarySearch(array, comparable);
-		}
-		
-		final long size = array.size();
-		if (size == 0)
-			return ~0;
-		
-		long low = 0, high = size - 1;
-		while (low < high) {
-			long i = (low + high) / 2;
-			if (comparator.compare(o, array.get(i)) <= 0)
-				high = i;
-			else
-				low = i + 1;
-		}
-		int lastCmp = comparator.compare(o, array.get(low));
-		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low : ~(low+1);
-	}
-
-	/**
-	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
-	 * instance and returns index of position right after the last element which
-	 * is less or equal to given object.<br>
-	 * If list contains object, returned value is equal to position, otherwise it's
-	 * equal to binary inverse of the position.<br>
-	 * The array must be sorted in ascending order according to the
-	 * {@linkplain Comparable natural ordering} of its elements.
-	 * 
-	 * @param array <tt>HugeArray</tt> to be searched
-	 * @param o object to search for
-	 * 
-	 * @return index of position (or it's inverse) right after the last element
-	 *         which is less than or equal to given object
-	 * 
-	 * @throws NullPointerException if the specified object is null
-	 */
-	public static <E, K extends Comparable<? super E>> long binarySearchNext(HugeArray<E> array, K o) {
-		if (o == null)
-			throw new NullPointerException();
-		
-		final long size = array.size();
-		if (size == 0)
-			return ~0;
-		
-		long low = 0, high = size - 1;
-		if (o.compareTo(array.get(high)) >= 0)
-			return ~size;
-		else
-			high--;
-		while (low < high) {
-			long i = (low + high + 1) / 2;
-			if (o.compareTo(array.get(i)) < 0)
-				high = i - 1;
-			else
-				low = i;
-		}
-		int lastCmp = o.compareTo(array.get(low));
-		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low+1 : ~(low+1);
-	}
-	
-	/**
-	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
-	 * instance and returns index of position right after the last element which
-	 * is less or equal to given object.<br>
-	 * If list contains object, returned value is equal to position, otherwise it's
-	 * equal to binary inverse of the position.<br>
-     * The array must be sorted into ascending order according to the specified
-     * comparator before making this call.
-	 * 
-	 * @param array <tt>HugeArray</tt> to be searched
-	 * @param o object to search for
-	 * @param comparator the comparator by which the list is ordered or null (if natural
-	 *                   ordering should be used)
-	 * 
-	 * @return index of position (or it's inverse) right after the last element
-	 *         which is less than or equal to given object
-	 * 
-	 * @throws NullPointerException if the specified object is null and comparator doesn't permit null elements
-	 */
-	public static <T, E extends T, K extends T> long binarySearchNext(HugeArray<E> array, K o, Comparator<T> comparator) {
-		if (comparator == null) {
-			@SuppressWarnings("unchecked")
-			Comparable<? super E> comparable = (Comparable<? super E>) o;
-			return binarySearchNext(array, comparable);
-		}
-
-		final long size = array.size();
-		if (size == 0)
-			return ~0;
-		
-		long low = 0, high = size - 1;
-		if (comparator.compare(o, array.get(high)) >= 0)
-			return ~size;
-		else
-			high--;
-		while (low < high) {
-			long i = (low + high + 1) / 2;
-			if (comparator.compare(o, array.get(i)) < 0)
-				high = i - 1;
-			else
-				low = i;
-		}
-		int lastCmp = comparator.compare(o, array.get(low));
-		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low+1 : ~(low+1);
-	}
-	
-
-	/**
-	 * Returns true if specified collection contains null.
-	 * 
-	 * @param c - collection to check for null
-	 * 
-	 * @return true if specified collection contains null
-	 */
-	public static boolean containsNull(Collection<?> c) {
-		boolean contains = false;
-		try {
-			contains = c.contains(null);
-		}
-		catch (NullPointerException ignore) {};
-		return contains;
-	}
-
-	/**
-	 * Returns immutable representation of a range of <tt>Byte</tt> values.<br>
-	 * Returned range is open-ended and doesn't contain point passed as second
-	 * parameter.<br>
-	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
-	 * method.<br>
-	 * <br>
-	 * Range returned is also an implementation of {@link java.util.Set Set}
-	 * interface. Calling any method that tries to change returned RangeSet will
-	 * throw an {@link UnsupportedOperationException}.
-	 * 
-	 * @param fromInclusive - first element of the range
-	 * @param toExclusive - value right after the last element of the range
-	 * 
-	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
-	 */
-	public static RangeSet<Byte> range(byte fromInclusive, byte toExclusive) {
-		return new ByteRangeSet(fromInclusive, toExclusive);
-	}
-
-	/**
-	 * Returns immutable representation of a range of <tt>Short</tt> values.<br>
-	 * Returned range is open-ended and doesn't contain point passed as second
-	 * parameter.<br>
-	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
-	 * method.<br>
-	 * <br>
-	 * Range returned is also an implementation of {@link java.util.Set Set}
-	 * interface. Calling any method that tries to change returned RangeSet will
-	 * throw an {@link UnsupportedOperationException}.
-	 * 
-	 * @param fromInclusive - first element of the range
-	 * @param toExclusive - value right after the last element of the range
-	 * 
-	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
-	 */
-	public static RangeSet<Short> range(short fromInclusive, short toExclusive) {
-		return new ShortRangeSet(fromInclusive, toExclusive);
-	}
-
-	/**
-	 * Returns immutable representation of a range of <tt>Integer</tt> values.<br>
-	 * Returned range is open-ended and doesn't contain point passed as second
-	 * parameter.<br>
-	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
-	 * method.<br>
-	 * <br>
-	 * Range returned is also an implementation of {@link java.util.Set Set}
-	 * interface. Calling any method that tries to change returned RangeSet will
-	 * throw an {@link UnsupportedOperationException}.
-	 * 
-	 * @param fromInclusive - first element of the range
-	 * @param toExclusive - value right after the last element of the range
-	 * 
-	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
-	 */
-	public static RangeSet<Integer> range(int fromInclusive, int toExclusive) {
-		return new IntegerRangeSet(fromInclusive, toExclusive);
-	}
-
-	/**
-	 * Returns immutable representation of a range of <tt>Long</tt> values.<br>
-	 * Returned range is open-ended and doesn't contain point passed as second
-	 * parameter.<br>
-	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
-	 * method.<br>
-	 * <br>
-	 * Range returned is also an implementation of {@link java.util.Set Set}
-	 * interface. Calling any method that tries to change returned RangeSet will
-	 * throw an {@link UnsupportedOperationException}.
-	 * 
-	 * @param fromInclusive - first element of the range
-	 * @param toExclusive - value right after the last element of the range
-	 * 
-	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
-	 */
-	public static RangeSet<Long> range(long fromInclusive, long toExclusive) {
-		return new LongRangeSet(fromInclusive, toExclusive);
-	}
-
-	/**
-	 * Returns immutable representation of a range of <tt>Character</tt> values.<br>
-	 * Returned range is open-ended and doesn't contain point passed as second
-	 * parameter.<br>
-	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
-	 * method.<br>
-	 * <br>
-	 * Range returned is also an implementation of {@link java.util.Set Set}
-	 * interface. Calling any method that tries to change returned RangeSet will
-	 * throw an {@link UnsupportedOperationException}.
-	 * 
-	 * @param fromInclusive - first element of the range
-	 * @param toExclusive - value right after the last element of the range
-	 * 
-	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
-	 */
-	public static RangeSet<Character> range(char fromInclusive, char toExclusive) {
-		return new CharacterRangeSet(fromInclusive, toExclusive);
-	}
-
-	/* - actual implementation of toString() method
-	 * - keeps track of visited Iterable's and arrays of Object's
-	 */
-	private static StringBuilder toStringBuilder(Object[] array, String onSelf, Set<Object> visited, StringBuilder result) {
-		if (!visited.add(array))
-			return result.append("[...]");
-
-		result.append('[');
-        for (int i = 0; i < array.length; i++) {
-        	Object e = array[i];
-        	if (e == array)
-        		result.append(onSelf);
-        	else if (e instanceof Iterable<?>)
-        		toStringBuilder((Iterable<?>) e, "(this)", visited, result);
-        	else if (e instanceof Object[])
-        		toStringBuilder((Object[]) e, "(this)", visited, result);
-        	else 
-        		result.append(e);
-
-            if (result.length() > TO_STRING_SIZE_THRESHOLD) {
-            	result.append(", ...");
-            	break;
-            }
-            if (i+1 < array.length)
-            	result.append(',').append(' ');
-        }
-        result.append(']');
-        return result;
-	}
-
-	/* - actual implementation of toString() method
-	 * - keeps track of visited Iterable's and arrays of Object's
-	 */
-	private static StringBuilder toStringBuilder(Iterable<?> c, String onSelf, Set<Object> visited, StringBuilder result) {
-		if (!visited.add(c))
-			return result.append("[...]");
-
-		result.append('[');
-        for (Iterator<?> iter = c.iterator(); iter.hasNext(); ) {
-        	Object e = iter.next();
-        	if (e == c)
-        		result.append(onSelf);
-        	else if (e instanceof Iterable<?>)
-        		toStringBuilder((Iterable<?>) e, "(this)", visited, result);
-        	else if (e instanceof Object[])
-        		toStringBuilder((Object[]) e, "(this)", visited, result);
-        	else 
-        		result.append(e);
-
-            if (result.length() > TO_STRING_SIZE_THRESHOLD) {
-            	result.append(", ...");
-            	break;
-            }
-            if (iter.hasNext())
-            	result.append(',').append(' ');
-        }
-        result.append(']');
-        return result;
-	}
-	
-    /**
-     * Returns a string representation of the given <tt>Iterable</tt>.<br>
-     * The string representation consists of a list of the <tt>Iterable</tt>'s
-     * elements separated by commas in the order they are returned by its iterator.
-     * <tt>Iterable</tt> is enclosed in square brackets (<tt>"[]"</tt>).
-     * 
-     * <p>If <tt>Iterable</tt> contains too many elements, only first elements will be shown,
-     * followed by three-dot (<tt>"..."</tt>).
-     * 
-     * <p> If given {@code Iterable} is null, string "null" is returned.
-     * 
-	 * @param c - given <tt>Iterable</tt>
-	 * @param onSelf - denotes string value assigned to <tt>Iterable</tt> itself
-	 *                 if it will be one of the <tt>Iterable</tt> elements.
-	 *                 
-	 * @return a string representation of the given <tt>Iterable</tt>
-     */
-	public static String toString(Iterable<?> c, String onSelf) {
-		if (c == null)
-			return "null";
-		return toStringBuilder(c, onSelf, new HashedSet<Object>(Hasher.IDENTITY), new StringBuilder()).toString();
-	}
-
-    /**
-     * Returns a string representation of the given <tt>Iterable</tt>.<br>
-     * The string representation consists of a list of the <tt>Iterable</tt>'s
-     * elements separated by commas in the order they are returned by its iterator.
-     * <tt>Iterable</tt> is enclosed in square brackets (<tt>"[]"</tt>).
-     * 
-     * <p>If <tt>Iterable</tt> contains too many elements, only first elements will be shown,
-     * followed by three-dot (<tt>"..."</tt>).
-     * 
-     * <p> If given {@code Iterable} is null, string "null" is returned.
-     * 
-	 * @param c - given <tt>Iterable</tt>
-	 * 
-	 * @return a string representation of the given <tt>Iterable</tt>
-     */
-	public static String toString(Iterable<?> c) {
-		return toString(c, "(this)");
-	}
-
-	private Collectionz() {
-		throw new AssertionError("Instantiation of utility class " + getClass().getName() + " is prohibited");
-	};
-}
+package zjava.collection;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+
+import zjava.collection.primitive.ByteList;
+import zjava.collection.primitive.CharList;
+import zjava.collection.primitive.DoubleList;
+import zjava.collection.primitive.FloatList;
+import zjava.collection.primitive.IntList;
+import zjava.collection.primitive.LongList;
+import zjava.collection.primitive.ShortList;
+import zjava.common.Objectz;
+
+/**
+ * This class contains number of useful methods that operate on collections.
+ *
+ * <p>The methods of this class usually throw a <tt>NullPointerException</tt>
+ * if the collections or class objects provided to them are null.<br>
+ *
+ * @since Zjava 1.0
+ * 
+ * @author Ivan Zaitsau
+ *
+ */
+final public class Collectionz {
+
+	private static final int TO_STRING_SIZE_THRESHOLD = 4000;
+
+	/** Size of the buffer used by bulk operations on <tt>HugeArray</tt>s */
+	private static final int HUGE_ARRAY_BUFFER_SIZE = 1 << 12;
+
+	@SuppressWarnings("rawtypes")
+	private static final Comparator<Object> NATURAL_ORDER = new Comparator<Object>() {
+		@SuppressWarnings("unchecked")
+		public int compare(Object o1, Object o2) {
+			return ((Comparable) o1).compareTo(o2);
+		}
+	};
+	
+	/**
+	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given object.<br>
+	 * If list contains object, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order according to the
+	 * {@linkplain Comparable natural ordering} of its elements.
+	 * 
+	 * @param array <tt>HugeArray</tt> to be searched
+	 * @param o object to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         object (or it's inverse)
+	 * 
+	 * @throws NullPointerException if the specified object is null
+	 */
+	public static <E, K extends Comparable<? super E>> long binarySearch(HugeArray<E> array, K o) {
+		if (o == null)
+			throw new NullPointerException();
+		
+		if (array instanceof DynamicList.HugeView)
+			return ((DynamicList<E>.HugeView) array).binarySearch(o, null);
+
+		final long size = array.size();
+		if (size == 0)
+			return ~0;
+		
+		long low = 0, high = size - 1;
+		while (low < high) {
+			long i = (low + high) / 2;
+			if (o.compareTo(array.get(i)) <= 0)
+				high = i;
+			else
+				low = i + 1;
+		}
+		int lastCmp = o.compareTo(array.get(low));
+		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low : ~(low+1);
+	}
+
+	/**
+	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given object.<br>
+	 * If list contains object, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+     * The array must be sorted in ascending order according to the specified comparator
+     * before making this call.
+	 * 
+	 * @param array <tt>HugeArray</tt> to be searched
+	 * @param o object to search for
+	 * @param comparator the comparator by which the list is ordered or null (if natural
+	 *                   ordering should be used)
+	 * 
+	 * @return index of position (or it's inverse) right after the last element strictly
+	 *         less than given object
+	 * 
+	 * @throws NullPointerException if the specified object is null and comparator doesn't permit null elements
+	 */
+	public static <T, E extends T, K extends T> long binarySearch(HugeArray<E> array, K o, Comparator<T> comparator) {
+		if (comparator == null) {
+			@SuppressWarnings("unchecked")
+			Comparable<? super E> comparable = (Comparable<? super E>) o;
+			return binarySearch(array, comparable);
+		}
+		
+		if (array instanceof DynamicList.HugeView)
+			return ((DynamicList<E>.HugeView) array).binarySearch(o, comparator);
+
+		final long size = array.size();
+		if (size == 0)
+			return ~0;
+		
+		long low = 0, high = size - 1;
+		while (low < high) {
+			long i = (low + high) / 2;
+			if (comparator.compare(o, array.get(i)) <= 0)
+				high = i;
+			else
+				low = i + 1;
+		}
+		int lastCmp = comparator.compare(o, array.get(low));
+		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low : ~(low+1);
+	}
+
+	/**
+	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given object.<br>
+	 * If list contains object, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order according to the
+	 * {@linkplain Comparable natural ordering} of its elements.
+	 * 
+	 * @param array <tt>HugeArray</tt> to be searched
+	 * @param o object to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given object
+	 * 
+	 * @throws NullPointerException if the specified object is null
+	 */
+	public static <E, K extends Comparable<? super E>> long binarySearchNext(HugeArray<E> array, K o) {
+		if (o == null)
+			throw new NullPointerException();
+		
+		if (array instanceof DynamicList.HugeView)
+			return ((DynamicList<E>.HugeView) array).binarySearchNext(o, null);
+
+		final long size = array.size();
+		if (size == 0)
+			return ~0;
+		
+		long low = 0, high = size - 1;
+		int highCmp = o.compareTo(array.get(high));
+		if (highCmp >= 0)
+			return (highCmp == 0) ? size : ~size;
+		else
+			high--;
+		while (low < high) {
+			long i = (low + high + 1) / 2;
+			if (o.compareTo(array.get(i)) < 0)
+				high = i - 1;
+			else
+				low = i;
+		}
+		int lastCmp = o.compareTo(array.get(low));
+		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low+1 : ~(low+1);
+	}
+	
+	/**
+	 * Performs binary search of the specified object on given <tt>HugeArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given object.<br>
+	 * If list contains object, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+     * The array must be sorted into ascending order according to the specified
+     * comparator before making this call.
+	 * 
+	 * @param array <tt>HugeArray</tt> to be searched
+	 * @param o object to search for
+	 * @param comparator the comparator by which the list is ordered or null (if natural
+	 *                   ordering should be used)
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given object
+	 * 
+	 * @throws NullPointerException if the specified object is null and comparator doesn't permit null elements
+	 */
+	public static <T, E extends T, K extends T> long binarySearchNext(HugeArray<E> array, K o, Comparator<T> comparator) {
+		if (comparator == null) {
+			@SuppressWarnings("unchecked")
+			Comparable<? super E> comparable = (Comparable<? super E>) o;
+			return binarySearchNext(array, comparable);
+		}
+
+		if (array instanceof DynamicList.HugeView)
+			return ((DynamicList<E>.HugeView) array).binarySearchNext(o, comparator);
+
+		final long size = array.size();
+		if (size == 0)
+			return ~0;
+		
+		long low = 0, high = size - 1;
+		int highCmp = comparator.compare(o, array.get(high));
+		if (highCmp >= 0)
+			return (highCmp == 0) ? size : ~size;
+		else
+			high--;
+		while (low < high) {
+			long i = (low + high + 1) / 2;
+			if (comparator.compare(o, array.get(i)) < 0)
+				high = i - 1;
+			else
+				low = i;
+		}
+		int lastCmp = comparator.compare(o, array.get(low));
+		return (lastCmp < 0) ? ~low : (lastCmp == 0) ? low+1 : ~(low+1);
+	}
+	
+
+	/**
+	 * Performs exponential (galloping) search of the specified object on given
+	 * <tt>HugeArray</tt> instance starting from the given index.<br>
+	 * Returns the same result as {@link #binarySearch(HugeArray, Comparable) binarySearch}
+	 * method, but runs in O(log(d)) time, where d is the distance between
+	 * <tt>fromIndex</tt> and the returned position. Useful when consecutive searches
+	 * are performed for close keys (for example, for sorted sequence of keys).<br>
+	 * The array must be sorted in ascending order according to the
+	 * {@linkplain Comparable natural ordering} of its elements.
+	 * 
+	 * @param array <tt>HugeArray</tt> to be searched
+	 * @param o object to search for
+	 * @param fromIndex index to start search from
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         object (or it's inverse)
+	 * 
+	 * @throws NullPointerException if the specified object is null
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         (<tt>fromIndex &lt; 0 || fromIndex &gt; array.size()</tt>)
+	 */
+	public static <E, K extends Comparable<? super E>> long exponentialSearch(HugeArray<E> array, K o, long fromIndex) {
+		if (o == null)
+			throw new NullPointerException();
+		return exponentialSearch(array, o, fromIndex, null);
+	}
+
+	/**
+	 * Performs exponential (galloping) search of the specified object on given
+	 * <tt>HugeArray</tt> instance starting from the given index.<br>
+	 * Returns the same result as {@link #binarySearch(HugeArray, Object, Comparator) binarySearch}
+	 * method, but runs in O(log(d)) time, where d is the distance between
+	 * <tt>fromIndex</tt> and the returned position.<br>
+     * The array must be sorted in ascending order according to the specified comparator
+     * before making this call.
+	 * 
+	 * @param array <tt>HugeArray</tt> to be searched
+	 * @param o object to search for
+	 * @param fromIndex index to start search from
+	 * @param comparator the comparator by which the list is ordered or null (if natural
+	 *                   ordering should be used)
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         object (or it's inverse)
+	 * 
+	 * @throws NullPointerException if the specified object is null and comparator doesn't permit null elements
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         (<tt>fromIndex &lt; 0 || fromIndex &gt; array.size()</tt>)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, E extends T, K extends T> long exponentialSearch(HugeArray<E> array, K o, long fromIndex, Comparator<T> comparator) {
+		final long size = array.size();
+		if (fromIndex < 0 | fromIndex > size)
+			throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Size: " + size);
+		if (comparator == null)
+			comparator = (Comparator<T>) NATURAL_ORDER;
+
+		// - find range [low, high] containing the answer
+		long low, high;
+		if (fromIndex < size && comparator.compare(o, array.get(fromIndex)) > 0) {
+			low = fromIndex + 1;
+			high = size;
+			for (long step = 1; fromIndex + step < size; step += step) {
+				if (comparator.compare(o, array.get(fromIndex + step)) <= 0) {
+					high = fromIndex + step;
+					break;
+				}
+				low = fromIndex + step + 1;
+			}
+		}
+		else {
+			low = 0;
+			high = fromIndex;
+			for (long step = 1; fromIndex - step >= 0; step += step) {
+				if (comparator.compare(o, array.get(fromIndex - step)) > 0) {
+					low = fromIndex - step + 1;
+					break;
+				}
+				high = fromIndex - step;
+			}
+		}
+		while (low < high) {
+			long i = (low + high) >>> 1;
+			if (comparator.compare(o, array.get(i)) > 0)
+				low = i + 1;
+			else
+				high = i;
+		}
+		return (low < size && comparator.compare(o, array.get(low)) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Copies a range of elements from the source <tt>HugeArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array, in which case
+	 * copying is performed as if elements were first copied to a temporary array.
+	 *
+	 * <p>{@link LazyArray} and huge views of {@link DynamicList} are copied block by block
+	 * with <tt>System.arraycopy</tt>, other implementations are accessed element by element.
+	 *
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of elements to be copied
+	 *
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static <E> void copy(HugeArray<? extends E> src, long srcPos, HugeArray<E> dest, long destPos, long length) {
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		final Object[] buffer = new Object[(int) Math.min(length, HUGE_ARRAY_BUFFER_SIZE)];
+		// - overlapping ranges of the same array are copied starting from the end
+		final boolean backward = (src == dest) && srcPos < destPos;
+		for (long done = 0; done < length; ) {
+			final int chunk = (int) Math.min(length - done, buffer.length);
+			final long offset = backward ? length - done - chunk : done;
+			for (int n = 0; n < chunk; )
+				n += read(src, srcPos + offset + n, buffer, n, chunk - n);
+			for (int n = 0; n < chunk; )
+				n += write(dest, destPos + offset + n, buffer, n, chunk - n);
+			done += chunk;
+		}
+	}
+
+	/**
+	 * Assigns the specified value to each element of the specified range of the
+	 * <tt>HugeArray</tt>, same as {@link java.util.Arrays#fill(Object[], int, int, Object)
+	 * Arrays.fill} does for regular arrays.
+	 *
+	 * @param array the array to be filled
+	 * @param fromIndex the index of the first element (inclusive) to be filled
+	 * @param toIndex the index of the last element (exclusive) to be filled
+	 * @param value the value to be stored in all elements of the range
+	 *
+	 * @throws IndexOutOfBoundsException if <tt>fromIndex &lt; 0</tt>, <tt>fromIndex &gt; toIndex</tt>
+	 *         or <tt>toIndex &gt; array.size()</tt>
+	 */
+	public static <E> void fill(HugeArray<E> array, long fromIndex, long toIndex, E value) {
+		rangeCheck(array.size(), fromIndex, toIndex - fromIndex);
+		final Object[] buffer = new Object[(int) Math.min(toIndex - fromIndex, HUGE_ARRAY_BUFFER_SIZE)];
+		Arrays.fill(buffer, value);
+		for (long i = fromIndex; i < toIndex; )
+			i += write(array, i, buffer, 0, (int) Math.min(toIndex - i, buffer.length));
+	}
+
+	/**
+	 * Returns <tt>true</tt> if given ranges of two <tt>HugeArray</tt>s contain
+	 * equal elements in the same order. Elements <tt>e1</tt> and <tt>e2</tt> are
+	 * considered equal if <tt>(e1==null ? e2==null : e1.equals(e2))</tt>.
+	 *
+	 * @param a the first array
+	 * @param aFromIndex the index of the first element of the range of the first array
+	 * @param b the second array
+	 * @param bFromIndex the index of the first element of the range of the second array
+	 * @param length the number of elements to be compared
+	 *
+	 * @return <tt>true</tt> if given ranges are equal
+	 *
+	 * @throws IndexOutOfBoundsException if any of the ranges is out of bounds of the corresponding array
+	 */
+	public static boolean equals(HugeArray<?> a, long aFromIndex, HugeArray<?> b, long bFromIndex, long length) {
+		rangeCheck(a.size(), aFromIndex, length);
+		rangeCheck(b.size(), bFromIndex, length);
+		if (a == b && aFromIndex == bFromIndex)
+			return true;
+		final Object[] bufferA = new Object[(int) Math.min(length, HUGE_ARRAY_BUFFER_SIZE)];
+		final Object[] bufferB = new Object[bufferA.length];
+		for (long done = 0; done < length; ) {
+			final int chunk = (int) Math.min(length - done, bufferA.length);
+			for (int n = 0; n < chunk; )
+				n += read(a, aFromIndex + done + n, bufferA, n, chunk - n);
+			for (int n = 0; n < chunk; )
+				n += read(b, bFromIndex + done + n, bufferB, n, chunk - n);
+			for (int i = 0; i < chunk; i++) {
+				if (!Objectz.equals(bufferA[i], bufferB[i]))
+					return false;
+			}
+			done += chunk;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a hash code of the given range of the <tt>HugeArray</tt>.<br>
+	 * The value is the same as {@link java.util.List#hashCode() hashCode} of the
+	 * list which contains elements of the range in the same order.
+	 *
+	 * @param array the array whose hash code to compute
+	 * @param fromIndex the index of the first element (inclusive) of the range
+	 * @param toIndex the index of the last element (exclusive) of the range
+	 *
+	 * @return hash code of the range
+	 *
+	 * @throws IndexOutOfBoundsException if <tt>fromIndex &lt; 0</tt>, <tt>fromIndex &gt; toIndex</tt>
+	 *         or <tt>toIndex &gt; array.size()</tt>
+	 */
+	public static int hashCode(HugeArray<?> array, long fromIndex, long toIndex) {
+		rangeCheck(array.size(), fromIndex, toIndex - fromIndex);
+		final Object[] buffer = new Object[(int) Math.min(toIndex - fromIndex, HUGE_ARRAY_BUFFER_SIZE)];
+		int hashCode = 1;
+		for (long i = fromIndex; i < toIndex; ) {
+			final int count = read(array, i, buffer, 0, (int) Math.min(toIndex - i, buffer.length));
+			for (int j = 0; j < count; j++)
+				hashCode = 31 * hashCode + (buffer[j] == null ? 0 : buffer[j].hashCode());
+			i += count;
+		}
+		return hashCode;
+	}
+
+	private static void rangeCheck(long size, long fromIndex, long length) {
+		if (fromIndex < 0 | length < 0 || fromIndex > size - length)
+			throw new IndexOutOfBoundsException("From: " + fromIndex + ", Length: " + length + ", Size: " + size);
+	}
+
+	// - copies up to "length" elements of the array starting from given index to the buffer
+	// - returns number of copied elements, which is positive if "length" is positive
+	private static int read(HugeArray<?> array, long index, Object[] buffer, int pos, int length) {
+		if (array instanceof LazyArray)
+			return ((LazyArray<?>) array).read(index, buffer, pos, length);
+		if (array instanceof DynamicList.HugeView)
+			return ((DynamicList<?>.HugeView) array).read(index, buffer, pos, length);
+		for (int i = 0; i < length; i++)
+			buffer[pos + i] = array.get(index + i);
+		return length;
+	}
+
+	// - replaces up to "length" elements of the array starting from given index with values of the buffer
+	// - returns number of replaced elements, which is positive if "length" is positive
+	@SuppressWarnings("unchecked")
+	private static <E> int write(HugeArray<E> array, long index, Object[] buffer, int pos, int length) {
+		if (array instanceof LazyArray)
+			return ((LazyArray<E>) array).write(index, buffer, pos, length);
+		if (array instanceof DynamicList.HugeView)
+			return ((DynamicList<E>.HugeView) array).write(index, buffer, pos, length);
+		for (int i = 0; i < length; i++)
+			array.set(index + i, (E) buffer[pos + i]);
+		return length;
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeBooleanArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeBooleanArray src, long srcPos, HugeBooleanArray dest, long destPos, long length) {
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	// - compare primitive values in the order of sort and of the searches of primitive lists,
+	// - in which -0.0 is less than 0.0 and NaN is greater than any other value (and equal to itself)
+	// - byte, char and short values are compared as int ones
+	private static int compare(int a, int b) {
+		return (a < b) ? -1 : (a == b) ? 0 : 1;
+	}
+
+	private static int compare(long a, long b) {
+		return (a < b) ? -1 : (a == b) ? 0 : 1;
+	}
+
+	private static int compare(float a, float b) {
+		return Float.compare(a, b);
+	}
+
+	private static int compare(double a, double b) {
+		return Double.compare(a, b);
+	}
+
+	// - overloads below are generated from templates/zjava/collection/Collectionz.template
+	// - for byte, char, double, float, int, long and short types
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeByteArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeByteArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeByteArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public static long binarySearch(HugeByteArray array, byte value) {
+		if (array instanceof ByteList)
+			return ((ByteList) array).binarySearch(value);
+
+		final long size = array.size();
+		long low = 0, high = size;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && compare(array.get(low), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeByteArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeByteArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeByteArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public static long binarySearchNext(HugeByteArray array, byte value) {
+		if (array instanceof ByteList)
+			return ((ByteList) array).binarySearchNext(value);
+
+		long low = 0, high = array.size();
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return (low > 0 && compare(array.get(low-1), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Sorts given <tt>HugeByteArray</tt> in ascending numerical order, which is
+	 * the same as the order of {@link Arrays#sort(byte[])}.<br>
+	 * {@link ByteList} is sorted in place by its own radix sort, values of other
+	 * arrays are sorted in temporary <tt>ByteList</tt> and then written back.
+	 * 
+	 * @param array <tt>HugeByteArray</tt> to be sorted
+	 */
+	public static void sort(HugeByteArray array) {
+		if (array instanceof ByteList) {
+			((ByteList) array).sort();
+			return;
+		}
+		final long size = array.size();
+		final ByteList sorted = new ByteList(size);
+		for (long i = 0; i < size; i++)
+			sorted.add(array.get(i));
+		sorted.sort();
+		for (long i = 0; i < size; i++)
+			array.set(i, sorted.get(i));
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeByteArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.<br>
+	 * Values are copied directly between blocks if both arrays are <tt>ByteList</tt>s.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeByteArray src, long srcPos, HugeByteArray dest, long destPos, long length) {
+		if (src instanceof ByteList && dest instanceof ByteList) {
+			ByteList.copy((ByteList) src, srcPos, (ByteList) dest, destPos, length);
+			return;
+		}
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeCharArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeCharArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeCharArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public static long binarySearch(HugeCharArray array, char value) {
+		if (array instanceof CharList)
+			return ((CharList) array).binarySearch(value);
+
+		final long size = array.size();
+		long low = 0, high = size;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && compare(array.get(low), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeCharArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeCharArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeCharArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public static long binarySearchNext(HugeCharArray array, char value) {
+		if (array instanceof CharList)
+			return ((CharList) array).binarySearchNext(value);
+
+		long low = 0, high = array.size();
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return (low > 0 && compare(array.get(low-1), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Sorts given <tt>HugeCharArray</tt> in ascending numerical order, which is
+	 * the same as the order of {@link Arrays#sort(char[])}.<br>
+	 * {@link CharList} is sorted in place by its own radix sort, values of other
+	 * arrays are sorted in temporary <tt>CharList</tt> and then written back.
+	 * 
+	 * @param array <tt>HugeCharArray</tt> to be sorted
+	 */
+	public static void sort(HugeCharArray array) {
+		if (array instanceof CharList) {
+			((CharList) array).sort();
+			return;
+		}
+		final long size = array.size();
+		final CharList sorted = new CharList(size);
+		for (long i = 0; i < size; i++)
+			sorted.add(array.get(i));
+		sorted.sort();
+		for (long i = 0; i < size; i++)
+			array.set(i, sorted.get(i));
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeCharArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.<br>
+	 * Values are copied directly between blocks if both arrays are <tt>CharList</tt>s.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeCharArray src, long srcPos, HugeCharArray dest, long destPos, long length) {
+		if (src instanceof CharList && dest instanceof CharList) {
+			CharList.copy((CharList) src, srcPos, (CharList) dest, destPos, length);
+			return;
+		}
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeDoubleArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeDoubleArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeDoubleArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public static long binarySearch(HugeDoubleArray array, double value) {
+		if (array instanceof DoubleList)
+			return ((DoubleList) array).binarySearch(value);
+
+		final long size = array.size();
+		long low = 0, high = size;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && compare(array.get(low), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeDoubleArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeDoubleArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeDoubleArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public static long binarySearchNext(HugeDoubleArray array, double value) {
+		if (array instanceof DoubleList)
+			return ((DoubleList) array).binarySearchNext(value);
+
+		long low = 0, high = array.size();
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return (low > 0 && compare(array.get(low-1), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Sorts given <tt>HugeDoubleArray</tt> in ascending numerical order, which is
+	 * the same as the order of {@link Arrays#sort(double[])}.<br>
+	 * {@link DoubleList} is sorted in place by its own radix sort, values of other
+	 * arrays are sorted in temporary <tt>DoubleList</tt> and then written back.
+	 * 
+	 * @param array <tt>HugeDoubleArray</tt> to be sorted
+	 */
+	public static void sort(HugeDoubleArray array) {
+		if (array instanceof DoubleList) {
+			((DoubleList) array).sort();
+			return;
+		}
+		final long size = array.size();
+		final DoubleList sorted = new DoubleList(size);
+		for (long i = 0; i < size; i++)
+			sorted.add(array.get(i));
+		sorted.sort();
+		for (long i = 0; i < size; i++)
+			array.set(i, sorted.get(i));
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeDoubleArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.<br>
+	 * Values are copied directly between blocks if both arrays are <tt>DoubleList</tt>s.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeDoubleArray src, long srcPos, HugeDoubleArray dest, long destPos, long length) {
+		if (src instanceof DoubleList && dest instanceof DoubleList) {
+			DoubleList.copy((DoubleList) src, srcPos, (DoubleList) dest, destPos, length);
+			return;
+		}
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeFloatArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeFloatArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeFloatArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public static long binarySearch(HugeFloatArray array, float value) {
+		if (array instanceof FloatList)
+			return ((FloatList) array).binarySearch(value);
+
+		final long size = array.size();
+		long low = 0, high = size;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && compare(array.get(low), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeFloatArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeFloatArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeFloatArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public static long binarySearchNext(HugeFloatArray array, float value) {
+		if (array instanceof FloatList)
+			return ((FloatList) array).binarySearchNext(value);
+
+		long low = 0, high = array.size();
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return (low > 0 && compare(array.get(low-1), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Sorts given <tt>HugeFloatArray</tt> in ascending numerical order, which is
+	 * the same as the order of {@link Arrays#sort(float[])}.<br>
+	 * {@link FloatList} is sorted in place by its own radix sort, values of other
+	 * arrays are sorted in temporary <tt>FloatList</tt> and then written back.
+	 * 
+	 * @param array <tt>HugeFloatArray</tt> to be sorted
+	 */
+	public static void sort(HugeFloatArray array) {
+		if (array instanceof FloatList) {
+			((FloatList) array).sort();
+			return;
+		}
+		final long size = array.size();
+		final FloatList sorted = new FloatList(size);
+		for (long i = 0; i < size; i++)
+			sorted.add(array.get(i));
+		sorted.sort();
+		for (long i = 0; i < size; i++)
+			array.set(i, sorted.get(i));
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeFloatArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.<br>
+	 * Values are copied directly between blocks if both arrays are <tt>FloatList</tt>s.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeFloatArray src, long srcPos, HugeFloatArray dest, long destPos, long length) {
+		if (src instanceof FloatList && dest instanceof FloatList) {
+			FloatList.copy((FloatList) src, srcPos, (FloatList) dest, destPos, length);
+			return;
+		}
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeIntArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeIntArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeIntArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public static long binarySearch(HugeIntArray array, int value) {
+		if (array instanceof IntList)
+			return ((IntList) array).binarySearch(value);
+
+		final long size = array.size();
+		long low = 0, high = size;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && compare(array.get(low), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeIntArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeIntArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeIntArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public static long binarySearchNext(HugeIntArray array, int value) {
+		if (array instanceof IntList)
+			return ((IntList) array).binarySearchNext(value);
+
+		long low = 0, high = array.size();
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return (low > 0 && compare(array.get(low-1), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Sorts given <tt>HugeIntArray</tt> in ascending numerical order, which is
+	 * the same as the order of {@link Arrays#sort(int[])}.<br>
+	 * {@link IntList} is sorted in place by its own radix sort, values of other
+	 * arrays are sorted in temporary <tt>IntList</tt> and then written back.
+	 * 
+	 * @param array <tt>HugeIntArray</tt> to be sorted
+	 */
+	public static void sort(HugeIntArray array) {
+		if (array instanceof IntList) {
+			((IntList) array).sort();
+			return;
+		}
+		final long size = array.size();
+		final IntList sorted = new IntList(size);
+		for (long i = 0; i < size; i++)
+			sorted.add(array.get(i));
+		sorted.sort();
+		for (long i = 0; i < size; i++)
+			array.set(i, sorted.get(i));
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeIntArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.<br>
+	 * Values are copied directly between blocks if both arrays are <tt>IntList</tt>s.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeIntArray src, long srcPos, HugeIntArray dest, long destPos, long length) {
+		if (src instanceof IntList && dest instanceof IntList) {
+			IntList.copy((IntList) src, srcPos, (IntList) dest, destPos, length);
+			return;
+		}
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeLongArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeLongArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeLongArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public static long binarySearch(HugeLongArray array, long value) {
+		if (array instanceof LongList)
+			return ((LongList) array).binarySearch(value);
+
+		final long size = array.size();
+		long low = 0, high = size;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && compare(array.get(low), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeLongArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeLongArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeLongArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public static long binarySearchNext(HugeLongArray array, long value) {
+		if (array instanceof LongList)
+			return ((LongList) array).binarySearchNext(value);
+
+		long low = 0, high = array.size();
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return (low > 0 && compare(array.get(low-1), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Sorts given <tt>HugeLongArray</tt> in ascending numerical order, which is
+	 * the same as the order of {@link Arrays#sort(long[])}.<br>
+	 * {@link LongList} is sorted in place by its own radix sort, values of other
+	 * arrays are sorted in temporary <tt>LongList</tt> and then written back.
+	 * 
+	 * @param array <tt>HugeLongArray</tt> to be sorted
+	 */
+	public static void sort(HugeLongArray array) {
+		if (array instanceof LongList) {
+			((LongList) array).sort();
+			return;
+		}
+		final long size = array.size();
+		final LongList sorted = new LongList(size);
+		for (long i = 0; i < size; i++)
+			sorted.add(array.get(i));
+		sorted.sort();
+		for (long i = 0; i < size; i++)
+			array.set(i, sorted.get(i));
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeLongArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.<br>
+	 * Values are copied directly between blocks if both arrays are <tt>LongList</tt>s.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeLongArray src, long srcPos, HugeLongArray dest, long destPos, long length) {
+		if (src instanceof LongList && dest instanceof LongList) {
+			LongList.copy((LongList) src, srcPos, (LongList) dest, destPos, length);
+			return;
+		}
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeShortArray</tt>
+	 * instance and returns index of position right after the last element which is
+	 * strictly less than given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeShortArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeShortArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public static long binarySearch(HugeShortArray array, short value) {
+		if (array instanceof ShortList)
+			return ((ShortList) array).binarySearch(value);
+
+		final long size = array.size();
+		long low = 0, high = size;
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && compare(array.get(low), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Performs binary search of the specified value on given <tt>HugeShortArray</tt>
+	 * instance and returns index of position right after the last element which
+	 * is less or equal to given value.<br>
+	 * If array contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The array must be sorted in ascending order, as {@link #sort(HugeShortArray)} sorts it.
+	 * 
+	 * @param array <tt>HugeShortArray</tt> to be searched
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public static long binarySearchNext(HugeShortArray array, short value) {
+		if (array instanceof ShortList)
+			return ((ShortList) array).binarySearchNext(value);
+
+		long low = 0, high = array.size();
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (compare(array.get(mid), value) > 0)
+				high = mid;
+			else
+				low = mid + 1;
+		}
+		return (low > 0 && compare(array.get(low-1), value) == 0) ? low : ~low;
+	}
+
+	/**
+	 * Sorts given <tt>HugeShortArray</tt> in ascending numerical order, which is
+	 * the same as the order of {@link Arrays#sort(short[])}.<br>
+	 * {@link ShortList} is sorted in place by its own radix sort, values of other
+	 * arrays are sorted in temporary <tt>ShortList</tt> and then written back.
+	 * 
+	 * @param array <tt>HugeShortArray</tt> to be sorted
+	 */
+	public static void sort(HugeShortArray array) {
+		if (array instanceof ShortList) {
+			((ShortList) array).sort();
+			return;
+		}
+		final long size = array.size();
+		final ShortList sorted = new ShortList(size);
+		for (long i = 0; i < size; i++)
+			sorted.add(array.get(i));
+		sorted.sort();
+		for (long i = 0; i < size; i++)
+			array.set(i, sorted.get(i));
+	}
+
+	/**
+	 * Copies a range of values from the source <tt>HugeShortArray</tt> to the specified
+	 * position of the destination one, same as {@link System#arraycopy System.arraycopy}
+	 * does for regular arrays. Source and destination may be the same array.<br>
+	 * Values are copied directly between blocks if both arrays are <tt>ShortList</tt>s.
+	 * 
+	 * @param src the source array
+	 * @param srcPos starting position in the source array
+	 * @param dest the destination array
+	 * @param destPos starting position in the destination array
+	 * @param length the number of values to be copied
+	 * 
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         array bounds
+	 */
+	public static void copy(HugeShortArray src, long srcPos, HugeShortArray dest, long destPos, long length) {
+		if (src instanceof ShortList && dest instanceof ShortList) {
+			ShortList.copy((ShortList) src, srcPos, (ShortList) dest, destPos, length);
+			return;
+		}
+		rangeCheck(src.size(), srcPos, length);
+		rangeCheck(dest.size(), destPos, length);
+		if (src == dest && srcPos < destPos) {
+			for (long i = length; --i >= 0; )
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+		else {
+			for (long i = 0; i < length; i++)
+				dest.set(destPos + i, src.get(srcPos + i));
+		}
+	}
+
+	// - end of generated overloads
+
+	/**
+	 * Returns true if specified collection contains null.
+	 * 
+	 * @param c - collection to check for null
+	 * 
+	 * @return true if specified collection contains null
+	 */
+	public static boolean containsNull(Collection<?> c) {
+		boolean contains = false;
+		try {
+			contains = c.contains(null);
+		}
+		catch (NullPointerException ignore) {};
+		return contains;
+	}
+
+	/**
+	 * Returns immutable representation of a range of <tt>Byte</tt> values.<br>
+	 * Returned range is open-ended and doesn't contain point passed as second
+	 * parameter.<br>
+	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
+	 * method.<br>
+	 * <br>
+	 * Range returned is also an implementation of {@link java.util.Set Set}
+	 * interface. Calling any method that tries to change returned RangeSet will
+	 * throw an {@link UnsupportedOperationException}.
+	 * 
+	 * @param fromInclusive - first element of the range
+	 * @param toExclusive - value right after the last element of the range
+	 * 
+	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
+	 */
+	public static RangeSet<Byte> range(byte fromInclusive, byte toExclusive) {
+		return new ByteRangeSet(fromInclusive, toExclusive);
+	}
+
+	/**
+	 * Returns immutable representation of a range of <tt>Short</tt> values.<br>
+	 * Returned range is open-ended and doesn't contain point passed as second
+	 * parameter.<br>
+	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
+	 * method.<br>
+	 * <br>
+	 * Range returned is also an implementation of {@link java.util.Set Set}
+	 * interface. Calling any method that tries to change returned RangeSet will
+	 * throw an {@link UnsupportedOperationException}.
+	 * 
+	 * @param fromInclusive - first element of the range
+	 * @param toExclusive - value right after the last element of the range
+	 * 
+	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
+	 */
+	public static RangeSet<Short> range(short fromInclusive, short toExclusive) {
+		return new ShortRangeSet(fromInclusive, toExclusive);
+	}
+
+	/**
+	 * Returns immutable representation of a range of <tt>Integer</tt> values.<br>
+	 * Returned range is open-ended and doesn't contain point passed as second
+	 * parameter.<br>
+	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
+	 * method.<br>
+	 * <br>
+	 * Range returned is also an implementation of {@link java.util.Set Set}
+	 * interface. Calling any method that tries to change returned RangeSet will
+	 * throw an {@link UnsupportedOperationException}.
+	 * 
+	 * @param fromInclusive - first element of the range
+	 * @param toExclusive - value right after the last element of the range
+	 * 
+	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
+	 */
+	public static RangeSet<Integer> range(int fromInclusive, int toExclusive) {
+		return new IntegerRangeSet(fromInclusive, toExclusive);
+	}
+
+	/**
+	 * Returns immutable representation of a range of <tt>Long</tt> values.<br>
+	 * Returned range is open-ended and doesn't contain point passed as second
+	 * parameter.<br>
+	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
+	 * method.<br>
+	 * <br>
+	 * Range returned is also an implementation of {@link java.util.Set Set}
+	 * interface. Calling any method that tries to change returned RangeSet will
+	 * throw an {@link UnsupportedOperationException}.
+	 * 
+	 * @param fromInclusive - first element of the range
+	 * @param toExclusive - value right after the last element of the range
+	 * 
+	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
+	 */
+	public static RangeSet<Long> range(long fromInclusive, long toExclusive) {
+		return new LongRangeSet(fromInclusive, toExclusive);
+	}
+
+	/**
+	 * Returns immutable representation of a range of <tt>Character</tt> values.<br>
+	 * Returned range is open-ended and doesn't contain point passed as second
+	 * parameter.<br>
+	 * Closed range can be obtained by calling {@link RangeSet#closed() closed()}
+	 * method.<br>
+	 * <br>
+	 * Range returned is also an implementation of {@link java.util.Set Set}
+	 * interface. Calling any method that tries to change returned RangeSet will
+	 * throw an {@link UnsupportedOperationException}.
+	 * 
+	 * @param fromInclusive - first element of the range
+	 * @param toExclusive - value right after the last element of the range
+	 * 
+	 * @return RangeSet which corresponds to specified interval [fromInclusive; toExclusive)
+	 */
+	public static RangeSet<Character> range(char fromInclusive, char toExclusive) {
+		return new CharacterRangeSet(fromInclusive, toExclusive);
+	}
+
+	/* - actual implementation of toString() method
+	 * - keeps track of visited Iterable's and arrays of Object's
+	 */
+	private static StringBuilder toStringBuilder(Object[] array, String onSelf, Set<Object> visited, StringBuilder result) {
+		if (!visited.add(array))
+			return result.append("[...]");
+
+		result.append('[');
+        for (int i = 0; i < array.length; i++) {
+        	Object e = array[i];
+        	if (e == array)
+        		result.append(onSelf);
+        	else if (e instanceof Iterable<?>)
+        		toStringBuilder((Iterable<?>) e, "(this)", visited, result);
+        	else if (e instanceof Object[])
+        		toStringBuilder((Object[]) e, "(this)", visited, result);
+        	else 
+        		result.append(e);
+
+            if (result.length() > TO_STRING_SIZE_THRESHOLD) {
+            	result.append(", ...");
+            	break;
+            }
+            if (i+1 < array.length)
+            	result.append(',').append(' ');
+        }
+        result.append(']');
+        return result;
+	}
+
+	/* - actual implementation of toString() method
+	 * - keeps track of visited Iterable's and arrays of Object's
+	 */
+	private static StringBuilder toStringBuilder(Iterable<?> c, String onSelf, Set<Object> visited, StringBuilder result) {
+		if (!visited.add(c))
+			return result.append("[...]");
+
+		result.append('[');
+        for (Iterator<?> iter = c.iterator(); iter.hasNext(); ) {
+        	Object e = iter.next();
+        	if (e == c)
+        		result.append(onSelf);
+        	else if (e instanceof Iterable<?>)
+        		toStringBuilder((Iterable<?>) e, "(this)", visited, result);
+        	else if (e instanceof Object[])
+        		toStringBuilder((Object[]) e, "(this)", visited, result);
+        	else 
+        		result.append(e);
+
+            if (result.length() > TO_STRING_SIZE_THRESHOLD) {
+            	result.append(", ...");
+            	break;
+            }
+            if (iter.hasNext())
+            	result.append(',').append(' ');
+        }
+        result.append(']');
+        return result;
+	}
+	
+    /**
+     * Returns a string representation of the given <tt>Iterable</tt>.<br>
+     * The string representation consists of a list of the <tt>Iterable</tt>'s
+     * elements separated by commas in the order they are returned by its iterator.
+     * <tt>Iterable</tt> is enclosed in square brackets (<tt>"[]"</tt>).
+     * 
+     * <p>If <tt>Iterable</tt> contains too many elements, only first elements will be shown,
+     * followed by three-dot (<tt>"..."</tt>).
+     * 
+     * <p> If given {@code Iterable} is null, string "null" is returned.
+     * 
+	 * @param c - given <tt>Iterable</tt>
+	 * @param onSelf - denotes string value assigned to <tt>Iterable</tt> itself
+	 *                 if it will be one of the <tt>Iterable</tt> elements.
+	 *                 
+	 * @return a string representation of the given <tt>Iterable</tt>
+     */
+	public static String toString(Iterable<?> c, String onSelf) {
+		if (c == null)
+			return "null";
+		return toStringBuilder(c, onSelf, new HashedSet<Object>(Hasher.IDENTITY), new StringBuilder()).toString();
+	}
+
+    /**
+     * Returns a string representation of the given <tt>Iterable</tt>.<br>
+     * The string representation consists of a list of the <tt>Iterable</tt>'s
+     * elements separated by commas in the order they are returned by its iterator.
+     * <tt>Iterable</tt> is enclosed in square brackets (<tt>"[]"</tt>).
+     * 
+     * <p>If <tt>Iterable</tt> contains too many elements, only first elements will be shown,
+     * followed by three-dot (<tt>"..."</tt>).
+     * 
+     * <p> If given {@code Iterable} is null, string "null" is returned.
+     * 
+	 * @param c - given <tt>Iterable</tt>
+	 * 
+	 * @return a string representation of the given <tt>Iterable</tt>
+     */
+	public static String toString(Iterable<?> c) {
+		return toString(c, "(this)");
+	}
+
+	private Collectionz() {
+		throw new AssertionError("Instantiation of utility class " + getClass().getName() + " is prohibited");
+	};
+}
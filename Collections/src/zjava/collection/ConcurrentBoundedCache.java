@@ -0,0 +1,255 @@
+package zjava.collection;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe version of {@link BoundedCache}.<br>
+ * Keys are distributed between independent stripes by their hashes. Each stripe
+ * is a {@code BoundedCache} with its share of the maximum weight, guarded by its
+ * own lock, so threads accessing different stripes don't contend.
+ *
+ * <p>Since each stripe evicts entries independently, total weight of the cache
+ * never exceeds maximum weight, but cache may start evicting entries before it's
+ * reached if keys are distributed between stripes unevenly.
+ *
+ * @param <K> - the type of keys
+ * @param <V> - the type of values
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class ConcurrentBoundedCache<K, V> {
+
+	/** Maximal number of stripes */
+	private static final int MAX_STRIPES = 1 << 16;
+
+	private final BoundedCache<K, V>[] stripes;
+	private final long maximumWeight;
+
+	/**
+	 * Constructs cache, which holds at most given number of entries.
+	 * Number of stripes depends on the number of available processors.
+	 *
+	 * @param maximumSize maximal number of entries
+	 * @throws IllegalArgumentException if maximal size isn't positive
+	 */
+	public ConcurrentBoundedCache(long maximumSize) {
+		this(maximumSize, null, 0, TimeUnit.NANOSECONDS, 4 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructs cache, which holds entries of at most given total weight and
+	 * expires entries after given time since they were written.
+	 *
+	 * @param maximumWeight maximal total weight of entries
+	 * @param weigher calculates weights of entries; if <tt>null</tt>, weight
+	 *        of every entry is 1
+	 * @param expireAfterWrite time after which entries expire; 0 if entries never expire
+	 * @param unit time unit of <tt>expireAfterWrite</tt>
+	 * @param concurrencyLevel expected number of concurrently accessing threads;
+	 *        number of stripes is the nearest power of two, which isn't less
+	 *        than that number and doesn't exceed maximal weight
+	 * @throws IllegalArgumentException if maximal weight or concurrency level isn't
+	 *         positive or expiration time is negative
+	 */
+	public ConcurrentBoundedCache(long maximumWeight, BoundedCache.Weigher<? super K, ? super V> weigher, long expireAfterWrite, TimeUnit unit, int concurrencyLevel) {
+		if (maximumWeight <= 0)
+			throw new IllegalArgumentException("Maximum weight: " + maximumWeight);
+		if (concurrencyLevel <= 0)
+			throw new IllegalArgumentException("Concurrency level: " + concurrencyLevel);
+		int n = 1;
+		while (n < concurrencyLevel && n < MAX_STRIPES && 2L * n <= maximumWeight)
+			n <<= 1;
+		this.maximumWeight = maximumWeight;
+		this.stripes = newStripes(n);
+		for (int i = 0; i < n; i++) {
+			// - remainder of the weight is distributed between the first stripes
+			final long weight = maximumWeight / n + ((i < maximumWeight % n) ? 1 : 0);
+			stripes[i] = new BoundedCache<K, V>(weight, weigher, expireAfterWrite, unit);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> BoundedCache<K, V>[] newStripes(final int n) {
+		return (BoundedCache<K, V>[]) new BoundedCache<?, ?>[n];
+	}
+
+	private BoundedCache<K, V> stripe(final Object key) {
+		return stripes[BoundedCache.hash(key) & (stripes.length - 1)];
+	}
+
+	/**
+	 * Returns value associated with the key or <tt>null</tt> if there is no
+	 * such value in the cache.
+	 *
+	 * @param key the key
+	 * @return value associated with the key or <tt>null</tt>
+	 * @throws NullPointerException if key is <tt>null</tt>
+	 */
+	public V get(K key) {
+		final BoundedCache<K, V> stripe = stripe(key);
+		synchronized (stripe) {
+			return stripe.get(key);
+		}
+	}
+
+	/**
+	 * Associates value with the key. Entry, which is heavier than maximum weight
+	 * of its stripe, is not cached.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @return previous value associated with the key or <tt>null</tt>
+	 * @throws NullPointerException if either key or value is <tt>null</tt>
+	 * @throws IllegalArgumentException if weigher returns negative weight
+	 */
+	public V put(K key, V value) {
+		final BoundedCache<K, V> stripe = stripe(key);
+		synchronized (stripe) {
+			return stripe.put(key, value);
+		}
+	}
+
+	/**
+	 * Removes entry with the given key from the cache.
+	 *
+	 * @param key the key
+	 * @return removed value or <tt>null</tt> if there was no value for the key
+	 * @throws NullPointerException if key is <tt>null</tt>
+	 */
+	public V remove(K key) {
+		final BoundedCache<K, V> stripe = stripe(key);
+		synchronized (stripe) {
+			return stripe.remove(key);
+		}
+	}
+
+	/**
+	 * Removes all entries from the cache. Statistics are kept.
+	 */
+	public void clear() {
+		for (final BoundedCache<K, V> stripe : stripes)
+			synchronized (stripe) {
+				stripe.clear();
+			}
+	}
+
+	/**
+	 * Removes all expired entries from the cache.
+	 */
+	public void cleanUp() {
+		for (final BoundedCache<K, V> stripe : stripes)
+			synchronized (stripe) {
+				stripe.cleanUp();
+			}
+	}
+
+	/**
+	 * Returns number of entries in the cache, including expired ones,
+	 * which weren't removed yet. If cache contains more than
+	 * <tt>Integer.MAX_VALUE</tt> entries, returns <tt>Integer.MAX_VALUE</tt>.
+	 *
+	 * @return number of entries in the cache
+	 */
+	public int size() {
+		long size = 0;
+		for (final BoundedCache<K, V> stripe : stripes)
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns total weight of the entries in the cache.
+	 *
+	 * @return total weight of the entries
+	 */
+	public long weightedSize() {
+		long weight = 0;
+		for (final BoundedCache<K, V> stripe : stripes)
+			synchronized (stripe) {
+				weight += stripe.weightedSize();
+			}
+		return weight;
+	}
+
+	/**
+	 * Returns maximal total weight of the entries in the cache.
+	 *
+	 * @return maximum weight
+	 */
+	public long maximumWeight() {
+		return maximumWeight;
+	}
+
+	/**
+	 * Returns number of stripes of the cache.
+	 *
+	 * @return number of stripes
+	 */
+	public int stripes() {
+		return stripes.length;
+	}
+
+	/**
+	 * Returns number of {@link #get(Object) get} calls, which found the value.
+	 *
+	 * @return number of cache hits
+	 */
+	public long hitCount() {
+		long count = 0;
+		for (final BoundedCache<K, V> stripe : stripes)
+			synchronized (stripe) {
+				count += stripe.hitCount();
+			}
+		return count;
+	}
+
+	/**
+	 * Returns number of {@link #get(Object) get} calls, which didn't find the value.
+	 *
+	 * @return number of cache misses
+	 */
+	public long missCount() {
+		long count = 0;
+		for (final BoundedCache<K, V> stripe : stripes)
+			synchronized (stripe) {
+				count += stripe.missCount();
+			}
+		return count;
+	}
+
+	/**
+	 * Returns number of entries evicted by size or weight limit or removed since they expired.
+	 *
+	 * @return number of evicted entries
+	 */
+	public long evictionCount() {
+		long count = 0;
+		for (final BoundedCache<K, V> stripe : stripes)
+			synchronized (stripe) {
+				count += stripe.evictionCount();
+			}
+		return count;
+	}
+
+	/**
+	 * Returns ratio of cache hits to all {@link #get(Object) get} calls,
+	 * or 1 if there were no calls.
+	 *
+	 * @return hit rate of the cache
+	 */
+	public double hitRate() {
+		final long hits = hitCount();
+		final long requests = hits + missCount();
+		return (requests == 0) ? 1.0 : (double) hits / requests;
+	}
+
+	public String toString() {
+		return "ConcurrentBoundedCache[size=" + size() + ", weight=" + weightedSize() + "/" + maximumWeight
+			+ ", stripes=" + stripes.length + ", hits=" + hitCount() + ", misses=" + missCount()
+			+ ", evictions=" + evictionCount() + "]";
+	}
+}
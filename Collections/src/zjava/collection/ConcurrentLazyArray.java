@@ -0,0 +1,189 @@
+package zjava.collection;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static zjava.system.Const.MAX_ARRAY_SIZE;
+
+/**
+ * Thread-safe variant of {@link LazyArray}.<br>
+ * Blocks of elements are allocated on the first write and published with
+ * compare-and-set, so concurrent writers never lose blocks (or values written
+ * to them) of each other. Reads are lock-free and never allocate memory.
+ *
+ * <p>All operations have the memory effects of the corresponding operations
+ * of {@link AtomicReferenceArray}.
+ * 
+ * @param <E> - the type of elements in this array
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class ConcurrentLazyArray<E> implements HugeArray<E>, java.io.Serializable {
+
+	private static final long serialVersionUID = 201704111200L;
+
+	private static final int DEFAULT_BLOCK_ADDRESS_BITS = 10;
+
+	private final long size;
+	private final AtomicReferenceArray<AtomicReferenceArray<E>> data;
+	private final int blockAddressBits;
+	private final int blockMask;
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+	private void rangeCheck(long index) {
+		if (index < 0 | index >= size)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	/** Returns data block with given index or <tt>null</tt> if it's not allocated yet */
+	private AtomicReferenceArray<E> block(long index) {
+		return data.get((int) (index >>> blockAddressBits));
+	}
+
+	/** Null-safe access to data block with lazy initialization */
+	private AtomicReferenceArray<E> allocatedBlock(long index) {
+		final int i = (int) (index >>> blockAddressBits);
+		AtomicReferenceArray<E> block = data.get(i);
+		if (block == null) {
+			// - last block may be shorter than the others
+			final long blockStart = (long) i << blockAddressBits;
+			final AtomicReferenceArray<E> newBlock = new AtomicReferenceArray<E>((int) Math.min(blockMask + 1, size - blockStart));
+			// - the block which is published first wins
+			if (data.compareAndSet(i, null, newBlock))
+				block = newBlock;
+			else
+				block = data.get(i);
+		}
+		return block;
+	}
+
+    /**
+     * Constructs an array with the specified size.
+     *
+     * @param  size size of the array
+     * @throws NegativeArraySizeException if the specified size
+     *         is negative
+     */
+	public ConcurrentLazyArray(long size) {
+        if (size < 0)
+            throw new NegativeArraySizeException("size < 0: " + size);
+        if (size > (long)MAX_ARRAY_SIZE << 30)
+        	throw new OutOfMemoryError("Required array size too large");
+		this.size = size;
+
+		int blockAddressBits = DEFAULT_BLOCK_ADDRESS_BITS;
+		while (MAX_ARRAY_SIZE <= (size-1) >> blockAddressBits)
+			blockAddressBits++;
+		this.blockAddressBits = blockAddressBits;
+		blockMask = (1 << this.blockAddressBits) - 1;
+		data = new AtomicReferenceArray<AtomicReferenceArray<E>>((int)((size + blockMask) >>> this.blockAddressBits));
+	}
+
+	/**
+	 * Returns value at specified position
+	 * 
+	 * @param index index of returned value
+	 * @return value at specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+	public E get(long index) {
+		rangeCheck(index);
+		final AtomicReferenceArray<E> block = block(index);
+		return (block == null) ? null : block.get((int) (index & blockMask));
+	}
+
+	/**
+	 * Replaces the value at specified position with method argument
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+	 * @return replaced value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public E set(long index, E value) {
+		return getAndSet(index, value);
+	}
+
+	/**
+	 * Atomically replaces the value at specified position with method argument
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+	 * @return replaced value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public E getAndSet(long index, E value) {
+		rangeCheck(index);
+		if (value == null) {
+			// - there is nothing to replace in the block which isn't allocated
+			final AtomicReferenceArray<E> block = block(index);
+			return (block == null) ? null : block.getAndSet((int) (index & blockMask), null);
+		}
+		return allocatedBlock(index).getAndSet((int) (index & blockMask), value);
+	}
+
+	/**
+	 * Atomically sets the value at specified position to the given updated
+	 * value if the current value is the same (<tt>==</tt>) as the expected value.
+	 * 
+	 * @param index index of value to change
+	 * @param expect the expected value
+	 * @param update the new value
+	 * @return <tt>true</tt> if successful, <tt>false</tt> if the actual value
+	 *         was not equal to the expected value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public boolean compareAndSet(long index, E expect, E update) {
+		rangeCheck(index);
+		if (expect != null) {
+			// - block which isn't allocated contains only nulls
+			final AtomicReferenceArray<E> block = block(index);
+			return block != null && block.compareAndSet((int) (index & blockMask), expect, update);
+		}
+		if (update == null)
+			return get(index) == null;
+		return allocatedBlock(index).compareAndSet((int) (index & blockMask), null, update);
+	}
+
+	/**
+	 * Returns size of the array
+	 * 
+	 * @return size of the array
+	 */
+	public long size() {
+		return size;
+	}
+
+    /**
+     * Returns a string representation of this array. The string representation
+     * consists of a list of the array's elements separated by commas
+     * in index ascending order. List enclosed in square brackets (<tt>"[]"</tt>).
+     * <br>
+     * If list is too large, only first elements will be shown, followed by
+     * three-dot (<tt>"..."</tt>).
+     */
+	public String toString() {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (long i = 0; i < size; ) {
+            E e = get(i);
+            sb.append(e == this ? "(this Array)" : e);
+            if (++i < size) {
+                if (sb.length() > 1000) {
+                	sb.append(',').append(" ...");
+                	break;
+                }            	
+                sb.append(',').append(' ');
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+	}
+}
@@ -0,0 +1,263 @@
+package zjava.collection;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+/**
+ * A thread-safe variant of {@link DynamicList} in which all mutative operations
+ * are implemented by making a fresh copy of the list.<br>
+ * Unlike {@link java.util.concurrent.CopyOnWriteArrayList CopyOnWriteArrayList}
+ * the copy shares all the blocks with the previous version of the list (see
+ * {@link DynamicList#snapshot()}), so only the array of blocks (O(n<sup>1/2</sup>)
+ * references) and the blocks actually modified by the operation are copied.
+ *
+ * <p>The <tt>set</tt> operation and appending of elements modify a single block,
+ * so they run in O(n<sup>1/2</sup>) time. Versions of the list are kept in
+ * deferred rebalancing mode (see {@link DynamicList#setDeferredRebalancing(boolean)}),
+ * so insertion and removal of elements at arbitrary index modify a single block
+ * as well and copy just this block, the array of blocks and the array of offsets
+ * of the blocks, which also takes O(n<sup>1/2</sup>) time. Index-based reads
+ * take O(log n) time after such modifications, until regular layout is restored
+ * by a bulk operation or by {@link #rebalance()} call.
+ *
+ * <p>Read operations take no locks and work on the most recently published
+ * version of the list. Iterators work on the version of the list which was
+ * current at the time iterator was created, never throw
+ * <tt>ConcurrentModificationException</tt> and don't support modifications.
+ * Writers are serialized with each other.
+ *
+ * <p>This class is intended for read-mostly data, such as configuration or
+ * routing tables, which are read by many threads and updated rarely.
+ *
+ * @param <E> - the type of elements in this list
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ *
+ * @see DynamicList
+ */
+public class CopyOnWriteDynamicList<E> extends AbstractList<E> implements List<E>, RandomAccess, java.io.Serializable {
+
+	static private final long serialVersionUID = 201703031200L;
+
+	/** Current version of the list. Published versions are never modified */
+	private volatile DynamicList<E> data;
+
+    /**
+     * Constructs an empty list.
+     */
+	public CopyOnWriteDynamicList() {
+		data = newVersion();
+	}
+
+	/**
+     * Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws NullPointerException if the specified collection is null
+     */
+	public CopyOnWriteDynamicList(Collection<? extends E> c) {
+		DynamicList<E> version = new DynamicList<E>(c);
+		version.setDeferredRebalancing(true);
+		data = version;
+	}
+
+	// - returns new empty version of the list
+	private static <E> DynamicList<E> newVersion() {
+		DynamicList<E> version = new DynamicList<E>();
+		version.setDeferredRebalancing(true);
+		return version;
+	}
+
+	// - returns copy of the current version which may be modified by the writer
+	private DynamicList<E> copy() {
+		return data.snapshot();
+	}
+
+	// - makes given version of the list visible to the readers
+	private void publish(DynamicList<E> version) {
+		modCount++;
+		data = version;
+	}
+
+	/**
+	 * Returns unmodifiable view of the current version of this list.<br>
+	 * The view is not affected by subsequent modifications of this list,
+	 * so it may be used to perform several consistent reads.
+	 *
+	 * @return unmodifiable view of the current version of this list
+	 */
+	public List<E> snapshot() {
+		return Collections.unmodifiableList(data);
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	public E get(int index) {
+		return data.get(index);
+	}
+
+	public boolean contains(Object o) {
+		return data.contains(o);
+	}
+
+	public int indexOf(Object o) {
+		return data.indexOf(o);
+	}
+
+	public int lastIndexOf(Object o) {
+		return data.lastIndexOf(o);
+	}
+
+	public boolean containsAll(Collection<?> c) {
+		return data.containsAll(c);
+	}
+
+	public Object[] toArray() {
+		return data.toArray();
+	}
+
+	public <T> T[] toArray(T[] a) {
+		return data.toArray(a);
+	}
+
+	public Iterator<E> iterator() {
+		return snapshot().iterator();
+	}
+
+	public ListIterator<E> listIterator() {
+		return snapshot().listIterator();
+	}
+
+	public ListIterator<E> listIterator(int index) {
+		return snapshot().listIterator(index);
+	}
+
+	public synchronized E set(int index, E element) {
+		DynamicList<E> version = copy();
+		E replaced = version.set(index, element);
+		publish(version);
+		return replaced;
+	}
+
+	public synchronized boolean add(E element) {
+		DynamicList<E> version = copy();
+		version.add(element);
+		publish(version);
+		return true;
+	}
+
+	public synchronized void add(int index, E element) {
+		DynamicList<E> version = copy();
+		version.add(index, element);
+		publish(version);
+	}
+
+	/**
+	 * Appends the element, if not present.
+	 *
+	 * @param element element to be added to this list, if absent
+	 * @return <tt>true</tt> if the element was added
+	 */
+	public synchronized boolean addIfAbsent(E element) {
+		if (data.contains(element))
+			return false;
+		return add(element);
+	}
+
+	public synchronized E remove(int index) {
+		DynamicList<E> version = copy();
+		E removed = version.remove(index);
+		publish(version);
+		return removed;
+	}
+
+	public synchronized boolean remove(Object o) {
+		int index = data.indexOf(o);
+		if (index < 0)
+			return false;
+		remove(index);
+		return true;
+	}
+
+	public synchronized boolean addAll(Collection<? extends E> c) {
+		DynamicList<E> version = copy();
+		if (!version.addAll(c))
+			return false;
+		publish(version);
+		return true;
+	}
+
+	public synchronized boolean addAll(int index, Collection<? extends E> c) {
+		DynamicList<E> version = copy();
+		if (!version.addAll(index, c))
+			return false;
+		publish(version);
+		return true;
+	}
+
+	public synchronized boolean removeAll(Collection<?> c) {
+		DynamicList<E> version = copy();
+		if (!version.removeAll(c))
+			return false;
+		publish(version);
+		return true;
+	}
+
+	public synchronized boolean retainAll(Collection<?> c) {
+		DynamicList<E> version = copy();
+		if (!version.retainAll(c))
+			return false;
+		publish(version);
+		return true;
+	}
+
+	public synchronized void clear() {
+		publish(CopyOnWriteDynamicList.<E>newVersion());
+	}
+
+	/**
+	 * Restores regular layout of the list if it was broken by insertions or removals
+	 * of elements in the middle of the list, so index-based reads take constant time
+	 * again. Publishes new version of the list in O(n) time.
+	 *
+	 * @see DynamicList#rebalance()
+	 */
+	public synchronized void rebalance() {
+		DynamicList<E> version = copy();
+		version.rebalance();
+		publish(version);
+	}
+
+	protected synchronized void removeRange(int fromIndex, int toIndex) {
+		DynamicList<E> version = copy();
+		version.subList(fromIndex, toIndex).clear();
+		publish(version);
+	}
+
+	public boolean equals(Object o) {
+		return data.equals(o);
+	}
+
+	public int hashCode() {
+		return data.hashCode();
+	}
+
+	public String toString() {
+		return data.toString();
+	}
+}
@@ -1,944 +1,2360 @@
-package zjava.collection;
-
-import java.util.AbstractList;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.ConcurrentModificationException;
-import java.util.Iterator;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.RandomAccess;
-
-import static zjava.system.Const.MAX_ARRAY_SIZE;
-
-/**
- * Resizable dynamic array implementation of the <tt>List</tt> interface.
- * Implements all optional list operations, and permits all elements,
- * including <tt>null</tt>.
- *
- * <p>
- * The <tt>size</tt>, <tt>isEmpty</tt>, <tt>get</tt>, <tt>set</tt>,
- * <tt>iterator</tt>, and <tt>listIterator</tt> operations run in constant
- * time.  The <tt>add</tt> operation runs in <i>amortized constant time</i>,
- * that is, adding n elements requires O(n) time. Removal and insertion of
- * elements at arbitrary index runs in O(n<sup>1/2</sup>) <i>amortized time</i>.
- * 
- * <p>
- * DynamicList class supports lists of huge capacities and has means of accessing
- * elements beyond regular limit. See {@link HugeListSupport} and {@link HugeList}
- * for additional information.
- * 
- * <p>
- * In most cases this implementation is significantly faster than
- * {@link java.util.ArrayList ArrayList} implementation and requires just
- * O(n<sup>1/2</sup>) of additional memory.
- *
- * @param <E> - the type of elements in this list
- * 
- * @since Zjava 1.0
- *  
- * @author Ivan Zaitsau
- * 
- * @see     Collection
- * @see     List 
- */
-public class DynamicList<E> extends AbstractList<E> implements List<E>, HugeListSupport<E>, RandomAccess, Cloneable, java.io.Serializable {
-
-	static private final long serialVersionUID = 201503121600L;
-	
-	/** Actual initial block size is 2<sup>INITIAL_BLOCK_ADDRESS_BITS</sup> */
-	static private final int INITIAL_BLOCK_ADDRESS_BITS = 4;
-	
-	/** Number of blocks on DynamicList initialization.
-	 * <br> <b>Note:</b> Must be even number due to some simplifications and assumptions made in the code*/
-	static private final int INITIAL_BLOCKS_COUNT = 2;
-	
-	/** This coefficient used to check if reduction of block size and amount of blocks is required.
-	 * <br> <b>Note:</b> Must be no less than 4. Needs to be no less than 8 for amortized performance estimations to hold */
-	static private final int REDUCTION_COEFFICIENT = 12;
-
-    /**
-	 * Internal storage block.<br>
-	 * Maintains up to <tt>capacity</tt> objects.<br>
-	 * If there are more elements than <tt>capacity</tt> after <tt>add</tt> operation, last element is removed from the block and returned from <tt>add</tt> method.<br>
-	 * 
-	 * <p>Implementation may vary, but the following conditions must be met:
-	 * <li> Insertions and deletions at the beginning and the end of the block must complete in constant time
-	 * <li> Retrieval of element at arbitrary position must complete in constant time
-	 * <li> Any other operation must complete in at least O(n)
-	 * <li> Only Blocks of sizes 2, 4, 8, ... 2<sup>30</sup> need to be supported
-	 * 
-	 * @author Ivan Zaitsau
-	 */
-	static final private class Block<E> implements Cloneable, java.io.Serializable {
-		
-		private static final long serialVersionUID = 201503121600L;
-
-		// - merges two blocks of equal capacities into block with doubled capacity
-		static <E> Block<E> merge(Block<E> block1, Block<E> block2) {
-			if ((block1 == null || block1.size() == 0) && (block2 == null || block2.size() == 0))
-				return null;
-
-			assert (block1 == null | block2 == null) || (block1.values.length == block2.values.length);
-
-			Block<E> mergedBlock = new Block<E>(2 * ((block1 == null) ? block2.values.length : block1.values.length));
-			if (block1 != null)
-				mergedBlock.size += block1.copyToArray(mergedBlock.values, 0);
-			if (block2 != null)
-				mergedBlock.size += block2.copyToArray(mergedBlock.values, mergedBlock.size);
-			return mergedBlock;
-		}
-
-		// - splits block to two smaller blocks of capacity equal to half of given block
-		@SuppressWarnings("unchecked")
-		static <E> Block<E>[] split(Block<E> block) {
-			if (block == null || block.size == 0)
-				return new Block[] {null, null};
-			
-			assert (block.values.length & 1) == 0;
-			
-			int halfSize = block.values.length / 2;
-			
-			if (block.size <= halfSize) {
-				Block<E> block1 = new Block<E>(halfSize);
-				block.copyToArray(block1.values, 0, 0, block.size);
-				block1.size = block.size;
-				return new Block[] {block1, null};
-			}
-			else {
-				Block<E> block1 = new Block<E>(halfSize);
-				block.copyToArray(block1.values, 0, 0, halfSize);
-				block1.size = halfSize;
-				Block<E> block2 = new Block<E>(halfSize);
-				block.copyToArray(block2.values, 0, halfSize, block.size - halfSize);
-				block2.size = halfSize;
-				return new Block[] {block1, block2};				
-			}
-		}
-		
-		private int offset;
-		private int size;
-		private Object[] values;
-		
-		Block(int capacity) {
-			// - capacity must be power of 2 and greater than one
-			assert((capacity & (capacity-1)) == 0 && capacity > 1);
-			
-			this.offset = 0;
-			this.size = 0;
-			this.values = new Object[capacity];
-		}
-
-		Block(int capacity, E[] values, int pos, int length) {
-			this(capacity);
-			System.arraycopy(values, pos, this.values, 0, length);
-			size = length;
-		}
-		
-		// - copies "count" values of this block starting from "srcPos" to array starting from "trgPos" index
-		int copyToArray(Object[] array, int trgPos, int srcPos, int count) {
-			if (srcPos >= values.length | count <= 0)
-				return 0;
-			if (srcPos + count > values.length)
-				count = values.length - srcPos;
-			int first = (offset + srcPos < values.length) ? offset + srcPos : offset + srcPos - values.length;
-			if (first + count <= values.length) {
-				System.arraycopy(values, first, array, trgPos, count);
-			}
-			else {
-				int halfCount = values.length - first;
-				System.arraycopy(values, first, array, trgPos, halfCount);
-				System.arraycopy(values, 0, array, trgPos + halfCount, count - halfCount);
-			}
-			return count;
-		}
-
-		// - copies all values of this block to given array starting from "pos" index
-		int copyToArray(Object[] array, int pos) {
-			return copyToArray(array, pos, 0, size);
-		}
-
-		int size() {
-			return size;
-		}
-		
-		// - returns "physical" index for given "logical" position
-		private int index(final int pos) {
-			return (offset + pos) & (values.length - 1);
-		}
-		
-		// - appends given value to the beginning of the block
-		E addFirst(final E value) {
-			offset = index(-1);
-			@SuppressWarnings("unchecked")
-			E last = (E) values[offset];
-			values[offset] = value;
-			if (size < values.length) {
-				size++;
-			}
-			return last;
-		}
-		
-		// - appends given value to the end of the block
-		void addLast(final E value) {
-			if (size == values.length)
-				return;
-			values[index(size)] = value;
-			size++;
-		}
-		
-		// - shifts values in direction of the beginning of the values array
-		private void shiftToLeft(final int fromPosition, final int toPosition) {
-
-			int fromIndex = index(fromPosition);
-			final int toIndex = index(toPosition);
-			
-			if (fromIndex > toIndex) {
-				for (int i = fromIndex+1; i < values.length; i++)
-					values[i-1] = values[i];
-				values[values.length-1] = values[0];
-				fromIndex = 0;
-			}
-
-			for (int i = fromIndex; i < toIndex; i++)
-				values[i] = values[i+1];
-		}
-		
-		// - shifts values in direction of the end of the values array
-		private void shiftToRight(final int fromPosition, final int toPosition) {
-
-			final int fromIndex = index(fromPosition);
-			int toIndex = index(toPosition);
-			
-			if (fromIndex > toIndex) {
-				for (int i = toIndex; i > 0; i--)
-					values[i] = values[i-1];
-				values[0] = values[values.length-1];
-				toIndex = values.length - 1;
-			}
-
-			for (int i = toIndex; i > fromIndex; i--)
-				values[i] = values[i-1];
-		}
-
-		// - inserts given value at given position
-		E add(final int pos, final E value) {
-			// - range check
-			assert(pos >= 0 && pos <= size);
-			
-			@SuppressWarnings("unchecked")
-			E last = (E) ((size == values.length) ? values[index(-1)] : null);
-			if (pos + pos < size) {
-				offset = index(-1);
-				shiftToLeft(0, pos);
-			}
-			else {
-				shiftToRight(pos, Math.min(size, values.length-1));
-			}
-			values[index(pos)] = value;
-			if (size < values.length) size++;
-			return last;
-		}
-
-		// - replaces element at given position with given value
-		E set(final int pos, final E value) {
-			// - range check
-			assert(pos >= 0 && pos < size);
-			
-			int i = index(pos);
-			@SuppressWarnings("unchecked")
-			E replaced = (E) values[i];
-			values[i] = value;
-			return replaced;
-		}
-		
-		// - removes first element of the block
-		E removeFirst() {
-			// - range check
-			assert(size > 0);
-			
-			@SuppressWarnings("unchecked")
-			E removed = (E) values[offset];
-			values[offset] = null;
-			offset = index(1);
-			size--;
-			return removed;
-		}
-		
-		// - removes element at given position
-		E remove(final int pos) {
-			// - range check
-			assert(pos >= 0 && pos < size);
-			
-			@SuppressWarnings("unchecked")
-			E removed = (E) values[index(pos)];
-			if (pos + pos < size) {
-				shiftToRight(0, pos);
-				values[offset] = null;
-				offset = index(1);
-			}
-			else {
-				shiftToLeft(pos, size-1);
-				values[index(size-1)] = null;
-			}
-			size--;
-			return removed;
-		}
-
-		// - returns element at given position
-		@SuppressWarnings("unchecked")
-		E get(final int pos) {
-			// - range check
-			assert(pos >= 0 && pos < size);
-			
-			return (E) values[index(pos)];
-		}
-		
-		public Block<E> clone() {
-			try {
-				@SuppressWarnings("unchecked")
-				Block<E> clone = (Block<E>) super.clone();
-				clone.values = values.clone();
-				return clone;
-			} catch (CloneNotSupportedException e) {
-	    		// - this should never be thrown since we are Cloneable
-	    		throw new InternalError();
-			}
-		}
-	}
-
-	private long size;
-	private int blockAddressBits;
-	private Block<E>[] data;
-	
-	private transient HugeList<E> hugeView;
-
-	/** Null-safe access to data block with initialization.*/
-	private Block<E> data(final int index) {
-		if (data[index] == null)
-			data[index] = new Block<E>(1 << blockAddressBits);
-		return data[index];
-	}
-
-    /**
-     * Increases the capacity of this <tt>DynamicList</tt> instance, if
-     * necessary, to ensure that it can hold at least the number of elements
-     * specified by the required capacity argument.
-     *
-     * @param requiredCapacity the desired capacity
-     */
-	public void ensureCapacity(long requiredCapacity) {
-		long capacity = (long) data.length << blockAddressBits;
-		while (requiredCapacity > capacity) {
-			// - double number of blocks and their size
-			@SuppressWarnings("unchecked")
-			Block<E>[] newData = new Block[2*data.length];
-			int newBlockBitsize = blockAddressBits+1;
-			for (int i = 1, j = 0; i < data.length; i += 2, j++) {
-				newData[j] = Block.merge(data[i-1], data[i]);
-				if (newData[j] == null)
-					break;
-			}
-			/* Redundant because data.length assumed to be even number
-			 * *deleted code*
-			*/
-			assert (data.length & 1) == 0;
-			
-			data = newData;
-			blockAddressBits = newBlockBitsize;
-			capacity = (long) data.length << blockAddressBits;
-		}
-	}
-
-	private void compact() {
-		if (data.length <= INITIAL_BLOCKS_COUNT)
-			return;
-		if (size * REDUCTION_COEFFICIENT <= (long) data.length << blockAddressBits) {
-			// - decrease number of blocks and their size by half
-			@SuppressWarnings("unchecked")
-			Block<E>[] newData = new Block[(data.length+1)/2];
-			int newBlockBitsize = blockAddressBits-1;
-			main:
-			for (int i = 0; ; i++) {
-				Block<E>[] splitBlock = Block.split(data[i]);
-				for (int j = 0; j <= 1; j++) {
-					if (splitBlock[j] == null || splitBlock[j].size() == 0)
-						break main;
-					newData[i+i+j] = splitBlock[j];
-				}
-			}
-			data = newData;
-			blockAddressBits = newBlockBitsize;
-			modCount++;
-		}
-	}
-
-    private String outOfBoundsMsg(long index) {
-        return "Index: " + index + ", Size: " + size;
-    }
-	
-	private void rangeCheck(final long index) {
-		if (index < 0 | index >= size)
-			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
-	}
-
-	private void rangeCheckForAdd(final long index) {
-		if (index < 0 | index > size)
-			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
-	}
-
-	private void init() {
-		init(0);
-	}
-	
-	@SuppressWarnings("unchecked")
-	private void init(long initialCapacity) {
-		size = 0;
-		blockAddressBits = INITIAL_BLOCK_ADDRESS_BITS;
-		int blocksCount = INITIAL_BLOCKS_COUNT;
-		while ((long)blocksCount << blockAddressBits < initialCapacity) {
-			blocksCount += blocksCount;
-			blockAddressBits++;
-		}
-		data = new Block[blocksCount];
-	}
-
-    /**
-     * Removes from this list all of the elements whose index is between
-     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
-     * Shifts any succeeding elements to the left (reduces their index).
-     *
-     * @throws IndexOutOfBoundsException if {@code fromIndex} or
-     *         {@code toIndex} is out of range
-     */
-	protected void removeRange(int fromIndex, int toIndex) {
-		rangeCheck(fromIndex);
-		rangeCheckForAdd(toIndex);
-		int fromBlock = (1 + ((fromIndex - 1) >> blockAddressBits));
-		int toBlock = (toIndex >>> blockAddressBits);
-		int blocksToRemove = toBlock - fromBlock;
-		if (blocksToRemove > 0) {
-			for (int i = toBlock; i < data.length && data[i] != null && data[i].size() > 0; i++) {
-				data[i-blocksToRemove] = data[i];
-				data[i] = null;
-			}
-			size -= blocksToRemove << blockAddressBits;
-			toIndex -= blocksToRemove << blockAddressBits;
-		}
-		for (int i = fromIndex; i < toIndex; i++)
-			fastRemove(fromIndex);
-	}
-	
-	/**
-     * Constructs an empty list with an initial capacity of 32 elements.
-     */
-	public DynamicList() {
-		init();
-	}
-
-	/**
-     * Constructs an empty list with at least specified initial capacity.
-     */
-	public DynamicList(long initialCapacity) {
-		init(initialCapacity);
-	}
-
-	/**
-     * Constructs a list containing the elements of the specified
-     * collection, in the order they are returned by the collection's
-     * iterator.
-     *
-     * @param c the collection whose elements are to be placed into this list
-     * @throws NullPointerException if the specified collection is null
-     */
-	@SuppressWarnings("unchecked")
-	public DynamicList(Collection<? extends E> src) {
-		init(src.size());
-		// - unsafe, can throw ConcurrentModificationException if source collection is changed
-		if (src.size() > MAX_ARRAY_SIZE) {
-			synchronized(src) {
-				for (E e : src)
-					add(e);
-			}
-		}
-		// - more safe but resource consuming as well.
-		// - can't be applied to enormous collections with more than MAX_ARRAY_SIZE elements.
-		else {
-			for (E e : (E[]) src.toArray())
-				add(e);
-		}
-	}
-
-    /**
-     * Returns the number of elements in this list.<br>
-     * If this list  contains more than <tt>Integer.MAX_VALUE</tt> elements,
-     * returns <tt>Integer.MAX_VALUE</tt>.
-     *
-     * @return the number of elements in this list
-     */
-	public int size() {
-		return (size > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) size;
-	}
-
-    /**
-     * Appends the specified element to the end of this list.
-     *
-     * @param element element to be appended to this list
-     * @return <tt>true</tt> (as specified by {@link Collection#add})
-     */
-	public boolean add(E element) {
-		ensureCapacity(size + 1);
-		int blockIndex = (int) (size >>> blockAddressBits);
-		data(blockIndex).addLast(element);
-		size++;
-		return true;
-	}
-
-    /**
-     * Inserts the specified element at the specified position in this
-     * list. Shifts the element currently at that position (if any) and
-     * any subsequent elements to the right (adds one to their indices).
-     *
-     * @param index index at which the specified element is to be inserted
-     * @param element element to be inserted
-     * @throws IndexOutOfBoundsException {@inheritDoc}
-     */
-	public void add(int index, E element) {
-		rangeCheckForAdd(index);
-		ensureCapacity(size + 1);
-		fastAdd(index, element);
-	}
-
-	// - "add" method without range and capacity checks
-	private void fastAdd(final long index, E element) {
-		modCount++;
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		int blockSize = 1 << blockAddressBits;
-		if (data(blockIndex).size() < blockSize) {
-			data[blockIndex].add(valueIndex, element);
-		}
-		else {
-			element = data[blockIndex].add(valueIndex, element);
-			while (data(++blockIndex).size() == blockSize) {
-				element = data[blockIndex].addFirst(element);
-			}
-			data[blockIndex].addFirst(element);
-		}
-		size++;
-	}
-
-    /**
-     * Appends all of the elements in the specified collection to the end of
-     * this list, in the order that they are returned by the
-     * specified collection's <tt>toArray</tt> method.
-     *
-     * @param collection collection containing elements to be added to this list
-     * @return <tt>true</tt> if this list changed as a result of the call
-     * @throws NullPointerException if the specified collection is null
-     */
-    public boolean addAll(Collection<? extends E> collection) {
-		@SuppressWarnings("unchecked")
-		E[] values = (E[]) collection.toArray();
-    	if (values.length == 0)
-    		return false;
-    	for (E value : values)
-    		add(value);
-    	return true;
-    }
-    
-    /**
-     * Inserts all of the elements in the specified collection into this
-     * list, starting at the specified position.  Shifts the element
-     * currently at that position (if any) and any subsequent elements to
-     * the right (increases their indices).  The new elements will appear
-     * in the list in the order that they are returned by the
-     * specified collection's iterator.
-     *
-     * @param index index at which to insert the first element from the
-     *              specified collection
-     * @param collection collection containing elements to be added to this list
-     * @return <tt>true</tt> if this list changed as a result of the call
-     * @throws IndexOutOfBoundsException {@inheritDoc}
-     * @throws NullPointerException if the specified collection is null
-     */
-	public boolean addAll(int index, Collection<? extends E> collection) {
-    	rangeCheckForAdd(index);
-    	@SuppressWarnings("unchecked")
-		E[] values = (E[]) collection.toArray();
-    	if (values.length == 0)
-    		return false;
-    	ensureCapacity(size + values.length);
-    	int blockSize = 1 << blockAddressBits;
-    	int mask = (1 << blockAddressBits) - 1;
-    	int i = 0;
-		while (i < values.length && ((index + i) & mask) != 0) {
-    		fastAdd((long)index + i, values[i]);
-    		i++;
-		}
-    	while (i < values.length - blockSize) {
-    		int fromBlock = (int) (((long)index + i) >>> blockAddressBits);
-    		int toBlock = (int) ((size + mask) >>> blockAddressBits);
-    		for (int j = toBlock; j > fromBlock; j--)
-    			data[j] = data[j-1];
-    		data[fromBlock] = new Block<E>(blockSize, values, i, blockSize);
-    		i += blockSize;
-    		size += blockSize;
-    	}
-    	while (i < values.length) {
-    		fastAdd((long)index + i, values[i]);
-    		i++;
-    	}
-    	return true;
-    }
-
-    /**
-     * Returns the element at the specified position in this list.
-     *
-     * @param  index index of the element to return
-     * @return the element at the specified position in this list
-     * @throws IndexOutOfBoundsException {@inheritDoc}
-     */
-	public E get(int index) {
-		rangeCheck(index);
-		return fastGet(index);
-	}
-
-	// - "get" method without range check
-	private E fastGet(final long index) {
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		return data[blockIndex].get(valueIndex);
-	}
-	
-    /**
-     * Replaces the element at the specified position in this list with
-     * the specified element.
-     *
-     * @param index index of the element to replace
-     * @param element element to be stored at the specified position
-     * @return the element previously at the specified position
-     * @throws IndexOutOfBoundsException {@inheritDoc}
-     */
-	public E set(int index, E element) {
-		rangeCheck(index);
-		return fastSet(index, element);
-	}
-
-	// - "add" method without range check
-	private E fastSet(final long index, E element) {
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		return data[blockIndex].set(valueIndex, element);
-	}
-	
-    /**
-     * Removes the element at the specified position in this list.
-     * Shifts any subsequent elements to the left (subtracts one from their
-     * indices).
-     *
-     * @param index the index of the element to be removed
-     * @return the element that was removed from the list
-     * @throws IndexOutOfBoundsException {@inheritDoc}
-     */
-	public E remove(int index) {
-		rangeCheck(index);
-		return fastRemove(index);
-	}
-
-	// - "remove" method without range check
-	private E fastRemove(final long index) {
-		modCount++;
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		E removed = data[blockIndex].remove(valueIndex);
-		while (++blockIndex < data.length && data[blockIndex] != null && data[blockIndex].size() > 0) {
-			data[blockIndex-1].addLast(data[blockIndex].removeFirst());
-		}
-		size--;
-		// - free unused blocks for GC and compact list if needed
-		boolean blockFreed = false;
-		while (++blockIndex < data.length && data[blockIndex] != null && data[blockIndex].size() == 0) {
-			data[blockIndex] = null;
-			blockFreed = true;
-		}
-		if (blockFreed)
-			compact();
-		return removed;
-	}
-	
-    /**
-     * Removes all of this collection's elements that are also contained in the
-     * specified collection. After this call returns, this collection will contain
-     * no elements in common with the specified collection. 
-     *
-     * @param c collection containing elements to be retained in this collection
-     * 
-     * @return <tt>true</tt> if this collection changed as a result of the call
-     * 
-     * @throws NullPointerException if this collection contains one or more
-     *         <tt>null</tt> elements and the specified collection does not permit
-     *         <tt>null</tt> elements, or if the specified collection is <tt>null</tt>
-     */
-	public boolean removeAll(Collection<?> c) {
-		return removeOrRetainAll(c, false);
-	}
-	
-    /**
-     * Retains only the elements in this collection that are contained in the
-     * specified collection. In other words, removes from this collection all
-     * of its elements that are not contained in the specified collection.
-     *
-     * @param c collection containing elements to be retained in this collection
-     * 
-     * @return <tt>true</tt> if this collection changed as a result of the call
-     * @throws NullPointerException if this collection contains one or more
-     *         <tt>null</tt> elements and the specified collection does not permit <tt>null</tt>
-     *         elements, or if the specified collection is <tt>null</tt>
-     */
-	public boolean retainAll(Collection<?> c) {
-		return removeOrRetainAll(c, true);
-	}
-	
-	// - removes or retains all elements that belong to specified collection
-	// - dependent on specified boolean flag (remove = false, retain = true)
-	private boolean removeOrRetainAll(Collection<?> c, boolean retain) {
-		if (isEmpty())
-			return false;
-		if (c == this) {
-			if (retain)
-				return false;
-			clear();
-			return true;
-		}
-		boolean modified = false;
-		for (long i = size-1; i >= 0; i--) {
-			if (c.contains(fastGet(i)) ^ retain) {
-				fastRemove(i);
-				modified = true;
-			}
-		}
-		return modified;
-	}
-	
-	/**
-	 * Removes all of the elements from this list. The list will be empty after this call returns.
-	 */
-	public void clear() {
-		Arrays.fill(data, null);
-		size = 0;
-	}
-
-    /**
-     * Returns an iterator over the elements in this list in proper sequence.
-     * 
-     * <p>This implementation supports lists of sizes above <tt>Integer.MAX_VALUE</tt>
-     * limit.
-     * 
-     * <p>This implementation is made to throw runtime exceptions in the
-     * face of concurrent modification, as described in the specification
-     * for the (protected) {@link AbstractList#modCount modCount} field.
-     *
-     * @return an iterator over the elements in this list in proper sequence
-     */
-	public Iterator<E> iterator() {
-		return new Iterator<E>() {
-
-			/**
-			 * Cursor position
-			 */
-			private long i = 0;
-			
-			/**
-			 * Current (last returned) element index or -1 if element is not defined (or has been removed)
-			 */
-			private long last = -1;
-			
-			/**
-			 * Expected version (modifications count) of the backing List 
-			 */
-			int expectedModCount = modCount;
-			
-			public boolean hasNext() {
-				return i < size;
-			}
-
-	        public E next() {
-	            checkForComodification();
-	            try {
-	                rangeCheck(i);
-	                E e = fastGet(i);
-	                last = i++;
-	                return e;
-	            }
-	            catch (IndexOutOfBoundsException e) {
-	                checkForComodification();
-	                throw new NoSuchElementException();
-	            }
-	        }
-
-	        public void remove() {
-	            if (last < 0)
-	                throw new IllegalStateException();
-	            checkForComodification();
-	            
-	            try {
-	                rangeCheck(last);
-	            	fastRemove(last);
-	                i--;
-	                last = -1;
-	                expectedModCount = modCount;
-	            } catch (IndexOutOfBoundsException e) {
-	                throw new ConcurrentModificationException();
-	            }
-	        }
-		
-			private void checkForComodification() {
-				if (expectedModCount != modCount)
-					throw new ConcurrentModificationException();
-			}
-		};
-	}
-	
-	public HugeList<E> asHuge() {
-		if (hugeView == null) {
-			hugeView = new HugeList<E>() {
-				
-				public long size() {
-					return size;
-				}
-
-				public E get(long index) {
-					rangeCheck(index);
-					return fastGet(index);
-				}
-
-				public E set(long index, E element) {
-					rangeCheck(index);
-					return fastSet(index, element);
-				}
-
-				public void add(long index, E element) {
-					rangeCheckForAdd(index);
-					ensureCapacity(size + 1);
-					fastAdd(index, element);
-				}
-
-				public E remove(long index) {
-					rangeCheck(index);
-					return fastRemove(index);
-				}
-			};
-		}
-		return hugeView;
-	}
-
-    /**
-     * Returns an array containing all of the elements in this list
-     * in proper sequence (from first to last element).
-     *
-     * <p>The returned array will be "safe" in that no references to it are
-     * maintained by this list.  (In other words, this method must allocate
-     * a new array).  The caller is thus free to modify the returned array.
-     *
-     * <p>This method acts as bridge between array-based and collection-based
-     * APIs.
-     *
-     * @return an array containing all of the elements in this list in
-     *         proper sequence
-     */
-	public Object[] toArray() {
-		long size = this.size;
-		if (size > MAX_ARRAY_SIZE)
-			throw new OutOfMemoryError("Required array size too large");
-		
-		Object[] result = new Object[(int) size];
-		int pos = 0;
-		for (int i = 0; i < data.length && data[i] != null && data[i].size() > 0; i++) {
-			pos += data[i].copyToArray(result, pos);
-		}
-		return (pos < size) ? Arrays.copyOf(result, pos) : result;
-	}
-
-    /**
-     * Returns an array containing all of the elements in this list in proper
-     * sequence (from first to last element); the runtime type of the returned
-     * array is that of the specified array.  If the list fits in the
-     * specified array, it is returned therein.  Otherwise, a new array is
-     * allocated with the runtime type of the specified array and the size of
-     * this list.
-     *
-     * <p>If the list fits in the specified array with room to spare
-     * (i.e., the array has more elements than the list), the element in
-     * the array immediately following the end of the collection is set to
-     * <tt>null</tt>.  (This is useful in determining the length of the
-     * list <i>only</i> if the caller knows that the list does not contain
-     * any null elements.)
-     *
-     * @param a the array into which the elements of the list are to
-     *          be stored, if it is big enough; otherwise, a new array of the
-     *          same runtime type is allocated for this purpose.
-     * @return an array containing the elements of the list
-     * @throws ArrayStoreException if the runtime type of the specified array
-     *         is not a supertype of the runtime type of every element in
-     *         this list
-     * @throws NullPointerException if the specified array is null
-     */
-	public <T> T[] toArray(T[] a) {
-		long size = this.size;
-		if (size > MAX_ARRAY_SIZE)
-			throw new OutOfMemoryError("Required array size too large");
-		
-		@SuppressWarnings("unchecked")
-		T[] result = (a.length < size)
-				? (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), (int) size)
-				: a;
-		for (int i = 0, pos = 0; i < data.length && data[i] != null && data[i].size() > 0; i++) {
-			pos += data[i].copyToArray(result, pos);	
-		}
-		if (result.length > size)
-			result[(int) size] = null;
-		return result;
-	}
-	
-    /**
-     * Returns a shallow copy of this <tt>DynamicList</tt> instance.
-     * (The elements themselves are not cloned).
-     *
-     * @return a clone of this <tt>DynamicList</tt> instance
-     */
-    @SuppressWarnings("unchecked")
-	public Object clone() {
-    	try {
-			DynamicList<E> clone = (DynamicList<E>) super.clone();
-			clone.modCount = 0;
-			clone.hugeView = null;
-			clone.data = new Block[data.length];
-    		for (int i = 0; i < data.length && data[i] != null; i++) {
-    			clone.data[i] = data[i].clone();
-    		}
-    		return clone;
-		}
-    	catch (CloneNotSupportedException e) {
-    		// - should never be thrown since we are Cloneable
-    		throw new InternalError();
-		}
-    }
-
-    /**
-     * Returns a string representation of this list.<br>
-     * The string representation consists of a list of the elements separated
-     * by commas in the index increasing order.<br>
-     * List is enclosed in square brackets (<tt>"[]"</tt>).<br>
-     * If list is too large, only first elements will be shown, followed by
-     * three-dot (<tt>"..."</tt>).
-     * 
-     * @return a string representation of this list
-     */
-	public String toString() {
-        if (isEmpty())
-            return "[]";
-
-        return Collectionz.toString(this, "(this List)");
-	}
-}
+package zjava.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import zjava.common.Objectz;
+
+import static zjava.system.Const.MAX_ARRAY_SIZE;
+
+/**
+ * Resizable dynamic array implementation of the <tt>List</tt> interface.
+ * Implements all optional list operations, and permits all elements,
+ * including <tt>null</tt>.
+ *
+ * <p>
+ * The <tt>size</tt>, <tt>isEmpty</tt>, <tt>get</tt>, <tt>set</tt>,
+ * <tt>iterator</tt>, and <tt>listIterator</tt> operations run in constant
+ * time.  The <tt>add</tt> operation runs in <i>amortized constant time</i>,
+ * that is, adding n elements requires O(n) time. Removal and insertion of
+ * elements at arbitrary index runs in O(n<sup>1/2</sup>) <i>amortized time</i>.
+ * Insertion and removal of elements at the beginning of the list runs in
+ * <i>amortized constant time</i> as well, so the list may be used as
+ * a double-ended queue. It provides all the operations of {@link Deque}
+ * interface, but doesn't implement it, since <tt>List</tt> and <tt>Deque</tt>
+ * interfaces of the later Java versions declare <tt>reversed()</tt> methods
+ * with incompatible return types.
+ * 
+ * <p>
+ * For workloads dominated by bursts of insertions and removals in the middle
+ * of the list, <i>deferred rebalancing</i> mode may be enabled (see
+ * {@link #setDeferredRebalancing(boolean)}). In this mode blocks are allowed
+ * to be partially filled, so such operations don't need to shift elements of
+ * all the subsequent blocks and take O(log n) time plus time of shifting
+ * elements inside of a single block. Regular layout is restored by bulk
+ * operations or explicit {@link #rebalance()} call.
+ * 
+ * <p>
+ * DynamicList class supports lists of huge capacities and has means of accessing
+ * elements beyond regular limit. See {@link HugeListSupport} and {@link HugeList}
+ * for additional information.
+ * 
+ * <p>
+ * In most cases this implementation is significantly faster than
+ * {@link java.util.ArrayList ArrayList} implementation and requires just
+ * O(n<sup>1/2</sup>) of additional memory.
+ *
+ * @param <E> - the type of elements in this list
+ * 
+ * @since Zjava 1.0
+ *  
+ * @author Ivan Zaitsau
+ * 
+ * @see     Collection
+ * @see     List 
+ */
+public class DynamicList<E> extends AbstractList<E> implements List<E>, HugeListSupport<E>, RandomAccess, Cloneable, java.io.Serializable {
+
+	static private final long serialVersionUID = 201503121600L;
+	
+	/** Actual initial block size is 2<sup>INITIAL_BLOCK_ADDRESS_BITS</sup> */
+	static private final int INITIAL_BLOCK_ADDRESS_BITS = 4;
+	
+	/** Number of blocks on DynamicList initialization.
+	 * <br> <b>Note:</b> Must be even number due to some simplifications and assumptions made in the code*/
+	static private final int INITIAL_BLOCKS_COUNT = 2;
+	
+	/** This coefficient used to check if reduction of block size and amount of blocks is required.
+	 * <br> <b>Note:</b> Must be no less than 4. Needs to be no less than 8 for amortized performance estimations to hold */
+	static private final int REDUCTION_COEFFICIENT = 12;
+
+	/** Workload is considered streaming if there are at least STREAMING_RATIO times more operations
+	 * at the ends of the list than in the middle of it */
+	static private final int STREAMING_RATIO = 32;
+
+	/** Block size isn't increased above 2<sup>MAX_STREAMING_BLOCK_ADDRESS_BITS</sup> faster than
+	 * the number of blocks for streaming workloads */
+	static private final int MAX_STREAMING_BLOCK_ADDRESS_BITS = 16;
+
+	/** Lists with less elements are sorted in the calling thread by {@link #parallelSort(Comparator)} */
+	static private final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+	/** Difference between address bits of block and array of blocks in the balanced layout */
+	static private final int BALANCED_BITS_DIFFERENCE = INITIAL_BLOCK_ADDRESS_BITS - 1;
+
+	/** Blocks of irregular layout are up to 2<sup>DEFERRED_BITS_REDUCTION</sup> times smaller than blocks of the balanced layout */
+	static private final int DEFERRED_BITS_REDUCTION = 3;
+
+    /**
+	 * Internal storage block.<br>
+	 * Maintains up to <tt>capacity</tt> objects.<br>
+	 * If there are more elements than <tt>capacity</tt> after <tt>add</tt> operation, last element is removed from the block and returned from <tt>add</tt> method.<br>
+	 * 
+	 * <p>Implementation may vary, but the following conditions must be met:
+	 * <li> Insertions and deletions at the beginning and the end of the block must complete in constant time
+	 * <li> Retrieval of element at arbitrary position must complete in constant time
+	 * <li> Any other operation must complete in at least O(n)
+	 * <li> Only Blocks of sizes 2, 4, 8, ... 2<sup>30</sup> need to be supported
+	 * 
+	 * @author Ivan Zaitsau
+	 */
+	static final private class Block<E> implements Cloneable, java.io.Serializable {
+		
+		private static final long serialVersionUID = 201503121600L;
+
+		// - merges two blocks of equal capacities into block with doubled capacity
+		static <E> Block<E> merge(Block<E> block1, Block<E> block2, Object owner) {
+			if ((block1 == null || block1.size() == 0) && (block2 == null || block2.size() == 0))
+				return null;
+
+			assert (block1 == null | block2 == null) || (block1.values.length == block2.values.length);
+
+			Block<E> mergedBlock = new Block<E>(2 * ((block1 == null) ? block2.values.length : block1.values.length), owner);
+			if (block1 != null)
+				mergedBlock.size += block1.copyToArray(mergedBlock.values, 0);
+			if (block2 != null)
+				mergedBlock.size += block2.copyToArray(mergedBlock.values, mergedBlock.size);
+			return mergedBlock;
+		}
+
+		// - splits block to two smaller blocks of capacity equal to half of given block
+		@SuppressWarnings("unchecked")
+		static <E> Block<E>[] split(Block<E> block, Object owner) {
+			if (block == null || block.size == 0)
+				return new Block[] {null, null};
+			
+			assert (block.values.length & 1) == 0;
+			
+			int halfSize = block.values.length / 2;
+			
+			if (block.size <= halfSize) {
+				Block<E> block1 = new Block<E>(halfSize, owner);
+				block.copyToArray(block1.values, 0, 0, block.size);
+				block1.size = block.size;
+				return new Block[] {block1, null};
+			}
+			else {
+				Block<E> block1 = new Block<E>(halfSize, owner);
+				block.copyToArray(block1.values, 0, 0, halfSize);
+				block1.size = halfSize;
+				Block<E> block2 = new Block<E>(halfSize, owner);
+				block.copyToArray(block2.values, 0, halfSize, block.size - halfSize);
+				block2.size = block.size - halfSize;
+				return new Block[] {block1, block2};				
+			}
+		}
+		
+		private int offset;
+		private int size;
+		private Object[] values;
+
+		/** Ownership token of the list which may modify this block in place */
+		private transient Object owner;
+		
+		Block(int capacity, Object owner) {
+			// - capacity must be power of 2 and greater than one
+			assert((capacity & (capacity-1)) == 0 && capacity > 1);
+			
+			this.offset = 0;
+			this.size = 0;
+			this.values = new Object[capacity];
+			this.owner = owner;
+		}
+
+		// - creates block filled with null values which are not part of the list (see "head")
+		static <E> Block<E> vacant(int capacity, Object owner) {
+			Block<E> block = new Block<E>(capacity, owner);
+			block.size = capacity;
+			return block;
+		}
+
+		Block(int capacity, Object owner, E[] values, int pos, int length) {
+			this(capacity, owner);
+			System.arraycopy(values, pos, this.values, 0, length);
+			size = length;
+		}
+		
+		// - copies "count" values of this block starting from "srcPos" to array starting from "trgPos" index
+		int copyToArray(Object[] array, int trgPos, int srcPos, int count) {
+			if (srcPos >= values.length | count <= 0)
+				return 0;
+			if (srcPos + count > values.length)
+				count = values.length - srcPos;
+			int first = (offset + srcPos < values.length) ? offset + srcPos : offset + srcPos - values.length;
+			if (first + count <= values.length) {
+				System.arraycopy(values, first, array, trgPos, count);
+			}
+			else {
+				int halfCount = values.length - first;
+				System.arraycopy(values, first, array, trgPos, halfCount);
+				System.arraycopy(values, 0, array, trgPos + halfCount, count - halfCount);
+			}
+			return count;
+		}
+
+		// - copies all values of this block to given array starting from "pos" index
+		int copyToArray(Object[] array, int pos) {
+			return copyToArray(array, pos, 0, size);
+		}
+
+		// - replaces "count" values of this block starting from "trgPos" with values of array starting from "srcPos" index
+		int copyFromArray(Object[] array, int srcPos, int trgPos, int count) {
+			if (trgPos >= size | count <= 0)
+				return 0;
+			if (trgPos + count > size)
+				count = size - trgPos;
+			int first = index(trgPos);
+			if (first + count <= values.length) {
+				System.arraycopy(array, srcPos, values, first, count);
+			}
+			else {
+				int halfCount = values.length - first;
+				System.arraycopy(array, srcPos, values, first, halfCount);
+				System.arraycopy(array, srcPos + halfCount, values, 0, count - halfCount);
+			}
+			return count;
+		}
+
+		int size() {
+			return size;
+		}
+		
+		// - returns "physical" index for given "logical" position
+		private int index(final int pos) {
+			return (offset + pos) & (values.length - 1);
+		}
+		
+		// - appends given value to the beginning of the block
+		E addFirst(final E value) {
+			offset = index(-1);
+			@SuppressWarnings("unchecked")
+			E last = (E) values[offset];
+			values[offset] = value;
+			if (size < values.length) {
+				size++;
+			}
+			return last;
+		}
+		
+		// - appends given value to the end of the block
+		void addLast(final E value) {
+			if (size == values.length)
+				return;
+			values[index(size)] = value;
+			size++;
+		}
+		
+		// - shifts values in direction of the beginning of the values array
+		private void shiftToLeft(final int fromPosition, final int toPosition) {
+
+			int fromIndex = index(fromPosition);
+			final int toIndex = index(toPosition);
+			
+			if (fromIndex > toIndex) {
+				for (int i = fromIndex+1; i < values.length; i++)
+					values[i-1] = values[i];
+				values[values.length-1] = values[0];
+				fromIndex = 0;
+			}
+
+			for (int i = fromIndex; i < toIndex; i++)
+				values[i] = values[i+1];
+		}
+		
+		// - shifts values in direction of the end of the values array
+		private void shiftToRight(final int fromPosition, final int toPosition) {
+
+			final int fromIndex = index(fromPosition);
+			int toIndex = index(toPosition);
+			
+			if (fromIndex > toIndex) {
+				for (int i = toIndex; i > 0; i--)
+					values[i] = values[i-1];
+				values[0] = values[values.length-1];
+				toIndex = values.length - 1;
+			}
+
+			for (int i = toIndex; i > fromIndex; i--)
+				values[i] = values[i-1];
+		}
+
+		// - inserts given value at given position
+		E add(final int pos, final E value) {
+			// - range check
+			assert(pos >= 0 && pos <= size);
+			
+			@SuppressWarnings("unchecked")
+			E last = (E) ((size == values.length) ? values[index(-1)] : null);
+			if (pos + pos < size) {
+				offset = index(-1);
+				shiftToLeft(0, pos);
+			}
+			else {
+				shiftToRight(pos, Math.min(size, values.length-1));
+			}
+			values[index(pos)] = value;
+			if (size < values.length) size++;
+			return last;
+		}
+
+		// - replaces element at given position with given value
+		E set(final int pos, final E value) {
+			// - range check
+			assert(pos >= 0 && pos < size);
+			
+			int i = index(pos);
+			@SuppressWarnings("unchecked")
+			E replaced = (E) values[i];
+			values[i] = value;
+			return replaced;
+		}
+		
+		// - removes first element of the block
+		E removeFirst() {
+			// - range check
+			assert(size > 0);
+			
+			@SuppressWarnings("unchecked")
+			E removed = (E) values[offset];
+			values[offset] = null;
+			offset = index(1);
+			size--;
+			return removed;
+		}
+		
+		// - removes element at given position
+		E remove(final int pos) {
+			// - range check
+			assert(pos >= 0 && pos < size);
+			
+			@SuppressWarnings("unchecked")
+			E removed = (E) values[index(pos)];
+			if (pos + pos < size) {
+				shiftToRight(0, pos);
+				values[offset] = null;
+				offset = index(1);
+			}
+			else {
+				shiftToLeft(pos, size-1);
+				values[index(size-1)] = null;
+			}
+			size--;
+			return removed;
+		}
+
+		// - returns element at given position
+		@SuppressWarnings("unchecked")
+		E get(final int pos) {
+			// - range check
+			assert(pos >= 0 && pos < size);
+			
+			return (E) values[index(pos)];
+		}
+
+		// - returns position right after the last value of this block starting from "from" position which
+		// - is strictly less than given key (or less than or equal to it if "inclusive" is set). Block values must be sorted
+		int countLess(final Object key, final Comparator<Object> comparator, final boolean inclusive, final int from) {
+			int low = from, high = size;
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				final int cmp = compare(key, values[index(mid)], comparator);
+				if (cmp > 0 || (inclusive && cmp == 0))
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return low;
+		}
+		
+		// - moves values starting from given position to the new block of the same capacity
+		Block<E> splitAt(final int pos, Object owner) {
+			Block<E> block = new Block<E>(values.length, owner);
+			block.size = copyToArray(block.values, 0, pos, size - pos);
+			while (size > pos)
+				values[index(--size)] = null;
+			return block;
+		}
+
+		// - moves values to the beginning of the array, so value with index "i" is located at position "i"
+		void normalize() {
+			if (offset != 0) {
+				final Object[] normalized = new Object[values.length];
+				copyToArray(normalized, 0);
+				values = normalized;
+				offset = 0;
+			}
+		}
+
+		// - returns copy of this block owned by the given owner
+		Block<E> copy(Object owner) {
+			Block<E> copy = clone();
+			copy.owner = owner;
+			return copy;
+		}
+
+		public Block<E> clone() {
+			try {
+				@SuppressWarnings("unchecked")
+				Block<E> clone = (Block<E>) super.clone();
+				clone.values = values.clone();
+				return clone;
+			} catch (CloneNotSupportedException e) {
+	    		// - this should never be thrown since we are Cloneable
+	    		throw new InternalError();
+			}
+		}
+	}
+
+	// - compares given key with the value using either comparator or natural ordering of the key
+	@SuppressWarnings("unchecked")
+	static private int compare(final Object key, final Object value, final Comparator<Object> comparator) {
+		return (comparator == null) ? ((Comparable<Object>) key).compareTo(value) : comparator.compare(key, value);
+	}
+
+	private long size;
+	private int blockAddressBits;
+	private Block<E>[] data;
+
+	/**
+	 * Number of vacant positions at the beginning of the first block.<br>
+	 * Element with index <tt>i</tt> is located at position <tt>i + head</tt>,
+	 * so insertions and removals at the beginning of the list don't need to
+	 * shift elements of all the blocks.
+	 */
+	private int head;
+
+	/** <tt>true</tt> if blocks are allowed to be partially filled between rebalancings */
+	private boolean deferredRebalancing;
+
+	/**
+	 * Fenwick tree of the sizes of the blocks if list has irregular layout (or <tt>null</tt> otherwise).<br>
+	 * In irregular layout first <tt>blocks</tt> blocks are not empty, but any of them may be partially
+	 * filled, and there are no vacant positions at the beginning of the list.
+	 */
+	private long[] fenwick;
+
+	/** Number of used blocks in irregular layout */
+	private int blocks;
+
+	/**
+	 * Decaying counters of insertions and removals at the ends and in the middle of the list.<br>
+	 * Operations at the ends are sampled once per block: allocated or released block adds its
+	 * capacity to the counter, so these operations don't pay for the bookkeeping. Insertions and
+	 * removals in the middle are counted one by one in regular layout (each of them shifts elements
+	 * of all the subsequent blocks anyway) and once per split or removed block in irregular layout.
+	 */
+	private transient long endOperations, middleOperations;
+
+	/** <tt>true</tt> if blocks are merged or split a few at a time rather than all at once */
+	private boolean incrementalResizing;
+
+	/**
+	 * Array of blocks of the new size if resizing is in progress (or <tt>null</tt> otherwise).<br>
+	 * First <tt>resizedBlocks</tt> blocks of the list are kept in this array, all the subsequent
+	 * blocks are kept in <tt>data</tt> array starting from index <tt>converted</tt>.
+	 */
+	private Block<E>[] resized;
+
+	/** Address bits of the blocks in <tt>resized</tt> array */
+	private int resizedBits;
+
+	/** Number of blocks in <tt>resized</tt> array */
+	private int resizedBlocks;
+
+	/** Number of leading blocks of <tt>data</tt> array which are already converted (or removed) */
+	private int converted;
+
+	/**
+	 * Same array as <tt>data</tt> if elements can be located by the shift of their positions alone
+	 * (or <tt>null</tt> if list has irregular layout or resizing is in progress).<br>
+	 * Reads of regular list load this array instead of <tt>data</tt>, so layout costs them no extra field loads.
+	 */
+	private Block<E>[] regularData;
+
+	// - must be called whenever array of blocks is replaced, or Fenwick tree or array of resized blocks appears or disappears
+	private void updateLayout() {
+		regularData = (fenwick == null & resized == null) ? data : null;
+	}
+	
+	private transient HugeList<E> hugeView;
+
+	/**
+	 * Ownership token of this list.<br>
+	 * Blocks with different token may be shared with other lists and must
+	 * be copied before modification.
+	 */
+	private transient Object owner;
+
+	/** <tt>true</tt> if array of blocks is shared with another list and must be copied before modification */
+	private transient boolean sharedData;
+
+	// - makes array of blocks private for this list
+	private void unshareData() {
+		if (sharedData) {
+			data = data.clone();
+			if (fenwick != null)
+				fenwick = fenwick.clone();
+			if (resized != null)
+				resized = resized.clone();
+			sharedData = false;
+			updateLayout();
+		}
+	}
+
+	// - returns block with given ordinal number
+	private Block<E> block(final int k) {
+		return (k < resizedBlocks) ? resized[k] : data[k - resizedBlocks + converted];
+	}
+
+	// - replaces block with given ordinal number
+	private void setBlock(final int k, final Block<E> block) {
+		if (k < resizedBlocks)
+			resized[k] = block;
+		else
+			data[k - resizedBlocks + converted] = block;
+	}
+
+	// - returns number of the ordinal numbers of blocks available without allocation of the new array of blocks
+	private int blockSlots() {
+		return resizedBlocks + data.length - converted;
+	}
+
+	/**
+	 * Null-safe access to data block with initialization.<br>
+	 * Returned block is owned by this list, so it may be modified in place.
+	 */
+	private Block<E> data(final int k) {
+		unshareData();
+		Block<E> block = block(k);
+		if (block == null) {
+			setBlock(k, block = new Block<E>(1 << ((k < resizedBlocks) ? resizedBits : blockAddressBits), owner));
+			endOperations += block.values.length;
+		}
+		else if (block.owner != owner)
+			setBlock(k, block = block.copy(owner));
+		return block;
+	}
+
+	// - returns ordinal number of the block which contains given position (in the high-order 32 bits)
+	// - and position inside of this block (in the low-order 32 bits) in regular layout
+	private long locatePosition(final long position) {
+		final long resizedPositions = (long) resizedBlocks << resizedBits;
+		if (position < resizedPositions)
+			return ((position >>> resizedBits) << 32) | (position & ((1L << resizedBits) - 1));
+		final long rest = position - resizedPositions;
+		return (((rest >>> blockAddressBits) + resizedBlocks) << 32) | (rest & ((1L << blockAddressBits) - 1));
+	}
+
+	// - returns position of the first element of the block with given ordinal number in regular layout
+	private long blockPosition(final int k) {
+		return (k < resizedBlocks)
+				? (long) k << resizedBits
+				: ((long) resizedBlocks << resizedBits) + ((long) (k - resizedBlocks) << blockAddressBits);
+	}
+
+	// - returns number of elements the list can hold without allocation of the new array of blocks
+	private long capacity() {
+		return (resized != null) ? (long) resized.length << resizedBits : (long) data.length << blockAddressBits;
+	}
+
+    /**
+     * Increases the capacity of this <tt>DynamicList</tt> instance, if
+     * necessary, to ensure that it can hold at least the number of elements
+     * specified by the required capacity argument.
+     *
+     * @param requiredCapacity the desired capacity
+     */
+	public void ensureCapacity(long requiredCapacity) {
+		// - irregular layout grows by splitting of the blocks
+		if (fenwick != null)
+			return;
+		while (requiredCapacity + head > capacity()) {
+			finishResizing();
+			if (middleOperations * STREAMING_RATIO < endOperations && blockAddressBits < MAX_STREAMING_BLOCK_ADDRESS_BITS) {
+				// - streaming workload, double size of blocks only
+				startResizing(data.length, blockAddressBits+1);
+			}
+			else if (middleOperations * STREAMING_RATIO >= endOperations && oversizedBlocks()) {
+				// - blocks are too large for insertions and removals in the middle, double number of blocks only
+				data = Arrays.copyOf(data, 2*data.length);
+				sharedData = false;
+				updateLayout();
+			}
+			else {
+				// - double number of blocks and their size
+				startResizing(2*data.length, blockAddressBits+1);
+			}
+			// - older operations become less significant
+			endOperations >>>= 1;
+			middleOperations >>>= 1;
+		}
+	}
+
+	/**
+	 * Enables or disables incremental resizing mode.<br>
+	 * By default all the blocks of the list are merged (or split) at once when
+	 * capacity of the list is doubled (or halved), which takes O(n) time in
+	 * a single operation. In incremental resizing mode blocks are converted one
+	 * by one on subsequent modifications of the list, so no single insertion
+	 * or removal of an element takes more than O(n<sup>1/2</sup>) time.
+	 * Bulk operations and operations in deferred rebalancing mode may still
+	 * complete pending resizing at once.
+	 *
+	 * @param enabled <tt>true</tt> to enable incremental resizing mode
+	 */
+	public void setIncrementalResizing(boolean enabled) {
+		incrementalResizing = enabled;
+		if (!enabled)
+			finishResizing();
+	}
+
+	// - starts conversion of the blocks into blocks with given address bits placed into the array of given length
+	@SuppressWarnings("unchecked")
+	private void startResizing(final int length, final int bits) {
+		resized = new Block[length];
+		resizedBits = bits;
+		resizedBlocks = 0;
+		converted = 0;
+		if (bits > blockAddressBits) {
+			// - leave room for the blocks of old size until all of them are merged
+			data = Arrays.copyOf(data, (int) (((long) length << bits) >>> blockAddressBits));
+			sharedData = false;
+		}
+		updateLayout();
+		if (!incrementalResizing)
+			finishResizing();
+	}
+
+	// - converts all remaining blocks
+	private void finishResizing() {
+		while (resized != null)
+			resizeStep();
+	}
+
+	// - merges next pair of blocks (or splits next block) and places result into "resized" array
+	private void resizeStep() {
+		unshareData();
+		final Block<E> block = (converted < data.length) ? data[converted] : null;
+		if (block != null && block.size() > 0) {
+			if (resizedBits > blockAddressBits) {
+				resized[resizedBlocks++] = Block.merge(block, (converted + 1 < data.length) ? data[converted + 1] : null, owner);
+				data[converted++] = null;
+				if (converted < data.length)
+					data[converted++] = null;
+			}
+			else {
+				final Block<E>[] splitBlock = Block.split(block, owner);
+				// - first half of the first block may consist of vacant positions only
+				final int skip = (resizedBlocks == 0 && head >= 1 << resizedBits) ? 1 : 0;
+				head -= skip << resizedBits;
+				for (int j = skip; j <= 1; j++) {
+					if (splitBlock[j] != null && splitBlock[j].size() > 0)
+						resized[resizedBlocks++] = splitBlock[j];
+				}
+				data[converted++] = null;
+			}
+			if (converted < data.length && data[converted] != null && data[converted].size() > 0)
+				return;
+		}
+		// - there are no more elements in the blocks of old size
+		data = resized;
+		blockAddressBits = resizedBits;
+		resized = null;
+		resizedBlocks = 0;
+		converted = 0;
+		updateLayout();
+	}
+
+	private void compact() {
+		if (resized != null || (data.length <= INITIAL_BLOCKS_COUNT && blockAddressBits <= INITIAL_BLOCK_ADDRESS_BITS))
+			return;
+		if (size * REDUCTION_COEFFICIENT <= (long) data.length << blockAddressBits) {
+			// - decrease number of blocks (unless it's minimal already) and their size by half
+			modCount++;
+			startResizing((data.length <= INITIAL_BLOCKS_COUNT) ? data.length : (data.length+1)/2, blockAddressBits-1);
+		}
+	}
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+	
+	private void rangeCheck(final long index) {
+		if (index < 0 | index >= size)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	private void rangeCheckForAdd(final long index) {
+		if (index < 0 | index > size)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	private void init() {
+		init(0);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void init(long initialCapacity) {
+		size = 0;
+		head = 0;
+		resized = null;
+		resizedBlocks = 0;
+		converted = 0;
+		blockAddressBits = INITIAL_BLOCK_ADDRESS_BITS;
+		int blocksCount = INITIAL_BLOCKS_COUNT;
+		while ((long)blocksCount << blockAddressBits < initialCapacity) {
+			blocksCount += blocksCount;
+			blockAddressBits++;
+		}
+		data = new Block[blocksCount];
+		updateLayout();
+	}
+
+    /**
+     * Removes from this list all of the elements whose index is between
+     * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+     * Shifts any succeeding elements to the left (reduces their index).
+     *
+     * @throws IndexOutOfBoundsException if {@code fromIndex} or
+     *         {@code toIndex} is out of range
+     */
+	protected void removeRange(int fromIndex, int toIndex) {
+		rangeCheck(fromIndex);
+		rangeCheckForAdd(toIndex);
+		rebalance();
+		finishResizing();
+		int fromBlock = (int) (1 + ((fromIndex + head - 1L) >> blockAddressBits));
+		int toBlock = (int) ((toIndex + (long) head) >>> blockAddressBits);
+		int blocksToRemove = toBlock - fromBlock;
+		if (blocksToRemove > 0) {
+			unshareData();
+			for (int i = toBlock; i < data.length && data[i] != null && data[i].size() > 0; i++) {
+				data[i-blocksToRemove] = data[i];
+				data[i] = null;
+			}
+			size -= (long) blocksToRemove << blockAddressBits;
+			toIndex -= blocksToRemove << blockAddressBits;
+		}
+		for (int i = fromIndex; i < toIndex; i++)
+			fastRemove(fromIndex);
+	}
+	
+	/**
+     * Constructs an empty list with an initial capacity of 32 elements.
+     */
+	public DynamicList() {
+		init();
+	}
+
+	/**
+     * Constructs an empty list with at least specified initial capacity.
+     */
+	public DynamicList(long initialCapacity) {
+		init(initialCapacity);
+	}
+
+	/**
+     * Constructs a list containing the elements of the specified
+     * collection, in the order they are returned by the collection's
+     * iterator.
+     *
+     * @param c the collection whose elements are to be placed into this list
+     * @throws NullPointerException if the specified collection is null
+     */
+	@SuppressWarnings("unchecked")
+	public DynamicList(Collection<? extends E> src) {
+		init(src.size());
+		// - unsafe, can throw ConcurrentModificationException if source collection is changed
+		if (src.size() > MAX_ARRAY_SIZE) {
+			synchronized(src) {
+				for (E e : src)
+					add(e);
+			}
+		}
+		// - more safe but resource consuming as well.
+		// - can't be applied to enormous collections with more than MAX_ARRAY_SIZE elements.
+		else {
+			for (E e : (E[]) src.toArray())
+				add(e);
+		}
+	}
+
+    /**
+     * Returns the number of elements in this list.<br>
+     * If this list  contains more than <tt>Integer.MAX_VALUE</tt> elements,
+     * returns <tt>Integer.MAX_VALUE</tt>.
+     *
+     * @return the number of elements in this list
+     */
+	public int size() {
+		return (size > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) size;
+	}
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element element to be appended to this list
+     * @return <tt>true</tt> (as specified by {@link Collection#add})
+     */
+	public boolean add(E element) {
+		if (fenwick != null) {
+			deferredAdd(size, element);
+			return true;
+		}
+		ensureCapacity(size + 1);
+		if (resized != null)
+			resizeStep();
+		data((int) (locatePosition(size + head) >>> 32)).addLast(element);
+		size++;
+		return true;
+	}
+
+    /**
+     * Inserts the specified element at the specified position in this
+     * list. Shifts the element currently at that position (if any) and
+     * any subsequent elements to the right (adds one to their indices).
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param element element to be inserted
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+	public void add(int index, E element) {
+		rangeCheckForAdd(index);
+		if (index == 0) {
+			fastAddFirst(element);
+			return;
+		}
+		ensureCapacity(size + 1);
+		fastAdd(index, element);
+	}
+
+	// - inserts given element at the beginning of the list in amortized constant time
+	private void fastAddFirst(E element) {
+		if (fenwick != null) {
+			deferredAdd(0, element);
+			return;
+		}
+		if (resized != null)
+			resizeStep();
+		if (head == 0) {
+			if (size == 0) {
+				add(element);
+				modCount++;
+				return;
+			}
+			// - prepend block of vacant positions, last block must be free for this
+			while (size + (1L << firstBlockBits()) > capacity())
+				ensureCapacity(capacity() + 1);
+			if (resized != null && resizedBlocks == resized.length)
+				finishResizing();
+			unshareData();
+			final int blockSize = 1 << firstBlockBits();
+			if (resizedBlocks > 0) {
+				System.arraycopy(resized, 0, resized, 1, resizedBlocks++);
+				resized[0] = Block.vacant(blockSize, owner);
+			}
+			else if (converted > 0) {
+				data[--converted] = Block.vacant(blockSize, owner);
+			}
+			else {
+				System.arraycopy(data, 0, data, 1, data.length - 1);
+				data[0] = Block.vacant(blockSize, owner);
+			}
+			head = blockSize;
+			endOperations += blockSize;
+		}
+		modCount++;
+		data(0).set(--head, element);
+		size++;
+	}
+
+	// - returns address bits of the first block of the list
+	private int firstBlockBits() {
+		return (resizedBlocks > 0) ? resizedBits : blockAddressBits;
+	}
+
+	// - "add" method without range and capacity checks
+	private void fastAdd(final long index, E element) {
+		if (fenwick != null || (deferredRebalancing && index > 0 && index < size)) {
+			deferredAdd(index, element);
+			return;
+		}
+		if (index < size)
+			countMiddleOperation();
+		if (resized != null)
+			resizeStep();
+		cascadingAdd(index, element);
+	}
+
+	// - inserts given element into regular layout shifting last elements of all the subsequent blocks
+	private void cascadingAdd(final long index, E element) {
+		if (index == 0 && head > 0) {
+			fastAddFirst(element);
+			return;
+		}
+		modCount++;
+		final long location = locatePosition(index + head);
+		int blockIndex = (int) (location >>> 32);
+		Block<E> block = data(blockIndex);
+		if (block.size() < block.values.length) {
+			block.add((int) location, element);
+		}
+		else {
+			element = block.add((int) location, element);
+			while ((block = data(++blockIndex)).size() == block.values.length) {
+				element = block.addFirst(element);
+			}
+			block.addFirst(element);
+		}
+		size++;
+	}
+
+    /**
+     * Appends all of the elements in the specified collection to the end of
+     * this list, in the order that they are returned by the
+     * specified collection's <tt>toArray</tt> method.
+     *
+     * @param collection collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws NullPointerException if the specified collection is null
+     */
+    public boolean addAll(Collection<? extends E> collection) {
+		@SuppressWarnings("unchecked")
+		E[] values = (E[]) collection.toArray();
+    	if (values.length == 0)
+    		return false;
+    	for (E value : values)
+    		add(value);
+    	return true;
+    }
+    
+    /**
+     * Inserts all of the elements in the specified collection into this
+     * list, starting at the specified position.  Shifts the element
+     * currently at that position (if any) and any subsequent elements to
+     * the right (increases their indices).  The new elements will appear
+     * in the list in the order that they are returned by the
+     * specified collection's iterator.
+     *
+     * @param index index at which to insert the first element from the
+     *              specified collection
+     * @param collection collection containing elements to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     * @throws NullPointerException if the specified collection is null
+     */
+	public boolean addAll(int index, Collection<? extends E> collection) {
+    	rangeCheckForAdd(index);
+    	@SuppressWarnings("unchecked")
+		E[] values = (E[]) collection.toArray();
+    	if (values.length == 0)
+    		return false;
+    	rebalance();
+    	ensureCapacity(size + values.length);
+    	finishResizing();
+    	int blockSize = 1 << blockAddressBits;
+    	int mask = (1 << blockAddressBits) - 1;
+    	int i = 0;
+		while (i < values.length && ((index + i + head) & mask) != 0) {
+    		cascadingAdd((long)index + i, values[i]);
+    		i++;
+		}
+    	unshareData();
+    	while (i < values.length - blockSize) {
+    		int fromBlock = (int) (((long)index + i + head) >>> blockAddressBits);
+    		int toBlock = (int) ((size + head + mask) >>> blockAddressBits);
+    		for (int j = toBlock; j > fromBlock; j--)
+    			data[j] = data[j-1];
+    		data[fromBlock] = new Block<E>(blockSize, owner, values, i, blockSize);
+    		i += blockSize;
+    		size += blockSize;
+    	}
+    	while (i < values.length) {
+    		cascadingAdd((long)index + i, values[i]);
+    		i++;
+    	}
+    	return true;
+    }
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+	public E get(int index) {
+		rangeCheck(index);
+		return fastGet(index);
+	}
+
+	// - "get" method without range check
+	private E fastGet(final long index) {
+		// - null check of the loaded array is the only cost of irregular layouts for the regular list
+		final Block<E>[] regular = regularData;
+		if (regular == null)
+			return elementAt(index);
+		final long position = index + head;
+		return regular[(int) (position >>> blockAddressBits)].get((int) (position & (-1L >>> -blockAddressBits)));
+	}
+
+	// - "get" method for irregular layout or for the list in the middle of resizing
+	private E elementAt(final long index) {
+		final long location = (fenwick != null) ? locate(index) : locatePosition(index + head);
+		return block((int) (location >>> 32)).get((int) location);
+	}
+
+	// - returns number of elements in this list which are strictly less than given key
+	// - (or less than or equal to it if "inclusive" is set). List must be sorted in ascending order
+	private long countLess(final Object key, final Comparator<Object> comparator, final boolean inclusive) {
+		if (size == 0)
+			return 0;
+		// - sorted lists are often filled in ascending order, so the last element is checked first
+		final int lastCmp = compare(key, elementAt(size - 1), comparator);
+		if (lastCmp > 0 || (inclusive && lastCmp == 0))
+			return size;
+		if (fenwick != null) {
+			// - blocks of irregular layout may be partially filled, so search goes by indexes
+			long low = 0, high = size - 1;
+			while (low < high) {
+				final long mid = (low + high) >>> 1;
+				final int cmp = compare(key, elementAt(mid), comparator);
+				if (cmp > 0 || (inclusive && cmp == 0))
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return low;
+		}
+		// - all blocks but the last one are full, so block containing the answer
+		// - is the last block which starts with an element less than the given key
+		int low = 0, high = (int) (locatePosition(size + head - 1) >>> 32);
+		while (low < high) {
+			final int mid = (low + high + 1) >>> 1;
+			final int cmp = compare(key, block(mid).get(0), comparator);
+			if (cmp > 0 || (inclusive && cmp == 0))
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return blockPosition(low) + block(low).countLess(key, comparator, inclusive, (low == 0) ? head : 0) - head;
+	}
+	
+    /**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of the element to replace
+     * @param element element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+	public E set(int index, E element) {
+		rangeCheck(index);
+		return fastSet(index, element);
+	}
+
+	// - "set" method without range check
+	private E fastSet(final long index, E element) {
+		if (fenwick != null)
+			return deferredSet(index, element);
+		final long location = locatePosition(index + head);
+		return data((int) (location >>> 32)).set((int) location, element);
+	}
+	
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their
+     * indices).
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException {@inheritDoc}
+     */
+	public E remove(int index) {
+		rangeCheck(index);
+		return fastRemove(index);
+	}
+
+	// - "remove" method without range check
+	private E fastRemove(final long index) {
+		if (index == 0)
+			return fastRemoveFirst();
+		if (fenwick != null || (deferredRebalancing && index < size - 1))
+			return deferredRemove(index);
+		if (index < size - 1)
+			countMiddleOperation();
+		if (resized != null)
+			resizeStep();
+		modCount++;
+		final long location = locatePosition(index + head);
+		int blockIndex = (int) (location >>> 32);
+		final int slots = blockSlots();
+		E removed = data(blockIndex).remove((int) location);
+		while (++blockIndex < slots && block(blockIndex) != null && block(blockIndex).size() > 0) {
+			block(blockIndex-1).addLast(data(blockIndex).removeFirst());
+		}
+		size--;
+		// - free unused blocks for GC and compact list if needed
+		boolean blockFreed = false;
+		while (++blockIndex < slots && block(blockIndex) != null && block(blockIndex).size() == 0) {
+			endOperations += block(blockIndex).values.length;
+			setBlock(blockIndex, null);
+			blockFreed = true;
+		}
+		if (blockFreed)
+			compact();
+		return removed;
+	}
+	
+	/**
+	 * Enables or disables deferred rebalancing mode.<br>
+	 * In this mode insertions and removals of elements in the middle of the list
+	 * switch the list to irregular layout, in which blocks may be partially filled.
+	 * Such operations affect just a single block and take O(log n) time for locating
+	 * it, while index-based reads become O(log n) as well. Switching to irregular
+	 * layout places elements into smaller, half-filled blocks in O(n) time.<br>
+	 * Regular layout is restored on bulk operations, on explicit {@link #rebalance()}
+	 * call or when deferred rebalancing is disabled. Read operations never change
+	 * layout of the list.
+	 *
+	 * @param enabled <tt>true</tt> to enable deferred rebalancing mode
+	 */
+	public void setDeferredRebalancing(boolean enabled) {
+		deferredRebalancing = enabled;
+		if (!enabled)
+			rebalance();
+	}
+
+	/**
+	 * Restores regular layout of the list if it was broken by operations
+	 * in deferred rebalancing mode. Runs in O(n) time. Has no effect if
+	 * list has regular layout already.
+	 *
+	 * @see #setDeferredRebalancing(boolean)
+	 */
+	public void rebalance() {
+		if (fenwick != null)
+			rebuild();
+	}
+
+	// - places all elements into new blocks of balanced regular layout
+	private void rebuild() {
+		rebuild(0, false);
+	}
+
+	// - places all elements into new blocks, which are up to 2^"reduction" times smaller (and more numerous)
+	// - than blocks of the balanced layout; if "irregular" is set, blocks are filled by half and list is
+	// - switched to irregular layout, so subsequent insertions don't need to split the blocks at once
+	@SuppressWarnings("unchecked")
+	private void rebuild(int reduction, final boolean irregular) {
+		finishResizing();
+		final Block<E>[] oldData = data;
+		final int oldBlocks = (fenwick != null) ? blocks : (size == 0) ? 0 : (int) ((size + head - 1) >>> blockAddressBits) + 1;
+		final int oldHead = head;
+		final long oldSize = size;
+		// - leave enough free space for subsequent splits of the blocks
+		init(2 * oldSize);
+		reduction = Math.min(reduction, blockAddressBits - INITIAL_BLOCK_ADDRESS_BITS);
+		if (reduction > 0 || irregular) {
+			blockAddressBits -= reduction;
+			data = new Block[data.length << (irregular ? reduction + 1 : reduction)];
+		}
+		size = oldSize;
+		fenwick = null;
+		updateLayout();
+		blocks = 0;
+		sharedData = false;
+		final int blockSize = 1 << blockAddressBits;
+		final int fill = irregular ? blockSize >>> 1 : blockSize;
+		Block<E> target = null;
+		for (int i = 0; i < oldBlocks; i++) {
+			final Block<E> block = oldData[i];
+			for (int pos = (i == 0) ? oldHead : 0; pos < block.size; ) {
+				if (target == null || target.size == fill)
+					target = data[blocks++] = new Block<E>(blockSize, owner);
+				final int count = block.copyToArray(target.values, target.size, pos, Math.min(block.size - pos, fill - target.size));
+				target.size += count;
+				pos += count;
+			}
+		}
+		if (irregular)
+			buildFenwick();
+		else
+			blocks = 0;
+	}
+
+	// - returns true if blocks are too large for insertions and removals in the middle of the list
+	private boolean oversizedBlocks() {
+		return blockAddressBits > Integer.numberOfTrailingZeros(data.length) + BALANCED_BITS_DIFFERENCE;
+	}
+
+	// - counts insertion or removal in the middle of the list, rebuilds (or splits) blocks
+	// - if they are oversized (costs of the rebuild are already covered by the operations
+	// - with oversized blocks at this point)
+	private void countMiddleOperation() {
+		if (++middleOperations > data.length && fenwick == null && resized == null && oversizedBlocks()) {
+			if (incrementalResizing)
+				startResizing(2*data.length, blockAddressBits-1);
+			else
+				rebuild();
+			middleOperations = endOperations = 0;
+		}
+	}
+
+	// - switches list to irregular layout
+	private void startDeferredRebalancing() {
+		// - insertions and removals in irregular layout shift elements of a single block only,
+		// - while the block is located in O(log n) time, so smaller blocks are better
+		rebuild(DEFERRED_BITS_REDUCTION, true);
+	}
+
+	private void buildFenwick() {
+		final long[] tree = new long[data.length + 1];
+		for (int i = 1; i <= blocks; i++) {
+			tree[i] += data[i-1].size();
+			final int parent = i + (i & -i);
+			if (parent <= blocks)
+				tree[parent] += tree[i];
+		}
+		fenwick = tree;
+		updateLayout();
+	}
+
+	private void updateFenwick(final int blockIndex, final int delta) {
+		for (int i = blockIndex + 1; i <= blocks; i += i & -i)
+			fenwick[i] += delta;
+	}
+
+	// - returns index of the block which contains element with given index (in the high-order 32 bits)
+	// - and position of the element inside of this block (in the low-order 32 bits) in irregular layout
+	private long locate(final long index) {
+		long rest = index;
+		int i = 0;
+		for (int step = Integer.highestOneBit(blocks); step > 0; step >>>= 1) {
+			if (i + step <= blocks && fenwick[i + step] <= rest) {
+				i += step;
+				rest -= fenwick[i];
+			}
+		}
+		return ((long) i << 32) | rest;
+	}
+
+	private E deferredSet(final long index, E element) {
+		final long location = locate(index);
+		return data((int) (location >>> 32)).set((int) location, element);
+	}
+
+	// - inserts given element splitting the block if it's full
+	private void deferredAdd(final long index, E element) {
+		if (fenwick == null)
+			startDeferredRebalancing();
+		final int blockSize = 1 << blockAddressBits;
+		int blockIndex, pos;
+		if (index == size) {
+			blockIndex = blocks - 1;
+			pos = data[blockIndex].size();
+		}
+		else {
+			final long location = locate(index);
+			blockIndex = (int) (location >>> 32);
+			pos = (int) location;
+		}
+		Block<E> block = data(blockIndex);
+		if (block.size() == blockSize) {
+			if (blocks == data.length) {
+				// - there is no room for one more block
+				rebalance();
+				ensureCapacity(size + 1);
+				fastAdd(index, element);
+				return;
+			}
+			final int halfSize = blockSize >>> 1;
+			System.arraycopy(data, blockIndex + 1, data, blockIndex + 2, blocks - blockIndex - 1);
+			data[blockIndex + 1] = block.splitAt(halfSize, owner);
+			blocks++;
+			if (index == size)
+				endOperations += halfSize;
+			else
+				middleOperations += halfSize;
+			if (pos > halfSize) {
+				block = data[++blockIndex];
+				pos -= halfSize;
+			}
+			buildFenwick();
+		}
+		block.add(pos, element);
+		updateFenwick(blockIndex, 1);
+		size++;
+		modCount++;
+	}
+
+	// - removes element with given index, removes the block if it becomes empty
+	private E deferredRemove(final long index) {
+		if (fenwick == null)
+			startDeferredRebalancing();
+		final long location = locate(index);
+		final int blockIndex = (int) (location >>> 32);
+		final Block<E> block = data(blockIndex);
+		final E removed = block.remove((int) location);
+		modCount++;
+		if (--size == 0) {
+			clear();
+			return removed;
+		}
+		if (block.size() == 0) {
+			System.arraycopy(data, blockIndex + 1, data, blockIndex, blocks - blockIndex - 1);
+			data[--blocks] = null;
+			buildFenwick();
+			middleOperations += block.values.length;
+		}
+		else {
+			updateFenwick(blockIndex, -1);
+		}
+		// - restore regular layout if blocks are too sparse
+		if (blocks > 1 && size * 4 < (long) blocks << blockAddressBits)
+			rebalance();
+		return removed;
+	}
+
+    /**
+     * Removes all of this collection's elements that are also contained in the
+     * specified collection. After this call returns, this collection will contain
+     * no elements in common with the specified collection. 
+     *
+     * @param c collection containing elements to be retained in this collection
+     * 
+     * @return <tt>true</tt> if this collection changed as a result of the call
+     * 
+     * @throws NullPointerException if this collection contains one or more
+     *         <tt>null</tt> elements and the specified collection does not permit
+     *         <tt>null</tt> elements, or if the specified collection is <tt>null</tt>
+     */
+	public boolean removeAll(Collection<?> c) {
+		return removeOrRetainAll(c, false);
+	}
+	
+    /**
+     * Retains only the elements in this collection that are contained in the
+     * specified collection. In other words, removes from this collection all
+     * of its elements that are not contained in the specified collection.
+     *
+     * @param c collection containing elements to be retained in this collection
+     * 
+     * @return <tt>true</tt> if this collection changed as a result of the call
+     * @throws NullPointerException if this collection contains one or more
+     *         <tt>null</tt> elements and the specified collection does not permit <tt>null</tt>
+     *         elements, or if the specified collection is <tt>null</tt>
+     */
+	public boolean retainAll(Collection<?> c) {
+		return removeOrRetainAll(c, true);
+	}
+	
+	// - removes or retains all elements that belong to specified collection
+	// - dependent on specified boolean flag (remove = false, retain = true)
+	private boolean removeOrRetainAll(Collection<?> c, boolean retain) {
+		if (isEmpty())
+			return false;
+		if (c == this) {
+			if (retain)
+				return false;
+			clear();
+			return true;
+		}
+		boolean modified = false;
+		for (long i = size-1; i >= 0; i--) {
+			if (c.contains(fastGet(i)) ^ retain) {
+				fastRemove(i);
+				modified = true;
+			}
+		}
+		return modified;
+	}
+	
+	// - removes the first element of the list in amortized constant time
+	private E fastRemoveFirst() {
+		if (fenwick != null)
+			return deferredRemove(0);
+		if (resized != null)
+			resizeStep();
+		modCount++;
+		final Block<E> first = data(0);
+		E removed = first.set(head, null);
+		if (--size == 0) {
+			clear();
+			return removed;
+		}
+		if (++head == first.size()) {
+			// - first block consists of vacant positions only, so remove it
+			endOperations += first.values.length;
+			if (resizedBlocks > 0) {
+				System.arraycopy(resized, 1, resized, 0, --resizedBlocks);
+				resized[resizedBlocks] = null;
+			}
+			else if (resized != null) {
+				data[converted++] = null;
+			}
+			else {
+				System.arraycopy(data, 1, data, 0, data.length - 1);
+				data[data.length - 1] = null;
+			}
+			head = 0;
+			compact();
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes all of the elements from this list. The list will be empty after this call returns.
+	 */
+	@SuppressWarnings("unchecked")
+	public void clear() {
+		if (sharedData) {
+			data = new Block[data.length];
+			sharedData = false;
+		}
+		else {
+			Arrays.fill(data, null);
+		}
+		size = 0;
+		head = 0;
+		fenwick = null;
+		blocks = 0;
+		resized = null;
+		resizedBlocks = 0;
+		converted = 0;
+		updateLayout();
+	}
+
+    /**
+     * Returns an iterator over the elements in this list in proper sequence.
+     * 
+     * <p>This implementation supports lists of sizes above <tt>Integer.MAX_VALUE</tt>
+     * limit.
+     * 
+     * <p>This implementation is made to throw runtime exceptions in the
+     * face of concurrent modification, as described in the specification
+     * for the (protected) {@link AbstractList#modCount modCount} field.
+     *
+     * @return an iterator over the elements in this list in proper sequence
+     */
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			/**
+			 * Cursor position
+			 */
+			private long i = 0;
+			
+			/**
+			 * Current (last returned) element index or -1 if element is not defined (or has been removed)
+			 */
+			private long last = -1;
+			
+			/**
+			 * Expected version (modifications count) of the backing List 
+			 */
+			int expectedModCount = modCount;
+			
+			public boolean hasNext() {
+				return i < size;
+			}
+
+	        public E next() {
+	            checkForComodification();
+	            try {
+	                rangeCheck(i);
+	                E e = fastGet(i);
+	                last = i++;
+	                return e;
+	            }
+	            catch (IndexOutOfBoundsException e) {
+	                checkForComodification();
+	                throw new NoSuchElementException();
+	            }
+	        }
+
+	        public void remove() {
+	            if (last < 0)
+	                throw new IllegalStateException();
+	            checkForComodification();
+	            
+	            try {
+	                rangeCheck(last);
+	            	fastRemove(last);
+	                i--;
+	                last = -1;
+	                expectedModCount = modCount;
+	            } catch (IndexOutOfBoundsException e) {
+	                throw new ConcurrentModificationException();
+	            }
+	        }
+		
+			private void checkForComodification() {
+				if (expectedModCount != modCount)
+					throw new ConcurrentModificationException();
+			}
+		};
+	}
+	
+    /**
+     * Returns an iterator over the elements in this list in reverse
+     * sequential order.
+     *
+     * @return an iterator over the elements in this list in reverse sequence
+     */
+	public Iterator<E> descendingIterator() {
+		return new Iterator<E>() {
+
+			/**
+			 * Index of the element to be returned by subsequent call to next
+			 */
+			private long i = size - 1;
+
+			/**
+			 * Current (last returned) element index or -1 if element is not defined (or has been removed)
+			 */
+			private long last = -1;
+
+			/**
+			 * Expected version (modifications count) of the backing List
+			 */
+			int expectedModCount = modCount;
+
+			public boolean hasNext() {
+				return i >= 0;
+			}
+
+	        public E next() {
+	            checkForComodification();
+	            try {
+	                rangeCheck(i);
+	                E e = fastGet(i);
+	                last = i--;
+	                return e;
+	            }
+	            catch (IndexOutOfBoundsException e) {
+	                checkForComodification();
+	                throw new NoSuchElementException();
+	            }
+	        }
+
+	        public void remove() {
+	            if (last < 0)
+	                throw new IllegalStateException();
+	            checkForComodification();
+
+	            try {
+	                rangeCheck(last);
+	            	fastRemove(last);
+	                last = -1;
+	                expectedModCount = modCount;
+	            } catch (IndexOutOfBoundsException e) {
+	                throw new ConcurrentModificationException();
+	            }
+	        }
+
+			private void checkForComodification() {
+				if (expectedModCount != modCount)
+					throw new ConcurrentModificationException();
+			}
+		};
+	}
+
+	// - Deque operations
+
+    /**
+     * Inserts the specified element at the beginning of this list.<br>
+     * Runs in amortized constant time.
+     *
+     * @param element the element to add
+     */
+	public void addFirst(E element) {
+		fastAddFirst(element);
+	}
+
+    /**
+     * Appends the specified element to the end of this list.<br>
+     * This method is equivalent to {@link #add(Object)}.
+     *
+     * @param element the element to add
+     */
+	public void addLast(E element) {
+		add(element);
+	}
+
+    /**
+     * Inserts the specified element at the beginning of this list.
+     *
+     * @param element the element to add
+     * @return <tt>true</tt> (as specified by {@link Deque#offerFirst})
+     */
+	public boolean offerFirst(E element) {
+		fastAddFirst(element);
+		return true;
+	}
+
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param element the element to add
+     * @return <tt>true</tt> (as specified by {@link Deque#offerLast})
+     */
+	public boolean offerLast(E element) {
+		return add(element);
+	}
+
+    /**
+     * Removes and returns the first element of this list.<br>
+     * Runs in amortized constant time.
+     *
+     * @return the first element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+	public E removeFirst() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return fastRemove(0);
+	}
+
+    /**
+     * Removes and returns the last element of this list.
+     *
+     * @return the last element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+	public E removeLast() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return fastRemove(size - 1);
+	}
+
+    /**
+     * Retrieves and removes the first element of this list,
+     * or returns <tt>null</tt> if this list is empty.
+     *
+     * @return the first element of this list, or <tt>null</tt> if this list is empty
+     */
+	public E pollFirst() {
+		return (size == 0) ? null : fastRemove(0);
+	}
+
+    /**
+     * Retrieves and removes the last element of this list,
+     * or returns <tt>null</tt> if this list is empty.
+     *
+     * @return the last element of this list, or <tt>null</tt> if this list is empty
+     */
+	public E pollLast() {
+		return (size == 0) ? null : fastRemove(size - 1);
+	}
+
+    /**
+     * Retrieves, but does not remove, the first element of this list.
+     *
+     * @return the first element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+	public E getFirst() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return fastGet(0);
+	}
+
+    /**
+     * Retrieves, but does not remove, the last element of this list.
+     *
+     * @return the last element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+	public E getLast() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return fastGet(size - 1);
+	}
+
+    /**
+     * Retrieves, but does not remove, the first element of this list,
+     * or returns <tt>null</tt> if this list is empty.
+     *
+     * @return the first element of this list, or <tt>null</tt> if this list is empty
+     */
+	public E peekFirst() {
+		return (size == 0) ? null : fastGet(0);
+	}
+
+    /**
+     * Retrieves, but does not remove, the last element of this list,
+     * or returns <tt>null</tt> if this list is empty.
+     *
+     * @return the last element of this list, or <tt>null</tt> if this list is empty
+     */
+	public E peekLast() {
+		return (size == 0) ? null : fastGet(size - 1);
+	}
+
+    /**
+     * Removes the first occurrence of the specified element from this list,
+     * if it is present.
+     *
+     * @param o element to be removed from this list, if present
+     * @return <tt>true</tt> if an element was removed as a result of this call
+     */
+	public boolean removeFirstOccurrence(Object o) {
+		for (long i = 0; i < size; i++) {
+			if (Objectz.equals(o, fastGet(i))) {
+				fastRemove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+    /**
+     * Removes the last occurrence of the specified element from this list,
+     * if it is present.
+     *
+     * @param o element to be removed from this list, if present
+     * @return <tt>true</tt> if an element was removed as a result of this call
+     */
+	public boolean removeLastOccurrence(Object o) {
+		for (long i = size - 1; i >= 0; i--) {
+			if (Objectz.equals(o, fastGet(i))) {
+				fastRemove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
+    /**
+     * Appends the specified element to the end of this list.<br>
+     * Same as {@link #offerLast(Object)}.
+     *
+     * @param element the element to add
+     * @return <tt>true</tt> (as specified by {@link Deque#offer})
+     */
+	public boolean offer(E element) {
+		return add(element);
+	}
+
+    /**
+     * Removes and returns the first element of this list.<br>
+     * Same as {@link #removeFirst()}.
+     *
+     * @return the first element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+	public E remove() {
+		return removeFirst();
+	}
+
+    /**
+     * Removes and returns the first element of this list,
+     * or returns <tt>null</tt> if this list is empty.<br>
+     * Same as {@link #pollFirst()}.
+     *
+     * @return the first element of this list, or <tt>null</tt> if this list is empty
+     */
+	public E poll() {
+		return pollFirst();
+	}
+
+    /**
+     * Returns the first element of this list.<br>
+     * Same as {@link #getFirst()}.
+     *
+     * @return the first element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+	public E element() {
+		return getFirst();
+	}
+
+    /**
+     * Returns the first element of this list,
+     * or returns <tt>null</tt> if this list is empty.<br>
+     * Same as {@link #peekFirst()}.
+     *
+     * @return the first element of this list, or <tt>null</tt> if this list is empty
+     */
+	public E peek() {
+		return peekFirst();
+	}
+
+    /**
+     * Inserts the specified element at the beginning of this list.<br>
+     * Same as {@link #addFirst(Object)}.
+     *
+     * @param element the element to push
+     */
+	public void push(E element) {
+		fastAddFirst(element);
+	}
+
+    /**
+     * Removes and returns the first element of this list.<br>
+     * Same as {@link #removeFirst()}.
+     *
+     * @return the first element of this list
+     * @throws NoSuchElementException if this list is empty
+     */
+	public E pop() {
+		return removeFirst();
+	}
+
+	/**
+	 * <tt>HugeList</tt> view of the outer list.<br>
+	 * Besides regular operations provides block-aware searches used by {@link Collectionz}.
+	 */
+	final class HugeView implements HugeList<E> {
+
+		public long size() {
+			return size;
+		}
+
+		public E get(long index) {
+			rangeCheck(index);
+			return fastGet(index);
+		}
+
+		public E set(long index, E element) {
+			rangeCheck(index);
+			return fastSet(index, element);
+		}
+
+		public void add(long index, E element) {
+			rangeCheckForAdd(index);
+			if (index == 0) {
+				fastAddFirst(element);
+				return;
+			}
+			ensureCapacity(size + 1);
+			fastAdd(index, element);
+		}
+
+		public E remove(long index) {
+			rangeCheck(index);
+			return fastRemove(index);
+		}
+
+		// - copies up to "length" elements starting from given index to the array
+		// - returns number of copied elements, which may be less than "length" at the end of the block
+		int read(final long index, final Object[] array, final int pos, final int length) {
+			final long location = (fenwick != null) ? locate(index) : locatePosition(index + head);
+			final Block<E> block = block((int) (location >>> 32));
+			return block.copyToArray(array, pos, (int) location, Math.min(length, block.size() - (int) location));
+		}
+
+		// - replaces up to "length" elements starting from given index with values of the array
+		// - returns number of replaced elements, which may be less than "length" at the end of the block
+		int write(final long index, final Object[] array, final int pos, final int length) {
+			final long location = (fenwick != null) ? locate(index) : locatePosition(index + head);
+			return data((int) (location >>> 32)).copyFromArray(array, pos, (int) location, length);
+		}
+
+		// - same as Collectionz.binarySearch, but searches for the block first and then inside the block
+		@SuppressWarnings("unchecked")
+		long binarySearch(final Object key, final Comparator<?> comparator) {
+			final long i = countLess(key, (Comparator<Object>) comparator, false);
+			return (i < size && compare(key, elementAt(i), (Comparator<Object>) comparator) == 0) ? i : ~i;
+		}
+
+		// - same as Collectionz.binarySearchNext, but searches for the block first and then inside the block
+		@SuppressWarnings("unchecked")
+		long binarySearchNext(final Object key, final Comparator<?> comparator) {
+			final long i = countLess(key, (Comparator<Object>) comparator, true);
+			return (i > 0 && compare(key, elementAt(i-1), (Comparator<Object>) comparator) == 0) ? i : ~i;
+		}
+	}
+
+	/**
+	 * Sorts this list according to the order induced by the specified comparator.
+	 * The sort is stable: equal elements are not reordered as a result of the sort.<br>
+	 * Each block is sorted in place and then all blocks are merged into the new
+	 * blocks of the same capacity, so elements are never copied to intermediate
+	 * array and list may contain more than <tt>Integer.MAX_VALUE</tt> elements.
+	 *
+	 * @param comparator the comparator used to compare list elements, or
+	 *        <tt>null</tt> to use natural ordering of the elements
+	 * @throws ClassCastException if the list contains elements that are not
+	 *         <i>mutually comparable</i> using the specified comparator
+	 */
+	public void sort(Comparator<? super E> comparator) {
+		sort(comparator, null, 1);
+	}
+
+	/**
+	 * Same as {@link #sort(Comparator)}, but sorts blocks and merges them
+	 * using all available processors.<br>
+	 * Merge is split to independent parts by the splitter values sampled from
+	 * the sorted blocks, so each thread fills its own range of the new blocks.
+	 * Small lists are sorted in the calling thread.
+	 *
+	 * @param comparator the comparator used to compare list elements, or
+	 *        <tt>null</tt> to use natural ordering of the elements
+	 * @throws ClassCastException if the list contains elements that are not
+	 *         <i>mutually comparable</i> using the specified comparator
+	 */
+	public void parallelSort(Comparator<? super E> comparator) {
+		final int threads = Runtime.getRuntime().availableProcessors();
+		if (threads == 1 || size < PARALLEL_SORT_THRESHOLD) {
+			sort(comparator);
+			return;
+		}
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			sort(comparator, executor, 4 * threads);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void sort(final Comparator<? super E> comparator, final ExecutorService executor, final int parts) {
+		rebalance();
+		finishResizing();
+		modCount++;
+		if (size < 2)
+			return;
+		final Comparator<Object> cmp = (Comparator<Object>) comparator;
+		final int runsCount = (int) ((size + head - 1) >>> blockAddressBits) + 1;
+		// - sort each block in place
+		final Runnable[] blockSorts = new Runnable[runsCount];
+		for (int k = 0; k < runsCount; k++) {
+			final Block<E> block = data(k);
+			final int first = (k == 0) ? head : 0;
+			blockSorts[k] = new Runnable() {
+				public void run() {
+					block.normalize();
+					Arrays.sort(block.values, first, block.size, cmp);
+				}
+			};
+		}
+		execute(blockSorts, executor);
+		if (runsCount == 1)
+			return;
+		final Object[][] runs = new Object[runsCount][];
+		final int[] from = new int[runsCount];
+		final int[] to = new int[runsCount];
+		for (int k = 0; k < runsCount; k++) {
+			runs[k] = block(k).values;
+			from[k] = (k == 0) ? head : 0;
+			to[k] = block(k).size;
+		}
+		// - merge sorted blocks into the new blocks
+		final int bits = blockAddressBits;
+		final Block<E>[] sorted = new Block[data.length];
+		final int sortedBlocks = (int) ((size - 1) >>> bits) + 1;
+		for (int k = 0; k < sortedBlocks; k++) {
+			sorted[k] = new Block<E>(1 << bits, owner);
+			sorted[k].size = (k < sortedBlocks - 1) ? 1 << bits : (int) (size - ((long) k << bits));
+		}
+		final int[][] bounds = splitRuns(runs, from, to, cmp, parts);
+		final Runnable[] merges = new Runnable[parts];
+		long position = 0;
+		for (int p = 0; p < parts; p++) {
+			final int[] low = bounds[p];
+			final int[] high = bounds[p+1];
+			final long start = position;
+			for (int k = 0; k < runsCount; k++)
+				position += high[k] - low[k];
+			merges[p] = new Runnable() {
+				public void run() {
+					merge(runs, low, high, cmp, sorted, start, bits);
+				}
+			};
+		}
+		execute(merges, executor);
+		data = sorted;
+		head = 0;
+		sharedData = false;
+		updateLayout();
+	}
+
+	// - runs given tasks either in the calling thread or with given executor
+	// - waits for completion of all the tasks and rethrows the first failure if any
+	static private void execute(final Runnable[] tasks, final ExecutorService executor) {
+		if (executor == null) {
+			for (Runnable task : tasks)
+				task.run();
+			return;
+		}
+		final Future<?>[] futures = new Future<?>[tasks.length];
+		for (int i = 0; i < tasks.length; i++)
+			futures[i] = executor.submit(tasks[i]);
+		Throwable failure = null;
+		boolean interrupted = false;
+		for (Future<?> future : futures) {
+			for (;;) {
+				try {
+					future.get();
+					break;
+				}
+				catch (InterruptedException e) {
+					// - tasks are still modifying the list, so they must be completed anyway
+					interrupted = true;
+				}
+				catch (ExecutionException e) {
+					if (failure == null)
+						failure = e.getCause();
+					break;
+				}
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+		assert failure == null;
+	}
+
+	// - splits merge of the sorted runs to the given number of parts of about the same size
+	// - returns bounds of the parts: part "p" of the run "k" contains values bounds[p][k] .. bounds[p+1][k]-1
+	static private int[][] splitRuns(final Object[][] runs, final int[] from, final int[] to, final Comparator<Object> cmp, final int parts) {
+		final int[][] bounds = new int[parts + 1][];
+		bounds[0] = from;
+		bounds[parts] = to;
+		if (parts > 1) {
+			// - splitters are chosen from the sorted sample of evenly spaced values of all runs
+			final Object[] sample = new Object[runs.length * parts];
+			int n = 0;
+			for (int k = 0; k < runs.length; k++) {
+				for (int i = 0; i < parts && from[k] < to[k]; i++)
+					sample[n++] = runs[k][from[k] + (int) ((long) (to[k] - from[k]) * i / parts)];
+			}
+			Arrays.sort(sample, 0, n, cmp);
+			for (int p = 1; p < parts; p++) {
+				final Object splitter = sample[(int) ((long) n * p / parts)];
+				bounds[p] = new int[runs.length];
+				for (int k = 0; k < runs.length; k++)
+					bounds[p][k] = countLess(runs[k], from[k], to[k], splitter, cmp);
+			}
+		}
+		return bounds;
+	}
+
+	// - returns position of the first value in the sorted range "low" .. "high"-1 which is not less than given key
+	static private int countLess(final Object[] values, int low, int high, final Object key, final Comparator<Object> cmp) {
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (compare(key, values[mid], cmp) > 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	// - merges given ranges of the sorted runs into the blocks starting from given position
+	// - equal values are taken in order of the runs, so merge is stable
+	static private <E> void merge(final Object[][] runs, final int[] from, final int[] to, final Comparator<Object> cmp, final Block<E>[] target, long position, final int bits) {
+		final int mask = (1 << bits) - 1;
+		final int[] next = from.clone();
+		// - tournament tree of the runs: each node keeps the run which lost the match in it,
+		// - so replacement of the winner takes exactly one comparison per level of the tree
+		int leaves = 1;
+		while (leaves < runs.length)
+			leaves <<= 1;
+		final int[] losers = new int[leaves];
+		final int[] winners = new int[2 * leaves];
+		for (int i = 0; i < leaves; i++)
+			winners[leaves + i] = i;
+		for (int i = leaves - 1; i > 0; i--) {
+			final int a = winners[2*i], b = winners[2*i + 1];
+			final boolean first = precedes(a, b, runs, next, to, cmp);
+			winners[i] = first ? a : b;
+			losers[i] = first ? b : a;
+		}
+		int remaining = 0;
+		for (int k = 0; k < runs.length; k++) {
+			if (next[k] < to[k])
+				remaining++;
+		}
+		int winner = winners[1];
+		while (remaining > 1) {
+			target[(int) (position >>> bits)].values[(int) position & mask] = runs[winner][next[winner]++];
+			position++;
+			if (next[winner] == to[winner])
+				remaining--;
+			for (int i = (leaves + winner) >>> 1; i > 0; i >>>= 1) {
+				if (precedes(losers[i], winner, runs, next, to, cmp)) {
+					final int loser = winner;
+					winner = losers[i];
+					losers[i] = loser;
+				}
+			}
+		}
+		// - the rest of the last run is copied as is
+		if (remaining == 1) {
+			final int k = winner;
+			while (next[k] < to[k]) {
+				final int pos = (int) position & mask;
+				final int count = Math.min(to[k] - next[k], mask + 1 - pos);
+				System.arraycopy(runs[k], next[k], target[(int) (position >>> bits)].values, pos, count);
+				next[k] += count;
+				position += count;
+			}
+		}
+	}
+
+	// - returns true if next value of the run "a" must be merged before next value of the run "b"
+	// - exhausted runs (as well as non-existent ones) are considered greater than any other
+	static private boolean precedes(final int a, final int b, final Object[][] runs, final int[] next, final int[] to, final Comparator<Object> cmp) {
+		if (a >= runs.length || next[a] == to[a])
+			return false;
+		if (b >= runs.length || next[b] == to[b])
+			return true;
+		final int c = compare(runs[a][next[a]], runs[b][next[b]], cmp);
+		return c < 0 || (c == 0 && a < b);
+	}
+
+	public HugeList<E> asHuge() {
+		if (hugeView == null)
+			hugeView = new HugeView();
+		return hugeView;
+	}
+
+    /**
+     * Returns an array containing all of the elements in this list
+     * in proper sequence (from first to last element).
+     *
+     * <p>The returned array will be "safe" in that no references to it are
+     * maintained by this list.  (In other words, this method must allocate
+     * a new array).  The caller is thus free to modify the returned array.
+     *
+     * <p>This method acts as bridge between array-based and collection-based
+     * APIs.
+     *
+     * @return an array containing all of the elements in this list in
+     *         proper sequence
+     */
+	public Object[] toArray() {
+		long size = this.size;
+		if (size > MAX_ARRAY_SIZE)
+			throw new OutOfMemoryError("Required array size too large");
+		
+		Object[] result = new Object[(int) size];
+		int pos = 0;
+		for (int i = 0, slots = blockSlots(); i < slots && block(i) != null && block(i).size() > 0; i++) {
+			final int from = (i == 0) ? head : 0;
+			pos += block(i).copyToArray(result, pos, from, block(i).size() - from);
+		}
+		return (pos < size) ? Arrays.copyOf(result, pos) : result;
+	}
+
+    /**
+     * Returns an array containing all of the elements in this list in proper
+     * sequence (from first to last element); the runtime type of the returned
+     * array is that of the specified array.  If the list fits in the
+     * specified array, it is returned therein.  Otherwise, a new array is
+     * allocated with the runtime type of the specified array and the size of
+     * this list.
+     *
+     * <p>If the list fits in the specified array with room to spare
+     * (i.e., the array has more elements than the list), the element in
+     * the array immediately following the end of the collection is set to
+     * <tt>null</tt>.  (This is useful in determining the length of the
+     * list <i>only</i> if the caller knows that the list does not contain
+     * any null elements.)
+     *
+     * @param a the array into which the elements of the list are to
+     *          be stored, if it is big enough; otherwise, a new array of the
+     *          same runtime type is allocated for this purpose.
+     * @return an array containing the elements of the list
+     * @throws ArrayStoreException if the runtime type of the specified array
+     *         is not a supertype of the runtime type of every element in
+     *         this list
+     * @throws NullPointerException if the specified array is null
+     */
+	public <T> T[] toArray(T[] a) {
+		long size = this.size;
+		if (size > MAX_ARRAY_SIZE)
+			throw new OutOfMemoryError("Required array size too large");
+		
+		@SuppressWarnings("unchecked")
+		T[] result = (a.length < size)
+				? (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), (int) size)
+				: a;
+		for (int i = 0, pos = 0, slots = blockSlots(); i < slots && block(i) != null && block(i).size() > 0; i++) {
+			final int from = (i == 0) ? head : 0;
+			pos += block(i).copyToArray(result, pos, from, block(i).size() - from);
+		}
+		if (result.length > size)
+			result[(int) size] = null;
+		return result;
+	}
+	
+    /**
+     * Current geometry of the <tt>DynamicList</tt> and statistics of
+     * the operations it was chosen for.
+     *
+     * @see DynamicList#stats()
+     */
+    public static final class Stats {
+
+    	private final int blockSize;
+    	private final int blocksCount;
+    	private final int usedBlocks;
+    	private final long capacity;
+    	private final long endOperations;
+    	private final long middleOperations;
+    	private final boolean regularLayout;
+    	private final boolean resizing;
+
+    	private Stats(int blockSize, int blocksCount, int usedBlocks, long capacity,
+    			long endOperations, long middleOperations, boolean regularLayout, boolean resizing)
+    	{
+    		this.blockSize = blockSize;
+    		this.blocksCount = blocksCount;
+    		this.usedBlocks = usedBlocks;
+    		this.capacity = capacity;
+    		this.endOperations = endOperations;
+    		this.middleOperations = middleOperations;
+    		this.regularLayout = regularLayout;
+    		this.resizing = resizing;
+    	}
+
+    	/** Returns capacity of each block of the list */
+    	public int getBlockSize() {
+    		return blockSize;
+    	}
+
+    	/** Returns length of the array of blocks */
+    	public int getBlocksCount() {
+    		return blocksCount;
+    	}
+
+    	/** Returns number of blocks which contain elements of the list */
+    	public int getUsedBlocks() {
+    		return usedBlocks;
+    	}
+
+    	/** Returns number of elements the list may hold without allocation of the new array of blocks */
+    	public long getCapacity() {
+    		return capacity;
+    	}
+
+    	/** Returns decaying counter of insertions and removals at the ends of the list (sampled once per block) */
+    	public long getEndOperations() {
+    		return endOperations;
+    	}
+
+    	/** Returns decaying counter of insertions and removals in the middle of the list */
+    	public long getMiddleOperations() {
+    		return middleOperations;
+    	}
+
+    	/** Returns <tt>false</tt> if list has irregular layout caused by deferred rebalancing */
+    	public boolean isRegularLayout() {
+    		return regularLayout;
+    	}
+
+    	/**
+    	 * Returns <tt>true</tt> if incremental resizing of the list is in progress.<br>
+    	 * Block size and number of blocks are reported for the blocks which are not converted yet.
+    	 */
+    	public boolean isResizing() {
+    		return resizing;
+    	}
+
+    	public String toString() {
+    		return "blockSize=" + blockSize + ", blocksCount=" + blocksCount + ", usedBlocks=" + usedBlocks
+    				+ ", capacity=" + capacity + ", endOperations=" + endOperations
+    				+ ", middleOperations=" + middleOperations + ", regularLayout=" + regularLayout
+    				+ ", resizing=" + resizing;
+    	}
+    }
+
+    /**
+     * Returns current geometry of this list.<br>
+     * Size of the blocks is chosen when list grows, depending on the observed
+     * positions of insertions and removals: blocks of about
+     * O(n<sup>1/2</sup>) size are used if there are insertions and removals in
+     * the middle of the list, and larger blocks are used if all modifications
+     * happen at the ends of the list (for faster streaming of elements).
+     *
+     * @return current geometry of this list
+     */
+    public Stats stats() {
+    	final int usedBlocks = (fenwick != null) ? blocks
+    			: (size == 0) ? 0 : (int) (locatePosition(size + head - 1) >>> 32) + 1;
+    	return new Stats(1 << blockAddressBits, data.length, usedBlocks, capacity(),
+    			endOperations, middleOperations, fenwick == null, resized != null);
+    }
+
+    /**
+     * Returns a snapshot of this list in constant time.<br>
+     * The snapshot is a regular <tt>DynamicList</tt> which initially shares
+     * all its internal blocks with this list. Blocks are copied on first
+     * modification by either of the lists, so modifications of this list
+     * are not visible in the snapshot (and vice versa) and cost no more than
+     * O(n<sup>1/2</sup>) additional time for each modified block.
+     * (The elements themselves are not cloned).
+     *
+     * @return a snapshot of this list
+     */
+    @SuppressWarnings("unchecked")
+	public DynamicList<E> snapshot() {
+    	try {
+			DynamicList<E> snapshot = (DynamicList<E>) super.clone();
+			snapshot.modCount = 0;
+			snapshot.hugeView = null;
+			// - blocks are shared now, so none of the lists may modify them in place
+			owner = new Object();
+			snapshot.owner = new Object();
+			sharedData = snapshot.sharedData = true;
+			return snapshot;
+		}
+    	catch (CloneNotSupportedException e) {
+    		// - should never be thrown since we are Cloneable
+    		throw new InternalError();
+		}
+    }
+
+    /**
+     * Returns a shallow copy of this <tt>DynamicList</tt> instance.
+     * (The elements themselves are not cloned).<br>
+     * Internal blocks are shared with the copy until modified,
+     * so this operation completes in constant time.
+     *
+     * @return a clone of this <tt>DynamicList</tt> instance
+     * 
+     * @see #snapshot()
+     */
+	public Object clone() {
+		return snapshot();
+    }
+
+    /**
+     * Returns a string representation of this list.<br>
+     * The string representation consists of a list of the elements separated
+     * by commas in the index increasing order.<br>
+     * List is enclosed in square brackets (<tt>"[]"</tt>).<br>
+     * If list is too large, only first elements will be shown, followed by
+     * three-dot (<tt>"..."</tt>).
+     * 
+     * @return a string representation of this list
+     */
+	public String toString() {
+        if (isEmpty())
+            return "[]";
+
+        return Collectionz.toString(this, "(this List)");
+	}
+}
@@ -0,0 +1,130 @@
+package zjava.collection;
+
+import java.util.Comparator;
+
+/**
+ * Read-only search index over a sorted array.<br>
+ * Keeps elements in Eytzinger (breadth-first) order: children of the node
+ * <tt>k</tt> are located at positions <tt>2k</tt> and <tt>2k+1</tt>. Top levels
+ * of such a tree share just a few cache lines, and every step of the search goes
+ * to predictable position, so lookups suffer far less cache misses than regular
+ * binary search over the sorted array.
+ *
+ * <p>That holds only while the tree fits in CPU caches. In larger trees every
+ * step of the search below the cached levels reads both a new cache line of
+ * the tree and the element itself, while binary search reads neighbouring
+ * references of the sorted array on its last steps. So arrays of more than
+ * {@link #MAX_TREE_SIZE} elements are searched with regular binary search.
+ *
+ * <p>Used internally by {@link FrozenSortedList} and {@link FrozenSortedSet}.
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+final class EytzingerIndex implements java.io.Serializable {
+
+	static private final long serialVersionUID = 201703021200L;
+
+	/** Maximal number of elements kept in Eytzinger order (the tree takes 8 bytes per element with compressed oops) */
+	static final int MAX_TREE_SIZE = 1 << 15;
+
+	private final Object[] sorted;
+
+	/** Elements in breadth-first order or <tt>null</tt> if array is too large. Position 0 is not used */
+	private final Object[] tree;
+
+	/** Index of each element of the tree in the sorted order */
+	private final int[] ranks;
+
+	private final Comparator<Object> comparator;
+
+	/**
+	 * Builds index over given array, which must be sorted in ascending order
+	 * according to the specified comparator (or natural ordering of elements
+	 * if comparator is <tt>null</tt>).
+	 */
+	@SuppressWarnings("unchecked")
+	EytzingerIndex(Object[] sorted, Comparator<?> comparator) {
+		this.sorted = sorted;
+		this.comparator = (Comparator<Object>) comparator;
+		if (sorted.length <= MAX_TREE_SIZE) {
+			this.tree = new Object[sorted.length + 1];
+			this.ranks = new int[sorted.length + 1];
+			fill(sorted, 0, 1);
+		}
+		else {
+			this.tree = null;
+			this.ranks = null;
+		}
+	}
+
+	// - fills subtree rooted at "k" in order of in-order traversal
+	// - returns index of the next element of the sorted array to be placed
+	private int fill(final Object[] sorted, int i, final long k) {
+		if (k < tree.length) {
+			i = fill(sorted, i, 2*k);
+			tree[(int) k] = sorted[i];
+			ranks[(int) k] = i++;
+			i = fill(sorted, i, 2*k + 1);
+		}
+		return i;
+	}
+
+	// - compares given key with the value using either comparator or natural ordering of the key
+	@SuppressWarnings("unchecked")
+	int compare(final Object key, final Object value) {
+		return (comparator == null) ? ((Comparable<Object>) key).compareTo(value) : comparator.compare(key, value);
+	}
+
+	/**
+	 * Returns number of elements which are strictly less than given key
+	 * (or less than or equal to it if <tt>inclusive</tt> is set).
+	 */
+	int countLess(final Object key, final boolean inclusive) {
+		if (tree == null)
+			return binaryCountLess(key, inclusive);
+		final int n = tree.length - 1;
+		long k = 1;
+		while (k <= n) {
+			final int cmp = compare(key, tree[(int) k]);
+			k = 2*k + ((cmp > 0 || (inclusive && cmp == 0)) ? 1 : 0);
+		}
+		// - answer is the node where search turned left the last time,
+		// - so strip trailing right turns together with this left turn
+		k >>>= Long.numberOfTrailingZeros(~k) + 1;
+		return (k == 0) ? n : ranks[(int) k];
+	}
+
+	// - same as "countLess" with regular binary search over the sorted array
+	private int binaryCountLess(final Object key, final boolean inclusive) {
+		int low = 0, high = sorted.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			final int cmp = compare(key, sorted[mid]);
+			if (cmp > 0 || (inclusive && cmp == 0))
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Same as {@link Collectionz#binarySearch(HugeArray, Object, Comparator)}
+	 * for the indexed array.
+	 */
+	int binarySearch(final Object key) {
+		final int i = countLess(key, false);
+		return (i < sorted.length && compare(key, sorted[i]) == 0) ? i : ~i;
+	}
+
+	/**
+	 * Same as {@link Collectionz#binarySearchNext(HugeArray, Object, Comparator)}
+	 * for the indexed array.
+	 */
+	int binarySearchNext(final Object key) {
+		final int i = countLess(key, true);
+		return (i > 0 && compare(key, sorted[i-1]) == 0) ? i : ~i;
+	}
+}
@@ -0,0 +1,220 @@
+package zjava.collection;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import zjava.common.Objectz;
+
+/**
+ * Immutable snapshot of a {@link SortedList}, optimized for lookups.<br>
+ * Keeps elements in a plain sorted array, so <tt>contains</tt>, <tt>indexOf</tt>
+ * and <tt>lastIndexOf</tt> operations avoid the block indirection of
+ * {@link SortedDynamicList}. Snapshot of up to 32768 elements also keeps the
+ * same elements in Eytzinger (breadth-first) order, which takes far less cache
+ * misses than binary search. Lookups in such snapshots are about 2 times faster
+ * than in the source list, lookups in larger snapshots are about 1.3 times faster.<br>
+ * All modification operations throw <tt>UnsupportedOperationException</tt>.
+ *
+ * <p>Snapshot of up to 32768 elements requires about twice as much memory as the
+ * sorted array of the same elements. Snapshot can't hold more than
+ * <tt>Integer.MAX_VALUE</tt> elements.
+ *
+ * @param <E> - the type of elements in this list
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ *
+ * @see SortedDynamicList#snapshot()
+ */
+public class FrozenSortedList<E> extends AbstractCollection<E> implements SortedList<E>, RandomAccess, java.io.Serializable {
+
+	static private final long serialVersionUID = 201703021200L;
+
+	private final Object[] values;
+	private final Comparator<? super E> comparator;
+	private final EytzingerIndex index;
+
+	// - given array must be sorted and must not be shared with anybody else
+	FrozenSortedList(Object[] values, Comparator<? super E> comparator) {
+		this.values = values;
+		this.comparator = comparator;
+		this.index = new EytzingerIndex(values, comparator);
+	}
+
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	public int size() {
+		return values.length;
+	}
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+	@SuppressWarnings("unchecked")
+	public E get(int index) {
+		return (E) values[index];
+	}
+
+    /**
+     * Returns the index of the first occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     *
+     * @param o element to search for
+     * @return the index of the first occurrence of the specified element in
+     *         this list, or -1 if this list does not contain the element
+     *
+     * @throws NullPointerException if the specified element is null
+     */
+	public int indexOf(Object o) {
+		if (o == null)
+			throw new NullPointerException();
+		int i = index.binarySearch(o);
+		return (i < 0) ? -1 : i;
+	}
+
+    /**
+     * Returns the index of the last occurrence of the specified element
+     * in this list, or -1 if this list does not contain the element.
+     *
+     * @param o element to search for
+     * @return the index of the last occurrence of the specified element in
+     *         this list, or -1 if this list does not contain the element
+     *
+     * @throws NullPointerException if the specified element is null
+     */
+	public int lastIndexOf(Object o) {
+		if (o == null)
+			throw new NullPointerException();
+		int i = index.binarySearchNext(o);
+		return (i < 0) ? -1 : i - 1;
+	}
+
+    /**
+     * Returns <tt>true</tt> if this list contains the specified element.
+     *
+     * @param o element whose presence in this list is to be tested
+     * @return <tt>true</tt> if this list contains the specified element
+     *
+     * @throws NullPointerException if the specified element is null
+     */
+	public boolean contains(Object o) {
+		if (o == null)
+			throw new NullPointerException();
+		return index.binarySearch(o) >= 0;
+	}
+
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			private int i = 0;
+
+			public boolean hasNext() {
+				return i < values.length;
+			}
+
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (i >= values.length)
+					throw new NoSuchElementException();
+				return (E) values[i++];
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	public Object[] toArray() {
+		return values.clone();
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		if (a.length < values.length)
+			return (T[]) Arrays.copyOf(values, values.length, a.getClass());
+		System.arraycopy(values, 0, a, 0, values.length);
+		if (a.length > values.length)
+			a[values.length] = null;
+		return a;
+	}
+
+	public boolean add(E e) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean addAll(Collection<? extends E> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean remove(Object o) {
+		throw new UnsupportedOperationException();
+	}
+
+	public E remove(int index) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean removeAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean retainAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+    /**
+     * Compares the specified object with this list for equality. Returns
+     * <tt>true</tt> if and only if the specified object is also a <tt>SortedList</tt>,
+     * both lists have the same size, and all corresponding pairs of elements in
+     * the two lists are <i>equal</i>.
+     *
+     * @param o the object to be compared for equality with this list
+     * @return <tt>true</tt> if the specified object is equal to this list
+     */
+	public boolean equals(Object o) {
+		if (o == this)
+			return true;
+		if (!(o instanceof SortedList))
+			return false;
+		SortedList<?> other = (SortedList<?>) o;
+		if (size() != other.size())
+			return false;
+		Iterator<?> otherIter = other.iterator();
+		for (Object e : values) {
+			if (!otherIter.hasNext() || !Objectz.equals(e, otherIter.next()))
+				return false;
+		}
+		return !otherIter.hasNext();
+	}
+
+    /**
+     * Returns the hash code value for this list.
+     *
+     * @return the hash code value for this list
+     */
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	public String toString() {
+		return Collectionz.toString(this, "(this List)");
+	}
+}
@@ -0,0 +1,188 @@
+package zjava.collection;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * Immutable snapshot of a {@link SortedSet}, optimized for lookups.<br>
+ * Keeps elements in a plain sorted array, so <tt>contains</tt> operation avoids
+ * the block indirection of {@link CompactSortedSet}. Snapshot of up to 32768
+ * elements also keeps the same elements in Eytzinger (breadth-first) order,
+ * which takes far less cache misses than binary search. Lookups in such
+ * snapshots are about 2 times faster than in the source set, lookups in larger
+ * snapshots are about 1.3 times faster.<br>
+ * Views returned by <tt>subSet</tt>, <tt>headSet</tt> and <tt>tailSet</tt>
+ * share the index with this set and are created in log(n) time.<br>
+ * All modification operations throw <tt>UnsupportedOperationException</tt>.
+ *
+ * <p>Snapshot of up to 32768 elements requires about twice as much memory as the
+ * sorted array of the same elements. Snapshot can't hold more than
+ * <tt>Integer.MAX_VALUE</tt> elements.
+ *
+ * @param <E> - the type of elements in this set
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ *
+ * @see CompactSortedSet#snapshot()
+ */
+public class FrozenSortedSet<E> extends AbstractSet<E> implements SortedSet<E>, java.io.Serializable {
+
+	static private final long serialVersionUID = 201703021200L;
+
+	private final Object[] values;
+	private final Comparator<? super E> comparator;
+	private final EytzingerIndex index;
+
+	/** Range [fromIndex, toIndex) of the values visible in this set */
+	private final int fromIndex, toIndex;
+
+	// - given array must be sorted, must not contain duplicates
+	// - and must not be shared with anybody else
+	FrozenSortedSet(Object[] values, Comparator<? super E> comparator) {
+		this.values = values;
+		this.comparator = comparator;
+		this.index = new EytzingerIndex(values, comparator);
+		this.fromIndex = 0;
+		this.toIndex = values.length;
+	}
+
+	private FrozenSortedSet(FrozenSortedSet<E> set, int fromIndex, int toIndex) {
+		this.values = set.values;
+		this.comparator = set.comparator;
+		this.index = set.index;
+		this.fromIndex = fromIndex;
+		this.toIndex = toIndex;
+	}
+
+	public Comparator<? super E> comparator() {
+		return comparator;
+	}
+
+	public int size() {
+		return toIndex - fromIndex;
+	}
+
+    /**
+     * Returns {@code true} if this set contains the specified element.
+     *
+     * @param o object to be checked for containment in this set
+     * @return {@code true} if this set contains the specified element
+     * @throws ClassCastException if the specified object cannot be compared
+     *         with the elements currently in the set
+     * @throws NullPointerException if the specified element is null
+     */
+	public boolean contains(Object o) {
+		if (o == null)
+			throw new NullPointerException();
+		int i = index.binarySearch(o);
+		return i >= fromIndex && i < toIndex;
+	}
+
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+
+			private int i = fromIndex;
+
+			public boolean hasNext() {
+				return i < toIndex;
+			}
+
+			@SuppressWarnings("unchecked")
+			public E next() {
+				if (i >= toIndex)
+					throw new NoSuchElementException();
+				return (E) values[i++];
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	// - returns position of the given element clamped to the range of this set
+	private int position(E element) {
+		if (element == null)
+			throw new NullPointerException();
+		int i = index.countLess(element, false);
+		return (i < fromIndex) ? fromIndex : (i > toIndex) ? toIndex : i;
+	}
+
+	public SortedSet<E> subSet(E fromElement, E toElement) {
+		if (index.compare(fromElement, toElement) > 0)
+			throw new IllegalArgumentException("fromElement > toElement");
+		return new FrozenSortedSet<E>(this, position(fromElement), position(toElement));
+	}
+
+	public SortedSet<E> headSet(E toElement) {
+		return new FrozenSortedSet<E>(this, fromIndex, position(toElement));
+	}
+
+	public SortedSet<E> tailSet(E fromElement) {
+		return new FrozenSortedSet<E>(this, position(fromElement), toIndex);
+	}
+
+	@SuppressWarnings("unchecked")
+	public E first() {
+		if (fromIndex == toIndex)
+			throw new NoSuchElementException();
+		return (E) values[fromIndex];
+	}
+
+	@SuppressWarnings("unchecked")
+	public E last() {
+		if (fromIndex == toIndex)
+			throw new NoSuchElementException();
+		return (E) values[toIndex - 1];
+	}
+
+	public Object[] toArray() {
+		return Arrays.copyOfRange(values, fromIndex, toIndex);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		final int size = toIndex - fromIndex;
+		if (a.length < size)
+			return (T[]) Arrays.copyOfRange(values, fromIndex, toIndex, a.getClass());
+		System.arraycopy(values, fromIndex, a, 0, size);
+		if (a.length > size)
+			a[size] = null;
+		return a;
+	}
+
+	public boolean add(E e) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean addAll(Collection<? extends E> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean remove(Object o) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean removeAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	public boolean retainAll(Collection<?> c) {
+		throw new UnsupportedOperationException();
+	}
+
+	public void clear() {
+		throw new UnsupportedOperationException();
+	}
+
+	public String toString() {
+		return Collectionz.toString(this, "(this Set)");
+	}
+}
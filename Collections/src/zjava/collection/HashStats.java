@@ -0,0 +1,209 @@
+package zjava.collection;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of the structure of the hash table of a {@link HashedSet}.<br>
+ * Helps to find out why operations on some sets are slower than on others:
+ * poorly distributed hash codes show up as overloaded blocks, long collision
+ * lists and high probe counts.
+ *
+ * <p>Probe counts are computed from the positions of the elements: probes
+ * needed to find an element are the number of hashes compared in its block
+ * plus its position in the collision list (or depth in the collision tree).
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ *
+ * @see HashedSet#stats()
+ */
+public final class HashStats implements java.io.Serializable {
+
+	private static final long serialVersionUID = 201704181200L;
+
+	/** Width of the buckets of the block load histogram */
+	static final int BLOCK_LOAD_BUCKET = 8;
+
+	/** Number of buckets of the histograms (the last bucket includes all larger values) */
+	static final int HISTOGRAM_SIZE = 17;
+
+	// - assumed sizes of memory structures (64-bit JVM with compressed references)
+	static final int REFERENCE_SIZE = 4;
+	static final int OBJECT_HEADER_SIZE = 12;
+	static final int ARRAY_HEADER_SIZE = 16;
+
+	long size;
+	/** number of elements kept in the table (all elements except <tt>null</tt>) */
+	long tableEntries;
+	int tableSlots;
+	long blocks;
+	long splits;
+	long collisionEntries;
+	long trees;
+	long totalProbes;
+	int maxProbes;
+	int maxBlockLoad;
+	long memory;
+	final long[] blockLoadHistogram = new long[HISTOGRAM_SIZE];
+	final long[] collisionListHistogram = new long[HISTOGRAM_SIZE];
+
+	HashStats() {}
+
+	// - size of the object of the given size in memory, aligned to 8 bytes
+	static long aligned(final long size) {
+		return (size + 7) & ~7L;
+	}
+
+	void addProbes(final int probes) {
+		totalProbes += probes;
+		if (maxProbes < probes)
+			maxProbes = probes;
+	}
+
+	void addBlock(final int load) {
+		blocks++;
+		if (maxBlockLoad < load)
+			maxBlockLoad = load;
+		blockLoadHistogram[Math.min(load / BLOCK_LOAD_BUCKET, HISTOGRAM_SIZE - 1)]++;
+	}
+
+	void addCollisionList(final int length) {
+		collisionEntries += length;
+		collisionListHistogram[Math.min(length, HISTOGRAM_SIZE - 1)]++;
+	}
+
+	/**
+	 * Returns number of elements in the set.
+	 * 
+	 * @return number of elements in the set
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns number of slots of the table. Several slots may share the same block.
+	 * 
+	 * @return number of slots of the table
+	 */
+	public int tableSlots() {
+		return tableSlots;
+	}
+
+	/**
+	 * Returns number of distinct blocks of the table.
+	 * 
+	 * @return number of distinct blocks
+	 */
+	public long blocks() {
+		return blocks;
+	}
+
+	/**
+	 * Returns number of times blocks were split since the set was created or cleared.
+	 * 
+	 * @return number of block splits
+	 */
+	public long splits() {
+		return splits;
+	}
+
+	/**
+	 * Returns average number of elements per block.
+	 * 
+	 * @return average block load
+	 */
+	public double averageBlockLoad() {
+		return (blocks == 0) ? 0 : (double) tableEntries / blocks;
+	}
+
+	/**
+	 * Returns maximal number of elements in a single block.
+	 * 
+	 * @return maximal block load
+	 */
+	public int maxBlockLoad() {
+		return maxBlockLoad;
+	}
+
+	/**
+	 * Returns histogram of block loads. Element <tt>i</tt> of the array is the
+	 * number of blocks with <tt>8*i</tt> to <tt>8*i+7</tt> elements, the last
+	 * element counts all blocks with greater loads.
+	 * 
+	 * @return histogram of block loads
+	 */
+	public long[] blockLoadHistogram() {
+		return blockLoadHistogram.clone();
+	}
+
+	/**
+	 * Returns histogram of lengths of collision lists. Element <tt>i</tt> of the
+	 * array is the number of non-empty lists of length <tt>i</tt>, the last element
+	 * counts all longer lists.
+	 * 
+	 * @return histogram of lengths of collision lists
+	 */
+	public long[] collisionListHistogram() {
+		return collisionListHistogram.clone();
+	}
+
+	/**
+	 * Returns number of elements, which didn't fit into the slots of their blocks
+	 * and were put into collision lists.
+	 * 
+	 * @return number of elements in collision lists
+	 */
+	public long collisionEntries() {
+		return collisionEntries;
+	}
+
+	/**
+	 * Returns number of collision lists turned into trees.
+	 * 
+	 * @return number of collision trees
+	 */
+	public long trees() {
+		return trees;
+	}
+
+	/**
+	 * Returns average number of probes needed to find an element of the set.
+	 * 
+	 * @return average number of probes of successful lookup
+	 */
+	public double averageProbes() {
+		return (tableEntries == 0) ? 0 : (double) totalProbes / tableEntries;
+	}
+
+	/**
+	 * Returns maximal number of probes needed to find an element of the set.
+	 * 
+	 * @return maximal number of probes of successful lookup
+	 */
+	public int maxProbes() {
+		return maxProbes;
+	}
+
+	/**
+	 * Returns estimated memory taken by the hash table in bytes. Memory taken by
+	 * the elements themselves isn't included. Estimate assumes 64-bit JVM with
+	 * compressed references.
+	 * 
+	 * @return estimated memory footprint in bytes
+	 */
+	public long estimatedMemory() {
+		return memory;
+	}
+
+	public String toString() {
+		return "HashStats[size=" + size + ", tableSlots=" + tableSlots + ", blocks=" + blocks + ", splits=" + splits
+			+ ", averageBlockLoad=" + String.format("%.2f", averageBlockLoad()) + ", maxBlockLoad=" + maxBlockLoad
+			+ ", blockLoadHistogram=" + Arrays.toString(blockLoadHistogram)
+			+ ", collisionEntries=" + collisionEntries + ", trees=" + trees
+			+ ", collisionListHistogram=" + Arrays.toString(collisionListHistogram)
+			+ ", averageProbes=" + String.format("%.2f", averageProbes()) + ", maxProbes=" + maxProbes
+			+ ", estimatedMemory=" + memory + "]";
+	}
+}
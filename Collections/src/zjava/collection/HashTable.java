@@ -1,518 +1,863 @@
-package zjava.collection;
-
-import java.util.Arrays;
-import java.util.ConcurrentModificationException;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.Set;
-
-/**
- * Early draft of HashTable.
- * 
- * <p> Doesn't permit <tt>null</tt> value.
- * 
- * @param <E> - the type of entries in this hash table
- * 
- * @since Zjava 1.0
- * 
- * @author Ivan Zaitsau
- */
-class HashTable<E> implements Iterable<E>, Cloneable, java.io.Serializable {
-	
-	private static final long serialVersionUID = 201612081900L;
-
-	private static final byte COLLISION_UPDATES_THRESHOLD = 12;
-
-	private static class Entry<E> implements Cloneable, java.io.Serializable {
-		
-		private static final long serialVersionUID = 201612081900L;
-		
-		final int hash;
-		final E key;
-		Entry<E> next;
-		
-		Entry(int hash, E key, Entry<E> next) {
-			this.hash = hash;
-			this.key = key;
-			this.next = next;
-		}
-
-		public Entry<E> clone() {
-			try {
-				@SuppressWarnings("unchecked")
-				Entry<E> clone = (Entry<E>) super.clone();
-				if (next != null)
-					clone.next = next.clone();
-				return clone();
-			}
-	    	catch (CloneNotSupportedException e) {
-	    		// - should never be thrown since we are Cloneable
-	    		throw new InternalError();
-			}
-		}
-	}
-
-	private static class Block<E> implements Iterable<E>, Cloneable, java.io.Serializable {
-
-		private static final long serialVersionUID = 201612081900L;
-
-		static final int ADDRESS_BITS = 6;
-		static final int SIZE = 1 << ADDRESS_BITS;
-
-		private static final int COLLISIONS_ADDRESS_BITS = 4;
-		private static final int COLLISIONS_SIZE = 1 << COLLISIONS_ADDRESS_BITS;
-		private static final int ASSOCIATIVITY = 6;
-
-		// - essential variables
-		private E[] keys;
-		private int[] hashes;
-		private Entry<E>[] collisions;
-
-		// - service variables
-		private final byte rank;
-		private byte collisionUpdates;
-
-		private static int valuesIndex(final int hash) {
-			return hash & (SIZE - 1);
-		}
-
-		private static int collisionsIndex(final int hash) {
-			return hash & (COLLISIONS_SIZE - 1);
-		}
-
-		Block(int rank) {
-			if (0 > rank | rank >= 32)
-				throw new IllegalArgumentException();
-			this.rank = (byte) rank;
-		}
-
-		private void incCollisionUpdates() {
-			if (collisionUpdates < Byte.MAX_VALUE)
-				collisionUpdates++;
-		}
-		
-		byte getCollisionUpdates() {
-			return collisionUpdates;
-		}
-		
-		void resetCollisionUpdates() {
-			collisionUpdates = 0;
-		}
-		
-		@SuppressWarnings("unchecked")
-		private void lazyInitValues() {
-			if (keys == null) {
-				hashes = new int[SIZE + ASSOCIATIVITY];
-				keys = (E[]) new Object[SIZE + ASSOCIATIVITY];
-			}
-		}
-
-		@SuppressWarnings("unchecked")
-		private void lazyInitCollisions() {
-			if (collisions == null) {
-				collisions = new Entry[COLLISIONS_SIZE];
-			}
-		}
-
-		boolean contains(final int hash, final E key) {
-			// - check values
-			if (keys == null)
-				return false;
-			int idx = valuesIndex(hash);
-			for (int i = 0; i < ASSOCIATIVITY; i++)
-				if (hashes[idx+i] == hash && key.equals(keys[idx+i]))
-					return true;
-
-			// - check collisions
-			if (collisions == null)
-				return false;
-			Entry<E> entry = collisions[collisionsIndex(hash)];
-			while (entry != null) {
-				if (entry.hash == hash && entry.key.equals(key))
-					return true;
-				entry = entry.next;
-			}
-			return false;
-		}
-
-		private boolean putToValues(final int hash, final E key) {
-			final int idx = valuesIndex(hash);
-			for (int i = 0; i < ASSOCIATIVITY; i++)
-				if (keys[idx+i] == null) {
-					hashes[idx+i] = hash;
-					keys[idx+i] = key;
-					return true;
-				}
-			return false;
-		}
-
-		boolean add(final int hash, final E key) {
-			if (contains(hash, key))
-				return false;
-			// - look for free space in values
-			lazyInitValues();
-			if (putToValues(hash, key))
-				return true;
-			
-			// - add to collisions if no space left in "values"
-			incCollisionUpdates();
-			lazyInitCollisions();
-			final int idx = collisionsIndex(hash);
-			collisions[idx] = new Entry<E>(hash, key, collisions[idx]);
-			return true;
-		}
-
-		boolean remove(final int hash, final E key) {
-			// - check values
-			if (keys == null)
-				return false;
-			int idx = valuesIndex(hash);
-			for (int i = 0; i < ASSOCIATIVITY; i++)
-				if (hashes[idx+i] == hash && key.equals(keys[idx+i])) {
-					hashes[idx+i] = 0;
-					keys[idx+i] = null;
-					return true;
-				}
-
-			// - check collisions
-			if (collisions == null)
-				return false;
-			idx = collisionsIndex(hash);
-			Entry<E> prev = null;
-			Entry<E> entry = collisions[idx];
-			while (entry != null) {
-				if (entry.hash == hash && entry.key.equals(key)) {
-					incCollisionUpdates();
-					if (prev == null)
-						collisions[idx] = entry.next;
-					else
-						prev.next = entry.next;
-					return true;
-				}
-				prev = entry;
-				entry = entry.next;
-			}
-			return false;
-		}
-
-		// - returns bits of the given hash related to given rank
-		private static int rankedHash(final int hash, final int rank) {
-			return (hash >>> ADDRESS_BITS) & ((1 << rank) - 1);
-		}
-
-		// - extracts data related to requested hash-rank pair to new block and return it
-		// - if requested rank is equal to this block rank return this block instead
-		Block<E> extract(final int requestedRank, int hash) {
-			if (requestedRank <= rank)
-				return this;
-			Block<E> extracted = new Block<E>(requestedRank);
-			hash = rankedHash(hash, requestedRank);
-			// - extract values
-			if (keys == null)
-				return extracted;
-			for (int i = 0; i < keys.length; i++) {
-				if (rankedHash(hashes[i], requestedRank) == hash) {
-					extracted.lazyInitValues();
-					extracted.hashes[i] = hashes[i];
-					extracted.keys[i] = keys[i];
-					hashes[i] = 0;
-					keys[i] = null;
-				}
-			}
-			// - extract collisions and put them in values, if possible
-			if (collisions == null)
-				return extracted;
-			for (int i = 0; i < collisions.length; i++)
-				if (collisions[i] != null) {
-					Entry<E> prev = null;
-					Entry<E> entry = collisions[i];
-					while (entry != null) {
-						// - try to put to values
-						if (((rankedHash(entry.hash, requestedRank) == hash) ? extracted : this).putToValues(entry.hash, entry.key)) {
-							entry = (prev == null) ? (collisions[i] = entry.next) : (prev.next = entry.next);
-						}
-						// - if not possible - move to collisions in extracted block / leave there
-						else {
-							if (rankedHash(entry.hash, requestedRank) == hash) {
-								final Entry<E> next = (prev == null) ? (collisions[i] = entry.next) : (prev.next = entry.next);
-								extracted.lazyInitCollisions();
-								entry.next = extracted.collisions[i];
-								extracted.collisions[i] = entry;
-								entry = next;
-							}
-							else {
-								prev = entry;
-								entry = entry.next;
-							}
-						}
-					}
-				}
-			return extracted;
-		}
-
-		public Iterator<E> iterator() {
-			
-			return new Iterator<E>() {
-
-				private byte lastIndex = -1;
-				private byte nextIndex = 0;
-				private byte lastCollisionIndex = -1;
-				private byte nextCollisionIndex = 0;
-				private Entry<E> lastCollision = null;
-	
-				public boolean hasNext() {
-					try {
-						// - iteration over values
-						if (keys == null)
-							return false;
-						while (nextIndex < keys.length && keys[nextIndex] == null)
-							nextIndex++;
-						if (nextIndex < keys.length)
-							return true;
-
-						// - iteration over collisions
-						if (collisions == null)
-							return false;
-						if (lastCollision != null && lastCollision.next != null)
-							return true;
-
-						while (nextCollisionIndex < collisions.length && collisions[nextCollisionIndex] == null)
-							nextCollisionIndex++;
-						return (nextCollisionIndex < collisions.length);						
-					}
-					catch (NullPointerException e) {
-						throw new ConcurrentModificationException();
-					}
-					catch (IndexOutOfBoundsException e) {
-						throw new ConcurrentModificationException();						
-					}
-				}
-
-				public E next() {
-					if (!hasNext())
-						throw new NoSuchElementException();
-					try {
-						// - iteration over values
-						lastIndex = nextIndex;
-						if (lastIndex < keys.length) {
-							return keys[lastIndex];
-						}
-						// - iteration over collisions
-						if (lastCollision == null || lastCollision.next == null) {
-							lastCollisionIndex = nextCollisionIndex++;
-							lastCollision = collisions[lastCollisionIndex];
-						}
-						else {
-							lastCollision = lastCollision.next;
-							if (lastCollisionIndex < 0)
-								lastCollisionIndex = (byte) ~lastCollisionIndex;
-						}
-						return lastCollision.key;
-					}
-					catch (NullPointerException e) {
-						throw new ConcurrentModificationException();
-					}
-					catch (IndexOutOfBoundsException e) {
-						throw new ConcurrentModificationException();						
-					}
-				}
-
-				public void remove() {
-					try {
-						// - iteration over values
-						if (lastIndex < 0)
-							throw new IllegalStateException();
-						if (lastIndex < keys.length) {
-							keys[lastIndex] = null;
-							hashes[lastIndex] = 0;
-							lastIndex = -1;
-						}
-						// - iteration over collisions
-						if (lastCollisionIndex < 0)
-							throw new IllegalStateException();
-						Entry<E> collision = collisions[lastCollisionIndex];
-						if (collision == lastCollision) {
-							collisions[lastCollisionIndex] = collision.next;
-							lastCollisionIndex = (byte) ~lastCollisionIndex;
-							return;
-						}
-						while (collision.next != lastCollision) {
-							collision = collision.next;
-						}
-						collision.next = lastCollision.next;
-						lastCollisionIndex = (byte) ~lastCollisionIndex;
-					}
-					catch (NullPointerException e) {
-						throw new ConcurrentModificationException();
-					}
-					catch (IndexOutOfBoundsException e) {
-						throw new ConcurrentModificationException();						
-					}
-				}
-			};
-		}
-		
-		@SuppressWarnings("unchecked")
-		public Block<E> clone() {
-			try {
-				Block<E> clone = (Block<E>) super.clone();
-				clone.keys = keys.clone();
-				clone.hashes = hashes.clone();
-				if (collisions != null) {
-					clone.collisions = new Entry[collisions.length];
-					for (int i = 0; i < collisions.length; i++) {
-						if (collisions[i] != null) {
-							clone.collisions[i] = collisions[i].clone();
-						}
-					}
-				}
-				return clone();
-			}
-	    	catch (CloneNotSupportedException e) {
-	    		// - should never be thrown since we are Cloneable
-	    		throw new InternalError();
-			}
-		}
-	}
-
-	private Block<E>[] data;
-	private long size;
-	
-	@SuppressWarnings("unchecked")
-	private void init() {
-		data = (Block<E>[]) new Block[1];
-		data[0] = new Block<E>(0);
-		size = 0;
-	}
-	
-	/**
-	 * Creates {@code HashTable}.
-	 */
-	public HashTable() {
-		init();
-	}
-
-	public long size() {
-		return size;
-	}
-
-	private int blockIndex(final int hash) {
-		return (hash >>> Block.ADDRESS_BITS) & (data.length - 1);
-	}
-	
-	private void optimize(final int blockIndex, final int hash) {
-		if (data[blockIndex].getCollisionUpdates() >= COLLISION_UPDATES_THRESHOLD) {
-			data[blockIndex] = data[blockIndex].extract(rank(), hash);
-			data[blockIndex].resetCollisionUpdates();
-		}
-	}
-	
-	public boolean add(int hash, E entry) {
-		final int blockIndex = blockIndex(hash);
-		optimize(blockIndex, hash);
-		if (data[blockIndex].add(hash, entry)) {
-			size++;
-			return true;
-		}
-		return false;
-	}
-	
-	public boolean contains(int hash, E entry) {
-		return data[blockIndex(hash)].contains(hash, entry);
-	}
-	
-	public boolean remove(int hash, E entry) {
-		final int blockIndex = blockIndex(hash);
-		optimize(blockIndex, hash);
-		if (data[blockIndex].remove(hash, entry)) {
-			size--;
-			return true;
-		}
-		return false;
-	}
-
-	public void clear() {
-		init();
-	}
-
-	private int rank() {
-		return Integer.bitCount(data.length - 1);
-	}
-
-	/**
-	 * Doubles size of this {@code HashTable}
-	 */
-	public void doubleTableSize() {
-		if (rank() >= 30)
-			return;
-
-		final int oldLength = data.length;
-		data = Arrays.copyOf(data, 2*oldLength);
-		System.arraycopy(data, 0, data, oldLength, oldLength);
-	}
-
-	public Iterator<E> iterator() {
-
-		return new Iterator<E>() {
-
-			/** index of current data block */
-			private int i = 0;
-
-			/** current block iterator */
-			Iterator<E> iter;
-			
-			/** previously used iterator to handle <tt>remove()</tt> calls */
-			Iterator<E> prev;
-			
-			/** used to track already visited blocks */
-			Set<Block<E>> visitedBlocks = new HashSet<Block<E>>();
-			
-			public boolean hasNext() {
-				while ((iter == null || !iter.hasNext()) && i < data.length) {
-					if (visitedBlocks.add(data[i])) {
-						iter = data[i].iterator();
-					}
-					i++;
-				}
-				return (iter != null && iter.hasNext());
-			}
-
-			public E next() {
-				if (!hasNext())
-					throw new NoSuchElementException();
-				E next = iter.next();
-				prev = iter;
-				return next;
-			}
-
-			public void remove() {
-				if (prev == null)
-					throw new IllegalStateException();
-				prev.remove();
-				prev = null;
-			}
-		};
-	}
-	
-    /**
-     * Returns a shallow copy of this <tt>HashTable</tt> instance.
-     * (The elements themselves are not cloned).
-     *
-     * @return a clone of this <tt>HashTable</tt> instance
-     */
-    @SuppressWarnings("unchecked")
-	public HashTable<E> clone() {
-    	try {
-    		HashTable<E> clone = (HashTable<E>) super.clone();
-    		for (int i = 0; i < data.length; i++) {
-    			clone.data[i] = data[i].clone();
-    		}
-    		return clone;
-		}
-    	catch (CloneNotSupportedException e) {
-    		// - should never be thrown since we are Cloneable
-    		throw new InternalError();
-		}
-    }
+package zjava.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Early draft of HashTable.
+ * 
+ * <p> Doesn't permit <tt>null</tt> value.
+ * 
+ * <p> Collision lists longer than 8 entries are turned into balanced trees, ordered
+ * by hash and then by natural ordering of keys (if keys are mutually comparable and
+ * hasher is consistent with it), so colliding keys can't degrade lookups to linear
+ * scans.
+ * 
+ * @param <E> - the type of entries in this hash table
+ * 
+ * @since Zjava 1.0
+ * 
+ * @author Ivan Zaitsau
+ */
+class HashTable<E> implements Iterable<E>, Cloneable, java.io.Serializable {
+	
+	private static final long serialVersionUID = 201612081900L;
+
+	private static final byte COLLISION_UPDATES_THRESHOLD = 12;
+
+	private static class Entry<E> implements java.io.Serializable {
+		
+		private static final long serialVersionUID = 201612081900L;
+		
+		final int hash;
+		final E key;
+		Entry<E> next;
+		
+		Entry(int hash, E key, Entry<E> next) {
+			this.hash = hash;
+			this.key = key;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * Entry of the collisions list, which is also a node of the balanced tree.<br>
+	 * Long collision lists are turned into treaps, so keys with colliding hashes
+	 * can't degrade lookups to linear scans. List links are kept for iteration.
+	 */
+	private static class TreeEntry<E> extends Entry<E> {
+
+		private static final long serialVersionUID = 201704171200L;
+
+		/** Tie-breaker for keys which have equal hashes and can't be compared */
+		final long sequence;
+
+		/** Random priority which keeps the tree balanced regardless of the order of keys */
+		final int priority;
+
+		transient TreeEntry<E> prev;
+		transient TreeEntry<E> left;
+		transient TreeEntry<E> right;
+
+		TreeEntry(int hash, E key, TreeEntry<E> next, long sequence) {
+			super(hash, key, next);
+			this.sequence = sequence;
+			this.priority = System.identityHashCode(this);
+		}
+
+		// - next entry of the list, which consists of tree entries only
+		TreeEntry<E> next() {
+			return (TreeEntry<E>) next;
+		}
+	}
+
+	/**
+	 * Iterator over the entries of the table, which also provides their hashes.
+	 */
+	interface HashIterator<E> extends Iterator<E> {
+
+		/**
+		 * Returns hash of the entry last returned by <tt>next()</tt>.
+		 */
+		int hash();
+	}
+
+	private static class Block<E> implements Iterable<E>, Cloneable, java.io.Serializable {
+
+		private static final long serialVersionUID = 201612081900L;
+
+		static final int ADDRESS_BITS = 6;
+		static final int SIZE = 1 << ADDRESS_BITS;
+
+		private static final int COLLISIONS_ADDRESS_BITS = 4;
+		private static final int COLLISIONS_SIZE = 1 << COLLISIONS_ADDRESS_BITS;
+		private static final int ASSOCIATIVITY = 6;
+
+		// - collision lists longer than this are turned into trees
+		private static final int TREEIFY_THRESHOLD = 8;
+
+		// - essential variables
+		private E[] keys;
+		private int[] hashes;
+		private Entry<E>[] collisions;
+
+		// - roots of the trees built over long collision lists (rebuilt after deserialization)
+		private transient TreeEntry<E>[] trees;
+
+		// - service variables
+		private final byte rank;
+		private byte collisionUpdates;
+		private long treeSequence;
+
+		/** <tt>true</tt> if trees may be ordered by natural ordering of keys */
+		private final boolean naturalOrder;
+
+		/** Lowest index of the table slot which refers to this block */
+		int firstSlot;
+
+		private static int valuesIndex(final int hash) {
+			return hash & (SIZE - 1);
+		}
+
+		private static int collisionsIndex(final int hash) {
+			return hash & (COLLISIONS_SIZE - 1);
+		}
+
+		Block(int rank, boolean naturalOrder, int firstSlot) {
+			if (0 > rank | rank >= 32)
+				throw new IllegalArgumentException();
+			this.rank = (byte) rank;
+			this.naturalOrder = naturalOrder;
+			this.firstSlot = firstSlot;
+		}
+
+		/**
+		 * Returns distance between table slots which may refer to this block.
+		 */
+		int slotStride() {
+			return 1 << rank;
+		}
+
+		private void incCollisionUpdates() {
+			if (collisionUpdates < Byte.MAX_VALUE)
+				collisionUpdates++;
+		}
+		
+		byte getCollisionUpdates() {
+			return collisionUpdates;
+		}
+		
+		void resetCollisionUpdates() {
+			collisionUpdates = 0;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private void lazyInitValues() {
+			if (keys == null) {
+				hashes = new int[SIZE + ASSOCIATIVITY];
+				keys = (E[]) new Object[SIZE + ASSOCIATIVITY];
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void lazyInitCollisions() {
+			if (collisions == null) {
+				collisions = new Entry[COLLISIONS_SIZE];
+			}
+		}
+
+		boolean contains(final int hash, final E key, final Hasher<? super E> hasher) {
+			// - check values
+			if (keys == null)
+				return false;
+			int idx = valuesIndex(hash);
+			for (int i = 0; i < ASSOCIATIVITY; i++)
+				if (hashes[idx+i] == hash && keys[idx+i] != null && hasher.equals(key, keys[idx+i]))
+					return true;
+
+			// - check collisions
+			return findCollision(hash, key, hasher) != null;
+		}
+
+		private boolean putToValues(final int hash, final E key) {
+			final int idx = valuesIndex(hash);
+			for (int i = 0; i < ASSOCIATIVITY; i++)
+				if (keys[idx+i] == null) {
+					hashes[idx+i] = hash;
+					keys[idx+i] = key;
+					return true;
+				}
+			return false;
+		}
+
+		boolean add(final int hash, final E key, final Hasher<? super E> hasher) {
+			if (contains(hash, key, hasher))
+				return false;
+			// - look for free space in values
+			lazyInitValues();
+			if (putToValues(hash, key))
+				return true;
+			
+			// - add to collisions if no space left in "values"
+			incCollisionUpdates();
+			addCollision(hash, key);
+			return true;
+		}
+
+		boolean remove(final int hash, final E key, final Hasher<? super E> hasher) {
+			// - check values
+			if (keys == null)
+				return false;
+			int idx = valuesIndex(hash);
+			for (int i = 0; i < ASSOCIATIVITY; i++)
+				if (hashes[idx+i] == hash && keys[idx+i] != null && hasher.equals(key, keys[idx+i])) {
+					hashes[idx+i] = 0;
+					keys[idx+i] = null;
+					return true;
+				}
+
+			// - check collisions
+			final Entry<E> entry = findCollision(hash, key, hasher);
+			if (entry == null)
+				return false;
+			incCollisionUpdates();
+			unlinkCollision(collisionsIndex(hash), entry);
+			return true;
+		}
+
+		private Entry<E> findCollision(final int hash, final E key, final Hasher<? super E> hasher) {
+			if (collisions == null)
+				return null;
+			final int idx = collisionsIndex(hash);
+			if (trees != null && trees[idx] != null)
+				return find(trees[idx], hash, key, hasher);
+			for (Entry<E> entry = collisions[idx]; entry != null; entry = entry.next)
+				if (entry.hash == hash && hasher.equals(key, entry.key))
+					return entry;
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void addCollision(final int hash, final E key) {
+			lazyInitCollisions();
+			final int idx = collisionsIndex(hash);
+			if (trees != null && trees[idx] != null) {
+				final TreeEntry<E> node = new TreeEntry<E>(hash, key, (TreeEntry<E>) collisions[idx], treeSequence++);
+				node.next().prev = node;
+				collisions[idx] = node;
+				trees[idx] = insert(trees[idx], node);
+			}
+			else {
+				collisions[idx] = new Entry<E>(hash, key, collisions[idx]);
+				if (isLonger(collisions[idx], TREEIFY_THRESHOLD))
+					treeify(idx);
+			}
+		}
+
+		// - removes given entry from the collisions with given index
+		@SuppressWarnings("unchecked")
+		private void unlinkCollision(final int idx, final Entry<E> entry) {
+			if (trees != null && trees[idx] != null) {
+				final TreeEntry<E> node = (TreeEntry<E>) entry;
+				trees[idx] = delete(trees[idx], node);
+				if (node.prev == null)
+					collisions[idx] = node.next;
+				else
+					node.prev.next = node.next;
+				if (node.next != null)
+					node.next().prev = node.prev;
+				return;
+			}
+			if (collisions[idx] == entry) {
+				collisions[idx] = entry.next;
+				return;
+			}
+			Entry<E> prev = collisions[idx];
+			while (prev.next != entry)
+				prev = prev.next;
+			prev.next = entry.next;
+		}
+
+		private static boolean isLonger(Entry<?> entry, int length) {
+			for (; entry != null; entry = entry.next)
+				if (--length < 0)
+					return true;
+			return false;
+		}
+
+		// - replaces collision list with given index with the list of tree entries and builds tree over it
+		@SuppressWarnings("unchecked")
+		private void treeify(final int idx) {
+			if (trees == null)
+				trees = (TreeEntry<E>[]) new TreeEntry<?>[COLLISIONS_SIZE];
+			TreeEntry<E> head = null;
+			TreeEntry<E> root = null;
+			for (Entry<E> entry = collisions[idx]; entry != null; entry = entry.next) {
+				final TreeEntry<E> node = new TreeEntry<E>(entry.hash, entry.key, head, treeSequence++);
+				if (head != null)
+					head.prev = node;
+				head = node;
+				root = insert(root, node);
+			}
+			collisions[idx] = head;
+			trees[idx] = root;
+		}
+
+		private void treeifyLongLists() {
+			if (collisions == null)
+				return;
+			for (int i = 0; i < collisions.length; i++)
+				if ((trees == null || trees[i] == null) && isLonger(collisions[i], TREEIFY_THRESHOLD))
+					treeify(i);
+		}
+
+		// - replaces trees with plain collision lists
+		private void untreeify() {
+			if (trees == null)
+				return;
+			for (int i = 0; i < collisions.length; i++)
+				if (trees[i] != null)
+					collisions[i] = copyOf(collisions[i]);
+			trees = null;
+		}
+
+		private static <E> Entry<E> copyOf(Entry<E> entry) {
+			Entry<E> head = null;
+			for (; entry != null; entry = entry.next)
+				head = new Entry<E>(entry.hash, entry.key, head);
+			return head;
+		}
+
+		// - compares keys by natural ordering if it's consistent with hasher and keys are comparable, returns 0 otherwise
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private int compareKeys(final Object k1, final Object k2) {
+			if (!naturalOrder || k1.getClass() != k2.getClass() || !(k1 instanceof Comparable))
+				return 0;
+			return ((Comparable) k1).compareTo(k2);
+		}
+
+		// - strict order of tree entries: by hash, then by natural ordering of keys, then by insertion order
+		private int compare(final TreeEntry<E> e1, final TreeEntry<E> e2) {
+			if (e1.hash != e2.hash)
+				return (e1.hash < e2.hash) ? -1 : 1;
+			final int cmp = compareKeys(e1.key, e2.key);
+			if (cmp != 0)
+				return cmp;
+			return (e1.sequence < e2.sequence) ? -1 : (e1.sequence > e2.sequence) ? 1 : 0;
+		}
+
+		private TreeEntry<E> insert(final TreeEntry<E> root, final TreeEntry<E> node) {
+			if (root == null)
+				return node;
+			if (compare(node, root) < 0) {
+				root.left = insert(root.left, node);
+				return (root.left.priority > root.priority) ? rotateRight(root) : root;
+			}
+			else {
+				root.right = insert(root.right, node);
+				return (root.right.priority > root.priority) ? rotateLeft(root) : root;
+			}
+		}
+
+		private TreeEntry<E> delete(final TreeEntry<E> root, final TreeEntry<E> node) {
+			if (root == node)
+				return join(root.left, root.right);
+			if (compare(node, root) < 0)
+				root.left = delete(root.left, node);
+			else
+				root.right = delete(root.right, node);
+			return root;
+		}
+
+		// - joins trees, all entries of the left tree must precede entries of the right one
+		private static <E> TreeEntry<E> join(final TreeEntry<E> left, final TreeEntry<E> right) {
+			if (left == null)
+				return right;
+			if (right == null)
+				return left;
+			if (left.priority > right.priority) {
+				left.right = join(left.right, right);
+				return left;
+			}
+			else {
+				right.left = join(left, right.left);
+				return right;
+			}
+		}
+
+		private static <E> TreeEntry<E> rotateRight(final TreeEntry<E> node) {
+			final TreeEntry<E> left = node.left;
+			node.left = left.right;
+			left.right = node;
+			return left;
+		}
+
+		private static <E> TreeEntry<E> rotateLeft(final TreeEntry<E> node) {
+			final TreeEntry<E> right = node.right;
+			node.right = right.left;
+			right.left = node;
+			return right;
+		}
+
+		private TreeEntry<E> find(TreeEntry<E> node, final int hash, final E key, final Hasher<? super E> hasher) {
+			while (node != null) {
+				if (hash != node.hash) {
+					node = (hash < node.hash) ? node.left : node.right;
+					continue;
+				}
+				if (hasher.equals(key, node.key))
+					return node;
+				final int cmp = compareKeys(key, node.key);
+				if (cmp != 0) {
+					node = (cmp < 0) ? node.left : node.right;
+					continue;
+				}
+				// - order of the key is unknown, so both subtrees have to be checked
+				final TreeEntry<E> found = find(node.right, hash, key, hasher);
+				if (found != null)
+					return found;
+				node = node.left;
+			}
+			return null;
+		}
+
+		// - returns bits of the given hash related to given rank
+		private static int rankedHash(final int hash, final int rank) {
+			return (hash >>> ADDRESS_BITS) & ((1 << rank) - 1);
+		}
+
+		// - extracts data related to requested hash-rank pair to new block and return it
+		// - if requested rank is equal to this block rank return this block instead
+		Block<E> extract(final int requestedRank, int hash) {
+			if (requestedRank <= rank)
+				return this;
+			hash = rankedHash(hash, requestedRank);
+			Block<E> extracted = new Block<E>(requestedRank, naturalOrder, hash);
+			// - extract values
+			if (keys == null)
+				return extracted;
+			for (int i = 0; i < keys.length; i++) {
+				if (rankedHash(hashes[i], requestedRank) == hash) {
+					extracted.lazyInitValues();
+					extracted.hashes[i] = hashes[i];
+					extracted.keys[i] = keys[i];
+					hashes[i] = 0;
+					keys[i] = null;
+				}
+			}
+			// - extract collisions and put them in values, if possible
+			if (collisions == null)
+				return extracted;
+			extracted.lazyInitValues();
+			untreeify();
+			for (int i = 0; i < collisions.length; i++)
+				if (collisions[i] != null) {
+					Entry<E> prev = null;
+					Entry<E> entry = collisions[i];
+					while (entry != null) {
+						// - try to put to values
+						if (((rankedHash(entry.hash, requestedRank) == hash) ? extracted : this).putToValues(entry.hash, entry.key)) {
+							entry = (prev == null) ? (collisions[i] = entry.next) : (prev.next = entry.next);
+						}
+						// - if not possible - move to collisions in extracted block / leave there
+						else {
+							if (rankedHash(entry.hash, requestedRank) == hash) {
+								final Entry<E> next = (prev == null) ? (collisions[i] = entry.next) : (prev.next = entry.next);
+								extracted.lazyInitCollisions();
+								entry.next = extracted.collisions[i];
+								extracted.collisions[i] = entry;
+								entry = next;
+							}
+							else {
+								prev = entry;
+								entry = entry.next;
+							}
+						}
+					}
+				}
+			treeifyLongLists();
+			extracted.treeifyLongLists();
+			return extracted;
+		}
+
+		public HashIterator<E> iterator() {
+
+			return new HashIterator<E>() {
+
+				/** position of the next value */
+				private int nextIndex = 0;
+
+				/** next entry of collisions and index of its list */
+				private Entry<E> nextCollision;
+				private int nextCollisionIndex = -1;
+
+				/** position of the last returned value, or -1 if last returned element is a collision entry */
+				private int lastIndex = -1;
+
+				/** last returned collision entry and index of its list */
+				private Entry<E> lastCollision;
+				private int lastCollisionIndex;
+
+				public boolean hasNext() {
+					try {
+						// - iteration over values
+						if (keys != null) {
+							while (nextIndex < keys.length && keys[nextIndex] == null)
+								nextIndex++;
+							if (nextIndex < keys.length)
+								return true;
+						}
+						// - iteration over collisions
+						if (collisions == null)
+							return false;
+						while (nextCollision == null && nextCollisionIndex + 1 < collisions.length)
+							nextCollision = collisions[++nextCollisionIndex];
+						return nextCollision != null;
+					}
+					catch (IndexOutOfBoundsException e) {
+						throw new ConcurrentModificationException();
+					}
+				}
+
+				public E next() {
+					if (!hasNext())
+						throw new NoSuchElementException();
+					lastIndex = -1;
+					lastCollision = null;
+					if (keys != null && nextIndex < keys.length) {
+						lastIndex = nextIndex;
+						return keys[nextIndex++];
+					}
+					lastCollision = nextCollision;
+					lastCollisionIndex = nextCollisionIndex;
+					nextCollision = nextCollision.next;
+					return lastCollision.key;
+				}
+
+				public int hash() {
+					if (lastIndex >= 0)
+						return hashes[lastIndex];
+					if (lastCollision != null)
+						return lastCollision.hash;
+					throw new IllegalStateException();
+				}
+
+				public void remove() {
+					if (lastIndex >= 0) {
+						keys[lastIndex] = null;
+						hashes[lastIndex] = 0;
+						lastIndex = -1;
+					}
+					else if (lastCollision != null) {
+						unlinkCollision(lastCollisionIndex, lastCollision);
+						lastCollision = null;
+					}
+					else {
+						throw new IllegalStateException();
+					}
+				}
+			};
+		}
+		
+		@SuppressWarnings("unchecked")
+		public Block<E> clone() {
+			try {
+				Block<E> clone = (Block<E>) super.clone();
+				if (keys != null) {
+					clone.keys = keys.clone();
+					clone.hashes = hashes.clone();
+				}
+				if (collisions != null) {
+					clone.collisions = new Entry[collisions.length];
+					clone.trees = null;
+					for (int i = 0; i < collisions.length; i++)
+						clone.collisions[i] = copyOf(collisions[i]);
+					clone.treeifyLongLists();
+				}
+				return clone;
+			}
+	    	catch (CloneNotSupportedException e) {
+	    		// - should never be thrown since we are Cloneable
+	    		throw new InternalError();
+			}
+		}
+
+		// - adds statistics of this block to the given stats
+		void collectStats(final HashStats stats) {
+			int load = 0;
+			// - header, 4 references, 2 bytes, long, boolean and int
+			long memory = HashStats.aligned(HashStats.OBJECT_HEADER_SIZE + 4 * HashStats.REFERENCE_SIZE + 15);
+			if (keys != null) {
+				memory += HashStats.aligned(HashStats.ARRAY_HEADER_SIZE + (long) HashStats.REFERENCE_SIZE * keys.length);
+				memory += HashStats.aligned(HashStats.ARRAY_HEADER_SIZE + 4L * hashes.length);
+				for (int i = 0; i < keys.length; i++)
+					if (keys[i] != null) {
+						load++;
+						// - slots are compared from the beginning of the window up to the element
+						stats.addProbes(i - valuesIndex(hashes[i]) + 1);
+					}
+			}
+			if (collisions != null) {
+				memory += HashStats.aligned(HashStats.ARRAY_HEADER_SIZE + HashStats.REFERENCE_SIZE * COLLISIONS_SIZE);
+				if (trees != null)
+					memory += HashStats.aligned(HashStats.ARRAY_HEADER_SIZE + HashStats.REFERENCE_SIZE * COLLISIONS_SIZE);
+				for (int i = 0; i < collisions.length; i++) {
+					final boolean isTree = trees != null && trees[i] != null;
+					int length = 0;
+					for (Entry<E> entry = collisions[i]; entry != null; entry = entry.next) {
+						length++;
+						// - all slots of the window are compared before the collisions
+						if (!isTree)
+							stats.addProbes(ASSOCIATIVITY + length);
+						memory += (entry instanceof TreeEntry)
+							? HashStats.aligned(HashStats.OBJECT_HEADER_SIZE + 5 * HashStats.REFERENCE_SIZE + 16)
+							: HashStats.aligned(HashStats.OBJECT_HEADER_SIZE + 2 * HashStats.REFERENCE_SIZE + 4);
+					}
+					if (isTree) {
+						stats.trees++;
+						addTreeProbes(stats, trees[i], ASSOCIATIVITY + 1);
+					}
+					if (length > 0)
+						stats.addCollisionList(length);
+					load += length;
+				}
+			}
+			stats.addBlock(load);
+			stats.memory += memory;
+		}
+
+		private static void addTreeProbes(final HashStats stats, final TreeEntry<?> node, final int probes) {
+			if (node == null)
+				return;
+			stats.addProbes(probes);
+			addTreeProbes(stats, node.left, probes + 1);
+			addTreeProbes(stats, node.right, probes + 1);
+		}
+
+		private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			treeifyLongLists();
+		}
+	}
+
+	private final Hasher<? super E> hasher;
+	private Block<E>[] data;
+	private long size;
+
+	/** number of blocks split since the table was created or cleared */
+	private long splits;
+	
+	@SuppressWarnings("unchecked")
+	private void init() {
+		data = (Block<E>[]) new Block[1];
+		data[0] = new Block<E>(0, hasher.isConsistentWithNaturalOrdering(), 0);
+		size = 0;
+		splits = 0;
+	}
+	
+	/**
+	 * Creates {@code HashTable}, which compares entries with the given hasher.
+	 */
+	public HashTable(Hasher<? super E> hasher) {
+		this.hasher = hasher;
+		init();
+	}
+
+	public long size() {
+		return size;
+	}
+
+	int blockIndex(final int hash) {
+		return (hash >>> Block.ADDRESS_BITS) & (data.length - 1);
+	}
+	
+	private void optimize(final int blockIndex, final int hash) {
+		final Block<E> block = data[blockIndex];
+		if (block.getCollisionUpdates() >= COLLISION_UPDATES_THRESHOLD) {
+			data[blockIndex] = block.extract(rank(), hash);
+			data[blockIndex].resetCollisionUpdates();
+			if (data[blockIndex] != block) {
+				splits++;
+				// - slot which was taken from the block might be the first one
+				if (block.firstSlot == blockIndex)
+					block.firstSlot = nextSlot(block, blockIndex);
+			}
+		}
+	}
+
+	// - returns index of the next slot after given one, which refers to the block, or -1 if there is no such slot
+	private int nextSlot(final Block<E> block, final int slot) {
+		final int stride = block.slotStride();
+		for (int i = slot + stride; i < data.length; i += stride)
+			if (data[i] == block)
+				return i;
+		return -1;
+	}
+	
+	public boolean add(int hash, E entry) {
+		final int blockIndex = blockIndex(hash);
+		optimize(blockIndex, hash);
+		if (data[blockIndex].add(hash, entry, hasher)) {
+			// - keep about one entry per slot of the table, so blocks which receive too many collisions can be split
+			if (++size > (long) data.length << Block.ADDRESS_BITS)
+				doubleTableSize();
+			return true;
+		}
+		return false;
+	}
+	
+	public boolean contains(int hash, E entry) {
+		return data[blockIndex(hash)].contains(hash, entry, hasher);
+	}
+	
+	public boolean remove(int hash, E entry) {
+		final int blockIndex = blockIndex(hash);
+		optimize(blockIndex, hash);
+		if (data[blockIndex].remove(hash, entry, hasher)) {
+			size--;
+			return true;
+		}
+		return false;
+	}
+
+	public void clear() {
+		init();
+	}
+
+	private int rank() {
+		return Integer.bitCount(data.length - 1);
+	}
+
+	/**
+	 * Doubles size of this {@code HashTable}
+	 */
+	public void doubleTableSize() {
+		if (rank() >= 30)
+			return;
+
+		final int oldLength = data.length;
+		data = Arrays.copyOf(data, 2*oldLength);
+		System.arraycopy(data, 0, data, oldLength, oldLength);
+	}
+
+	/**
+	 * Iterates over blocks first referred by the slots in the given range.<br>
+	 * Each block is referred by the slots with fixed stride, so it's iterated
+	 * only once and no bookkeeping of visited blocks is needed.
+	 */
+	private class RangeIterator implements HashIterator<E> {
+
+		/** index of the next slot */
+		private int slot;
+		private final int end;
+
+		/** current block iterator */
+		private HashIterator<E> iter;
+
+		/** previously used iterator to handle <tt>remove()</tt> and <tt>hash()</tt> calls */
+		private HashIterator<E> prev;
+
+		RangeIterator(final int from, final int to) {
+			this.slot = from;
+			this.end = to;
+		}
+
+		public boolean hasNext() {
+			while ((iter == null || !iter.hasNext()) && slot < end) {
+				if (data[slot].firstSlot == slot)
+					iter = data[slot].iterator();
+				slot++;
+			}
+			return (iter != null && iter.hasNext());
+		}
+
+		public E next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+			E next = iter.next();
+			prev = iter;
+			return next;
+		}
+
+		public int hash() {
+			if (prev == null)
+				throw new IllegalStateException();
+			return prev.hash();
+		}
+
+		public void remove() {
+			if (prev == null)
+				throw new IllegalStateException();
+			prev.remove();
+			prev = null;
+			size--;
+		}
+	}
+
+	public HashIterator<E> iterator() {
+		return new RangeIterator(0, data.length);
+	}
+
+	/**
+	 * Returns statistics of the structure of this table.
+	 */
+	HashStats stats() {
+		final HashStats stats = new HashStats();
+		stats.tableEntries = size;
+		stats.tableSlots = data.length;
+		stats.splits = splits;
+		stats.memory = HashStats.aligned(HashStats.ARRAY_HEADER_SIZE + (long) HashStats.REFERENCE_SIZE * data.length);
+		for (int i = 0; i < data.length; i++)
+			if (data[i].firstSlot == i)
+				data[i].collectStats(stats);
+		return stats;
+	}
+
+	/**
+	 * Returns iterators over disjoint ranges of the table blocks, which
+	 * together iterate over all entries of the table.
+	 * 
+	 * @param parts maximal number of iterators to return
+	 */
+	List<Iterator<E>> iterators(int parts) {
+		parts = Math.max(1, Math.min(parts, data.length));
+		final List<Iterator<E>> iterators = new ArrayList<Iterator<E>>(parts);
+		for (int i = 0; i < parts; i++)
+			iterators.add(new RangeIterator((int) ((long) data.length * i / parts), (int) ((long) data.length * (i + 1) / parts)));
+		return iterators;
+	}
+	
+    /**
+     * Returns a shallow copy of this <tt>HashTable</tt> instance.
+     * (The elements themselves are not cloned).
+     *
+     * @return a clone of this <tt>HashTable</tt> instance
+     */
+    @SuppressWarnings("unchecked")
+	public HashTable<E> clone() {
+    	try {
+    		HashTable<E> clone = (HashTable<E>) super.clone();
+    		clone.data = data.clone();
+    		// - blocks shared by several slots must remain shared in the clone
+    		final IdentityHashMap<Block<E>, Block<E>> clones = new IdentityHashMap<Block<E>, Block<E>>();
+    		for (int i = 0; i < data.length; i++) {
+    			Block<E> block = clones.get(data[i]);
+    			if (block == null) {
+    				block = data[i].clone();
+    				clones.put(data[i], block);
+    			}
+    			clone.data[i] = block;
+    		}
+    		return clone;
+		}
+    	catch (CloneNotSupportedException e) {
+    		// - should never be thrown since we are Cloneable
+    		throw new InternalError();
+		}
+    }
 }
\ No newline at end of file
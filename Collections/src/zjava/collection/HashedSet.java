@@ -1,222 +1,498 @@
-package zjava.collection;
-
-import java.util.AbstractSet;
-import java.util.ConcurrentModificationException;
-import java.util.Iterator;
-import java.util.Set;
-
-/** 
- * Early draft of HashedSet.
- * 
- * @param <E> - the type of elements in this <tt>Set</tt>
- * 
- * @since Zjava 1.0
- * 
- * @author Ivan Zaitsau
- */
-public class HashedSet<E> extends AbstractSet<E> implements Set<E>, HugeCapacitySupport, Cloneable, java.io.Serializable {
-	
-	private static final long serialVersionUID = 201612210000L;
-
-	transient volatile int modCount = 0;
-
-	private final Hasher<? super E> hasher;
-	
-	private long size;
-	private HashTable<E> table;
-	private boolean containsNull;
-
-	private transient HugeCapacity hugeView;
-	
-	public HashedSet() {
-		this(Hasher.DEFAULT);
-	}
-
-	/**
-	 * 
-	 * 
-	 * <p>WARNING: {@code Hasher} with overridden {@code equals} method
-	 * violates general contract on {@link Set} interface.
-	 * 
-	 * @param hasher - specified hash-function to use for elements hashing and (optionally) comparison
-	 */
-	public HashedSet(Hasher<? super E> hasher) {
-		this.hasher = hasher;
-		table = new HashTable<E>();
-	}
-
-	public int size() {
-		return (size > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) size;
-	}
-
-	private int hash(E value) {
-		int h = hasher.hashCode(value);
-        h ^= (h >>> 20) ^ (h >>> 12);
-        return h ^ (h >>> 7) ^ (h >>> 4);
-	}
-	
-	public boolean contains(Object o) {
-		if (o == null)
-			return containsNull;
-		@SuppressWarnings("unchecked")
-		E e = (E) o;
-		int hash = hash(e);
-		return table.contains(hash, e);
-	}
-
-	private boolean addNull() {
-		if (!containsNull) {
-			containsNull = true;
-			size++;
-			return true;			
-		}
-		return false;
-	}
-
-	private boolean removeNull() {
-		if (containsNull) {
-			containsNull = false;
-			size--;
-			return true;			
-		}
-		return false;
-	}
-
-	public boolean add(E e) {
-		if (e == null)
-			return addNull();
-		if (table.add(hash(e), e)) {
-			modCount++;
-			size++;
-			return true;
-		}
-		return false;
-	}
-
-	public boolean remove(Object o) {
-		if (o == null)
-			return removeNull();
-		@SuppressWarnings("unchecked")
-		E e = (E) o;
-		if (table.remove(hash(e), e)) {
-			modCount++;
-			size--;
-			return true;
-		}
-		return false;
-	}
-
-	public void clear() {
-		modCount++;
-		containsNull = false;
-		table.clear();
-		size = 0;
-	}
-	
-	public Iterator<E> iterator() {
-
-		return new Iterator<E>() {
-
-			/** true if this iterator still has null value */
-			private boolean hasNull = containsNull;
-
-			/** true if previous value returned by this iterator was <tt>null</tt> */
-			private boolean wasNull = false;
-			
-			/** Expected version (modifications count) of the backing Set */
-			private int expectedModCount = modCount;
-			private Iterator<E> tableIter = table.iterator();
-
-			private void checkForComodification() {
-				if (expectedModCount != modCount)
-					throw new ConcurrentModificationException();
-			}
-
-			public boolean hasNext() {
-				checkForComodification();
-				return hasNull || tableIter.hasNext();
-			}
-
-			public E next() {
-				checkForComodification();
-				if (hasNull) {
-					hasNull = false;
-					wasNull = true;
-					return null;
-				}
-				try {
-					E next = tableIter.next();
-					wasNull = false;
-					return next;
-				}
-				catch (NullPointerException e) {
-					throw new ConcurrentModificationException();
-				}
-				catch (IndexOutOfBoundsException e) {
-					throw new ConcurrentModificationException();
-				}
-			}
-
-			public void remove() {
-				checkForComodification();
-				if (wasNull)
-					removeNull();
-				try {
-					tableIter.remove();					
-				}
-				catch (NullPointerException e) {
-					throw new ConcurrentModificationException();
-				}
-				catch (IndexOutOfBoundsException e) {
-					throw new ConcurrentModificationException();
-				}
-				expectedModCount = modCount;
-			}
-		};
-	}
-
-    /**
-     * Returns a shallow copy of this <tt>HashedSet</tt> instance.
-     * (The elements themselves are not cloned).
-     *
-     * @return a clone of this <tt>HashedSet</tt> instance
-     */
-    @SuppressWarnings("unchecked")
-	public Object clone() {
-    	try {
-    		HashedSet<E> clone = (HashedSet<E>) super.clone();
-			clone.modCount = 0;
-			clone.hugeView = null;
-			clone.table = (HashTable<E>) table.clone();
-    		return clone;
-		}
-    	catch (CloneNotSupportedException e) {
-    		// - should never be thrown since we are Cloneable
-    		throw new InternalError();
-		}
-    }
-
-	public HugeCapacity asHuge() {
-		if (hugeView == null)
-			hugeView = new HugeCapacity() {
-			public long size() {
-				return size;
-			}
-		};
-		return hugeView;
-	}
-	
-    /**
-     * Returns a string representation of this set.<br>
-     * The string representation consists of a list of the set's elements
-     * separated by commas in the order they are returned by its iterator.
-     * Set is enclosed in square brackets (<tt>"[]"</tt>).<br>
-     * If this set contains too many elements, only first elements will be shown,
-     * followed by three-dot (<tt>"..."</tt>).
-     * 
-	 * @return a string representation of this set.
-     */
-	public String toString() {
-		return Collectionz.toString(this, "(this Set)");
-	}
+package zjava.collection;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/** 
+ * Early draft of HashedSet.
+ * 
+ * @param <E> - the type of elements in this <tt>Set</tt>
+ * 
+ * @since Zjava 1.0
+ * 
+ * @author Ivan Zaitsau
+ */
+public class HashedSet<E> extends AbstractSet<E> implements Set<E>, HugeCapacitySupport, Cloneable, java.io.Serializable {
+	
+	private static final long serialVersionUID = 201612210000L;
+
+	transient volatile int modCount = 0;
+
+	private final Hasher<? super E> hasher;
+	
+	private long size;
+	private HashTable<E> table;
+	private boolean containsNull;
+
+	private transient HugeCapacity hugeView;
+	
+	public HashedSet() {
+		this(Hasher.DEFAULT);
+	}
+
+	/**
+	 * 
+	 * 
+	 * <p>WARNING: {@code Hasher} with overridden {@code equals} method
+	 * violates general contract on {@link Set} interface.
+	 * 
+	 * @param hasher - specified hash-function to use for elements hashing and (optionally) comparison
+	 * 
+	 * @see Hasherz
+	 */
+	public HashedSet(Hasher<? super E> hasher) {
+		this.hasher = hasher;
+		table = new HashTable<E>(hasher);
+	}
+
+	public int size() {
+		return (size > Integer.MAX_VALUE) ? Integer.MAX_VALUE : (int) size;
+	}
+
+	private int hash(E value) {
+		int h = hasher.hashCode(value);
+        h ^= (h >>> 20) ^ (h >>> 12);
+        return h ^ (h >>> 7) ^ (h >>> 4);
+	}
+	
+	public boolean contains(Object o) {
+		if (o == null)
+			return containsNull;
+		@SuppressWarnings("unchecked")
+		E e = (E) o;
+		int hash = hash(e);
+		return table.contains(hash, e);
+	}
+
+	private boolean addNull() {
+		if (!containsNull) {
+			containsNull = true;
+			size++;
+			return true;			
+		}
+		return false;
+	}
+
+	private boolean removeNull() {
+		if (containsNull) {
+			containsNull = false;
+			size--;
+			return true;			
+		}
+		return false;
+	}
+
+	public boolean add(E e) {
+		if (e == null)
+			return addNull();
+		if (table.add(hash(e), e)) {
+			modCount++;
+			size++;
+			return true;
+		}
+		return false;
+	}
+
+	public boolean remove(Object o) {
+		if (o == null)
+			return removeNull();
+		@SuppressWarnings("unchecked")
+		E e = (E) o;
+		if (table.remove(hash(e), e)) {
+			modCount++;
+			size--;
+			return true;
+		}
+		return false;
+	}
+
+	public void clear() {
+		modCount++;
+		containsNull = false;
+		table.clear();
+		size = 0;
+	}
+
+	// - returns true if given collection is a HashedSet, which hashes and compares elements the same way
+	private boolean isCompatible(final Collection<?> c) {
+		return (c instanceof HashedSet) && ((HashedSet<?>) c).hasher.equals(hasher);
+	}
+
+	private static final int BATCH_SIZE = 1 << 12;
+
+	private static final int ADD = 0;
+	private static final int CONTAINS = 1;
+	private static final int REMOVE = 2;
+
+	// - applies operation to the elements of the given collection by batches
+	// - hashes of the batch are computed first, then elements are processed in order of table blocks,
+	// - so each block is visited once per batch and memory is accessed in ascending order
+	// - returns true if any element was added / removed or if all elements are contained
+	@SuppressWarnings("unchecked")
+	private boolean applyByBatches(final Collection<?> c, final int operation) {
+		final int batchSize = Math.max(1, Math.min(BATCH_SIZE, c.size()));
+		final int[] hashes = new int[batchSize];
+		final Object[] keys = new Object[batchSize];
+		final long[] order = new long[batchSize];
+		boolean result = (operation == CONTAINS);
+		final Iterator<?> iter = c.iterator();
+		while (iter.hasNext()) {
+			int n = 0;
+			while (n < batchSize && iter.hasNext()) {
+				final E e = (E) iter.next();
+				if (e == null) {
+					switch (operation) {
+						case ADD: result |= addNull(); break;
+						case REMOVE: result |= removeNull(); break;
+						default:
+							if (!containsNull)
+								return false;
+					}
+					continue;
+				}
+				hashes[n] = hash(e);
+				keys[n] = e;
+				order[n] = ((long) table.blockIndex(hashes[n]) << 32) | n;
+				n++;
+			}
+			Arrays.sort(order, 0, n);
+			for (int k = 0; k < n; k++) {
+				final int i = (int) order[k];
+				final E e = (E) keys[i];
+				switch (operation) {
+					case ADD:
+						if (table.add(hashes[i], e)) {
+							modCount++;
+							size++;
+							result = true;
+						}
+						break;
+					case REMOVE:
+						if (table.remove(hashes[i], e)) {
+							modCount++;
+							size--;
+							result = true;
+						}
+						break;
+					default:
+						if (!table.contains(hashes[i], e))
+							return false;
+				}
+				keys[i] = null;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds all of the elements in the specified collection to this set.<br>
+	 * Elements are hashed by batches and inserted in order of the hash table
+	 * blocks. Hashes of the elements of other <tt>HashedSet</tt> with equal
+	 * hasher are reused.
+	 *
+	 * @param c collection containing elements to be added to this set
+	 * @return <tt>true</tt> if this set changed as a result of the call
+	 */
+	public boolean addAll(Collection<? extends E> c) {
+		if (!isCompatible(c))
+			return applyByBatches(c, ADD);
+		@SuppressWarnings("unchecked")
+		final HashedSet<E> other = (HashedSet<E>) c;
+		if (other == this)
+			return false;
+		if (size == 0) {
+			// - copy of the table of other set is the fastest way to add all its elements
+			modCount++;
+			table = other.table.clone();
+			size = other.size;
+			containsNull = other.containsNull;
+			return size > 0;
+		}
+		boolean modified = other.containsNull && addNull();
+		for (final HashTable.HashIterator<E> iter = other.table.iterator(); iter.hasNext(); ) {
+			final E e = iter.next();
+			if (table.add(iter.hash(), e)) {
+				modCount++;
+				size++;
+				modified = true;
+			}
+		}
+		return modified;
+	}
+
+	/**
+	 * Returns <tt>true</tt> if this set contains all of the elements of the
+	 * specified collection.<br>
+	 * Elements are hashed by batches and looked up in order of the hash table
+	 * blocks. Hashes of the elements of other <tt>HashedSet</tt> with equal
+	 * hasher are reused.
+	 *
+	 * @param c collection to be checked for containment in this set
+	 * @return <tt>true</tt> if this set contains all of the elements of the
+	 *         specified collection
+	 */
+	public boolean containsAll(Collection<?> c) {
+		if (!isCompatible(c))
+			return applyByBatches(c, CONTAINS);
+		@SuppressWarnings("unchecked")
+		final HashedSet<E> other = (HashedSet<E>) c;
+		if (other.size > size || (other.containsNull && !containsNull))
+			return false;
+		for (final HashTable.HashIterator<E> iter = other.table.iterator(); iter.hasNext(); ) {
+			final E e = iter.next();
+			if (!table.contains(iter.hash(), e))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Removes from this set all of its elements that are contained in the
+	 * specified collection.<br>
+	 * Elements are hashed by batches and removed in order of the hash table
+	 * blocks. If specified collection is a <tt>HashedSet</tt> with equal hasher,
+	 * the smaller of two sets is iterated and hashes of its elements are reused.
+	 *
+	 * @param c collection containing elements to be removed from this set
+	 * @return <tt>true</tt> if this set changed as a result of the call
+	 */
+	public boolean removeAll(Collection<?> c) {
+		if (!isCompatible(c))
+			return applyByBatches(c, REMOVE);
+		@SuppressWarnings("unchecked")
+		final HashedSet<E> other = (HashedSet<E>) c;
+		if (other == this) {
+			final boolean modified = size > 0;
+			clear();
+			return modified;
+		}
+		boolean modified = other.containsNull && removeNull();
+		if (other.size <= size) {
+			for (final HashTable.HashIterator<E> iter = other.table.iterator(); iter.hasNext(); ) {
+				final E e = iter.next();
+				if (table.remove(iter.hash(), e)) {
+					modCount++;
+					size--;
+					modified = true;
+				}
+			}
+			return modified;
+		}
+		return retainOrRemove(other, false) || modified;
+	}
+
+	/**
+	 * Retains only the elements in this set that are contained in the
+	 * specified collection.<br>
+	 * If specified collection is a <tt>HashedSet</tt> with equal hasher,
+	 * hashes of the elements of this set are reused for lookups in it.
+	 *
+	 * @param c collection containing elements to be retained in this set
+	 * @return <tt>true</tt> if this set changed as a result of the call
+	 */
+	public boolean retainAll(Collection<?> c) {
+		if (!isCompatible(c))
+			return super.retainAll(c);
+		@SuppressWarnings("unchecked")
+		final HashedSet<E> other = (HashedSet<E>) c;
+		boolean modified = containsNull && !other.containsNull && removeNull();
+		return retainOrRemove(other, true) || modified;
+	}
+
+	// - removes elements of this set, which are (or aren't, if "retain" is set) contained in the compatible set
+	private boolean retainOrRemove(final HashedSet<E> other, final boolean retain) {
+		boolean modified = false;
+		for (final HashTable.HashIterator<E> iter = table.iterator(); iter.hasNext(); ) {
+			final E e = iter.next();
+			if (other.table.contains(iter.hash(), e) != retain) {
+				iter.remove();
+				modCount++;
+				size--;
+				modified = true;
+			}
+		}
+		return modified;
+	}
+	
+	public Iterator<E> iterator() {
+
+		return new Iterator<E>() {
+
+			/** true if this iterator still has null value */
+			private boolean hasNull = containsNull;
+
+			/** true if previous value returned by this iterator was <tt>null</tt> */
+			private boolean wasNull = false;
+			
+			/** Expected version (modifications count) of the backing Set */
+			private int expectedModCount = modCount;
+			private Iterator<E> tableIter = table.iterator();
+
+			private void checkForComodification() {
+				if (expectedModCount != modCount)
+					throw new ConcurrentModificationException();
+			}
+
+			public boolean hasNext() {
+				checkForComodification();
+				return hasNull || tableIter.hasNext();
+			}
+
+			public E next() {
+				checkForComodification();
+				if (hasNull) {
+					hasNull = false;
+					wasNull = true;
+					return null;
+				}
+				try {
+					E next = tableIter.next();
+					wasNull = false;
+					return next;
+				}
+				catch (NullPointerException e) {
+					throw new ConcurrentModificationException();
+				}
+				catch (IndexOutOfBoundsException e) {
+					throw new ConcurrentModificationException();
+				}
+			}
+
+			public void remove() {
+				checkForComodification();
+				if (wasNull) {
+					wasNull = false;
+					removeNull();
+					return;
+				}
+				try {
+					tableIter.remove();					
+				}
+				catch (NullPointerException e) {
+					throw new ConcurrentModificationException();
+				}
+				catch (IndexOutOfBoundsException e) {
+					throw new ConcurrentModificationException();
+				}
+				size--;
+				expectedModCount = ++modCount;
+			}
+		};
+	}
+
+	/**
+	 * Returns iterators over disjoint parts of this set, which together iterate
+	 * over all its elements.<br>
+	 * Each iterator covers its own range of hash table blocks, so iterators may be
+	 * used by different threads to process elements of the set in parallel as long
+	 * as the set isn't modified. Returned iterators don't support <tt>remove</tt>
+	 * operation.
+	 * 
+	 * @param parts maximal number of iterators to return (fewer iterators are returned
+	 *        for small sets)
+	 * @return list of iterators over disjoint parts of this set
+	 * @throws IllegalArgumentException if number of parts isn't positive
+	 */
+	public List<Iterator<E>> iterators(int parts) {
+		if (parts <= 0)
+			throw new IllegalArgumentException("Parts: " + parts);
+		final List<Iterator<E>> iterators = new ArrayList<Iterator<E>>();
+		boolean first = true;
+		for (final Iterator<E> tableIter : table.iterators(parts)) {
+			final boolean includesNull = first && containsNull;
+			first = false;
+			iterators.add(new Iterator<E>() {
+
+				private boolean hasNull = includesNull;
+
+				/** Expected version (modifications count) of the backing Set */
+				private final int expectedModCount = modCount;
+
+				public boolean hasNext() {
+					if (expectedModCount != modCount)
+						throw new ConcurrentModificationException();
+					return hasNull || tableIter.hasNext();
+				}
+
+				public E next() {
+					if (expectedModCount != modCount)
+						throw new ConcurrentModificationException();
+					if (hasNull) {
+						hasNull = false;
+						return null;
+					}
+					return tableIter.next();
+				}
+
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			});
+		}
+		return iterators;
+	}
+
+    /**
+     * Returns a shallow copy of this <tt>HashedSet</tt> instance.
+     * (The elements themselves are not cloned).
+     *
+     * @return a clone of this <tt>HashedSet</tt> instance
+     */
+    @SuppressWarnings("unchecked")
+	public Object clone() {
+    	try {
+    		HashedSet<E> clone = (HashedSet<E>) super.clone();
+			clone.modCount = 0;
+			clone.hugeView = null;
+			clone.table = (HashTable<E>) table.clone();
+    		return clone;
+		}
+    	catch (CloneNotSupportedException e) {
+    		// - should never be thrown since we are Cloneable
+    		throw new InternalError();
+		}
+    }
+
+	/**
+	 * Returns statistics of the structure of the hash table of this set: loads of
+	 * the blocks, lengths of the collision lists, probe counts and memory footprint.<br>
+	 * Takes time proportional to the size of the set.
+	 * 
+	 * @return statistics of the hash table of this set
+	 */
+	public HashStats stats() {
+		final HashStats stats = table.stats();
+		stats.size = size;
+		return stats;
+	}
+
+	public HugeCapacity asHuge() {
+		if (hugeView == null)
+			hugeView = new HugeCapacity() {
+			public long size() {
+				return size;
+			}
+		};
+		return hugeView;
+	}
+	
+    /**
+     * Returns a string representation of this set.<br>
+     * The string representation consists of a list of the set's elements
+     * separated by commas in the order they are returned by its iterator.
+     * Set is enclosed in square brackets (<tt>"[]"</tt>).<br>
+     * If this set contains too many elements, only first elements will be shown,
+     * followed by three-dot (<tt>"..."</tt>).
+     * 
+	 * @return a string representation of this set.
+     */
+	public String toString() {
+		return Collectionz.toString(this, "(this Set)");
+	}
 }
\ No newline at end of file
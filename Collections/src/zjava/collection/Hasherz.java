@@ -0,0 +1,292 @@
+package zjava.collection;
+
+import java.util.Arrays;
+
+/**
+ * This class contains number of {@link Hasher} implementations with strong
+ * hash-functions for frequently used types of keys.<br>
+ * Standard <tt>hashCode()</tt> of <tt>Long</tt>, <tt>Integer</tt> and <tt>String</tt>
+ * keeps patterns of the values (sequential ids, values differing in high bits
+ * only, strings with common suffixes), which cause collisions in hash tables.
+ * Hashers of this class mix all bits of the value with the 64-bit MurmurHash3
+ * functions, so every bit of the hash code depends on every bit of the value.
+ * Note, that dense sequential keys are handled well by the standard <tt>hashCode()</tt>
+ * and even benefit from locality of neighbouring hash codes, so these hashers pay
+ * off for keys with patterns or colliding standard hash codes.
+ *
+ * <p>Seeded variants produce different hash codes for different seeds. Set
+ * created with hasher with unpredictable seed (for instance, from
+ * <tt>SecureRandom</tt>) makes collisions hard to precompute, which protects it
+ * from hash-flooding with untrusted keys. Seeded hashers aren't cryptographic
+ * hash functions though.
+ *
+ * <p>All hashers provide full 64-bit hash codes with {@link Hasher#longHashCode(Object)
+ * longHashCode} method and return 0 for <tt>null</tt> values.
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+final public class Hasherz {
+
+	private Hasherz() {}
+
+	private static final long C1 = 0x87c37b91114253d5L;
+	private static final long C2 = 0x4cf5ad432745937fL;
+
+	/** Hasher for <tt>Long</tt> values */
+	final public static Hasher<Long> LONG = new LongHasher(0);
+
+	/** Hasher for <tt>Integer</tt> values */
+	final public static Hasher<Integer> INTEGER = new IntegerHasher(0);
+
+	/** Hasher for <tt>String</tt> values */
+	final public static Hasher<String> STRING = new StringHasher(0);
+
+	/**
+	 * Hasher for <tt>CharSequence</tt> values.<br>
+	 * Unlike the most of implementations of <tt>CharSequence</tt> compares
+	 * values by content, so, for instance, <tt>String</tt> and <tt>StringBuilder</tt>
+	 * with the same characters are considered equal.
+	 */
+	final public static Hasher<CharSequence> CHAR_SEQUENCE = new CharSequenceHasher(0);
+
+	/** Hasher for <tt>byte[]</tt> values, which compares arrays by content */
+	final public static Hasher<byte[]> BYTE_ARRAY = new ByteArrayHasher(0);
+
+	/**
+	 * Returns hasher for <tt>Long</tt> values with the given seed.
+	 * 
+	 * @param seed seed of the hash-function
+	 * @return hasher for <tt>Long</tt> values
+	 */
+	public static Hasher<Long> longHasher(long seed) {
+		return new LongHasher(seed);
+	}
+
+	/**
+	 * Returns hasher for <tt>Integer</tt> values with the given seed.
+	 * 
+	 * @param seed seed of the hash-function
+	 * @return hasher for <tt>Integer</tt> values
+	 */
+	public static Hasher<Integer> integerHasher(long seed) {
+		return new IntegerHasher(seed);
+	}
+
+	/**
+	 * Returns hasher for <tt>String</tt> values with the given seed.
+	 * 
+	 * @param seed seed of the hash-function
+	 * @return hasher for <tt>String</tt> values
+	 */
+	public static Hasher<String> stringHasher(long seed) {
+		return new StringHasher(seed);
+	}
+
+	/**
+	 * Returns hasher for <tt>CharSequence</tt> values with the given seed, which
+	 * compares values by content.
+	 * 
+	 * @param seed seed of the hash-function
+	 * @return hasher for <tt>CharSequence</tt> values
+	 */
+	public static Hasher<CharSequence> charSequenceHasher(long seed) {
+		return new CharSequenceHasher(seed);
+	}
+
+	/**
+	 * Returns hasher for <tt>byte[]</tt> values with the given seed, which
+	 * compares arrays by content.
+	 * 
+	 * @param seed seed of the hash-function
+	 * @return hasher for <tt>byte[]</tt> values
+	 */
+	public static Hasher<byte[]> byteArrayHasher(long seed) {
+		return new ByteArrayHasher(seed);
+	}
+
+	// - finalization mix of 64-bit MurmurHash3
+	static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static long mixKey(long k) {
+		k *= C1;
+		k = Long.rotateLeft(k, 31);
+		return k * C2;
+	}
+
+	// - body step of 64-bit MurmurHash3
+	private static long mixBlock(final long h, final long k) {
+		return Long.rotateLeft(h ^ mixKey(k), 27) * 5 + 0x52dce729;
+	}
+
+	private static int fold(final long h) {
+		return (int) (h ^ (h >>> 32));
+	}
+
+	static long hash(final CharSequence s, final long seed) {
+		final int length = s.length();
+		long h = seed;
+		int i = 0;
+		// - 4 characters per step
+		for (; i + 4 <= length; i += 4) {
+			final long k = s.charAt(i) | (long) s.charAt(i+1) << 16 | (long) s.charAt(i+2) << 32 | (long) s.charAt(i+3) << 48;
+			h = mixBlock(h, k);
+		}
+		long k = 0;
+		for (int shift = 0; i < length; i++, shift += 16)
+			k |= (long) s.charAt(i) << shift;
+		return mix(h ^ mixKey(k) ^ length);
+	}
+
+	static long hash(final byte[] a, final long seed) {
+		final int length = a.length;
+		long h = seed;
+		int i = 0;
+		// - 8 bytes (little-endian) per step
+		for (; i + 8 <= length; i += 8) {
+			final long k = (a[i] & 0xFFL) | (a[i+1] & 0xFFL) << 8 | (a[i+2] & 0xFFL) << 16 | (a[i+3] & 0xFFL) << 24
+				| (a[i+4] & 0xFFL) << 32 | (a[i+5] & 0xFFL) << 40 | (a[i+6] & 0xFFL) << 48 | (long) a[i+7] << 56;
+			h = mixBlock(h, k);
+		}
+		long k = 0;
+		for (int shift = 0; i < length; i++, shift += 8)
+			k |= (a[i] & 0xFFL) << shift;
+		return mix(h ^ mixKey(k) ^ length);
+	}
+
+	/**
+	 * Root class for seeded hashers.<br>
+	 * Hashers of the same class with the same seed are equal.
+	 */
+	abstract private static class SeededHasher<T> extends Hasher<T> {
+
+		private static final long serialVersionUID = 201704161200L;
+
+		final long seed;
+
+		SeededHasher(final long seed) {
+			this.seed = seed;
+		}
+
+		public boolean equals(Object o) {
+			return o != null && o.getClass() == getClass() && ((SeededHasher<?>) o).seed == seed;
+		}
+
+		public int hashCode() {
+			return fold(mix(seed)) ^ getClass().hashCode();
+		}
+
+		boolean isConsistentWithNaturalOrdering() {
+			return true;
+		}
+	}
+
+	private static final class LongHasher extends SeededHasher<Long> {
+
+		private static final long serialVersionUID = 201704161200L;
+
+		LongHasher(final long seed) {
+			super(seed);
+		}
+
+		public int hashCode(Long o) {
+			return fold(longHashCode(o));
+		}
+
+		public long longHashCode(Long o) {
+			return (o == null) ? 0 : mix(o ^ seed);
+		}
+	}
+
+	private static final class IntegerHasher extends SeededHasher<Integer> {
+
+		private static final long serialVersionUID = 201704161200L;
+
+		IntegerHasher(final long seed) {
+			super(seed);
+		}
+
+		public int hashCode(Integer o) {
+			return fold(longHashCode(o));
+		}
+
+		public long longHashCode(Integer o) {
+			return (o == null) ? 0 : mix(o ^ seed);
+		}
+	}
+
+	private static final class StringHasher extends SeededHasher<String> {
+
+		private static final long serialVersionUID = 201704161200L;
+
+		StringHasher(final long seed) {
+			super(seed);
+		}
+
+		public int hashCode(String o) {
+			return fold(longHashCode(o));
+		}
+
+		public long longHashCode(String o) {
+			return (o == null) ? 0 : hash(o, seed);
+		}
+	}
+
+	private static final class CharSequenceHasher extends SeededHasher<CharSequence> {
+
+		private static final long serialVersionUID = 201704161200L;
+
+		CharSequenceHasher(final long seed) {
+			super(seed);
+		}
+
+		public int hashCode(CharSequence o) {
+			return fold(longHashCode(o));
+		}
+
+		public long longHashCode(CharSequence o) {
+			return (o == null) ? 0 : hash(o, seed);
+		}
+
+		public boolean equals(CharSequence o1, CharSequence o2) {
+			if (o1 == o2)
+				return true;
+			if (o1 == null || o2 == null || o1.length() != o2.length())
+				return false;
+			for (int i = 0; i < o1.length(); i++) {
+				if (o1.charAt(i) != o2.charAt(i))
+					return false;
+			}
+			return true;
+		}
+	}
+
+	private static final class ByteArrayHasher extends SeededHasher<byte[]> {
+
+		private static final long serialVersionUID = 201704161200L;
+
+		ByteArrayHasher(final long seed) {
+			super(seed);
+		}
+
+		public int hashCode(byte[] o) {
+			return fold(longHashCode(o));
+		}
+
+		public long longHashCode(byte[] o) {
+			return (o == null) ? 0 : hash(o, seed);
+		}
+
+		public boolean equals(byte[] o1, byte[] o2) {
+			return Arrays.equals(o1, o2);
+		}
+	}
+}
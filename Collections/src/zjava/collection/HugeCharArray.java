@@ -0,0 +1,41 @@
+package zjava.collection;
+
+/**
+ * Array of primitive char values which supports more than Integer.MAX_VALUE elements.<br>
+ * 
+ * The <tt>HugeCharArray</tt> interface is a counterpart of {@link HugeArray} which
+ * defines the same basic methods (size/get/set), but operates on primitive values,
+ * so no boxing takes place when values are accessed.
+ * 
+ * @since Zjava 1.0
+ * 
+ * @author Ivan Zaitsau
+ */
+public interface HugeCharArray extends HugeCapacity {
+
+	/**
+	 * Returns size of the array.
+	 * 
+	 * @return size of the array
+	 */
+	long size();
+	
+	/**
+	 * Replaces the value at specified position with method argument
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+	 * @return replaced value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	char set(long index, char value);
+	
+	/**
+	 * Returns value at specified position
+	 * 
+	 * @param index index of returned value
+	 * @return value at specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+	char get(long index);
+}
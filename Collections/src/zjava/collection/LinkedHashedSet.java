@@ -0,0 +1,397 @@
+package zjava.collection;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Hash set which iterates over its elements in order of their insertion.<br>
+ * Unlike {@link java.util.LinkedHashSet} doesn't allocate a node per element.
+ * Elements are appended to the dense array (log) in order of insertion, while
+ * the hash table keeps only positions of the elements in the log together with
+ * their hashes. Removed elements leave gaps in the log, which are compacted
+ * lazily, so <tt>add</tt>, <tt>contains</tt> and <tt>remove</tt> operations take
+ * constant amortized time and iteration goes over contiguous array.
+ *
+ * <p>Re-insertion of an element which is already in the set doesn't change its
+ * position in the iteration order.
+ *
+ * <p>Hash table uses open addressing, so unlike {@link HashedSet} this set
+ * degrades to linear time when a lot of elements share the same hash code.
+ * Set can't hold more than <tt>2<sup>29</sup></tt> elements.
+ *
+ * <p>Note that this implementation is not synchronized.
+ *
+ * <p><b>WARNING:</b> {@code Hasher} with overridden {@code equals} method
+ * violates general contract on {@link Set} interface.
+ *
+ * @param <E> - the type of elements in this <tt>Set</tt>
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ *
+ * @see HashedSet
+ */
+public class LinkedHashedSet<E> extends AbstractSet<E> implements Set<E>, Cloneable, java.io.Serializable {
+
+	private static final long serialVersionUID = 201703150000L;
+
+	private static final int MIN_CAPACITY = 8;
+
+	/** Maximal capacity of the log. Hash table is twice as large */
+	private static final int MAX_CAPACITY = 1 << 29;
+
+	/** Multiplier of Fibonacci hashing, which chooses home slot of the hash */
+	private static final int SPREAD = 0x9E3779B9;
+
+	/** Marks removed elements in the log */
+	private static final Object REMOVED = new Object();
+
+	transient int modCount = 0;
+
+	private final Hasher<? super E> hasher;
+
+	/** Elements in order of insertion. Removed elements are replaced with {@link #REMOVED} marker */
+	private transient Object[] log;
+
+	/** Number of used positions of the log, including removed elements */
+	private transient int logSize;
+
+	private transient int size;
+
+	/**
+	 * Hash table with linear probing. Non-empty slot keeps hash of the element in
+	 * the higher 32 bits and position of the element in the log plus one in the lower bits
+	 */
+	private transient long[] table;
+
+	/** Home slot of hash <tt>h</tt> is <tt>(h * SPREAD) &gt;&gt;&gt; shift</tt> */
+	private transient int shift;
+
+	public LinkedHashedSet() {
+		this(Hasher.DEFAULT);
+	}
+
+	/**
+	 * Constructs an empty set, which uses specified hash-function.
+	 *
+	 * <p>WARNING: {@code Hasher} with overridden {@code equals} method
+	 * violates general contract on {@link Set} interface.
+	 *
+	 * @param hasher - specified hash-function to use for elements hashing and (optionally) comparison
+	 *
+	 * @see Hasherz
+	 */
+	public LinkedHashedSet(Hasher<? super E> hasher) {
+		this.hasher = hasher;
+		init(MIN_CAPACITY);
+	}
+
+	// - capacity must be a power of two
+	private void init(final int capacity) {
+		log = new Object[capacity];
+		logSize = 0;
+		size = 0;
+		table = new long[capacity << 1];
+		shift = Integer.numberOfLeadingZeros(table.length) + 1;
+	}
+
+	// - returns the smallest valid capacity, which keeps given number of elements
+	private static int capacityFor(final int size) {
+		if (size > MAX_CAPACITY)
+			throw new OutOfMemoryError("Required array size too large");
+		return (size <= MIN_CAPACITY) ? MIN_CAPACITY : Integer.highestOneBit(size - 1) << 1;
+	}
+
+	private int hash(Object o) {
+		if (o == null)
+			return 0;
+		@SuppressWarnings("unchecked")
+		int h = hasher.hashCode((E) o);
+        h ^= (h >>> 20) ^ (h >>> 12);
+        return h ^ (h >>> 7) ^ (h >>> 4);
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean isEqual(final Object o, final Object e) {
+		return (o == e) || (o != null && e != null && hasher.equals((E) o, (E) e));
+	}
+
+	// - returns slot of the given element or binary complement of the empty slot, where it should be inserted
+	private int slotOf(final Object o, final int hash) {
+		final int mask = table.length - 1;
+		for (int slot = (hash * SPREAD) >>> shift; ; slot = (slot + 1) & mask) {
+			final long entry = table[slot];
+			if (entry == 0)
+				return ~slot;
+			if ((int) (entry >>> 32) == hash && isEqual(o, log[(int) entry - 1]))
+				return slot;
+		}
+	}
+
+	// - returns slot, which refers to the given position of the log
+	private int slotOfPosition(final int position) {
+		final int mask = table.length - 1;
+		int slot = (hash(log[position]) * SPREAD) >>> shift;
+		while ((int) table[slot] != position + 1)
+			slot = (slot + 1) & mask;
+		return slot;
+	}
+
+	// - frees the slot and moves following entries of the cluster back,
+	// - so lookups never stop at the freed slot before reaching their elements
+	private void freeSlot(int slot) {
+		final int mask = table.length - 1;
+		for (int next = (slot + 1) & mask; ; next = (next + 1) & mask) {
+			final long entry = table[next];
+			if (entry == 0)
+				break;
+			final int home = ((int) (entry >>> 32) * SPREAD) >>> shift;
+			// - entry may be moved only if its home slot isn't located between freed slot and the entry
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				table[slot] = entry;
+				slot = next;
+			}
+		}
+		table[slot] = 0;
+	}
+
+	// - makes room for at least one more element in the log
+	private void ensureSpace() {
+		if (size < logSize)
+			compact();
+		// - compaction must leave enough free space to keep amortized time of additions constant
+		if (logSize > log.length - (log.length >> 2))
+			grow();
+	}
+
+	// - moves remaining elements to the beginning of the log and updates their positions in the table
+	private void compact() {
+		final int[] positions = new int[logSize + 1];
+		int n = 0;
+		for (int i = 0; i < logSize; i++) {
+			final Object e = log[i];
+			if (e != REMOVED) {
+				log[n] = e;
+				positions[i + 1] = ++n;
+			}
+		}
+		Arrays.fill(log, n, logSize, null);
+		logSize = n;
+		// - hashes are kept, so entries stay in the same slots
+		for (int slot = 0; slot < table.length; slot++) {
+			final long entry = table[slot];
+			if (entry != 0)
+				table[slot] = (entry & 0xFFFFFFFF00000000L) | positions[(int) entry];
+		}
+	}
+
+	// - doubles the log and the hash table
+	private void grow() {
+		if (log.length >= MAX_CAPACITY)
+			throw new OutOfMemoryError("Required array size too large");
+		log = Arrays.copyOf(log, log.length << 1);
+		rehash(new long[table.length << 1]);
+	}
+
+	// - moves all entries to the given table using stored hashes
+	private void rehash(final long[] newTable) {
+		final long[] oldTable = table;
+		table = newTable;
+		shift = Integer.numberOfLeadingZeros(newTable.length) + 1;
+		final int mask = newTable.length - 1;
+		for (final long entry : oldTable) {
+			if (entry == 0)
+				continue;
+			int slot = ((int) (entry >>> 32) * SPREAD) >>> shift;
+			while (newTable[slot] != 0)
+				slot = (slot + 1) & mask;
+			newTable[slot] = entry;
+		}
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean contains(Object o) {
+		return slotOf(o, hash(o)) >= 0;
+	}
+
+	public boolean add(E e) {
+		final int hash = hash(e);
+		int slot = slotOf(e, hash);
+		if (slot >= 0)
+			return false;
+		if (logSize == log.length) {
+			ensureSpace();
+			slot = slotOf(e, hash);
+		}
+		log[logSize++] = e;
+		table[~slot] = ((long) hash << 32) | logSize;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	public boolean remove(Object o) {
+		final int slot = slotOf(o, hash(o));
+		if (slot < 0)
+			return false;
+		removeSlot(slot);
+		// - log is compacted when most of it is occupied by removed elements, so iteration stays fast
+		if (logSize >= MIN_CAPACITY && size < (logSize >> 2))
+			compact();
+		return true;
+	}
+
+	// - removes element referred by the given slot, leaves a gap in the log
+	private void removeSlot(final int slot) {
+		final int position = (int) table[slot] - 1;
+		log[position] = REMOVED;
+		freeSlot(slot);
+		size--;
+		modCount++;
+		// - gaps at the end of the log are released immediately
+		if (position == logSize - 1) {
+			while (logSize > 0 && log[logSize - 1] == REMOVED)
+				log[--logSize] = null;
+		}
+	}
+
+	public void clear() {
+		modCount++;
+		init(MIN_CAPACITY);
+	}
+
+	/**
+	 * Removes gaps left by removed elements and reduces capacity of this set
+	 * to the minimum required to hold its current elements.
+	 */
+	public void trimToSize() {
+		modCount++;
+		if (size < logSize)
+			compact();
+		final int capacity = capacityFor(size);
+		if (capacity < log.length) {
+			log = Arrays.copyOf(log, capacity);
+			rehash(new long[capacity << 1]);
+		}
+	}
+
+	public Iterator<E> iterator() {
+
+		return new Iterator<E>() {
+
+			/** Position of the next element in the log */
+			private int next = skipRemoved(0);
+
+			/** Position of the last returned element or -1 */
+			private int last = -1;
+
+			/** Expected version (modifications count) of the backing Set */
+			private int expectedModCount = modCount;
+
+			private void checkForComodification() {
+				if (expectedModCount != modCount)
+					throw new ConcurrentModificationException();
+			}
+
+			private int skipRemoved(int position) {
+				while (position < logSize && log[position] == REMOVED)
+					position++;
+				return position;
+			}
+
+			public boolean hasNext() {
+				checkForComodification();
+				return next < logSize;
+			}
+
+			@SuppressWarnings("unchecked")
+			public E next() {
+				checkForComodification();
+				if (next >= logSize)
+					throw new NoSuchElementException();
+				last = next;
+				next = skipRemoved(next + 1);
+				return (E) log[last];
+			}
+
+			public void remove() {
+				if (last < 0)
+					throw new IllegalStateException();
+				checkForComodification();
+				// - no compaction here, so positions of the remaining elements stay the same
+				removeSlot(slotOfPosition(last));
+				last = -1;
+				expectedModCount = modCount;
+			}
+		};
+	}
+
+	public Object[] toArray() {
+		final Object[] array = new Object[size];
+		int n = 0;
+		for (int i = 0; i < logSize; i++)
+			if (log[i] != REMOVED)
+				array[n++] = log[i];
+		return array;
+	}
+
+	/**
+	 * Returns a shallow copy of this <tt>LinkedHashedSet</tt> instance.
+	 * (The elements themselves are not cloned).
+	 *
+	 * @return a clone of this <tt>LinkedHashedSet</tt> instance
+	 */
+	@SuppressWarnings("unchecked")
+	public Object clone() {
+		try {
+			LinkedHashedSet<E> clone = (LinkedHashedSet<E>) super.clone();
+			clone.modCount = 0;
+			clone.log = log.clone();
+			clone.table = table.clone();
+			return clone;
+		}
+		catch (CloneNotSupportedException e) {
+			// - should never be thrown since we are Cloneable
+			throw new InternalError();
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+		out.defaultWriteObject();
+		out.writeInt(size);
+		for (int i = 0; i < logSize; i++)
+			if (log[i] != REMOVED)
+				out.writeObject(log[i]);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		final int n = in.readInt();
+		init(capacityFor(n + (n >> 2)));
+		for (int i = 0; i < n; i++)
+			add((E) in.readObject());
+	}
+
+	/**
+	 * Returns a string representation of this set.<br>
+	 * The string representation consists of a list of the set's elements
+	 * separated by commas in order of their insertion.
+	 * Set is enclosed in square brackets (<tt>"[]"</tt>).<br>
+	 * If this set contains too many elements, only first elements will be shown,
+	 * followed by three-dot (<tt>"..."</tt>).
+	 *
+	 * @return a string representation of this set.
+	 */
+	public String toString() {
+		return Collectionz.toString(this, "(this Set)");
+	}
+}
@@ -1,486 +1,794 @@
-package zjava.collection.primitive;
-
-import java.util.Arrays;
-
-/**
- * Resizable dynamic array of primitive char values.
- *
- * <p>The <tt>size</tt>, <tt>get</tt>, <tt>set</tt> operations run in
- * constant time. The <tt>add</tt> operation runs in <i>amortized constant
- * time</i>, that is, adding n elements requires O(n) time. Removal and
- * insertion of elements at arbitrary index runs in <i>O(sqrt(n)) amortized
- * time</i>.
- * 
- * <p>Basically, this class has the following advantages over regular array:
- * <li>Resizable implementation which requires only O(sqrt(n)) of additional
- * memory.</li>
- * <li>Faster insertions at random positions.</li>
- * <li>Support for more than {@code Integer.MAX_VALUE} elements.</li>
- * 
- * @since Zjava 1.0
- *  
- * @author Ivan Zaitsau
- * 
- */
-public class CharList implements Cloneable, java.io.Serializable {
-
-	static private final long serialVersionUID = 201503092100L;
-	
-	/** Actual initial block size is 2<sup>INITIAL_BLOCK_ADDRESS_BITS</sup> */
-	static private final int INITIAL_BLOCK_ADDRESS_BITS = 5;
-	
-	/** Number of blocks on CharList initialization.
-	 * <br> <b>Note:</b> Must be even number due to some simplifications and assumptions made in the code*/
-	static private final int INITIAL_BLOCKS_COUNT = 2;
-	
-	/** This coefficient used to check if reduction of block size and amount of blocks is required.
-	 * <br> <b>Note:</b> Must be no less than 4. Needs to be no less than 8 for amortized performance estimations to hold */
-	static private final int REDUCTION_COEFFICIENT = 12;
-
-    /**
-	 * Internal storage block.<br>
-	 * Maintains up to <tt>capacity</tt> char values.<br>
-	 * If there are more elements than <tt>capacity</tt> after <tt>add</tt> operation,
-	 * last element is removed from the block and returned from <tt>add</tt> method.<br>
-	 * 
-	 * <p>Implementation may vary, but the following conditions must be met:
-	 * <li> Insertions and deletions at the beginning and the end of the block must complete in constant time
-	 * <li> Retrieval of element at arbitrary position must complete in constant time
-	 * <li> Any other operation must complete in O(n)
-	 * <li> Only Blocks of sizes 2, 4, 8, ... 2<sup>30</sup> need to be supported
-	 * 
-	 * @author Ivan Zaitsau
-	 */
-	static final private class Block implements Cloneable, java.io.Serializable {
-		
-		private static final long serialVersionUID = 201503092100L;
-		
-		// - merges two blocks of equal capacities into block with doubled capacity
-		static Block merge(Block block1, Block block2) {
-			if ((block1 == null || block1.size() == 0) && (block2 == null || block2.size() == 0))
-				return null;
-
-			assert (block1 == null | block2 == null) || (block1.values.length == block2.values.length);
-
-			Block mergedBlock = new Block(2 * ((block1 == null) ? block2.values.length : block1.values.length));
-			if (block1 != null)
-				mergedBlock.size += block1.copyToArray(mergedBlock.values, 0);
-			if (block2 != null)
-				mergedBlock.size += block2.copyToArray(mergedBlock.values, mergedBlock.size);
-			return mergedBlock;
-		}
-
-		// - splits block to two smaller blocks of capacity equal to half of given block
-		static Block[] split(Block block) {
-			if (block == null || block.size == 0)
-				return new Block[] {null, null};
-			
-			assert (block.values.length & 1) == 0;
-			
-			int halfSize = block.values.length / 2;
-			
-			if (block.size <= halfSize) {
-				Block block1 = new Block(halfSize);
-				block.copyToArray(block1.values, 0, 0, block.size);
-				block1.size = block.size;
-				return new Block[] {block1, null};
-			}
-			else {
-				Block block1 = new Block(halfSize);
-				block.copyToArray(block1.values, 0, 0, halfSize);
-				block1.size = halfSize;
-				Block block2 = new Block(halfSize);
-				block.copyToArray(block2.values, 0, halfSize, block.size - halfSize);
-				block2.size = halfSize;
-				return new Block[] {block1, block2};				
-			}
-		}
-		
-		private int offset;
-		private int size;
-		private char[] values;
-
-		Block(int capacity) {
-			// - capacity must be even power of 2
-			assert((capacity & (capacity-1)) == 0 && capacity > 1);
-			
-			this.offset = 0;
-			this.size = 0;
-			this.values = new char[capacity];
-		}
-		
-		// - copies "count" values of this block starting from "srcPos" to array starting from "trgPos" index
-		int copyToArray(char[] array, int trgPos, int srcPos, int count) {
-			if (srcPos >= values.length | count <= 0)
-				return 0;
-			if (srcPos + count > values.length)
-				count = values.length - srcPos;
-			int first = (offset + srcPos < values.length) ? offset + srcPos : offset + srcPos - values.length;
-			if (first + count <= values.length) {
-				System.arraycopy(values, first, array, trgPos, count);
-			}
-			else {
-				int halfCount = values.length - first;
-				System.arraycopy(values, first, array, trgPos, halfCount);
-				System.arraycopy(values, 0, array, trgPos + halfCount, count - halfCount);
-			}
-			return count;
-		}
-
-		// - copies all values of this block to given array starting from "pos" index
-		int copyToArray(char[] array, int pos) {
-			return copyToArray(array, pos, 0, size);
-		}
-
-		int size() {
-			return size;
-		}
-		
-		// - returns "physical" index for given "logical" position
-		private int index(final int pos) {
-			return (offset + pos) & (values.length - 1);
-		}
-
-		// - appends given value to the beginning of the block
-		char addFirst(final char value) {
-			offset = index(-1);
-			char last = values[offset];
-			values[offset] = value;
-			if (size < values.length) {
-				size++;
-				return 0;
-			}
-			return last;
-		}
-		
-		// - appends given value to the end of the block
-		void addLast(final char value) {
-			if (size == values.length)
-				return;
-			values[index(size)] = value;
-			size++;
-		}
-		
-		// - inserts given value at given position
-		char add(final int pos, final char value) {
-			// - range check
-			assert(pos >= 0 && pos <= size);
-			
-			char last = (size == values.length) ? values[index(-1)] : 0;
-			if (2*pos < size) {
-				offset = index(-1);
-				for (int i = 0; i < pos; i++) {
-					values[index(i)] = values[index(i+1)];
-				}
-			}
-			else {
-				for (int i = (size == values.length) ? size-1 : size; i > pos; i--) {
-					values[index(i)] = values[index(i-1)];
-				}
-			}
-			values[index(pos)] = value;
-			if (size < values.length) size++;
-			return last;
-		}
-
-		// - replaces element at given position with given value
-		char set(final int pos, final char value) {
-			// - range check
-			assert(pos >= 0 && pos < size);
-			
-			int i = index(pos);
-			char replaced = values[i];
-			values[i] = value;
-			return replaced;
-		}
-		
-		// - removes first element of the block
-		char removeFirst() {
-			// - range check
-			assert(size > 0);
-			
-			char removed = values[offset];
-			offset = index(1);
-			size--;
-			return removed;
-		}
-		
-		// - removes element at given position
-		char remove(final int pos) {
-			// - range check
-			assert(pos >= 0 && pos < size);
-			
-			char removed = values[index(pos)];
-			if (2*pos < size) {
-				for (int i = pos; i > 0; i--) {
-					values[index(i)] = values[index(i-1)];					
-				}
-				offset = index(1);
-			}
-			else {
-				for (int i = pos + 1; i < size; i++) {
-					values[index(i-1)] = values[index(i)];
-				}
-			}
-			size--;
-			return removed;
-		}
-		
-		// - returns element at given position
-		char get(final int pos) {
-			// - range check
-			assert(pos >= 0 && pos < size);
-			
-			return values[index(pos)];
-		}
-		
-		public Object clone() {
-			try {
-				Block clone = (Block) super.clone();
-				clone.values = values.clone();
-				return clone;
-			} catch (CloneNotSupportedException e) {
-	    		// - this should never be thrown since we are Cloneable
-	    		throw new InternalError();
-			}
-		}
-	}
-
-	private long size;
-	private int blockAddressBits;
-	private Block[] data;
-
-    private String outOfBoundsMsg(long index) {
-        return "Index: " + index + ", Size: " + size;
-    }
-	
-	private void rangeCheck(final long index) {
-		if (index < 0 || index >= size)
-			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
-	}
-
-	private void rangeCheckForAdd(final long index) {
-		if (index < 0 || index > size)
-			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
-	}
-
-	/** Null-safe access to data block with initialization.*/
-	private Block data(final int index) {
-		if (data[index] == null)
-			data[index] = new Block(1 << blockAddressBits);
-		return data[index];
-	}
-	
-	private void ensureCapacity(long requiredCapacity) {
-		long capacity = (long) data.length << blockAddressBits;
-		while (requiredCapacity > capacity) {
-			// - double number of blocks and their size
-			Block[] newData = new Block[2*data.length];
-			int newBlockBitsize = blockAddressBits+1;
-			for (int i = 1, j = 0; i < data.length; i += 2, j++) {
-				newData[j] = Block.merge(data[i-1], data[i]);
-				if (newData[j] == null)
-					break;
-			}
-			/* Redundant because data.length assumed to be even number
-			 * *deleted code*
-			*/
-			assert (data.length & 1) == 0;
-			
-			data = newData;
-			blockAddressBits = newBlockBitsize;
-			capacity = (long) data.length << blockAddressBits;
-		}
-	}
-
-	
-	private void compact() {
-		if (data.length <= INITIAL_BLOCKS_COUNT)
-			return;
-		if (size * REDUCTION_COEFFICIENT <= (long) data.length << blockAddressBits) {
-			// - decrease number of blocks and their size by half
-			Block[] newData = new Block[(data.length+1)/2];
-			int newBlockBitsize = blockAddressBits-1;
-			main:
-			for (int i = 0; ; i++) {
-				Block[] splitBlock = Block.split(data[i]);
-				for (int j = 0; j <= 1; j++) {
-					if (splitBlock[j] == null || splitBlock[j].size() == 0)
-						break main;
-						newData[i+i+j] = splitBlock[j];
-				}
-			}
-			data = newData;
-			blockAddressBits = newBlockBitsize;
-		}
-	}
-	
-	private void init() {
-		init(0);
-	}
-	
-	private void init(long initialCapacity) {
-		size = 0;
-		blockAddressBits = INITIAL_BLOCK_ADDRESS_BITS;
-		int blocksCount = INITIAL_BLOCKS_COUNT;
-		while ((long)blocksCount << blockAddressBits < initialCapacity) {
-			blocksCount += blocksCount;
-			blockAddressBits++;
-		}
-		data = new Block[blocksCount];
-	}
-
-	/**
-     * Constructs an empty list with an initial capacity of 32 elements.
-     */
-	public CharList() {
-		init();
-	}
-
-	/**
-     * Constructs an empty list with at least specified capacity.
-     */
-	public CharList(long initialCapacity) {
-		init(initialCapacity);
-	}
-
-    /**
-     * Returns the number of elements in this list.
-     *
-     * @return the number of elements in this list
-     */
-	public long size() {
-		return size;
-	}
-
-    /**
-     * Returns the element at the specified position in this list.
-     *
-     * @param  index index of the element to return
-     * @return the element at the specified position in this list
-     * @throws IndexOutOfBoundsException if the index is out of range
-     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
-     */
-	public char get(long index) {
-		rangeCheck(index);
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		return data[blockIndex].get(valueIndex);
-	}
-	
-    /**
-     * Replaces the element at the specified position in this list with
-     * the specified element.
-     *
-     * @param index index of the element to replace
-     * @param value element to be stored at the specified position
-     * @return the element previously at the specified position
-     * @throws IndexOutOfBoundsException if the index is out of range
-     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
-     */
-	public char set(long index, char value) {
-		rangeCheck(index);
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		return data[blockIndex].set(valueIndex, value);
-	}
-	
-    /**
-     * Appends the specified element to the end of this list.
-     *
-     * @param value element to be appended to this list
-     */
-	public void add(char value) {
-		ensureCapacity(size + 1);
-		int blockIndex = (int) (size >>> blockAddressBits);
-		data(blockIndex).addLast(value);
-		size++;
-	}
-
-    /**
-     * Inserts the specified element at the specified position in this
-     * list. Shifts the element currently at that position (if any) and
-     * any subsequent elements to the right (adds one to their indices).
-     *
-     * @param index index at which the specified element is to be inserted
-     * @param value element to be inserted
-     * @throws IndexOutOfBoundsException if the index is out of range
-     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
-     */
-	public void add(long index, char value) {
-		rangeCheckForAdd(index);
-		ensureCapacity(size + 1);
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		int blockSize = 1 << blockAddressBits;
-		if (data(blockIndex).size() < blockSize) {
-			data[blockIndex].add(valueIndex, value);
-		}
-		else {
-			value = data[blockIndex].add(valueIndex, value);
-			while (data(++blockIndex).size() == blockSize) {
-				value = data[blockIndex].addFirst(value);
-			}
-			data[blockIndex].addFirst(value);
-		}
-		size++;
-	}
-
-    /**
-     * Removes the element at the specified position in this list.
-     * Shifts any subsequent elements to the left (subtracts one from their
-     * indices).
-     *
-     * @param index the index of the element to be removed
-     * @return the element that was removed from the list
-     * @throws IndexOutOfBoundsException if the index is out of range
-     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
-     */
-	public char remove(long index) {
-		rangeCheck(index);
-		int blockIndex = (int) (index >>> blockAddressBits);
-		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
-		char removed = data[blockIndex].remove(valueIndex);
-		while (++blockIndex < data.length && data[blockIndex] != null && data[blockIndex].size() > 0) {
-			data[blockIndex-1].addLast(data[blockIndex].removeFirst());
-		}
-		size--;
-		// - free unused blocks for GC and compact list if needed
-		boolean blockFreed = false;
-		while (++blockIndex < data.length && data[blockIndex] != null && data[blockIndex].size() == 0) {
-			data[blockIndex] = null;
-			blockFreed = true;
-		}
-		if (blockFreed)
-			compact();
-		return removed;
-	}
-
-	/**
-	 * Removes all of the elements from this list. The list will be empty after this call returns.
-	 */
-	public void clear() {
-		Arrays.fill(data, null);
-		size = 0;
-	}
-
-    /**
-     * Returns a copy of this <tt>CharList</tt> instance.
-     *
-     * @return a clone of this <tt>CharList</tt> instance
-     */
-	public Object clone() {
-    	try {
-			CharList clone = (CharList) super.clone();
-			clone.data = new Block[data.length];
-    		for (int i = 0; i < data.length && data[i] != null; i++) {
-    			clone.data[i] = (Block) data[i].clone();
-    		}
-    		return clone;
-		}
-    	catch (CloneNotSupportedException e) {
-    		// - should never be thrown since we are Cloneable
-    		throw new InternalError();
-		}
-    }
-}
+package zjava.collection.primitive;
+
+import java.util.Arrays;
+
+import zjava.collection.HugeCharArray;
+
+/**
+ * Resizable dynamic array of primitive char values.
+ *
+ * <p>The <tt>size</tt>, <tt>get</tt>, <tt>set</tt> operations run in
+ * constant time. The <tt>add</tt> operation runs in <i>amortized constant
+ * time</i>, that is, adding n elements requires O(n) time. Removal and
+ * insertion of elements at arbitrary index runs in <i>O(sqrt(n)) amortized
+ * time</i>.
+ * 
+ * <p>Basically, this class has the following advantages over regular array:
+ * <li>Resizable implementation which requires only O(sqrt(n)) of additional
+ * memory.</li>
+ * <li>Faster insertions at random positions.</li>
+ * <li>Support for more than {@code Integer.MAX_VALUE} elements.</li>
+ * 
+ * @since Zjava 1.0
+ *  
+ * @author Ivan Zaitsau
+ * 
+ */
+public class CharList implements HugeCharArray, Cloneable, java.io.Serializable {
+
+	static private final long serialVersionUID = 201503092100L;
+	
+	/** Actual initial block size is 2<sup>INITIAL_BLOCK_ADDRESS_BITS</sup> */
+	static private final int INITIAL_BLOCK_ADDRESS_BITS = 5;
+	
+	/** Number of blocks on CharList initialization.
+	 * <br> <b>Note:</b> Must be even number due to some simplifications and assumptions made in the code*/
+	static private final int INITIAL_BLOCKS_COUNT = 2;
+	
+	/** This coefficient used to check if reduction of block size and amount of blocks is required.
+	 * <br> <b>Note:</b> Must be no less than 4. Needs to be no less than 8 for amortized performance estimations to hold */
+	static private final int REDUCTION_COEFFICIENT = 12;
+
+    /**
+	 * Internal storage block.<br>
+	 * Maintains up to <tt>capacity</tt> char values.<br>
+	 * If there are more elements than <tt>capacity</tt> after <tt>add</tt> operation,
+	 * last element is removed from the block and returned from <tt>add</tt> method.<br>
+	 * 
+	 * <p>Implementation may vary, but the following conditions must be met:
+	 * <li> Insertions and deletions at the beginning and the end of the block must complete in constant time
+	 * <li> Retrieval of element at arbitrary position must complete in constant time
+	 * <li> Any other operation must complete in O(n)
+	 * <li> Only Blocks of sizes 2, 4, 8, ... 2<sup>30</sup> need to be supported
+	 * 
+	 * @author Ivan Zaitsau
+	 */
+	static final private class Block implements Cloneable, java.io.Serializable {
+		
+		private static final long serialVersionUID = 201503092100L;
+		
+		// - merges two blocks of equal capacities into block with doubled capacity
+		static Block merge(Block block1, Block block2) {
+			if ((block1 == null || block1.size() == 0) && (block2 == null || block2.size() == 0))
+				return null;
+
+			assert (block1 == null | block2 == null) || (block1.values.length == block2.values.length);
+
+			Block mergedBlock = new Block(2 * ((block1 == null) ? block2.values.length : block1.values.length));
+			if (block1 != null)
+				mergedBlock.size += block1.copyToArray(mergedBlock.values, 0);
+			if (block2 != null)
+				mergedBlock.size += block2.copyToArray(mergedBlock.values, mergedBlock.size);
+			return mergedBlock;
+		}
+
+		// - splits block to two smaller blocks of capacity equal to half of given block
+		static Block[] split(Block block) {
+			if (block == null || block.size == 0)
+				return new Block[] {null, null};
+			
+			assert (block.values.length & 1) == 0;
+			
+			int halfSize = block.values.length / 2;
+			
+			if (block.size <= halfSize) {
+				Block block1 = new Block(halfSize);
+				block.copyToArray(block1.values, 0, 0, block.size);
+				block1.size = block.size;
+				return new Block[] {block1, null};
+			}
+			else {
+				Block block1 = new Block(halfSize);
+				block.copyToArray(block1.values, 0, 0, halfSize);
+				block1.size = halfSize;
+				Block block2 = new Block(halfSize);
+				block.copyToArray(block2.values, 0, halfSize, block.size - halfSize);
+				block2.size = halfSize;
+				return new Block[] {block1, block2};				
+			}
+		}
+		
+		private int offset;
+		private int size;
+		private char[] values;
+
+		Block(int capacity) {
+			// - capacity must be even power of 2
+			assert((capacity & (capacity-1)) == 0 && capacity > 1);
+			
+			this.offset = 0;
+			this.size = 0;
+			this.values = new char[capacity];
+		}
+		
+		// - copies "count" values of this block starting from "srcPos" to array starting from "trgPos" index
+		int copyToArray(char[] array, int trgPos, int srcPos, int count) {
+			if (srcPos >= values.length | count <= 0)
+				return 0;
+			if (srcPos + count > values.length)
+				count = values.length - srcPos;
+			int first = (offset + srcPos < values.length) ? offset + srcPos : offset + srcPos - values.length;
+			if (first + count <= values.length) {
+				System.arraycopy(values, first, array, trgPos, count);
+			}
+			else {
+				int halfCount = values.length - first;
+				System.arraycopy(values, first, array, trgPos, halfCount);
+				System.arraycopy(values, 0, array, trgPos + halfCount, count - halfCount);
+			}
+			return count;
+		}
+
+		// - copies all values of this block to given array starting from "pos" index
+		int copyToArray(char[] array, int pos) {
+			return copyToArray(array, pos, 0, size);
+		}
+
+		int size() {
+			return size;
+		}
+		
+		// - returns "physical" index for given "logical" position
+		private int index(final int pos) {
+			return (offset + pos) & (values.length - 1);
+		}
+
+		// - appends given value to the beginning of the block
+		char addFirst(final char value) {
+			offset = index(-1);
+			char last = values[offset];
+			values[offset] = value;
+			if (size < values.length) {
+				size++;
+				return 0;
+			}
+			return last;
+		}
+		
+		// - appends given value to the end of the block
+		void addLast(final char value) {
+			if (size == values.length)
+				return;
+			values[index(size)] = value;
+			size++;
+		}
+		
+		// - inserts given value at given position
+		char add(final int pos, final char value) {
+			// - range check
+			assert(pos >= 0 && pos <= size);
+			
+			char last = (size == values.length) ? values[index(-1)] : 0;
+			if (2*pos < size) {
+				offset = index(-1);
+				for (int i = 0; i < pos; i++) {
+					values[index(i)] = values[index(i+1)];
+				}
+			}
+			else {
+				for (int i = (size == values.length) ? size-1 : size; i > pos; i--) {
+					values[index(i)] = values[index(i-1)];
+				}
+			}
+			values[index(pos)] = value;
+			if (size < values.length) size++;
+			return last;
+		}
+
+		// - replaces element at given position with given value
+		char set(final int pos, final char value) {
+			// - range check
+			assert(pos >= 0 && pos < size);
+			
+			int i = index(pos);
+			char replaced = values[i];
+			values[i] = value;
+			return replaced;
+		}
+		
+		// - removes first element of the block
+		char removeFirst() {
+			// - range check
+			assert(size > 0);
+			
+			char removed = values[offset];
+			offset = index(1);
+			size--;
+			return removed;
+		}
+		
+		// - removes element at given position
+		char remove(final int pos) {
+			// - range check
+			assert(pos >= 0 && pos < size);
+			
+			char removed = values[index(pos)];
+			if (2*pos < size) {
+				for (int i = pos; i > 0; i--) {
+					values[index(i)] = values[index(i-1)];					
+				}
+				offset = index(1);
+			}
+			else {
+				for (int i = pos + 1; i < size; i++) {
+					values[index(i-1)] = values[index(i)];
+				}
+			}
+			size--;
+			return removed;
+		}
+		
+		// - returns element at given position
+		char get(final int pos) {
+			// - range check
+			assert(pos >= 0 && pos < size);
+			
+			return values[index(pos)];
+		}
+		
+		// - returns number of leading values of this block which are strictly less than given one
+		// - (or less than or equal to it if "inclusive" is set). Block values must be sorted
+		int countLess(final char value, final boolean inclusive) {
+			int low = 0, high = size;
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				final char v = values[index(mid)];
+				if (SortKeys.less(v, value) || (inclusive && SortKeys.same(v, value)))
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return low;
+		}
+		
+		// - returns number of values starting from given position which are stored contiguously
+		int contiguousFrom(final int pos) {
+			return Math.min(size - pos, values.length - index(pos));
+		}
+
+		// - returns number of values right before given position which are stored contiguously
+		int contiguousBefore(final int pos) {
+			return Math.min(pos, index(pos - 1) + 1);
+		}
+
+		public Object clone() {
+			try {
+				Block clone = (Block) super.clone();
+				clone.values = values.clone();
+				return clone;
+			} catch (CloneNotSupportedException e) {
+	    		// - this should never be thrown since we are Cloneable
+	    		throw new InternalError();
+			}
+		}
+	}
+
+	private long size;
+	private int blockAddressBits;
+	private Block[] data;
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+	
+	private void rangeCheck(final long index) {
+		if (index < 0 || index >= size)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	private void rangeCheckForAdd(final long index) {
+		if (index < 0 || index > size)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	/** Null-safe access to data block with initialization.*/
+	private Block data(final int index) {
+		if (data[index] == null)
+			data[index] = new Block(1 << blockAddressBits);
+		return data[index];
+	}
+	
+	private void ensureCapacity(long requiredCapacity) {
+		long capacity = (long) data.length << blockAddressBits;
+		while (requiredCapacity > capacity) {
+			// - double number of blocks and their size
+			Block[] newData = new Block[2*data.length];
+			int newBlockBitsize = blockAddressBits+1;
+			for (int i = 1, j = 0; i < data.length; i += 2, j++) {
+				newData[j] = Block.merge(data[i-1], data[i]);
+				if (newData[j] == null)
+					break;
+			}
+			/* Redundant because data.length assumed to be even number
+			 * *deleted code*
+			*/
+			assert (data.length & 1) == 0;
+			
+			data = newData;
+			blockAddressBits = newBlockBitsize;
+			capacity = (long) data.length << blockAddressBits;
+		}
+	}
+
+	
+	private void compact() {
+		if (data.length <= INITIAL_BLOCKS_COUNT)
+			return;
+		if (size * REDUCTION_COEFFICIENT <= (long) data.length << blockAddressBits) {
+			// - decrease number of blocks and their size by half
+			Block[] newData = new Block[(data.length+1)/2];
+			int newBlockBitsize = blockAddressBits-1;
+			main:
+			for (int i = 0; ; i++) {
+				Block[] splitBlock = Block.split(data[i]);
+				for (int j = 0; j <= 1; j++) {
+					if (splitBlock[j] == null || splitBlock[j].size() == 0)
+						break main;
+						newData[i+i+j] = splitBlock[j];
+				}
+			}
+			data = newData;
+			blockAddressBits = newBlockBitsize;
+		}
+	}
+	
+	private void init() {
+		init(0);
+	}
+	
+	private void init(long initialCapacity) {
+		size = 0;
+		blockAddressBits = INITIAL_BLOCK_ADDRESS_BITS;
+		int blocksCount = INITIAL_BLOCKS_COUNT;
+		while ((long)blocksCount << blockAddressBits < initialCapacity) {
+			blocksCount += blocksCount;
+			blockAddressBits++;
+		}
+		data = new Block[blocksCount];
+	}
+
+	/**
+     * Constructs an empty list with an initial capacity of 32 elements.
+     */
+	public CharList() {
+		init();
+	}
+
+	/**
+     * Constructs an empty list with at least specified capacity.
+     */
+	public CharList(long initialCapacity) {
+		init(initialCapacity);
+	}
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+	public long size() {
+		return size;
+	}
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+	public char get(long index) {
+		rangeCheck(index);
+		return fastGet(index);
+	}
+
+	// - "get" method without range check
+	private char fastGet(final long index) {
+		int blockIndex = (int) (index >>> blockAddressBits);
+		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
+		return data[blockIndex].get(valueIndex);
+	}
+
+	// - returns number of values in this list which are strictly less than given one
+	// - (or less than or equal to it if "inclusive" is set). List must be sorted in ascending order
+	private long countLess(final char value, final boolean inclusive) {
+		if (size == 0)
+			return 0;
+		// - all blocks but the last one are full, so block containing the answer
+		// - is the last block which starts with a value less than the given one
+		int low = 0, high = (int) ((size - 1) >>> blockAddressBits);
+		while (low < high) {
+			final int mid = (low + high + 1) >>> 1;
+			final char first = data[mid].get(0);
+			if (SortKeys.less(first, value) || (inclusive && SortKeys.same(first, value)))
+				low = mid;
+			else
+				high = mid - 1;
+		}
+		return ((long) low << blockAddressBits) + data[low].countLess(value, inclusive);
+	}
+
+	/**
+	 * Performs binary search of the specified value in this list and returns index
+	 * of position right after the last element which is strictly less than given value.<br>
+	 * If list contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The list must be sorted in ascending order.<br>
+	 * Values are compared in the same order as by {@link #sort() sort} method
+	 * (for floating-point values <tt>-0.0</tt> is less than <tt>0.0</tt> and
+	 * <tt>NaN</tt> is greater than any other value and equal to itself).
+	 * 
+	 * <p>Search is performed in two steps: first the block which may contain given value
+	 * is found by its first element, then the value itself is searched inside this block.
+	 * 
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public long binarySearch(final char value) {
+		final long i = countLess(value, false);
+		return (i < size && SortKeys.same(fastGet(i), value)) ? i : ~i;
+	}
+
+	/**
+	 * Performs binary search of the specified value in this list and returns index
+	 * of position right after the last element which is less than or equal to given
+	 * value.<br>
+	 * If list contains the value, returned value is equal to position, otherwise it's
+	 * equal to binary inverse of the position.<br>
+	 * The list must be sorted in ascending order.
+	 * 
+	 * @param value value to search for
+	 * 
+	 * @return index of position (or it's inverse) right after the last element
+	 *         which is less than or equal to given value
+	 */
+	public long binarySearchNext(final char value) {
+		final long i = countLess(value, true);
+		return (i > 0 && SortKeys.same(fastGet(i-1), value)) ? i : ~i;
+	}
+
+	/**
+	 * Performs interpolation search of the specified value in this list.<br>
+	 * Returns the same result as {@link #binarySearch(char) binarySearch} method, but
+	 * guesses position of the value from its magnitude relative to the bounds of the
+	 * current search range, so for uniformly distributed values search completes
+	 * in about log(log(n)) steps.<br>
+	 * Step which doesn't halve the search range is always followed by a bisection
+	 * step, so search never takes more than about 2*log(n) steps.<br>
+	 * The list must be sorted in ascending order.
+	 * 
+	 * @param value value to search for
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 */
+	public long interpolationSearch(final char value) {
+		// - invariant: values before "low" are less than given value and values after "high" aren't
+		long low = 0, high = size - 1;
+		boolean interpolate = true;
+		while (low <= high) {
+			final char lowValue = fastGet(low);
+			final char highValue = fastGet(high);
+			if (!SortKeys.less(lowValue, value)) {
+				high = low - 1;
+				break;
+			}
+			if (SortKeys.less(highValue, value)) {
+				low = high + 1;
+				break;
+			}
+			long mid = (low + high) >>> 1;
+			if (interpolate) {
+				// - floating-point arithmetic avoids overflow for the values far apart
+				final double v = value, lowV = lowValue, highV = highValue;
+				final double ratio = (v - lowV) / (highV - lowV);
+				final long guess = low + (long) (ratio * (high - low));
+				mid = (guess < low) ? low : (guess > high) ? high : guess;
+			}
+			final long range = high - low;
+			if (SortKeys.less(fastGet(mid), value))
+				low = mid + 1;
+			else
+				high = mid - 1;
+			interpolate = (high - low) <= range / 2;
+		}
+		return (low < size && SortKeys.same(fastGet(low), value)) ? low : ~low;
+	}
+
+	/**
+	 * Performs exponential (galloping) search of the specified value in this list
+	 * starting from the given index.<br>
+	 * Returns the same result as {@link #binarySearch(char) binarySearch} method, but
+	 * runs in O(log(d)) time, where d is the distance between <tt>fromIndex</tt> and
+	 * the returned position. Useful when consecutive searches are performed for
+	 * close values (for example, for sorted sequence of keys).<br>
+	 * The list must be sorted in ascending order.
+	 * 
+	 * @param value value to search for
+	 * @param fromIndex index to start search from
+	 * 
+	 * @return index of position right after the last element strictly less than given
+	 *         value (or it's inverse)
+	 * 
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         (<tt>fromIndex &lt; 0 || fromIndex &gt; size()</tt>)
+	 */
+	public long exponentialSearch(final char value, final long fromIndex) {
+		rangeCheckForAdd(fromIndex);
+		// - find range [low, high] containing the answer
+		long low, high;
+		if (fromIndex < size && SortKeys.less(fastGet(fromIndex), value)) {
+			low = fromIndex + 1;
+			high = size;
+			for (long step = 1; fromIndex + step < size; step += step) {
+				if (!SortKeys.less(fastGet(fromIndex + step), value)) {
+					high = fromIndex + step;
+					break;
+				}
+				low = fromIndex + step + 1;
+			}
+		}
+		else {
+			low = 0;
+			high = fromIndex;
+			for (long step = 1; fromIndex - step >= 0; step += step) {
+				if (SortKeys.less(fastGet(fromIndex - step), value)) {
+					low = fromIndex - step + 1;
+					break;
+				}
+				high = fromIndex - step;
+			}
+		}
+		while (low < high) {
+			final long mid = (low + high) >>> 1;
+			if (SortKeys.less(fastGet(mid), value))
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return (low < size && SortKeys.same(fastGet(low), value)) ? low : ~low;
+	}
+	
+    /**
+     * Replaces the element at the specified position in this list with
+     * the specified element.
+     *
+     * @param index index of the element to replace
+     * @param value element to be stored at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+	public char set(long index, char value) {
+		rangeCheck(index);
+		int blockIndex = (int) (index >>> blockAddressBits);
+		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
+		return data[blockIndex].set(valueIndex, value);
+	}
+	
+    /**
+     * Appends the specified element to the end of this list.
+     *
+     * @param value element to be appended to this list
+     */
+	public void add(char value) {
+		ensureCapacity(size + 1);
+		int blockIndex = (int) (size >>> blockAddressBits);
+		data(blockIndex).addLast(value);
+		size++;
+	}
+
+    /**
+     * Inserts the specified element at the specified position in this
+     * list. Shifts the element currently at that position (if any) and
+     * any subsequent elements to the right (adds one to their indices).
+     *
+     * @param index index at which the specified element is to be inserted
+     * @param value element to be inserted
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+	public void add(long index, char value) {
+		rangeCheckForAdd(index);
+		ensureCapacity(size + 1);
+		int blockIndex = (int) (index >>> blockAddressBits);
+		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
+		int blockSize = 1 << blockAddressBits;
+		if (data(blockIndex).size() < blockSize) {
+			data[blockIndex].add(valueIndex, value);
+		}
+		else {
+			value = data[blockIndex].add(valueIndex, value);
+			while (data(++blockIndex).size() == blockSize) {
+				value = data[blockIndex].addFirst(value);
+			}
+			data[blockIndex].addFirst(value);
+		}
+		size++;
+	}
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their
+     * indices).
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+	public char remove(long index) {
+		rangeCheck(index);
+		int blockIndex = (int) (index >>> blockAddressBits);
+		int valueIndex = (int) (index & (-1L >>> -blockAddressBits));
+		char removed = data[blockIndex].remove(valueIndex);
+		while (++blockIndex < data.length && data[blockIndex] != null && data[blockIndex].size() > 0) {
+			data[blockIndex-1].addLast(data[blockIndex].removeFirst());
+		}
+		size--;
+		// - free unused blocks for GC and compact list if needed
+		boolean blockFreed = false;
+		while (++blockIndex < data.length && data[blockIndex] != null && data[blockIndex].size() == 0) {
+			data[blockIndex] = null;
+			blockFreed = true;
+		}
+		if (blockFreed)
+			compact();
+		return removed;
+	}
+
+	/**
+	 * Copies a range of values from the source list to the specified position of
+	 * the destination list, same as {@link System#arraycopy System.arraycopy} does
+	 * for regular arrays. Source and destination may be the same list, in which
+	 * case copying is performed as if values were first copied to a temporary array.<br>
+	 * Values are copied directly between blocks of the lists with <tt>System.arraycopy</tt>.
+	 *
+	 * @param src the source list
+	 * @param srcPos starting position in the source list
+	 * @param dest the destination list
+	 * @param destPos starting position in the destination list
+	 * @param length the number of values to be copied
+	 *
+	 * @throws IndexOutOfBoundsException if copying would cause access of data outside of
+	 *         list bounds
+	 */
+	public static void copy(CharList src, long srcPos, CharList dest, long destPos, long length) {
+		if (srcPos < 0 | destPos < 0 | length < 0 || srcPos > src.size - length || destPos > dest.size - length)
+			throw new IndexOutOfBoundsException("Source: " + srcPos + ", Destination: " + destPos + ", Length: " + length);
+		// - overlapping ranges of the same list are copied starting from the end
+		final boolean backward = (src == dest) && srcPos < destPos;
+		for (long done = 0; done < length; ) {
+			final long rest = length - done;
+			final Block srcBlock, destBlock;
+			final int from, to, count;
+			if (backward) {
+				// - positions right after the last values of the chunk
+				final long srcEnd = srcPos + rest, destEnd = destPos + rest;
+				srcBlock = src.data[(int) ((srcEnd - 1) >>> src.blockAddressBits)];
+				destBlock = dest.data[(int) ((destEnd - 1) >>> dest.blockAddressBits)];
+				final int srcIndex = (int) ((srcEnd - 1) & (-1L >>> -src.blockAddressBits)) + 1;
+				final int destIndex = (int) ((destEnd - 1) & (-1L >>> -dest.blockAddressBits)) + 1;
+				count = (int) Math.min(rest, Math.min(srcBlock.contiguousBefore(srcIndex), destBlock.contiguousBefore(destIndex)));
+				from = srcBlock.index(srcIndex - count);
+				to = destBlock.index(destIndex - count);
+			}
+			else {
+				final long srcIndex = srcPos + done, destIndex = destPos + done;
+				srcBlock = src.data[(int) (srcIndex >>> src.blockAddressBits)];
+				destBlock = dest.data[(int) (destIndex >>> dest.blockAddressBits)];
+				final int srcOffset = (int) (srcIndex & (-1L >>> -src.blockAddressBits));
+				final int destOffset = (int) (destIndex & (-1L >>> -dest.blockAddressBits));
+				count = (int) Math.min(rest, Math.min(srcBlock.contiguousFrom(srcOffset), destBlock.contiguousFrom(destOffset)));
+				from = srcBlock.index(srcOffset);
+				to = destBlock.index(destOffset);
+			}
+			System.arraycopy(srcBlock.values, from, destBlock.values, to, count);
+			done += count;
+		}
+	}
+
+	/**
+	 * Sorts this list in ascending numerical order, which is the same as
+	 * the order of {@link Arrays#sort(char[])}.<br>
+	 * Performs LSD radix sort by bytes of the values, so sort takes O(n) time
+	 * and requires O(n) of additional memory. Values are moved between blocks
+	 * directly, without intermediate array, and passes by bytes which are the
+	 * same for all values of the list are skipped.
+	 */
+	public void sort() {
+		if (size < 2)
+			return;
+		final int bits = blockAddressBits;
+		final int mask = (1 << bits) - 1;
+		final int blocks = (int) ((size - 1) >>> bits) + 1;
+		final int width = SortKeys.width(data[0].values);
+		// - counts of all bytes of the keys are gathered in a single pass
+		final long[][] counts = new long[width][256];
+		for (int i = 0; i < blocks; i++) {
+			final Block block = data[i];
+			for (int j = 0; j < block.size; j++) {
+				long key = SortKeys.key(block.get(j));
+				for (int d = 0; d < width; d++, key >>>= 8)
+					counts[d][(int) key & 0xFF]++;
+			}
+		}
+		Block[] source = data;
+		Block[] target = null;
+		for (int d = 0; d < width; d++) {
+			final long[] count = counts[d];
+			final int shift = 8*d;
+			if (count[(int) (SortKeys.key(source[0].get(0)) >>> shift) & 0xFF] == size)
+				continue;
+			// - turn counts into the positions of the first values with given byte
+			long position = 0;
+			for (int b = 0; b < 256; b++) {
+				final long c = count[b];
+				count[b] = position;
+				position += c;
+			}
+			if (target == null) {
+				target = new Block[data.length];
+				for (int i = 0; i < blocks; i++) {
+					target[i] = new Block(1 << bits);
+					target[i].size = data[i].size;
+				}
+			}
+			for (int i = 0; i < blocks; i++)
+				target[i].offset = 0;
+			for (int i = 0; i < blocks; i++) {
+				final Block block = source[i];
+				for (int j = 0; j < block.size; j++) {
+					final char value = block.get(j);
+					final long p = count[(int) (SortKeys.key(value) >>> shift) & 0xFF]++;
+					target[(int) (p >>> bits)].values[(int) p & mask] = value;
+				}
+			}
+			final Block[] sorted = target;
+			target = source;
+			source = sorted;
+		}
+		data = source;
+	}
+
+	/**
+	 * Removes all of the elements from this list. The list will be empty after this call returns.
+	 */
+	public void clear() {
+		Arrays.fill(data, null);
+		size = 0;
+	}
+
+    /**
+     * Returns a copy of this <tt>CharList</tt> instance.
+     *
+     * @return a clone of this <tt>CharList</tt> instance
+     */
+	public Object clone() {
+    	try {
+			CharList clone = (CharList) super.clone();
+			clone.data = new Block[data.length];
+    		for (int i = 0; i < data.length && data[i] != null; i++) {
+    			clone.data[i] = (Block) data[i].clone();
+    		}
+    		return clone;
+		}
+    	catch (CloneNotSupportedException e) {
+    		// - should never be thrown since we are Cloneable
+    		throw new InternalError();
+		}
+    }
+}
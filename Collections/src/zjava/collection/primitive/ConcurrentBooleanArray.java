@@ -0,0 +1,249 @@
+package zjava.collection.primitive;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import zjava.collection.HugeBooleanArray;
+import zjava.system.Const;
+
+/**
+ * Thread-safe variant of {@link BooleanArray}.<br>
+ * Values are packed in <tt>long</tt> words (1 bit of memory per boolean value)
+ * and each update of the word is performed with compare-and-set, so concurrent
+ * updates of different bits of the same word never lose each other.
+ *
+ * <p>All single-value operations are atomic. Bulk operations (such as
+ * {@link #or(BooleanArray) or}) are atomic for each word, but not for the array
+ * as a whole.
+ * 
+ * @since Zjava 1.0
+ * 
+ * @author Ivan Zaitsau
+ */
+public class ConcurrentBooleanArray implements HugeBooleanArray, java.io.Serializable {
+
+	private static final long serialVersionUID = 201704121200L;
+
+	private static final int ADDRESS_BITS = Const.ADDRESS_BITS_PER_LONG;
+	private static final long MAX_SIZE = (long) Const.MAX_ARRAY_SIZE << ADDRESS_BITS;
+
+	private final long length;
+	private final AtomicLongArray data;
+
+    /**
+     * Constructs a ConcurrentBooleanArray with the specified size.
+     *
+     * @param  size size of the ConcurrentBooleanArray
+     * @throws NegativeArraySizeException if the specified size
+     *         is negative
+     */
+	public ConcurrentBooleanArray(long size) {
+        if (size < 0)
+            throw new NegativeArraySizeException("size < 0: " + size);
+		if (size > MAX_SIZE)
+			throw new OutOfMemoryError("Required array size too large");
+
+		this.length = size;
+		this.data = new AtomicLongArray((int)(1 + ((size-1) >> ADDRESS_BITS)));
+	}
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + length;
+    }
+
+	private void rangeCheck(final long index) {
+		if (index < 0 | index >= length)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	/**
+	 * Atomically sets value at specified position to <b>true</b>
+	 * 
+	 * @param index index of value to set to <b>true</b>
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+	public boolean setTrue(final long index) {
+		rangeCheck(index);
+		final int di = (int)(index >>> ADDRESS_BITS);
+		long word;
+		do {
+			word = data.get(di);
+			if (PrimitiveBitSet.contains(word, index))
+				return true;
+		} while (!data.compareAndSet(di, word, PrimitiveBitSet.add(word, index)));
+		return false;
+	}
+
+	/**
+	 * Atomically sets value at specified position to <b>false</b>
+	 * 
+	 * @param index index of value to set to <b>false</b>
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+	public boolean setFalse(final long index) {
+		rangeCheck(index);
+		final int di = (int)(index >>> ADDRESS_BITS);
+		long word;
+		do {
+			word = data.get(di);
+			if (!PrimitiveBitSet.contains(word, index))
+				return false;
+		} while (!data.compareAndSet(di, word, PrimitiveBitSet.remove(word, index)));
+		return true;
+	}
+
+	/**
+	 * Atomically replaces the value at specified position with method argument
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public boolean set(final long index, final boolean value) {
+		return value ? setTrue(index) : setFalse(index);
+	}
+
+	/**
+	 * Same as {@link #set(long, boolean)}
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+     * @return the value previously at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public boolean getAndSet(final long index, final boolean value) {
+		return set(index, value);
+	}
+
+	/**
+	 * Atomically sets the value at specified position to the given updated
+	 * value if the current value is equal to the expected value.
+	 * 
+	 * @param index index of value to change
+	 * @param expect the expected value
+	 * @param update the new value
+	 * @return <tt>true</tt> if successful, <tt>false</tt> if the actual value
+	 *         was not equal to the expected value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public boolean compareAndSet(final long index, final boolean expect, final boolean update) {
+		if (expect == update)
+			return get(index) == expect;
+		// - value changes only if it was equal to the expected one
+		return set(index, update) == expect;
+	}
+
+	/**
+	 * Returns boolean value at specified position
+	 * 
+	 * @param index index of returned value
+	 * @return value at specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */	
+	public boolean get(long index) {
+		rangeCheck(index);
+		return PrimitiveBitSet.contains(data.get((int)(index >>> ADDRESS_BITS)), index);
+	}
+
+	/**
+	 * Sets to <b>true</b> all values of this array, which are <b>true</b>
+	 * in the given array. Each word of this array is updated atomically.
+	 * 
+	 * @param other array to merge into this one
+     * @throws IllegalArgumentException if given array is larger than this one
+	 */
+	public void or(final BooleanArray other) {
+		if (other.length() > length)
+			throw new IllegalArgumentException("Size: " + other.length() + " > " + length);
+		for (int i = 0, words = (int)(1 + ((other.length()-1) >> ADDRESS_BITS)); i < words; i++)
+			or(i, other.word(i));
+	}
+
+	/**
+	 * Sets to <b>true</b> all values of this array, which are <b>true</b>
+	 * in the given array. Each word of this array is updated atomically
+	 * and each word of the given array is read atomically.
+	 * 
+	 * @param other array to merge into this one
+     * @throws IllegalArgumentException if given array is larger than this one
+	 */
+	public void or(final ConcurrentBooleanArray other) {
+		if (other.length > length)
+			throw new IllegalArgumentException("Size: " + other.length + " > " + length);
+		for (int i = 0; i < other.data.length(); i++)
+			or(i, other.data.get(i));
+	}
+
+	// - atomically sets bits of the given word
+	private void or(final int di, final long bits) {
+		if (bits == 0)
+			return;
+		long word;
+		do {
+			word = data.get(di);
+			if ((word | bits) == word)
+				return;
+		} while (!data.compareAndSet(di, word, word | bits));
+	}
+
+	/**
+	 * Returns number of <b>true</b> values in this array. Result is exact
+	 * only if there are no concurrent updates.
+	 * 
+	 * @return number of <b>true</b> values in this array
+	 */
+	public long cardinality() {
+		long count = 0;
+		for (int i = 0; i < data.length(); i++)
+			count += PrimitiveBitSet.size(data.get(i));
+		return count;
+	}
+
+	/**
+	 * Returns size of the array
+	 * 
+	 * @return size of the array
+	 */
+	public long length() {
+		return length;
+	}
+
+	/**
+	 * Returns size of the array, same as {@link #length()}
+	 * 
+	 * @return size of the array
+	 */
+	public long size() {
+		return length;
+	}
+
+    /**
+     * Returns a string representation of this array. The string representation
+     * consists of a list of the array's elements separated by commas
+     * in index ascending order. List enclosed in square brackets (<tt>"[]"</tt>).
+     * <br>
+     * If list is too large, only first elements will be shown, followed by
+     * three-dot (<tt>"..."</tt>).
+     */
+	public String toString() {
+        if (length == 0)
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (long i = 0; i < length; ) {
+            sb.append(Boolean.toString(get(i)));
+            if (++i < length) {
+                if (sb.length() > 1000) {
+                	sb.append(',').append(" ...");
+                	break;
+                }            	
+                sb.append(',').append(' ');
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+	}
+}
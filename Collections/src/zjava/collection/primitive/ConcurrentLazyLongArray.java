@@ -0,0 +1,253 @@
+package zjava.collection.primitive;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import zjava.collection.HugeLongArray;
+
+import static zjava.system.Const.MAX_ARRAY_SIZE;
+
+/**
+ * Thread-safe variant of {@link LazyLongArray}.<br>
+ * Blocks of values are allocated on the first write of a value other than the
+ * default one and published with compare-and-set, so concurrent writers never
+ * lose blocks (or values written to them) of each other. Reads are lock-free
+ * and never allocate memory.
+ *
+ * <p>Besides the basic operations array provides atomic <tt>compareAndSet</tt>,
+ * <tt>getAndSet</tt> and accumulation of values with <tt>getAndAdd</tt> and
+ * <tt>addAndGet</tt>, all of which have the memory effects of the corresponding
+ * operations of {@link AtomicLongArray}.
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class ConcurrentLazyLongArray implements HugeLongArray, java.io.Serializable {
+
+	private static final long serialVersionUID = 201704111200L;
+
+	private static final int DEFAULT_BLOCK_ADDRESS_BITS = 10;
+
+	private final long size;
+	private final long defaultValue;
+	private final AtomicReferenceArray<AtomicLongArray> data;
+	private final int blockAddressBits;
+	private final int blockMask;
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+	private void rangeCheck(long index) {
+		if (index < 0 | index >= size)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	/** Returns data block with given index or <tt>null</tt> if it's not allocated yet */
+	private AtomicLongArray block(long index) {
+		return data.get((int) (index >>> blockAddressBits));
+	}
+
+	/** Null-safe access to data block with lazy initialization */
+	private AtomicLongArray allocatedBlock(long index) {
+		final int i = (int) (index >>> blockAddressBits);
+		AtomicLongArray block = data.get(i);
+		if (block == null) {
+			// - last block may be shorter than the others
+			final int length = (int) Math.min(blockMask + 1, size - ((long) i << blockAddressBits));
+			final AtomicLongArray newBlock;
+			if (defaultValue == 0)
+				newBlock = new AtomicLongArray(length);
+			else {
+				final long[] values = new long[length];
+				Arrays.fill(values, defaultValue);
+				newBlock = new AtomicLongArray(values);
+			}
+			// - the block which is published first wins
+			if (data.compareAndSet(i, null, newBlock))
+				block = newBlock;
+			else
+				block = data.get(i);
+		}
+		return block;
+	}
+
+    /**
+     * Constructs an array of the specified size filled with zeros.
+     *
+     * @param  size size of the array
+     * @throws NegativeArraySizeException if the specified size
+     *         is negative
+     */
+	public ConcurrentLazyLongArray(long size) {
+		this(size, 0);
+	}
+
+    /**
+     * Constructs an array of the specified size filled with given default value.
+     *
+     * @param  size size of the array
+     * @param  defaultValue initial value of all elements of the array
+     * @throws NegativeArraySizeException if the specified size
+     *         is negative
+     */
+	public ConcurrentLazyLongArray(long size, long defaultValue) {
+        if (size < 0)
+            throw new NegativeArraySizeException("size < 0: " + size);
+        if (size > (long)MAX_ARRAY_SIZE << 30)
+        	throw new OutOfMemoryError("Required array size too large");
+		this.size = size;
+		this.defaultValue = defaultValue;
+
+		int blockAddressBits = DEFAULT_BLOCK_ADDRESS_BITS;
+		while (MAX_ARRAY_SIZE <= (size-1) >> blockAddressBits)
+			blockAddressBits++;
+		this.blockAddressBits = blockAddressBits;
+		blockMask = (1 << this.blockAddressBits) - 1;
+		data = new AtomicReferenceArray<AtomicLongArray>((int)((size + blockMask) >>> this.blockAddressBits));
+	}
+
+	/**
+	 * Returns value at specified position
+	 * 
+	 * @param index index of returned value
+	 * @return value at specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+	public long get(long index) {
+		rangeCheck(index);
+		final AtomicLongArray block = block(index);
+		return (block == null) ? defaultValue : block.get((int) (index & blockMask));
+	}
+
+	/**
+	 * Replaces the value at specified position with method argument
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+	 * @return replaced value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public long set(long index, long value) {
+		return getAndSet(index, value);
+	}
+
+	/**
+	 * Atomically replaces the value at specified position with method argument
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+	 * @return replaced value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public long getAndSet(long index, long value) {
+		rangeCheck(index);
+		if (value == defaultValue) {
+			// - there is nothing to replace in the block which isn't allocated
+			final AtomicLongArray block = block(index);
+			return (block == null) ? defaultValue : block.getAndSet((int) (index & blockMask), value);
+		}
+		return allocatedBlock(index).getAndSet((int) (index & blockMask), value);
+	}
+
+	/**
+	 * Atomically sets the value at specified position to the given updated
+	 * value if the current value is equal to the expected value.
+	 * 
+	 * @param index index of value to change
+	 * @param expect the expected value
+	 * @param update the new value
+	 * @return <tt>true</tt> if successful, <tt>false</tt> if the actual value
+	 *         was not equal to the expected value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public boolean compareAndSet(long index, long expect, long update) {
+		rangeCheck(index);
+		if (expect != defaultValue) {
+			// - block which isn't allocated contains only default values
+			final AtomicLongArray block = block(index);
+			return block != null && block.compareAndSet((int) (index & blockMask), expect, update);
+		}
+		if (update == defaultValue)
+			return get(index) == defaultValue;
+		return allocatedBlock(index).compareAndSet((int) (index & blockMask), expect, update);
+	}
+
+	/**
+	 * Atomically adds the given value to the value at specified position.
+	 * 
+	 * @param index index of value to change
+	 * @param delta the value to add
+	 * @return the previous value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public long getAndAdd(long index, long delta) {
+		rangeCheck(index);
+		if (delta == 0)
+			return get(index);
+		return allocatedBlock(index).getAndAdd((int) (index & blockMask), delta);
+	}
+
+	/**
+	 * Atomically adds the given value to the value at specified position.
+	 * 
+	 * @param index index of value to change
+	 * @param delta the value to add
+	 * @return the updated value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public long addAndGet(long index, long delta) {
+		rangeCheck(index);
+		if (delta == 0)
+			return get(index);
+		return allocatedBlock(index).addAndGet((int) (index & blockMask), delta);
+	}
+
+	/**
+	 * Returns size of the array
+	 * 
+	 * @return size of the array
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns initial value of the elements of this array
+	 * 
+	 * @return default value of this array
+	 */
+	public long defaultValue() {
+		return defaultValue;
+	}
+
+    /**
+     * Returns a string representation of this array. The string representation
+     * consists of a list of the array's elements separated by commas
+     * in index ascending order. List enclosed in square brackets (<tt>"[]"</tt>).
+     * <br>
+     * If list is too large, only first elements will be shown, followed by
+     * three-dot (<tt>"..."</tt>).
+     */
+	public String toString() {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (long i = 0; i < size; ) {
+            sb.append(get(i));
+            if (++i < size) {
+                if (sb.length() > 1000) {
+                	sb.append(',').append(" ...");
+                	break;
+                }            	
+                sb.append(',').append(' ');
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+	}
+}
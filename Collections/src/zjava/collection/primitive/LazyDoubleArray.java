@@ -0,0 +1,233 @@
+package zjava.collection.primitive;
+
+import java.util.Arrays;
+
+import zjava.collection.HugeDoubleArray;
+
+import static zjava.system.Const.MAX_ARRAY_SIZE;
+
+/**
+ * Array of primitive double values which supports more than Integer.MAX_VALUE
+ * elements and allocates memory blocks dynamically when needed.<br>
+ * Primitive counterpart of {@link zjava.collection.LazyArray LazyArray}: all
+ * elements initially have the default value given to the constructor and
+ * blocks of 2<sup>10</sup> values are allocated only when a value other than
+ * the default one is written into them.
+ *
+ * <p>Blocks are referenced from lazily allocated pages of 2<sup>10</sup>
+ * blocks each, so even very sparse arrays of 2<sup>40</sup> and more elements
+ * need only small amount of memory besides the memory of the populated blocks.
+ *
+ * <p>Blocks which contain only default values (for instance, after counters
+ * were reset) may be freed with {@link #reclaim()}.
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class LazyDoubleArray implements HugeDoubleArray, Cloneable, java.io.Serializable {
+
+	private static final long serialVersionUID = 201704101200L;
+
+	private static final int BLOCK_ADDRESS_BITS = 10;
+	private static final int BLOCK_MASK = (1 << BLOCK_ADDRESS_BITS) - 1;
+
+	private static final int PAGE_ADDRESS_BITS = 10;
+	private static final int PAGE_MASK = (1 << PAGE_ADDRESS_BITS) - 1;
+
+	private final long size;
+	private final double defaultValue;
+	private double[][][] pages;
+
+    private String outOfBoundsMsg(long index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+
+	private void rangeCheck(long index) {
+		if (index < 0 | index >= size)
+			throw new IndexOutOfBoundsException(outOfBoundsMsg(index));
+	}
+
+	// - returns true if given value is the same as the default one (NaNs are considered the same)
+	private boolean isDefault(final double value) {
+		return SortKeys.key(value) == SortKeys.key(defaultValue);
+	}
+
+    /**
+     * Constructs an array of the specified size filled with zeros.
+     *
+     * @param  size size of the array
+     * @throws NegativeArraySizeException if the specified size
+     *         is negative
+     */
+	public LazyDoubleArray(long size) {
+		this(size, 0);
+	}
+
+    /**
+     * Constructs an array of the specified size filled with given default value.
+     *
+     * @param  size size of the array
+     * @param  defaultValue initial value of all elements of the array
+     * @throws NegativeArraySizeException if the specified size
+     *         is negative
+     */
+	public LazyDoubleArray(long size, double defaultValue) {
+        if (size < 0)
+            throw new NegativeArraySizeException("size < 0: " + size);
+        if (size > (long) MAX_ARRAY_SIZE << (BLOCK_ADDRESS_BITS + PAGE_ADDRESS_BITS))
+        	throw new OutOfMemoryError("Required array size too large");
+		this.size = size;
+		this.defaultValue = defaultValue;
+		this.pages = new double[(int) ((size + (1L << (BLOCK_ADDRESS_BITS + PAGE_ADDRESS_BITS)) - 1) >>> (BLOCK_ADDRESS_BITS + PAGE_ADDRESS_BITS))][][];
+	}
+
+	/**
+	 * Returns value at specified position
+	 * 
+	 * @param index index of returned value
+	 * @return value at specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+	public double get(long index) {
+		rangeCheck(index);
+		final double[][] page = pages[(int) (index >>> (BLOCK_ADDRESS_BITS + PAGE_ADDRESS_BITS))];
+		if (page == null)
+			return defaultValue;
+		final double[] block = page[(int) (index >>> BLOCK_ADDRESS_BITS) & PAGE_MASK];
+		return (block == null) ? defaultValue : block[(int) index & BLOCK_MASK];
+	}
+
+	/**
+	 * Replaces the value at specified position with method argument.<br>
+	 * Writing the default value to the position which doesn't have a block
+	 * yet doesn't allocate any memory.
+	 * 
+	 * @param index index of value to change
+	 * @param value new value
+	 * @return replaced value
+     * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double set(long index, double value) {
+		rangeCheck(index);
+		final int pageIndex = (int) (index >>> (BLOCK_ADDRESS_BITS + PAGE_ADDRESS_BITS));
+		final int blockIndex = (int) (index >>> BLOCK_ADDRESS_BITS) & PAGE_MASK;
+		double[][] page = pages[pageIndex];
+		double[] block = (page == null) ? null : page[blockIndex];
+		if (block == null) {
+			if (isDefault(value))
+				return defaultValue;
+			if (page == null)
+				page = pages[pageIndex] = new double[1 << PAGE_ADDRESS_BITS][];
+			block = page[blockIndex] = new double[1 << BLOCK_ADDRESS_BITS];
+			if (!isDefault(0))
+				Arrays.fill(block, defaultValue);
+		}
+		final double replaced = block[(int) index & BLOCK_MASK];
+		block[(int) index & BLOCK_MASK] = value;
+		return replaced;
+	}
+
+	/**
+	 * Returns size of the array
+	 * 
+	 * @return size of the array
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns initial value of the elements of this array
+	 * 
+	 * @return default value of this array
+	 */
+	public double defaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Frees all blocks (and pages of blocks) which contain only default values.
+	 * Takes time proportional to the amount of allocated memory.
+	 * 
+	 * @return number of freed blocks
+	 */
+	public long reclaim() {
+		long freed = 0;
+		for (int i = 0; i < pages.length; i++) {
+			final double[][] page = pages[i];
+			if (page == null)
+				continue;
+			boolean empty = true;
+			for (int j = 0; j < page.length; j++) {
+				final double[] block = page[j];
+				if (block == null)
+					continue;
+				int k = 0;
+				while (k < block.length && isDefault(block[k]))
+					k++;
+				if (k == block.length) {
+					page[j] = null;
+					freed++;
+				}
+				else
+					empty = false;
+			}
+			if (empty)
+				pages[i] = null;
+		}
+		return freed;
+	}
+
+    /**
+     * Returns a copy of this <tt>LazyDoubleArray</tt> instance.
+     *
+     * @return a clone of this <tt>LazyDoubleArray</tt> instance
+     */
+	public Object clone() {
+		try {
+			LazyDoubleArray clone = (LazyDoubleArray) super.clone();
+			clone.pages = pages.clone();
+			for (int i = 0; i < pages.length; i++) {
+				if (pages[i] == null)
+					continue;
+				clone.pages[i] = pages[i].clone();
+				for (int j = 0; j < pages[i].length; j++)
+					if (pages[i][j] != null)
+						clone.pages[i][j] = pages[i][j].clone();
+			}
+			return clone;
+		} catch (CloneNotSupportedException e) {
+    		// - should never be thrown since we are Cloneable
+    		throw new InternalError();
+		}
+	}
+
+    /**
+     * Returns a string representation of this array. The string representation
+     * consists of a list of the array's elements separated by commas
+     * in index ascending order. List enclosed in square brackets (<tt>"[]"</tt>).
+     * <br>
+     * If list is too large, only first elements will be shown, followed by
+     * three-dot (<tt>"..."</tt>).
+     */
+	public String toString() {
+        if (size == 0)
+            return "[]";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (long i = 0; i < size; ) {
+            sb.append(get(i));
+            if (++i < size) {
+                if (sb.length() > 1000) {
+                	sb.append(',').append(" ...");
+                	break;
+                }            	
+                sb.append(',').append(' ');
+            }
+        }
+        sb.append(']');
+        return sb.toString();
+	}
+}
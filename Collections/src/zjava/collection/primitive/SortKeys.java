@@ -0,0 +1,140 @@
+package zjava.collection.primitive;
+
+/**
+ * Keys used by radix sorts of primitive lists and comparisons used by searches in them.<br>
+ * Each value is mapped to the <tt>long</tt> key, unsigned order of which
+ * matches the order of {@link java.util.Arrays#sort(int[]) Arrays.sort}
+ * for the corresponding primitive type. Only the lowest
+ * {@link #width(int[]) width} bytes of the key may be non-zero.
+ *
+ * <p>Floating-point values are ordered the same way as by <tt>Arrays.sort</tt>:
+ * <tt>-0.0</tt> is less than <tt>0.0</tt> and <tt>NaN</tt> is greater than
+ * any other value (including positive infinity).
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+final class SortKeys {
+
+	private SortKeys() {}
+
+	static long key(final byte value) {
+		return value - Byte.MIN_VALUE;
+	}
+
+	static long key(final char value) {
+		return value;
+	}
+
+	static long key(final short value) {
+		return value - Short.MIN_VALUE;
+	}
+
+	static long key(final int value) {
+		return (long) value - Integer.MIN_VALUE;
+	}
+
+	static long key(final long value) {
+		return value ^ Long.MIN_VALUE;
+	}
+
+	static long key(final float value) {
+		// - all NaNs are collapsed to the canonical one, negative values have all bits inverted
+		final int bits = Float.floatToIntBits(value);
+		return (bits ^ ((bits >> 31) | Integer.MIN_VALUE)) & 0xFFFFFFFFL;
+	}
+
+	static long key(final double value) {
+		final long bits = Double.doubleToLongBits(value);
+		return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+
+	// - returns number of significant bytes of the keys of the values of given array type
+
+	static int width(final byte[] values) {
+		return 1;
+	}
+
+	static int width(final char[] values) {
+		return 2;
+	}
+
+	static int width(final short[] values) {
+		return 2;
+	}
+
+	static int width(final int[] values) {
+		return 4;
+	}
+
+	static int width(final long[] values) {
+		return 8;
+	}
+
+	static int width(final float[] values) {
+		return 4;
+	}
+
+	static int width(final double[] values) {
+		return 8;
+	}
+
+	// - comparisons of values in the same order as of their keys, used by searches in sorted lists
+
+	static boolean less(final byte a, final byte b) {
+		return a < b;
+	}
+
+	static boolean less(final char a, final char b) {
+		return a < b;
+	}
+
+	static boolean less(final short a, final short b) {
+		return a < b;
+	}
+
+	static boolean less(final int a, final int b) {
+		return a < b;
+	}
+
+	static boolean less(final long a, final long b) {
+		return a < b;
+	}
+
+	static boolean less(final float a, final float b) {
+		return Float.compare(a, b) < 0;
+	}
+
+	static boolean less(final double a, final double b) {
+		return Double.compare(a, b) < 0;
+	}
+
+	static boolean same(final byte a, final byte b) {
+		return a == b;
+	}
+
+	static boolean same(final char a, final char b) {
+		return a == b;
+	}
+
+	static boolean same(final short a, final short b) {
+		return a == b;
+	}
+
+	static boolean same(final int a, final int b) {
+		return a == b;
+	}
+
+	static boolean same(final long a, final long b) {
+		return a == b;
+	}
+
+	static boolean same(final float a, final float b) {
+		return Float.compare(a, b) == 0;
+	}
+
+	static boolean same(final double a, final double b) {
+		return Double.compare(a, b) == 0;
+	}
+}
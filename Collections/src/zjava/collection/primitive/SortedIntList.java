@@ -0,0 +1,304 @@
+package zjava.collection.primitive;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Sorted list of primitive int values.<br>
+ * Uses {@link IntList} as an internal storage, so values are neither boxed
+ * nor compared by means of <tt>Comparator</tt>. Supports more than
+ * <tt>Integer.MAX_VALUE</tt> elements.
+ *
+ * <p>Depending on constructor used, list either permits duplicate values
+ * or keeps all its values distinct (in this case it's similar to sorted set).
+ *
+ * <p>The <tt>size</tt>, <tt>get</tt>, <tt>first</tt> and <tt>last</tt>
+ * operations run in constant time. The <tt>contains</tt>, <tt>indexOf</tt>
+ * and navigation operations run in log(n) time. Insertion and removal of
+ * values runs in O(n<sup>1/2</sup>) <i>amortized time</i>.
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ *
+ * @see IntList
+ */
+public class SortedIntList implements Cloneable, java.io.Serializable {
+
+	static private final long serialVersionUID = 201703011200L;
+
+	private IntList data;
+	private final boolean distinct;
+
+	/**
+     * Constructs an empty sorted list which permits duplicate values.
+     */
+	public SortedIntList() {
+		this(false);
+	}
+
+	/**
+     * Constructs an empty sorted list.<br>
+     * If <tt>distinct</tt> set to <tt>true</tt>, list will reject values
+     * it already contains.
+     *
+     * @param distinct - <tt>true</tt> if list must keep its values distinct
+     */
+	public SortedIntList(boolean distinct) {
+		this.data = new IntList();
+		this.distinct = distinct;
+	}
+
+	/**
+	 * Returns <tt>true</tt> if this list rejects duplicate values.
+	 *
+	 * @return <tt>true</tt> if this list keeps its values distinct
+	 */
+	public boolean isDistinct() {
+		return distinct;
+	}
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return the number of elements in this list
+     */
+	public long size() {
+		return data.size();
+	}
+
+    /**
+     * Returns <tt>true</tt> if this list contains no elements.
+     *
+     * @return <tt>true</tt> if this list contains no elements
+     */
+	public boolean isEmpty() {
+		return data.size() == 0;
+	}
+
+    /**
+     * Returns the element at the specified position in this list.
+     *
+     * @param  index index of the element to return
+     * @return the element at the specified position in this list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+	public int get(long index) {
+		return data.get(index);
+	}
+
+	/**
+	 * Returns the first (lowest) element of this list.
+	 *
+	 * @return the first element of this list
+	 * @throws NoSuchElementException if this list is empty
+	 */
+	public int first() {
+		if (isEmpty())
+			throw new NoSuchElementException();
+		return data.get(0);
+	}
+
+	/**
+	 * Returns the last (highest) element of this list.
+	 *
+	 * @return the last element of this list
+	 * @throws NoSuchElementException if this list is empty
+	 */
+	public int last() {
+		if (isEmpty())
+			throw new NoSuchElementException();
+		return data.get(data.size() - 1);
+	}
+
+	/**
+	 * Returns <tt>true</tt> if this list contains the specified value.
+	 *
+	 * @param value - value whose presence needs to be checked
+	 * @return <tt>true</tt> if this list contains given value
+	 */
+	public boolean contains(int value) {
+		return data.binarySearch(value) >= 0;
+	}
+
+    /**
+     * Returns the index of the first occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the first occurrence of the specified value in
+     *         this list, or -1 if this list does not contain the value
+     */
+	public long indexOf(int value) {
+		final long i = data.binarySearch(value);
+		return (i < 0) ? -1 : i;
+	}
+
+    /**
+     * Returns the index of the last occurrence of the specified value
+     * in this list, or -1 if this list does not contain the value.
+     *
+     * @param value value to search for
+     * @return the index of the last occurrence of the specified value in
+     *         this list, or -1 if this list does not contain the value
+     */
+	public long lastIndexOf(int value) {
+		final long i = data.binarySearchNext(value);
+		return (i < 0) ? -1 : i - 1;
+	}
+
+	/**
+	 * Returns index of the last element which is less than or equal to the
+	 * given value, or -1 if there is no such element.
+	 *
+	 * @param value - value to get floor for
+	 * @return index of the greatest element less than or equal to given value, or -1
+	 */
+	public long floorIndex(int value) {
+		final long i = data.binarySearchNext(value);
+		return ((i < 0) ? ~i : i) - 1;
+	}
+
+	/**
+	 * Returns index of the first element which is greater than or equal to the
+	 * given value, or -1 if there is no such element.
+	 *
+	 * @param value - value to get ceiling for
+	 * @return index of the least element greater than or equal to given value, or -1
+	 */
+	public long ceilingIndex(int value) {
+		long i = data.binarySearch(value);
+		if (i < 0)
+			i = ~i;
+		return (i < data.size()) ? i : -1;
+	}
+
+	/**
+	 * Returns index of the last element which is strictly less than the
+	 * given value, or -1 if there is no such element.
+	 *
+	 * @param value - value to get lower element for
+	 * @return index of the greatest element strictly less than given value, or -1
+	 */
+	public long lowerIndex(int value) {
+		final long i = data.binarySearch(value);
+		return ((i < 0) ? ~i : i) - 1;
+	}
+
+	/**
+	 * Returns index of the first element which is strictly greater than the
+	 * given value, or -1 if there is no such element.
+	 *
+	 * @param value - value to get higher element for
+	 * @return index of the least element strictly greater than given value, or -1
+	 */
+	public long higherIndex(int value) {
+		long i = data.binarySearchNext(value);
+		if (i < 0)
+			i = ~i;
+		return (i < data.size()) ? i : -1;
+	}
+
+	/**
+	 * Returns the greatest element which is less than or equal to the given value.
+	 *
+	 * @param value - value to get floor for
+	 * @return the greatest element less than or equal to given value
+	 * @throws NoSuchElementException if there is no such element
+	 */
+	public int floor(int value) {
+		final long i = floorIndex(value);
+		if (i < 0)
+			throw new NoSuchElementException();
+		return data.get(i);
+	}
+
+	/**
+	 * Returns the least element which is greater than or equal to the given value.
+	 *
+	 * @param value - value to get ceiling for
+	 * @return the least element greater than or equal to given value
+	 * @throws NoSuchElementException if there is no such element
+	 */
+	public int ceiling(int value) {
+		final long i = ceilingIndex(value);
+		if (i < 0)
+			throw new NoSuchElementException();
+		return data.get(i);
+	}
+
+    /**
+     * Inserts the specified value in this list in such way that it remains sorted.<br>
+     * If this list keeps its values distinct and already contains the value,
+     * the call leaves the list unchanged and returns {@code false}.
+     *
+     * @param value value to be added to this list
+     * @return <tt>true</tt> if this list changed as a result of the call
+     */
+	public boolean add(int value) {
+		long i = data.binarySearchNext(value);
+		if (i >= 0) {
+			if (distinct)
+				return false;
+		}
+		else {
+			i = ~i;
+		}
+		data.add(i, value);
+		return true;
+	}
+
+	/**
+	 * Removes the first occurrence of the specified value from this list,
+     * if it is present. If this list does not contain the value, it is
+     * unchanged.
+     *
+     * @param value value to be removed from this list, if present
+     * @return <tt>true</tt> if this list contained the specified value
+	 */
+	public boolean remove(int value) {
+		final long i = data.binarySearch(value);
+		if (i < 0)
+			return false;
+		data.remove(i);
+		return true;
+	}
+
+    /**
+     * Removes the element at the specified position in this list.
+     * Shifts any subsequent elements to the left (subtracts one from their
+     * indices).
+     *
+     * @param index the index of the element to be removed
+     * @return the element that was removed from the list
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         (<tt>index &lt; 0 || index &gt;= size()</tt>)
+     */
+	public int removeAt(long index) {
+		return data.remove(index);
+	}
+
+	/**
+	 * Removes all of the elements from this list. The list will be empty after this call returns.
+	 */
+	public void clear() {
+		data.clear();
+	}
+
+    /**
+     * Returns a copy of this <tt>SortedIntList</tt> instance.
+     *
+     * @return a clone of this <tt>SortedIntList</tt> instance
+     */
+	public Object clone() {
+    	try {
+    		SortedIntList clone = (SortedIntList) super.clone();
+    		clone.data = (IntList) data.clone();
+    		return clone;
+		}
+    	catch (CloneNotSupportedException e) {
+    		// - should never be thrown since we are Cloneable
+    		throw new InternalError();
+		}
+    }
+}
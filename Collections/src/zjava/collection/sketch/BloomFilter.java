@@ -0,0 +1,183 @@
+package zjava.collection.sketch;
+
+import zjava.collection.Hasher;
+import zjava.collection.primitive.BooleanArray;
+
+/**
+ * Probabilistic set which answers whether an element <i>might</i> have been put
+ * into it.<br>
+ * False positives are possible with the probability chosen at construction time,
+ * false negatives are not. Each element takes about <tt>1.44*log2(1/p)</tt> bits
+ * regardless of its size, for instance, less than 10 bits for the probability
+ * of 1%.
+ *
+ * <p>Bits are stored in {@link BooleanArray}, so filter may hold more than
+ * <tt>Integer.MAX_VALUE</tt> bits. Positions of the bits of the element are
+ * derived from a single 64-bit hash code provided by the {@link Hasher} with
+ * double hashing. Note, that elements with equal hash codes are indistinguishable
+ * for the filter, so for billions of elements hasher should produce well
+ * distributed 64-bit hash codes (see {@link Hasher#longHashCode(Object)
+ * longHashCode}), otherwise false positive probability can't get lower than
+ * <tt>1-e<sup>-n/2<sup>32</sup></sup></tt> for <tt>n</tt> elements.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <E> - the type of elements of this filter
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class BloomFilter<E> implements java.io.Serializable {
+
+	private static final long serialVersionUID = 201704131200L;
+
+	private final BooleanArray bits;
+	private final long bitSize;
+	private final int hashFunctions;
+	private final Hasher<? super E> hasher;
+
+	static void checkArguments(final long expectedInsertions, final double falsePositiveProbability) {
+		if (expectedInsertions <= 0)
+			throw new IllegalArgumentException("Expected insertions: " + expectedInsertions);
+		if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1))
+			throw new IllegalArgumentException("False positive probability: " + falsePositiveProbability);
+	}
+
+	// - number of bits which gives the requested false positive probability for "n" elements
+	static long optimalBitSize(final long n, final double p) {
+		return Math.max(64, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+	}
+
+	// - number of hash functions which minimizes false positive probability
+	static int optimalHashFunctions(final long n, final long m) {
+		return Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+	}
+
+	// - returns position of the "i"-th bit of the element with given hashes
+	static long position(final long h1, final long h2, final int i, final long size) {
+		return ((h1 + i * h2) & Long.MAX_VALUE) % size;
+	}
+
+	/**
+	 * Creates filter for the given number of elements with the given false
+	 * positive probability, which uses {@link Hasher#DEFAULT default} hasher.
+	 * 
+	 * @param expectedInsertions expected number of elements put into the filter
+	 * @param falsePositiveProbability desired probability of false positives
+	 *        (for instance, 0.01) when the filter contains expected number of elements
+	 * 
+	 * @throws IllegalArgumentException if expected number of insertions isn't positive
+	 *         or probability isn't between 0 and 1 (exclusive)
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		this(expectedInsertions, falsePositiveProbability, Hasher.DEFAULT);
+	}
+
+	/**
+	 * Creates filter for the given number of elements with the given false
+	 * positive probability, which uses specified hasher.
+	 * 
+	 * @param expectedInsertions expected number of elements put into the filter
+	 * @param falsePositiveProbability desired probability of false positives
+	 *        (for instance, 0.01) when the filter contains expected number of elements
+	 * @param hasher hash function for the elements
+	 * 
+	 * @throws IllegalArgumentException if expected number of insertions isn't positive
+	 *         or probability isn't between 0 and 1 (exclusive)
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability, Hasher<? super E> hasher) {
+		checkArguments(expectedInsertions, falsePositiveProbability);
+		this.bitSize = optimalBitSize(expectedInsertions, falsePositiveProbability);
+		this.hashFunctions = optimalHashFunctions(expectedInsertions, bitSize);
+		this.bits = new BooleanArray(bitSize);
+		this.hasher = hasher;
+	}
+
+	/**
+	 * Puts the element into the filter.
+	 * 
+	 * @param e element to put
+	 * @return <tt>true</tt> if bits of the filter have changed, which means that
+	 *         the element definitely wasn't put into the filter before
+	 */
+	public boolean put(E e) {
+		final long h1 = Hashing.hash(hasher, e);
+		final long h2 = Hashing.mix(h1);
+		boolean changed = false;
+		for (int i = 0; i < hashFunctions; i++)
+			changed |= !bits.setTrue(position(h1, h2, i, bitSize));
+		return changed;
+	}
+
+	/**
+	 * Returns <tt>true</tt> if the element might have been put into the filter
+	 * and <tt>false</tt> if this is definitely not the case.
+	 * 
+	 * @param e element to check
+	 * @return <tt>false</tt> if the element definitely wasn't put into the filter
+	 */
+	public boolean mightContain(E e) {
+		final long h1 = Hashing.hash(hasher, e);
+		final long h2 = Hashing.mix(h1);
+		for (int i = 0; i < hashFunctions; i++) {
+			if (!bits.get(position(h1, h2, i, bitSize)))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds all elements of the given filter to this one. Result is the same as
+	 * if all elements put into both filters were put into this filter.
+	 * 
+	 * @param other filter to merge into this one
+	 * @throws IllegalArgumentException if filters have different sizes,
+	 *         numbers of hash functions or hashers
+	 */
+	public void merge(BloomFilter<E> other) {
+		if (bitSize != other.bitSize || hashFunctions != other.hashFunctions || hasher.getClass() != other.hasher.getClass())
+			throw new IllegalArgumentException("Filters are not compatible");
+		bits.or(other.bits);
+	}
+
+	/**
+	 * Returns number of bits of this filter.
+	 * 
+	 * @return number of bits of this filter
+	 */
+	public long bitSize() {
+		return bitSize;
+	}
+
+	/**
+	 * Returns number of bits set for each element.
+	 * 
+	 * @return number of hash functions used by this filter
+	 */
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+
+	/**
+	 * Returns estimated number of distinct elements put into this filter.
+	 * Takes time proportional to the size of the filter.
+	 * 
+	 * @return estimated number of distinct elements put into the filter
+	 */
+	public long approximateElementCount() {
+		final double fractionOfZeros = 1 - (double) bits.cardinality() / bitSize;
+		return Math.round(-Math.log(fractionOfZeros) * bitSize / hashFunctions);
+	}
+
+	/**
+	 * Returns probability that {@link #mightContain(Object) mightContain} returns
+	 * <tt>true</tt> for the element which wasn't put into the filter, given current
+	 * content of the filter. Takes time proportional to the size of the filter.
+	 * 
+	 * @return current false positive probability
+	 */
+	public double expectedFalsePositiveProbability() {
+		return Math.pow((double) bits.cardinality() / bitSize, hashFunctions);
+	}
+}
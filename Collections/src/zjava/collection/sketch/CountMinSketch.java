@@ -0,0 +1,167 @@
+package zjava.collection.sketch;
+
+import zjava.collection.Hasher;
+
+import static zjava.system.Const.MAX_ARRAY_SIZE;
+
+/**
+ * Estimates how many times each element was added to it using fixed amount of
+ * memory.<br>
+ * Keeps <tt>depth</tt> rows of <tt>width</tt> counters. Each element is counted
+ * in one counter of each row, and estimate is the minimum of these counters, so
+ * it never underestimates. With width of <tt>e/epsilon</tt> and depth of
+ * <tt>ln(1/delta)</tt> estimate exceeds real count by more than
+ * <tt>epsilon*totalCount</tt> with probability of at most <tt>delta</tt>.
+ *
+ * <p>Counters of the element are chosen by its 64-bit {@link Hasher#longHashCode(Object)
+ * longHashCode}. Elements with equal hash codes share all their counters, so for
+ * billions of distinct elements hasher should provide 64-bit hash codes (see
+ * {@link zjava.collection.Hasherz Hasherz}).
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <E> - the type of elements of this sketch
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class CountMinSketch<E> implements java.io.Serializable {
+
+	private static final long serialVersionUID = 201704151200L;
+
+	/** Counters, row by row */
+	private final long[] counters;
+	private final int width;
+	private final int depth;
+	private final Hasher<? super E> hasher;
+	private long totalCount;
+
+	/**
+	 * Creates sketch with given error bounds, which uses {@link Hasher#DEFAULT default} hasher.
+	 * 
+	 * @param epsilon maximal overestimation relative to the total count
+	 * @param delta probability that overestimation exceeds <tt>epsilon</tt>
+	 * @throws IllegalArgumentException if either of parameters isn't between 0 and 1 (exclusive)
+	 */
+	public CountMinSketch(double epsilon, double delta) {
+		this(epsilon, delta, Hasher.DEFAULT);
+	}
+
+	/**
+	 * Creates sketch with given error bounds, which uses specified hasher.
+	 * 
+	 * @param epsilon maximal overestimation relative to the total count
+	 * @param delta probability that overestimation exceeds <tt>epsilon</tt>
+	 * @param hasher hash function for the elements
+	 * @throws IllegalArgumentException if either of parameters isn't between 0 and 1 (exclusive)
+	 */
+	public CountMinSketch(double epsilon, double delta, Hasher<? super E> hasher) {
+		if (!(epsilon > 0 && epsilon < 1))
+			throw new IllegalArgumentException("Epsilon: " + epsilon);
+		if (!(delta > 0 && delta < 1))
+			throw new IllegalArgumentException("Delta: " + delta);
+		final double width = Math.ceil(Math.E / epsilon);
+		final int depth = (int) Math.ceil(Math.log(1 / delta));
+		if (width * depth > MAX_ARRAY_SIZE)
+			throw new OutOfMemoryError("Required array size too large");
+		this.width = (int) width;
+		this.depth = depth;
+		this.counters = new long[this.width * depth];
+		this.hasher = hasher;
+	}
+
+	/**
+	 * Adds one occurrence of the element.
+	 * 
+	 * @param e element to add
+	 */
+	public void add(E e) {
+		add(e, 1);
+	}
+
+	/**
+	 * Adds given number of occurrences of the element.
+	 * 
+	 * @param e element to add
+	 * @param count number of occurrences
+	 * @throws IllegalArgumentException if count is negative
+	 */
+	public void add(E e, long count) {
+		if (count < 0)
+			throw new IllegalArgumentException("Count: " + count);
+		final long h1 = Hashing.hash(hasher, e);
+		final long h2 = Hashing.mix(h1);
+		for (int i = 0; i < depth; i++)
+			counters[i * width + (int) BloomFilter.position(h1, h2, i, width)] += count;
+		totalCount += count;
+	}
+
+	/**
+	 * Returns estimated number of occurrences of the element. Estimate is never
+	 * less than the real number.
+	 * 
+	 * @param e element to count
+	 * @return estimated number of occurrences of the element
+	 */
+	public long estimateCount(E e) {
+		final long h1 = Hashing.hash(hasher, e);
+		final long h2 = Hashing.mix(h1);
+		long estimate = Long.MAX_VALUE;
+		for (int i = 0; i < depth; i++)
+			estimate = Math.min(estimate, counters[i * width + (int) BloomFilter.position(h1, h2, i, width)]);
+		return estimate;
+	}
+
+	/**
+	 * Adds all occurrences counted by the given sketch to this one.
+	 * 
+	 * @param other sketch to merge into this one
+	 * @throws IllegalArgumentException if sketches have different sizes or hashers
+	 */
+	public void merge(CountMinSketch<E> other) {
+		if (width != other.width || depth != other.depth || hasher.getClass() != other.hasher.getClass())
+			throw new IllegalArgumentException("Sketches are not compatible");
+		for (int i = 0; i < counters.length; i++)
+			counters[i] += other.counters[i];
+		totalCount += other.totalCount;
+	}
+
+	/**
+	 * Divides all counters by two, so occurrences added long ago gradually lose
+	 * their weight. Total count is halved as well. Estimates remain upper bounds
+	 * of the halved real counts rounded down.
+	 */
+	public void halve() {
+		for (int i = 0; i < counters.length; i++)
+			counters[i] >>>= 1;
+		totalCount >>>= 1;
+	}
+
+	/**
+	 * Returns total number of occurrences of all elements added to this sketch.
+	 * 
+	 * @return total number of occurrences
+	 */
+	public long totalCount() {
+		return totalCount;
+	}
+
+	/**
+	 * Returns number of counters in each row.
+	 * 
+	 * @return width of this sketch
+	 */
+	public int width() {
+		return width;
+	}
+
+	/**
+	 * Returns number of rows of counters.
+	 * 
+	 * @return depth of this sketch
+	 */
+	public int depth() {
+		return depth;
+	}
+}
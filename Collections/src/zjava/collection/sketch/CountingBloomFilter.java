@@ -0,0 +1,179 @@
+package zjava.collection.sketch;
+
+import zjava.collection.Hasher;
+
+import static zjava.system.Const.MAX_ARRAY_SIZE;
+
+/**
+ * Variant of the {@link BloomFilter} which supports removal of elements.<br>
+ * Each bit of the regular Bloom filter is replaced with 4-bit counter, so filter
+ * requires 4 times more memory. Counter which reaches its maximal value (15)
+ * is never changed afterwards, so overflow never causes false negatives.
+ *
+ * <p>Only elements which were put into the filter may be removed from it.
+ * Removal of other elements (even those for which {@link #mightContain(Object)
+ * mightContain} returns <tt>true</tt>) may cause false negatives.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <E> - the type of elements of this filter
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class CountingBloomFilter<E> implements java.io.Serializable {
+
+	private static final long serialVersionUID = 201704131200L;
+
+	private static final int COUNTER_ADDRESS_BITS = 4;
+	private static final long COUNTER_MASK = 0xF;
+
+	/** Counters packed in 64-bit words, 16 counters per word */
+	private final long[] counters;
+	private final long size;
+	private final int hashFunctions;
+	private final Hasher<? super E> hasher;
+
+	/**
+	 * Creates filter for the given number of elements with the given false
+	 * positive probability, which uses {@link Hasher#DEFAULT default} hasher.
+	 * 
+	 * @param expectedInsertions expected number of elements in the filter
+	 * @param falsePositiveProbability desired probability of false positives
+	 *        (for instance, 0.01) when the filter contains expected number of elements
+	 * 
+	 * @throws IllegalArgumentException if expected number of insertions isn't positive
+	 *         or probability isn't between 0 and 1 (exclusive)
+	 */
+	public CountingBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		this(expectedInsertions, falsePositiveProbability, Hasher.DEFAULT);
+	}
+
+	/**
+	 * Creates filter for the given number of elements with the given false
+	 * positive probability, which uses specified hasher.
+	 * 
+	 * @param expectedInsertions expected number of elements in the filter
+	 * @param falsePositiveProbability desired probability of false positives
+	 *        (for instance, 0.01) when the filter contains expected number of elements
+	 * @param hasher hash function for the elements
+	 * 
+	 * @throws IllegalArgumentException if expected number of insertions isn't positive
+	 *         or probability isn't between 0 and 1 (exclusive)
+	 */
+	public CountingBloomFilter(long expectedInsertions, double falsePositiveProbability, Hasher<? super E> hasher) {
+		BloomFilter.checkArguments(expectedInsertions, falsePositiveProbability);
+		this.size = BloomFilter.optimalBitSize(expectedInsertions, falsePositiveProbability);
+		this.hashFunctions = BloomFilter.optimalHashFunctions(expectedInsertions, size);
+		if ((size - 1) >>> COUNTER_ADDRESS_BITS >= MAX_ARRAY_SIZE)
+			throw new OutOfMemoryError("Required array size too large");
+		this.counters = new long[(int) (((size - 1) >>> COUNTER_ADDRESS_BITS) + 1)];
+		this.hasher = hasher;
+	}
+
+	private int counter(final long position) {
+		return (int) ((counters[(int) (position >>> COUNTER_ADDRESS_BITS)] >>> ((position & 15) << 2)) & COUNTER_MASK);
+	}
+
+	// - adds given delta to the counter, which mustn't overflow
+	private void add(final long position, final long delta) {
+		counters[(int) (position >>> COUNTER_ADDRESS_BITS)] += delta << ((position & 15) << 2);
+	}
+
+	/**
+	 * Puts the element into the filter.
+	 * 
+	 * @param e element to put
+	 * @return <tt>true</tt> if the element definitely wasn't in the filter before
+	 */
+	public boolean put(E e) {
+		final long h1 = Hashing.hash(hasher, e);
+		final long h2 = Hashing.mix(h1);
+		boolean absent = false;
+		for (int i = 0; i < hashFunctions; i++) {
+			final long position = BloomFilter.position(h1, h2, i, size);
+			final int count = counter(position);
+			absent |= count == 0;
+			if (count < COUNTER_MASK)
+				add(position, 1);
+		}
+		return absent;
+	}
+
+	/**
+	 * Removes the element from the filter. The element must have been put into
+	 * the filter before, otherwise subsequent lookups may produce false negatives.
+	 * 
+	 * @param e element to remove
+	 * @return <tt>true</tt> if the element was removed, <tt>false</tt> if it
+	 *         definitely wasn't in the filter (in this case filter isn't changed)
+	 */
+	public boolean remove(E e) {
+		if (!mightContain(e))
+			return false;
+		final long h1 = Hashing.hash(hasher, e);
+		final long h2 = Hashing.mix(h1);
+		for (int i = 0; i < hashFunctions; i++) {
+			final long position = BloomFilter.position(h1, h2, i, size);
+			// - saturated counter may not be decremented since its real value is unknown
+			final int count = counter(position);
+			if (count > 0 && count < COUNTER_MASK)
+				add(position, -1);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns <tt>true</tt> if the element might be in the filter
+	 * and <tt>false</tt> if this is definitely not the case.
+	 * 
+	 * @param e element to check
+	 * @return <tt>false</tt> if the element definitely isn't in the filter
+	 */
+	public boolean mightContain(E e) {
+		final long h1 = Hashing.hash(hasher, e);
+		final long h2 = Hashing.mix(h1);
+		for (int i = 0; i < hashFunctions; i++) {
+			if (counter(BloomFilter.position(h1, h2, i, size)) == 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds all elements of the given filter to this one. Counters are added with
+	 * saturation at the maximal value.
+	 * 
+	 * @param other filter to merge into this one
+	 * @throws IllegalArgumentException if filters have different sizes,
+	 *         numbers of hash functions or hashers
+	 */
+	public void merge(CountingBloomFilter<E> other) {
+		if (size != other.size || hashFunctions != other.hashFunctions || hasher.getClass() != other.hasher.getClass())
+			throw new IllegalArgumentException("Filters are not compatible");
+		for (long position = 0; position < size; position++) {
+			final int added = other.counter(position);
+			if (added > 0)
+				add(position, Math.min(added, COUNTER_MASK - counter(position)));
+		}
+	}
+
+	/**
+	 * Returns number of counters of this filter.
+	 * 
+	 * @return number of counters of this filter
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns number of counters used for each element.
+	 * 
+	 * @return number of hash functions used by this filter
+	 */
+	public int hashFunctions() {
+		return hashFunctions;
+	}
+}
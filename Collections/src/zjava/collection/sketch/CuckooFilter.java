@@ -0,0 +1,264 @@
+package zjava.collection.sketch;
+
+import zjava.collection.Hasher;
+
+import static zjava.system.Const.MAX_ARRAY_SIZE;
+
+/**
+ * Probabilistic set which answers whether an element <i>might</i> be in it and
+ * supports removal of elements.<br>
+ * Keeps 16-bit fingerprints of the elements in a cuckoo hash table. Each bucket
+ * holds up to 4 fingerprints packed in a single 64-bit word, so lookup reads at
+ * most two words and false positive probability is about <tt>1.2*10^-4</tt>
+ * regardless of the number of elements. Table is filled up to about 95% before
+ * insertions start failing, so each element takes about 17 bits.
+ *
+ * <p>Buckets are stored in pages of <tt>2^20</tt> words, so filter may hold far
+ * more than <tt>Integer.MAX_VALUE</tt> fingerprints.
+ *
+ * <p>Bucket of the element is chosen by the lowest bits of its 64-bit hash code
+ * and fingerprint is taken from the highest 16 bits, so they are independent
+ * as long as hasher provides 64-bit hash codes (see {@link Hasher#longHashCode(Object)
+ * longHashCode}).
+ *
+ * <p>Filter is a multiset of fingerprints: element put into the filter several
+ * times has to be removed the same number of times. Same element may be put
+ * into the filter at most 8 times. Only elements which were put into the filter
+ * may be removed from it, otherwise fingerprint of another element may be
+ * removed, which causes false negatives.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <E> - the type of elements of this filter
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class CuckooFilter<E> implements java.io.Serializable {
+
+	private static final long serialVersionUID = 201704141200L;
+
+	private static final int SLOTS = 4;
+	private static final int FINGERPRINT_BITS = 16;
+	private static final long FINGERPRINT_MASK = 0xFFFF;
+	private static final long LOW_BITS = 0x0001000100010001L;
+	private static final long HIGH_BITS = 0x8000800080008000L;
+
+	private static final int PAGE_ADDRESS_BITS = 20;
+	private static final int PAGE_MASK = (1 << PAGE_ADDRESS_BITS) - 1;
+
+	private static final int MAX_KICKS = 500;
+	private static final double MAX_LOAD_FACTOR = 0.95;
+
+	/** Buckets split into pages. Each bucket is a 64-bit word with 4 fingerprints, 0 stands for an empty slot */
+	private final long[][] pages;
+	private final long bucketMask;
+	private final Hasher<? super E> hasher;
+	private long size;
+
+	/** Fingerprint which didn't fit into the table, 0 if none */
+	private int victimFingerprint;
+	private long victimBucket;
+
+	/** State of the generator which chooses fingerprints to relocate */
+	private long random = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * Creates filter for the given number of elements, which uses
+	 * {@link Hasher#DEFAULT default} hasher.
+	 * 
+	 * @param expectedInsertions expected number of elements in the filter
+	 * @throws IllegalArgumentException if expected number of insertions isn't positive
+	 */
+	public CuckooFilter(long expectedInsertions) {
+		this(expectedInsertions, Hasher.DEFAULT);
+	}
+
+	/**
+	 * Creates filter for the given number of elements, which uses specified hasher.
+	 * 
+	 * @param expectedInsertions expected number of elements in the filter
+	 * @param hasher hash function for the elements
+	 * @throws IllegalArgumentException if expected number of insertions isn't positive
+	 */
+	public CuckooFilter(long expectedInsertions, Hasher<? super E> hasher) {
+		if (expectedInsertions <= 0)
+			throw new IllegalArgumentException("Expected insertions: " + expectedInsertions);
+		// - number of buckets must be a power of two, so alternate bucket of the fingerprint can be computed with xor
+		final long minBuckets = Math.max(2, (long) Math.ceil(expectedInsertions / (SLOTS * MAX_LOAD_FACTOR)));
+		final long buckets = Long.highestOneBit(minBuckets - 1) << 1;
+		// - bits of the bucket index must not overlap with bits of the fingerprint
+		if (buckets <= 0 || buckets > 1L << (64 - FINGERPRINT_BITS) || (buckets - 1) >>> PAGE_ADDRESS_BITS >= MAX_ARRAY_SIZE)
+			throw new OutOfMemoryError("Required array size too large");
+		this.bucketMask = buckets - 1;
+		this.pages = new long[(int) (((buckets - 1) >>> PAGE_ADDRESS_BITS) + 1)][];
+		for (int i = 0; i < pages.length; i++)
+			pages[i] = new long[(int) Math.min(buckets, 1 << PAGE_ADDRESS_BITS)];
+		this.hasher = hasher;
+	}
+
+	private long bucket(final long index) {
+		return pages[(int) (index >>> PAGE_ADDRESS_BITS)][(int) index & PAGE_MASK];
+	}
+
+	private void setBucket(final long index, final long value) {
+		pages[(int) (index >>> PAGE_ADDRESS_BITS)][(int) index & PAGE_MASK] = value;
+	}
+
+	// - returns index of the primary bucket of the hash, which is taken from its lowest bits
+	private long primaryBucket(final long hash) {
+		return hash & bucketMask;
+	}
+
+	// - returns non-zero 16-bit fingerprint of the hash, which is taken from its highest bits
+	private static int fingerprint(final long hash) {
+		final int fingerprint = (int) (hash >>> (64 - FINGERPRINT_BITS));
+		return (fingerprint == 0) ? 1 : fingerprint;
+	}
+
+	private long alternateBucket(final long bucket, final int fingerprint) {
+		return (bucket ^ Hashing.mix(fingerprint)) & bucketMask;
+	}
+
+	// - returns non-zero value if any of 16-bit lanes of the word has the given value
+	private static long matches(final long word, final int fingerprint) {
+		final long x = word ^ (fingerprint * LOW_BITS);
+		return (x - LOW_BITS) & ~x & HIGH_BITS;
+	}
+
+	// - returns position (in bits) of the first lane of the word with the given value
+	private static int lane(final long word, final int fingerprint) {
+		return Long.numberOfTrailingZeros(matches(word, fingerprint)) - (FINGERPRINT_BITS - 1);
+	}
+
+	// - puts fingerprint into the bucket if it has empty slot
+	private boolean tryPut(final long index, final int fingerprint) {
+		final long word = bucket(index);
+		if (matches(word, 0) == 0)
+			return false;
+		setBucket(index, word | ((long) fingerprint << lane(word, 0)));
+		return true;
+	}
+
+	// - removes one copy of fingerprint from the bucket if it's there
+	private boolean tryRemove(final long index, final int fingerprint) {
+		final long word = bucket(index);
+		if (matches(word, fingerprint) == 0)
+			return false;
+		setBucket(index, word & ~(FINGERPRINT_MASK << lane(word, fingerprint)));
+		return true;
+	}
+
+	private int nextRandom() {
+		random ^= random << 13;
+		random ^= random >>> 7;
+		random ^= random << 17;
+		return (int) random;
+	}
+
+	// - puts fingerprint into one of its buckets, relocating other fingerprints if necessary
+	// - if fingerprint which doesn't fit remains, it's saved as a victim
+	private void put(final long bucket, final int fingerprint) {
+		if (tryPut(bucket, fingerprint) || tryPut(alternateBucket(bucket, fingerprint), fingerprint))
+			return;
+		long index = ((nextRandom() & 1) == 0) ? bucket : alternateBucket(bucket, fingerprint);
+		int current = fingerprint;
+		for (int kick = 0; kick < MAX_KICKS; kick++) {
+			final int shift = (nextRandom() & (SLOTS - 1)) * FINGERPRINT_BITS;
+			final long word = bucket(index);
+			final int evicted = (int) ((word >>> shift) & FINGERPRINT_MASK);
+			setBucket(index, (word & ~(FINGERPRINT_MASK << shift)) | ((long) current << shift));
+			current = evicted;
+			index = alternateBucket(index, current);
+			if (tryPut(index, current))
+				return;
+		}
+		victimFingerprint = current;
+		victimBucket = index;
+	}
+
+	/**
+	 * Puts the element into the filter.
+	 * 
+	 * @param e element to put
+	 * @return <tt>true</tt> if the element was put into the filter, <tt>false</tt>
+	 *         if filter is full (in this case filter isn't changed)
+	 */
+	public boolean put(E e) {
+		if (victimFingerprint != 0)
+			return false;
+		final long hash = Hashing.hash(hasher, e);
+		put(primaryBucket(hash), fingerprint(hash));
+		size++;
+		return true;
+	}
+
+	/**
+	 * Returns <tt>true</tt> if the element might be in the filter
+	 * and <tt>false</tt> if this is definitely not the case.
+	 * 
+	 * @param e element to check
+	 * @return <tt>false</tt> if the element definitely isn't in the filter
+	 */
+	public boolean mightContain(E e) {
+		final long hash = Hashing.hash(hasher, e);
+		final long bucket = primaryBucket(hash);
+		final int fingerprint = fingerprint(hash);
+		if (matches(bucket(bucket), fingerprint) != 0)
+			return true;
+		final long alternate = alternateBucket(bucket, fingerprint);
+		if (matches(bucket(alternate), fingerprint) != 0)
+			return true;
+		return victimFingerprint == fingerprint && (victimBucket == bucket || victimBucket == alternate);
+	}
+
+	/**
+	 * Removes the element from the filter. The element must have been put into
+	 * the filter before, otherwise subsequent lookups may produce false negatives.
+	 * 
+	 * @param e element to remove
+	 * @return <tt>true</tt> if the element was removed, <tt>false</tt> if it
+	 *         definitely wasn't in the filter (in this case filter isn't changed)
+	 */
+	public boolean remove(E e) {
+		final long hash = Hashing.hash(hasher, e);
+		final long bucket = primaryBucket(hash);
+		final int fingerprint = fingerprint(hash);
+		final long alternate = alternateBucket(bucket, fingerprint);
+		if (victimFingerprint == fingerprint && (victimBucket == bucket || victimBucket == alternate)) {
+			victimFingerprint = 0;
+		}
+		else if (tryRemove(bucket, fingerprint) || tryRemove(alternate, fingerprint)) {
+			// - freed slot gives a chance to the fingerprint which didn't fit
+			if (victimFingerprint != 0) {
+				final int victim = victimFingerprint;
+				victimFingerprint = 0;
+				put(victimBucket, victim);
+			}
+		}
+		else {
+			return false;
+		}
+		size--;
+		return true;
+	}
+
+	/**
+	 * Returns number of fingerprints in this filter.
+	 * 
+	 * @return number of elements put into the filter and not removed yet
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns number of slots for fingerprints in this filter.
+	 * 
+	 * @return number of slots for fingerprints
+	 */
+	public long capacity() {
+		return (bucketMask + 1) * SLOTS;
+	}
+}
@@ -0,0 +1,35 @@
+package zjava.collection.sketch;
+
+import zjava.collection.Hasher;
+
+/**
+ * Hash functions shared by the sketches.<br>
+ * 64-bit hash codes provided by {@link Hasher#longHashCode(Object) Hasher.longHashCode}
+ * are mixed with the finalization step of MurmurHash3, so every bit of the result
+ * depends on all bits of the hash code, even if hasher provides only 32-bit hash
+ * codes.
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+final class Hashing {
+
+	private Hashing() {}
+
+	// - finalization mix of 64-bit MurmurHash3
+	static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	// - returns 64-bit hash of the element
+	// - golden ratio increment keeps hash code 0 (and null elements) away from the fixed point of the mix
+	static <E> long hash(final Hasher<? super E> hasher, final E e) {
+		return mix(hasher.longHashCode(e) + 0x9e3779b97f4a7c15L);
+	}
+}
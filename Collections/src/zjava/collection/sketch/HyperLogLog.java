@@ -0,0 +1,261 @@
+package zjava.collection.sketch;
+
+import java.util.Arrays;
+
+import zjava.collection.Hasher;
+
+/**
+ * Estimates number of distinct elements added to it using fixed amount of memory.<br>
+ * Implements HyperLogLog with improvements of HyperLogLog++: 64-bit hashes, so
+ * estimation doesn't degrade with billions of elements, and sparse representation
+ * which keeps small sketches both compact and precise. Instead of empirical bias
+ * correction of HyperLogLog++ cardinality is estimated from the histogram of
+ * register values, which is unbiased over the whole range of cardinalities.
+ *
+ * <p>Sketch with precision <tt>p</tt> keeps <tt>2^p</tt> one-byte registers and
+ * has relative standard error of about <tt>1.04/sqrt(2^p)</tt>, for instance,
+ * about 0.8% with default precision of 14 (16 KB of registers). Until number of
+ * distinct elements reaches a fraction of <tt>2^p</tt>, sketch keeps them in sparse
+ * form with precision of 25 bits, which takes less memory and gives nearly exact
+ * counts.
+ *
+ * <p>Elements are hashed with 64-bit {@link Hasher#longHashCode(Object) longHashCode}
+ * of the hasher, and elements with equal hash codes are indistinguishable for the
+ * sketch. Hashers which provide only 32-bit hash codes (such as
+ * {@link Hasher#DEFAULT default} one) give at most <tt>2^32</tt> distinct hashes,
+ * so with them estimates can't exceed about <tt>2^32</tt>. Hashers of
+ * {@link zjava.collection.Hasherz Hasherz} provide 64-bit hash codes and don't
+ * have this limitation.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <E> - the type of elements of this sketch
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class HyperLogLog<E> implements java.io.Serializable {
+
+	private static final long serialVersionUID = 201704151200L;
+
+	/** Default precision. Sketch takes 16 KB and has error of 0.8% */
+	public static final int DEFAULT_PRECISION = 14;
+
+	private static final int MIN_PRECISION = 4;
+	private static final int MAX_PRECISION = 18;
+
+	/** Precision of the sparse representation */
+	private static final int SPARSE_PRECISION = 25;
+	private static final int RANK_BITS = 6;
+	private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+
+	private final int precision;
+	private final Hasher<? super E> hasher;
+
+	/** Dense registers, <tt>null</tt> while sketch is sparse */
+	private byte[] registers;
+
+	/** Sparse entries (index with sparse precision followed by rank) sorted by index */
+	private int[] sparse;
+	private int sparseSize;
+
+	/**
+	 * Creates sketch with {@link #DEFAULT_PRECISION default} precision, which uses
+	 * {@link Hasher#DEFAULT default} hasher.
+	 */
+	public HyperLogLog() {
+		this(DEFAULT_PRECISION, Hasher.DEFAULT);
+	}
+
+	/**
+	 * Creates sketch with specified precision, which uses {@link Hasher#DEFAULT default} hasher.
+	 * 
+	 * @param precision number of bits of the register index (from 4 to 18)
+	 * @throws IllegalArgumentException if precision is out of range
+	 */
+	public HyperLogLog(int precision) {
+		this(precision, Hasher.DEFAULT);
+	}
+
+	/**
+	 * Creates sketch with specified precision, which uses specified hasher.
+	 * 
+	 * @param precision number of bits of the register index (from 4 to 18)
+	 * @param hasher hash function for the elements
+	 * @throws IllegalArgumentException if precision is out of range
+	 */
+	public HyperLogLog(int precision, Hasher<? super E> hasher) {
+		if (precision < MIN_PRECISION || precision > MAX_PRECISION)
+			throw new IllegalArgumentException("Precision: " + precision);
+		this.precision = precision;
+		this.hasher = hasher;
+		this.sparse = new int[8];
+	}
+
+	// - sparse representation is converted to dense once it takes more memory than dense registers
+	private int maxSparseSize() {
+		return (1 << precision) / 4;
+	}
+
+	private static int sparseEntry(final long hash) {
+		final int index = (int) (hash >>> (64 - SPARSE_PRECISION));
+		final int rank = Math.min(Long.numberOfLeadingZeros(hash << SPARSE_PRECISION), 64 - SPARSE_PRECISION - 1) + 1;
+		return (index << RANK_BITS) | rank;
+	}
+
+	// - converts sparse entry to index of dense register
+	private int denseIndex(final int entry) {
+		return entry >>> (RANK_BITS + SPARSE_PRECISION - precision);
+	}
+
+	// - converts sparse entry to rank of dense register
+	private int denseRank(final int entry) {
+		final int extraBits = SPARSE_PRECISION - precision;
+		final int extra = (entry >>> RANK_BITS) & ((1 << extraBits) - 1);
+		return (extra != 0) ? Integer.numberOfLeadingZeros(extra) - (32 - extraBits) + 1 : extraBits + (entry & RANK_MASK);
+	}
+
+	private boolean updateRegister(final int index, final int rank) {
+		if (registers[index] >= rank)
+			return false;
+		registers[index] = (byte) rank;
+		return true;
+	}
+
+	private boolean addSparse(final int entry) {
+		final int key = entry >>> RANK_BITS;
+		int lo = 0, hi = sparseSize;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			if (sparse[mid] >>> RANK_BITS < key)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		if (lo < sparseSize && sparse[lo] >>> RANK_BITS == key) {
+			if (sparse[lo] >= entry)
+				return false;
+			sparse[lo] = entry;
+			return true;
+		}
+		if (sparseSize == sparse.length)
+			sparse = Arrays.copyOf(sparse, 2 * sparseSize);
+		System.arraycopy(sparse, lo, sparse, lo + 1, sparseSize - lo);
+		sparse[lo] = entry;
+		sparseSize++;
+		if (sparseSize > maxSparseSize())
+			toDense();
+		return true;
+	}
+
+	private void toDense() {
+		registers = new byte[1 << precision];
+		for (int i = 0; i < sparseSize; i++)
+			updateRegister(denseIndex(sparse[i]), denseRank(sparse[i]));
+		sparse = null;
+		sparseSize = 0;
+	}
+
+	/**
+	 * Adds the element to the sketch.
+	 * 
+	 * @param e element to add
+	 * @return <tt>true</tt> if state of the sketch has changed, which means that
+	 *         the element definitely wasn't added to the sketch before
+	 */
+	public boolean add(E e) {
+		final long hash = Hashing.hash(hasher, e);
+		if (registers == null)
+			return addSparse(sparseEntry(hash));
+		final int rank = Math.min(Long.numberOfLeadingZeros(hash << precision), 64 - precision) + 1;
+		return updateRegister((int) (hash >>> (64 - precision)), rank);
+	}
+
+	/**
+	 * Adds all elements of the given sketch to this one. Result is the same as
+	 * if all elements added to both sketches were added to this sketch.
+	 * 
+	 * @param other sketch to merge into this one
+	 * @throws IllegalArgumentException if sketches have different precisions or hashers
+	 */
+	public void merge(HyperLogLog<E> other) {
+		if (precision != other.precision || hasher.getClass() != other.hasher.getClass())
+			throw new IllegalArgumentException("Sketches are not compatible");
+		if (other.registers == null) {
+			for (int i = 0; i < other.sparseSize; i++) {
+				if (registers == null)
+					addSparse(other.sparse[i]);
+				else
+					updateRegister(denseIndex(other.sparse[i]), denseRank(other.sparse[i]));
+			}
+		}
+		else {
+			if (registers == null)
+				toDense();
+			for (int i = 0; i < registers.length; i++) {
+				if (registers[i] < other.registers[i])
+					registers[i] = other.registers[i];
+			}
+		}
+	}
+
+	/**
+	 * Returns estimated number of distinct elements added to this sketch.
+	 * 
+	 * @return estimated number of distinct elements
+	 */
+	public long cardinality() {
+		if (registers == null) {
+			// - linear counting over registers of sparse precision
+			final double m = 1 << SPARSE_PRECISION;
+			return Math.round(m * Math.log(m / (m - sparseSize)));
+		}
+		// - improved estimator by O. Ertl, which is unbiased for all cardinalities without empirical corrections
+		final int m = registers.length;
+		final int q = 64 - precision;
+		final int[] histogram = new int[q + 2];
+		for (int i = 0; i < m; i++)
+			histogram[registers[i]]++;
+		double z = m * tau(1 - (double) histogram[q + 1] / m);
+		for (int k = q; k >= 1; k--)
+			z = 0.5 * (z + histogram[k]);
+		z += m * sigma((double) histogram[0] / m);
+		return Math.round(m / (2 * Math.log(2)) * m / z);
+	}
+
+	private static double sigma(double x) {
+		if (x == 1)
+			return Double.POSITIVE_INFINITY;
+		double y = 1, z = x, prev;
+		do {
+			x *= x;
+			prev = z;
+			z += x * y;
+			y += y;
+		} while (z != prev);
+		return z;
+	}
+
+	private static double tau(double x) {
+		if (x == 0 || x == 1)
+			return 0;
+		double y = 1, z = 1 - x, prev;
+		do {
+			x = Math.sqrt(x);
+			prev = z;
+			y *= 0.5;
+			z -= (1 - x) * (1 - x) * y;
+		} while (z != prev);
+		return z / 3;
+	}
+
+	/**
+	 * Returns precision of this sketch.
+	 * 
+	 * @return number of bits of the register index
+	 */
+	public int precision() {
+		return precision;
+	}
+}
@@ -0,0 +1,131 @@
+package zjava.collection.sketch;
+
+import java.util.Arrays;
+
+import zjava.collection.Hasher;
+
+/**
+ * Signature of a set, which allows to estimate similarity of sets without
+ * keeping their elements.<br>
+ * Keeps minimal value of each of <tt>k</tt> independent hash functions over the
+ * elements added to it. Probability that two signatures have the same value
+ * at some position equals to the Jaccard similarity of the sets (size of the
+ * intersection divided by size of the union), so {@link #similarity(MinHash)
+ * similarity} estimate has standard error of about <tt>1/sqrt(k)</tt>.
+ *
+ * <p>Hash functions are derived from 64-bit {@link Hasher#longHashCode(Object)
+ * longHashCode} of the hasher. Elements with equal hash codes are
+ * indistinguishable, so for sets with billions of elements hasher should provide
+ * 64-bit hash codes (see {@link zjava.collection.Hasherz Hasherz}).
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <E> - the type of elements of this signature
+ *
+ * @since Zjava 1.0
+ *
+ * @author Ivan Zaitsau
+ */
+public class MinHash<E> implements java.io.Serializable {
+
+	private static final long serialVersionUID = 201704151200L;
+
+	private final long[] signature;
+	private final Hasher<? super E> hasher;
+
+	/**
+	 * Creates empty signature with the given number of hash functions, which uses
+	 * {@link Hasher#DEFAULT default} hasher.
+	 * 
+	 * @param hashFunctions number of hash functions (size of the signature)
+	 * @throws IllegalArgumentException if number of hash functions isn't positive
+	 */
+	public MinHash(int hashFunctions) {
+		this(hashFunctions, Hasher.DEFAULT);
+	}
+
+	/**
+	 * Creates empty signature with the given number of hash functions, which uses
+	 * specified hasher.
+	 * 
+	 * @param hashFunctions number of hash functions (size of the signature)
+	 * @param hasher hash function for the elements
+	 * @throws IllegalArgumentException if number of hash functions isn't positive
+	 */
+	public MinHash(int hashFunctions, Hasher<? super E> hasher) {
+		if (hashFunctions <= 0)
+			throw new IllegalArgumentException("Hash functions: " + hashFunctions);
+		this.signature = new long[hashFunctions];
+		Arrays.fill(signature, Long.MAX_VALUE);
+		this.hasher = hasher;
+	}
+
+	/**
+	 * Adds the element to the set represented by this signature.
+	 * 
+	 * @param e element to add
+	 * @return <tt>true</tt> if signature has changed
+	 */
+	public boolean add(E e) {
+		final long hash = Hashing.hash(hasher, e);
+		boolean changed = false;
+		// - i-th hash function is the mix of the element hash shifted by i-th multiple of golden ratio
+		long seed = hash;
+		for (int i = 0; i < signature.length; i++) {
+			seed += 0x9e3779b97f4a7c15L;
+			final long value = Hashing.mix(seed) & Long.MAX_VALUE;
+			if (value < signature[i]) {
+				signature[i] = value;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	private void checkCompatible(final MinHash<E> other) {
+		if (signature.length != other.signature.length || hasher.getClass() != other.hasher.getClass())
+			throw new IllegalArgumentException("Signatures are not compatible");
+	}
+
+	/**
+	 * Adds all elements of the given signature to this one. Result is the
+	 * signature of the union of both sets.
+	 * 
+	 * @param other signature to merge into this one
+	 * @throws IllegalArgumentException if signatures have different sizes or hashers
+	 */
+	public void merge(MinHash<E> other) {
+		checkCompatible(other);
+		for (int i = 0; i < signature.length; i++) {
+			if (signature[i] > other.signature[i])
+				signature[i] = other.signature[i];
+		}
+	}
+
+	/**
+	 * Returns estimated Jaccard similarity of the sets represented by this
+	 * and given signatures.
+	 * 
+	 * @param other signature to compare with
+	 * @return estimated similarity (from 0 to 1) of the sets
+	 * @throws IllegalArgumentException if signatures have different sizes or hashers
+	 */
+	public double similarity(MinHash<E> other) {
+		checkCompatible(other);
+		int equal = 0;
+		for (int i = 0; i < signature.length; i++) {
+			if (signature[i] == other.signature[i])
+				equal++;
+		}
+		return (double) equal / signature.length;
+	}
+
+	/**
+	 * Returns number of hash functions of this signature.
+	 * 
+	 * @return number of hash functions
+	 */
+	public int hashFunctions() {
+		return signature.length;
+	}
+}
@@ -0,0 +1,167 @@
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import zjava.collection.BoundedCache;
+import zjava.collection.ConcurrentBoundedCache;
+
+public class BoundedCacheTest {
+
+	@Test(timeout = 2000)
+	public void basicOperations() {
+		BoundedCache<String, Integer> cache = new BoundedCache<String, Integer>(100);
+		assertNull(cache.get("a"));
+		assertNull(cache.put("a", 1));
+		assertEquals(1, cache.put("a", 2).intValue());
+		assertEquals(2, cache.get("a").intValue());
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.hitCount());
+		assertEquals(1, cache.missCount());
+		assertEquals(0.5, cache.hitRate(), 0.0);
+		assertEquals(2, cache.remove("a").intValue());
+		assertNull(cache.remove("a"));
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.size());
+		try {
+			cache.put("b", null);
+			fail();
+		}
+		catch (NullPointerException e) {}
+		try {
+			cache.get(null);
+			fail();
+		}
+		catch (NullPointerException e) {}
+	}
+
+	@Test(timeout = 5000)
+	public void randomOperationsKeepLatestValues() {
+		Random random = new Random(11);
+		BoundedCache<Integer, Integer> cache = new BoundedCache<Integer, Integer>(500);
+		Map<Integer, Integer> latest = new HashMap<Integer, Integer>();
+		for (int i = 0; i < 300000; i++) {
+			Integer key = random.nextInt(2000);
+			switch (random.nextInt(4)) {
+				case 0:
+					cache.put(key, i);
+					latest.put(key, i);
+					break;
+				case 1:
+					cache.remove(key);
+					latest.remove(key);
+					break;
+				default:
+					Integer value = cache.get(key);
+					if (value != null)
+						assertEquals(latest.get(key), value);
+			}
+			assertTrue(cache.size() <= 500);
+		}
+		assertTrue(cache.size() >= 400);
+		assertTrue(cache.evictionCount() > 0);
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNull(cache.get(0));
+	}
+
+	@Test(timeout = 5000)
+	public void frequentKeysSurviveScan() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<Integer, Integer>(1000);
+		int hits = 0;
+		for (int i = 0; i < 100000; i++) {
+			// - every hot key is reused after 1500 other keys, which is too late for LRU cache of that size,
+			// - but keys of the scan are used only once, so they must not be admitted instead of hot keys
+			Integer key = i % 500;
+			if (cache.get(key) != null)
+				hits += (i >= 50000) ? 1 : 0;
+			else
+				cache.put(key, key);
+			for (int k = 2*i + 1000; k < 2*i + 1002; k++)
+				if (cache.get(k) == null)
+					cache.put(k, k);
+		}
+		assertTrue("Hits: " + hits, hits > 45000);
+	}
+
+	@Test(timeout = 2000)
+	public void weightedEviction() {
+		BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(1000, new BoundedCache.Weigher<Integer, String>() {
+			public int weigh(Integer key, String value) {
+				return value.length();
+			}
+		});
+		Random random = new Random(3);
+		for (int i = 0; i < 10000; i++) {
+			char[] chars = new char[random.nextInt(50)];
+			cache.put(i, new String(chars));
+			assertTrue(cache.weightedSize() <= 1000);
+		}
+		assertTrue(cache.weightedSize() > 900);
+		// - entry heavier than the whole cache isn't cached and removes previous value of the key
+		cache.put(-1, "x");
+		assertNull(cache.put(-2, new String(new char[1001])));
+		assertNull(cache.get(-2));
+		assertEquals("x", cache.put(-1, new String(new char[1001])));
+		assertNull(cache.get(-1));
+	}
+
+	@Test(timeout = 2000)
+	public void expiration() throws InterruptedException {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<Integer, Integer>(100, null, 20, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 10; i++)
+			cache.put(i, i);
+		assertEquals(5, cache.get(5).intValue());
+		Thread.sleep(50);
+		cache.put(100, 100);
+		assertNull(cache.get(5));
+		assertEquals(100, cache.get(100).intValue());
+		cache.cleanUp();
+		assertEquals(1, cache.size());
+		assertEquals(10, cache.evictionCount());
+	}
+
+	@Test(timeout = 10000)
+	public void concurrentAccess() throws InterruptedException {
+		final ConcurrentBoundedCache<Integer, Integer> cache = new ConcurrentBoundedCache<Integer, Integer>(1000);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int seed = t;
+			threads[t] = new Thread() {
+				public void run() {
+					try {
+						Random random = new Random(seed);
+						for (int i = 0; i < 100000; i++) {
+							Integer key = random.nextInt(5000);
+							Integer value = cache.get(key);
+							if (value == null)
+								cache.put(key, -key);
+							else if (value.intValue() != -key)
+								throw new AssertionError("Wrong value " + value + " for key " + key);
+						}
+					}
+					catch (Throwable e) {
+						failure.set(e);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertNull(failure.get());
+		assertTrue(cache.size() <= 1000);
+		assertEquals(400000, cache.hitCount() + cache.missCount());
+		assertTrue(cache.hitCount() > 0);
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+}
@@ -1,57 +1,261 @@
-package zjava.test.collection;
-
-import static org.junit.Assert.*;
-
-import java.util.*;
-import org.junit.*;
-import zjava.collection.Collectionz;
-import static zjava.collection.Collectionz.*;
-
-public class CollectionzTest {
-
-	@Test(timeout = 200)
-	public void toStringWorksOnNestedIterablesAndArrays() {
-		List<Object> root = new ArrayList<Object>();
-		root.add(root);
-		root.add(new Object[] {root});
-		root.add(Arrays.asList(new Object[][]{new Object[] {root}}));
-		Collectionz.toString(root);
-	}
-
-	@Test(timeout = 200)
-	public void toStringWorksForNull() {
-		assertEquals(Collectionz.toString(null), "null");
-	}
-
-	@Test(timeout = 200)
-	public void toStringWorksOnIterablesAndArraysWithNullValues() {
-		List<Object> root = new ArrayList<Object>();
-		root.add(null);
-		root.add(new Object[] {null, 3});
-		root.add(Arrays.asList(new Object[][]{new Object[] {null, 1, 2}}));
-		Collectionz.toString(root);
-	}
-
-	@Test(timeout = 200)
-	public void toStringWorksEfficientlyOnLargeIterables() {
-		final int size = 1000000;
-		List<Integer> list = new ArrayList<Integer>();
-		for (int i = 0; i < size; i++)
-			list.add(0);
-		Collectionz.toString(list);
-	}
-
-	@Test(timeout = 200)
-	public void containsNullCheck() {
-		Hashtable<Object, Object> hashtable = new Hashtable<Object, Object>();
-		hashtable.put(1, 1);
-		hashtable.put(2, 2);
-		assertFalse(containsNull(hashtable.keySet()));
-		Set<Long> set = new HashSet<Long>();
-		set.add(1L);
-		set.add(2L);
-		assertFalse(containsNull(set));
-		set.add(null);
-		assertTrue(containsNull(set));
-	}
-}
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import org.junit.*;
+import zjava.collection.Collectionz;
+import zjava.collection.DynamicList;
+import zjava.collection.HugeArray;
+import zjava.collection.HugeLongArray;
+import zjava.collection.LazyArray;
+import zjava.collection.primitive.BooleanArray;
+import zjava.collection.primitive.DoubleList;
+import zjava.collection.primitive.LazyDoubleArray;
+import zjava.collection.primitive.LongList;
+import static zjava.collection.Collectionz.*;
+
+public class CollectionzTest {
+
+	@Test(timeout = 200)
+	public void toStringWorksOnNestedIterablesAndArrays() {
+		List<Object> root = new ArrayList<Object>();
+		root.add(root);
+		root.add(new Object[] {root});
+		root.add(Arrays.asList(new Object[][]{new Object[] {root}}));
+		Collectionz.toString(root);
+	}
+
+	@Test(timeout = 200)
+	public void toStringWorksForNull() {
+		assertEquals(Collectionz.toString(null), "null");
+	}
+
+	@Test(timeout = 200)
+	public void toStringWorksOnIterablesAndArraysWithNullValues() {
+		List<Object> root = new ArrayList<Object>();
+		root.add(null);
+		root.add(new Object[] {null, 3});
+		root.add(Arrays.asList(new Object[][]{new Object[] {null, 1, 2}}));
+		Collectionz.toString(root);
+	}
+
+	@Test(timeout = 200)
+	public void toStringWorksEfficientlyOnLargeIterables() {
+		final int size = 1000000;
+		List<Integer> list = new ArrayList<Integer>();
+		for (int i = 0; i < size; i++)
+			list.add(0);
+		Collectionz.toString(list);
+	}
+
+	@Test(timeout = 200)
+	public void containsNullCheck() {
+		Hashtable<Object, Object> hashtable = new Hashtable<Object, Object>();
+		hashtable.put(1, 1);
+		hashtable.put(2, 2);
+		assertFalse(containsNull(hashtable.keySet()));
+		Set<Long> set = new HashSet<Long>();
+		set.add(1L);
+		set.add(2L);
+		assertFalse(containsNull(set));
+		set.add(null);
+		assertTrue(containsNull(set));
+	}
+
+	// - plain HugeArray over regular list, so generic search code is used
+	private static <E> HugeArray<E> hugeArrayOf(final List<E> list) {
+		return new HugeArray<E>() {
+			public long size() {
+				return list.size();
+			}
+			public E set(long index, E value) {
+				return list.set((int) index, value);
+			}
+			public E get(long index) {
+				return list.get((int) index);
+			}
+		};
+	}
+
+	@Test(timeout = 1000)
+	public void binarySearchOnDynamicListMatchesGenericSearch() {
+		List<Integer> values = new ArrayList<Integer>();
+		for (int i = 0; i < 10000; i++)
+			values.add(i / 3 * 2);
+		DynamicList<Integer> list = new DynamicList<Integer>(values);
+		HugeArray<Integer> generic = hugeArrayOf(values);
+		Comparator<Integer> reverse = Collections.reverseOrder();
+		List<Integer> reversed = new ArrayList<Integer>(values);
+		Collections.reverse(reversed);
+		DynamicList<Integer> reversedList = new DynamicList<Integer>(reversed);
+		for (int key = -3; key < 6700; key++) {
+			assertEquals(binarySearch(generic, key), binarySearch(list.asHuge(), key));
+			assertEquals(binarySearchNext(generic, key), binarySearchNext(list.asHuge(), key));
+			assertEquals(binarySearch(hugeArrayOf(reversed), key, reverse), binarySearch(reversedList.asHuge(), key, reverse));
+			assertEquals(binarySearchNext(hugeArrayOf(reversed), key, reverse), binarySearchNext(reversedList.asHuge(), key, reverse));
+		}
+	}
+
+	@Test(timeout = 1000)
+	public void exponentialSearchMatchesBinarySearch() {
+		List<Integer> values = new ArrayList<Integer>();
+		for (int i = 0; i < 1000; i++)
+			values.add(i / 2 * 3);
+		HugeArray<Integer> array = hugeArrayOf(values);
+		for (int key = -2; key < 1505; key++) {
+			long expected = binarySearch(array, key);
+			for (long from = 0; from <= 1000; from += 37)
+				assertEquals(expected, exponentialSearch(array, key, from));
+			assertEquals(expected, exponentialSearch(array, key, 1000));
+		}
+	}
+
+	@Test(timeout = 200)
+	public void exponentialSearchOnEmptyArray() {
+		HugeArray<Integer> array = hugeArrayOf(new ArrayList<Integer>());
+		assertEquals(~0, exponentialSearch(array, 1, 0));
+	}
+
+	@Test(timeout = 2000)
+	public void copyBetweenHugeArraysMatchesCopyOfLists() {
+		Random random = new Random(37);
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		for (int i = 0; i < 20000; i++)
+			list.addFirst(i);
+		LazyArray<Integer> lazy = new LazyArray<Integer>(30000);
+		List<Integer> expectedList = new ArrayList<Integer>(list);
+		List<Integer> expectedLazy = new ArrayList<Integer>(Collections.<Integer>nCopies(30000, null));
+		List<Integer> plain = new ArrayList<Integer>(expectedList);
+		for (int i = 0; i < 200; i++) {
+			long length = random.nextInt(10000);
+			long from = random.nextInt(20000 - (int) length + 1);
+			long to = random.nextInt(20000 - (int) length + 1);
+			switch (random.nextInt(4)) {
+			case 0:
+				copy(list.asHuge(), from, lazy, to, length);
+				Collections.copy(expectedLazy.subList((int) to, (int) (to + length)), new ArrayList<Integer>(expectedList.subList((int) from, (int) (from + length))));
+				break;
+			case 1:
+				copy(lazy, from, list.asHuge(), to, length);
+				Collections.copy(expectedList.subList((int) to, (int) (to + length)), new ArrayList<Integer>(expectedLazy.subList((int) from, (int) (from + length))));
+				break;
+			case 2:
+				// - overlapping ranges of the same array
+				copy(list.asHuge(), from, list.asHuge(), to, length);
+				Collections.copy(expectedList.subList((int) to, (int) (to + length)), new ArrayList<Integer>(expectedList.subList((int) from, (int) (from + length))));
+				break;
+			default:
+				copy(hugeArrayOf(plain), from, lazy, to, length);
+				Collections.copy(expectedLazy.subList((int) to, (int) (to + length)), plain.subList((int) from, (int) (from + length)));
+			}
+			assertEquals(expectedList, list);
+			assertTrue(Collectionz.equals(lazy, 0, hugeArrayOf(expectedLazy), 0, lazy.size()));
+		}
+	}
+
+	@Test(timeout = 1000)
+	public void fillEqualsAndHashCodeOfRanges() {
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		for (int i = 0; i < 10000; i++)
+			list.add(i % 100);
+		LazyArray<Integer> lazy = new LazyArray<Integer>(20000);
+		copy(list.asHuge(), 0, lazy, 5000, 10000);
+		assertTrue(Collectionz.equals(list.asHuge(), 0, lazy, 5000, 10000));
+		assertTrue(Collectionz.equals(list.asHuge(), 100, lazy, 5000, 9900));
+		assertFalse(Collectionz.equals(list.asHuge(), 0, lazy, 5001, 10000));
+		assertEquals(list.subList(300, 7000).hashCode(), Collectionz.hashCode(lazy, 5300, 12000));
+		assertEquals(list.hashCode(), Collectionz.hashCode(list.asHuge(), 0, list.size()));
+		assertEquals(Collections.nCopies(5000, null).hashCode(), Collectionz.hashCode(lazy, 0, 5000));
+		fill(lazy, 1000, 19000, 7);
+		fill(list.asHuge(), 1, 9999, 7);
+		assertTrue(Collectionz.equals(list.asHuge(), 1, lazy, 1000, 9998));
+		assertEquals(Integer.valueOf(0), list.get(0));
+		assertEquals(Integer.valueOf(99), list.get(9999));
+		assertNull(lazy.get(999));
+		assertNull(lazy.get(19000));
+		try {
+			copy(list.asHuge(), 1, lazy, 0, list.size());
+			fail();
+		}
+		catch (IndexOutOfBoundsException expected) {}
+	}
+
+	// - plain HugeLongArray over regular array, so generic code is used
+	private static HugeLongArray hugeLongArrayOf(final long[] values) {
+		return new HugeLongArray() {
+			public long size() {
+				return values.length;
+			}
+			public long set(long index, long value) {
+				long replaced = values[(int) index];
+				values[(int) index] = value;
+				return replaced;
+			}
+			public long get(long index) {
+				return values[(int) index];
+			}
+		};
+	}
+
+	@Test(timeout = 1000)
+	public void primitiveHugeArraysMatchRegularArrays() {
+		Random random = new Random(43);
+		long[] values = new long[10000];
+		LongList list = new LongList();
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextInt(5000) - 2500;
+			list.add(values[i]);
+		}
+		long[] expected = values.clone();
+		Arrays.sort(expected);
+		HugeLongArray generic = hugeLongArrayOf(values);
+		sort(generic);
+		sort(list);
+		assertArrayEquals(expected, values);
+		for (int key = -2600; key < 2600; key += 7) {
+			int less = countLess(expected, key);
+			long expectedIndex = (less < expected.length && expected[less] == key) ? less : ~less;
+			assertEquals(expectedIndex, binarySearch(generic, key));
+			assertEquals(expectedIndex, binarySearch(list, key));
+			assertEquals(binarySearchNext(generic, key), binarySearchNext(list, key));
+		}
+		copy(list, 0, generic, 5000, 5000);
+		System.arraycopy(expected, 0, expected, 5000, 5000);
+		assertArrayEquals(expected, values);
+		BooleanArray bits = new BooleanArray(1000);
+		for (int i = 0; i < 1000; i += 3)
+			bits.setTrue(i);
+		copy(bits, 0, bits, 1, 999);
+		assertTrue(bits.get(0));
+		for (int i = 1; i < 1000; i++)
+			assertEquals(i % 3 == 1, bits.get(i));
+	}
+
+	@Test(timeout = 200)
+	public void searchesOfFloatingPointHugeArraysFollowOrderOfSort() {
+		double[] values = { Double.NaN, 1.0, 0.0, -0.0, Double.NEGATIVE_INFINITY };
+		LazyDoubleArray array = new LazyDoubleArray(values.length);
+		DoubleList list = new DoubleList();
+		for (int i = 0; i < values.length; i++) {
+			array.set(i, values[i]);
+			list.add(values[i]);
+		}
+		sort(array);
+		sort(list);
+		for (double key : new double[] { Double.NaN, 0.0, -0.0, 0.5, Double.NEGATIVE_INFINITY }) {
+			assertEquals(binarySearch(list, key), binarySearch(array, key));
+			assertEquals(binarySearchNext(list, key), binarySearchNext(array, key));
+		}
+		assertEquals(4, binarySearch(array, Double.NaN));
+		assertEquals(2, binarySearch(array, 0.0));
+		assertEquals(1, binarySearch(array, -0.0));
+	}
+
+	private static int countLess(long[] values, long key) {
+		int count = 0;
+		while (count < values.length && values[count] < key)
+			count++;
+		return count;
+	}
+}
@@ -0,0 +1,78 @@
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import zjava.collection.ConcurrentLazyArray;
+import zjava.collection.primitive.ConcurrentLazyLongArray;
+
+public class ConcurrentLazyArrayTest {
+
+	private static final int THREADS = 8;
+
+	// - runs given task in several threads started at the same time
+	private static void runConcurrently(final Runnable task) throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[THREADS];
+		for (int i = 0; i < THREADS; i++) {
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+					}
+					catch (InterruptedException e) {
+						return;
+					}
+					task.run();
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads)
+			thread.join();
+	}
+
+	@Test(timeout = 5000)
+	public void concurrentWritersDontLoseValues() throws InterruptedException {
+		final ConcurrentLazyArray<Long> actual = new ConcurrentLazyArray<Long>(4000000000L);
+		final long step = 4000000000L / 5000;
+		runConcurrently(new Runnable() {
+			public void run() {
+				for (long i = 0; i < 5000; i++) {
+					// - every thread tries to claim each slot, only one of them succeeds
+					actual.compareAndSet(i * step + (i & 7), null, Thread.currentThread().getId());
+					actual.set(i * step + 8 + (Thread.currentThread().getId() & 7), i);
+				}
+			}
+		});
+		for (long i = 0; i < 5000; i++)
+			assertNotNull(actual.get(i * step + (i & 7)));
+		assertNull(actual.get(1));
+		assertNull(actual.get(actual.size() - 1));
+		assertFalse(actual.compareAndSet(1, 5L, 6L));
+		assertTrue(actual.compareAndSet(1, null, 6L));
+		assertEquals(Long.valueOf(6), actual.getAndSet(1, null));
+	}
+
+	@Test(timeout = 5000)
+	public void concurrentIncrementsAreAtomic() throws InterruptedException {
+		final ConcurrentLazyLongArray actual = new ConcurrentLazyLongArray(1L << 32, -1);
+		runConcurrently(new Runnable() {
+			public void run() {
+				for (long i = 0; i < 10000; i++)
+					actual.getAndAdd((i * 104729) & 0xFFFFFFFFL, 1);
+			}
+		});
+		for (long i = 0; i < 10000; i++)
+			assertEquals(THREADS - 1, actual.get((i * 104729) & 0xFFFFFFFFL));
+		assertEquals(-1, actual.get(1));
+		assertTrue(actual.compareAndSet(1, -1, 10));
+		assertEquals(11, actual.addAndGet(1, 1));
+		assertEquals(11, actual.getAndSet(1, -1));
+		assertEquals(-1, actual.get(1));
+	}
+}
@@ -0,0 +1,165 @@
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import zjava.collection.CopyOnWriteDynamicList;
+
+public class CopyOnWriteDynamicListTest {
+
+	private CopyOnWriteDynamicList<Integer> actual;
+	private List<Integer> expected;
+
+	@Before
+	public void init() {
+		System.gc();
+		expected = new ArrayList<Integer>();
+		actual = new CopyOnWriteDynamicList<Integer>();
+	}
+
+	// - edge cases
+
+	@Test(timeout = 200)
+	public void iteratorDoesNotSupportRemoval() {
+		actual.add(1);
+		Iterator<Integer> iter = actual.iterator();
+		iter.next();
+		try {
+			iter.remove();
+		}
+		catch (UnsupportedOperationException e) {
+			return;
+		}
+		fail();
+	}
+
+	@Test(timeout = 200)
+	public void iteratorIsNotAffectedByModifications() {
+		for (int i = 0; i < 100; i++)
+			actual.add(i);
+		Iterator<Integer> iter = actual.iterator();
+		actual.clear();
+		actual.add(-1);
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, (int) iter.next());
+		assertFalse(iter.hasNext());
+	}
+
+	// - basic operations tests
+
+	@Test(timeout = 1000)
+	public void snapshotsAreNotAffectedByModifications() {
+		Random random = new Random(11);
+		List<List<Integer>> snapshots = new ArrayList<List<Integer>>();
+		List<List<Integer>> expectedSnapshots = new ArrayList<List<Integer>>();
+		for (int i = 0; i < 3000; i++) {
+			int op = random.nextInt(4);
+			if (op == 0 && !expected.isEmpty()) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.remove(index), actual.remove(index));
+			}
+			else if (op == 1 && !expected.isEmpty()) {
+				int index = random.nextInt(expected.size());
+				assertEquals(expected.set(index, i), actual.set(index, i));
+			}
+			else {
+				int index = random.nextInt(expected.size() + 1);
+				expected.add(index, i);
+				actual.add(index, i);
+			}
+			if (i % 100 == 0) {
+				snapshots.add(actual.snapshot());
+				expectedSnapshots.add(new ArrayList<Integer>(expected));
+			}
+		}
+		assertEquals(expected, actual);
+		assertEquals(expectedSnapshots, snapshots);
+	}
+
+	@Test(timeout = 200)
+	public void addIfAbsentAddsOnlyMissingElements() {
+		assertTrue(actual.addIfAbsent(1));
+		assertFalse(actual.addIfAbsent(1));
+		assertTrue(actual.addIfAbsent(2));
+		assertEquals(2, actual.size());
+	}
+
+	@Test(timeout = 200)
+	public void subListClearRemovesRange() {
+		for (int i = 0; i < 100; i++) {
+			actual.add(i);
+			expected.add(i);
+		}
+		actual.subList(10, 90).clear();
+		expected.subList(10, 90).clear();
+		assertEquals(expected, actual);
+	}
+
+	@Test(timeout = 1000)
+	public void rebalanceKeepsElements() {
+		Random random = new Random(17);
+		for (int i = 0; i < 5000; i++) {
+			int index = random.nextInt(expected.size() + 1);
+			expected.add(index, i);
+			actual.add(index, i);
+		}
+		List<Integer> snapshot = actual.snapshot();
+		actual.rebalance();
+		assertEquals(expected, actual);
+		assertEquals(expected, snapshot);
+	}
+
+	// - performance tests
+
+	@Test(timeout = 1000)
+	public void performanceTestInsertionsAndRemovalsInTheMidCopyOnlyModifiedBlocks() {
+		Integer zero = 0;
+		actual = new CopyOnWriteDynamicList<Integer>(Collections.nCopies(1000000, zero));
+		Random random = new Random(3);
+		for (int i = 0; i < 2000; i++) {
+			int index = random.nextInt(actual.size());
+			actual.add(index, zero);
+			actual.remove(index);
+		}
+		assertEquals(1000000, actual.size());
+	}
+
+	@Test(timeout = 2000)
+	public void readersAlwaysSeeConsistentVersions() throws InterruptedException {
+		final AtomicBoolean failed = new AtomicBoolean();
+		final AtomicBoolean stop = new AtomicBoolean();
+		Thread[] readers = new Thread[4];
+		for (int t = 0; t < readers.length; t++) {
+			readers[t] = new Thread() {
+				public void run() {
+					while (!stop.get()) {
+						// - every version of the list consists of values equal to their indexes
+						int i = 0;
+						for (int value : actual)
+							if (value != i++)
+								failed.set(true);
+					}
+				}
+			};
+			readers[t].start();
+		}
+		for (int i = 0; i < 5000; i++) {
+			actual.add(i);
+			actual.set(i / 2, i / 2);
+		}
+		stop.set(true);
+		for (Thread reader : readers)
+			reader.join();
+		assertFalse(failed.get());
+		assertEquals(5000, actual.size());
+	}
+}
@@ -1,424 +1,745 @@
-package zjava.test.collection;
-
-import static org.junit.Assert.*;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.NoSuchElementException;
-
-import org.junit.Before;
-import org.junit.Test;
-
-import zjava.collection.DynamicList;
-
-public class DynamicListTest {
-	
-	private List<Integer> actual;
-	private List<Integer> expected;
-	
-	@Before
-	public void init() {
-		System.gc();
-		expected = new ArrayList<Integer>();
-		actual = new DynamicList<Integer>();
-	}
-	
-	// - edge cases
-	
-	@Test(timeout = 200)
-	public void iteratorNextOnEmptyListThrowsNoSuchElementException() {
-		try {
-			actual.iterator().next();
-		}
-		catch(NoSuchElementException e) {
-			return;
-		}
-		catch (Throwable e) {}
-		fail();
-	}
-	
-	@Test(timeout = 200)
-	public void ensureNullSupportForAllBasicOperations() {
-		try {
-			actual.add(null);
-			actual.add(null);
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			actual.set(0, null);
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			actual.remove(null);
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			assertNull(actual.get(0));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			assertTrue(actual.contains(null));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-	}
-	
-	@Test(timeout = 200)
-	public void ensureNullSupportForAllPositionalOperations() {
-		try {
-			actual.add(null);
-			actual.add(null);
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			assertEquals(0, actual.indexOf(null));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			assertEquals(1, actual.lastIndexOf(null));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-	}
-
-	@Test(timeout = 200)
-	public void ensureNullSupportForAllBulkOperations() {
-		try {
-			assertTrue(actual.addAll(Arrays.asList(null, null, 1)));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			assertTrue(actual.containsAll(Arrays.asList(null, 1)));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			assertTrue(actual.removeAll(Arrays.asList(null, 2)));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-		try {
-			assertTrue(actual.retainAll(Arrays.asList(null, 2)));
-		}
-		catch (NullPointerException npe) {
-			fail();
-		}
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void toStringOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1));
-		assertNotNull(list.toString());
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void containsOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1));
-		assertTrue(list.contains(list));
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void containsAllOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1));
-		assertTrue(list.containsAll(Arrays.asList(list)));
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void indexOfOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1, list));
-		assertEquals(1, list.indexOf(list));
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void lastIndexOfOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1, list));
-		assertEquals(3, list.lastIndexOf(list));
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void cloneOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1, list));
-		List clone = (List)(((DynamicList)list).clone());
-		assertFalse(list == clone);
-		assertTrue(list.getClass() == clone.getClass());
-		assertTrue(list.equals(clone));
-		clone.add(0, -1);
-		assertFalse(list.equals(clone));
-		assertTrue(list.get(1) == clone.get(2));
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void retainAllOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1, list));
-		assertTrue(list.retainAll(Arrays.asList(list)));
-		assertEquals(Arrays.asList(list, list), list);
-	}
-
-	@Test(timeout = 200)
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void removeAllOnListWhichContainsInself() {
-		List list = new DynamicList();
-		list.addAll(Arrays.asList(0, list, 1, list));
-		assertTrue(list.removeAll(Arrays.asList(list)));
-		assertEquals(Arrays.asList(0, 1), list);
-	}
-
-	// - basic operations tests
-	
-	@Test(timeout = 200)
-	public void basicAddCheck() {
-		for (int i = 0; i < 1000; i++) {
-			Integer value = i;
-			expected.add(value);
-			actual.add(value);
-		}
-		assertEquals(expected, actual);
-		for (int i = 0; i < 1000; i++) {
-			int index = 1000-i;
-			Integer value = i;
-			expected.add(index, value);
-			actual.add(index, value);
-		}
-		assertEquals(expected, actual);
-	}
-	
-	@Test(timeout=200)
-	public void basicToArrayCheck() {
-		for (int i = 0; i < 1000; i++) {
-			Integer value = i;
-			expected.add(value);
-			actual.add(value);
-		}
-		for (int i = 0; i < 1000; i++) {
-			int index = 1000-i;
-			Integer value = i;
-			expected.add(index, value);
-			actual.add(index, value);
-		}
-		assertArrayEquals(expected.toArray(), actual.toArray());
-	}
-
-	
-	@Test(timeout=200)
-	public void basicRemoveCheck() {
-		for (int i = 0; i < 1000; i++) {
-			Integer value = i;
-			expected.add(value);
-			actual.add(value);
-		}
-		for (int i = 0; i < 1000; i++) {
-			int index = 1000-i;
-			Integer value = i;
-			expected.add(index, value);
-			actual.add(index, value);
-		}
-		for (int i = 1; i < 2000; i += 3) {
-			int index = 2000 - i;
-			assertEquals(expected.remove(index), actual.remove(index));
-		}
-		assertArrayEquals(expected.toArray(), actual.toArray());
-	}
-	
-	@Test(timeout = 200)
-	public void basicAddAllCheck() {
-		List<Integer> valuesToAdd = Arrays.asList(2, 3, 5, null, 7, 13, 1, 8, null);
-		expected.addAll(valuesToAdd);
-		actual.addAll(valuesToAdd);
-		assertEquals(expected, actual);
-	}
-
-	@Test(timeout = 200)
-	public void basicRemoveAllCheck() {
-		List<Integer> valuesToAdd = Arrays.asList(2, 3, 5, null, 7, 13, 1, 8, null);
-		expected.addAll(valuesToAdd);
-		actual.addAll(valuesToAdd);
-		List<Integer> valuesToRemove = Arrays.asList(2, 5, 1, null, 2);
-		expected.removeAll(valuesToRemove);
-		actual.removeAll(valuesToRemove);
-		assertEquals(expected, actual);
-	}
-
-	@Test(timeout = 200)
-	public void basicRetainAllCheck() {
-		List<Integer> valuesToAdd = Arrays.asList(2, 3, 5, null, 7, 13, 1, 8, null);
-		expected.addAll(valuesToAdd);
-		actual.addAll(valuesToAdd);
-		List<Integer> valuesToRemove = Arrays.asList(2, 5, 1, null, 2);
-		expected.removeAll(valuesToRemove);
-		actual.removeAll(valuesToRemove);
-		assertEquals(expected, actual);
-	}
-
-	@Test(timeout = 200)
-	public void complexBulkOperationsCheck() {
-		List<Integer> sample0 = Arrays.asList(7, 7, 7, 7, 7, 7, 7);
-		List<Integer> sample1 = Arrays.asList(1, 2, 1, 2, 1, 2, 1, 2);
-		List<Integer> sample2 = Arrays.asList(3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
-		List<Integer> sample3 = Arrays.asList(85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99);
-		List<Integer> sample4 = new ArrayList<Integer>();
-		for (int i = 100; i < 200; i++) sample4.add(i);
-		expected.add(null);
-		actual.add(null);
-		assertEquals(expected, actual);
-		expected.addAll(1, sample0);
-		actual.addAll(1, sample0);
-		assertEquals(expected, actual);
-		expected.addAll(0, sample1);
-		actual.addAll(0, sample1);
-		assertEquals(expected, actual);
-		expected.remove(15);
-		actual.remove(15);
-		assertEquals(expected, actual);
-		expected.addAll(14, sample2);
-		actual.addAll(14, sample2);	
-		assertEquals(expected, actual);
-		expected.addAll(4, sample3);
-		actual.addAll(4, sample3);
-		assertEquals(expected, actual);
-		expected.addAll(8, sample3);
-		actual.addAll(8, sample3);
-		assertEquals(expected, actual);
-		expected.addAll(16, sample3);
-		actual.addAll(16, sample3);
-		assertEquals(expected, actual);
-		expected.addAll(32, sample3);
-		actual.addAll(32, sample3);
-		assertEquals(expected, actual);
-		expected.addAll(64, sample3);
-		actual.addAll(64, sample3);
-		assertEquals(expected, actual);
-		expected.addAll(65, sample3);
-		actual.addAll(65, sample3);
-		assertEquals(expected, actual);
-		expected.addAll(50, sample4);
-		actual.addAll(50, sample4);
-		assertEquals(expected, actual);
-		expected.removeAll(sample4);
-		actual.removeAll(sample4);
-		assertEquals(expected, actual);
-		expected.retainAll(sample3);
-		actual.retainAll(sample3);
-		assertEquals(expected, actual);
-	}
-	
-	@Test(timeout = 200)
-	public void subListCheck() {
-		List<Integer> sample0 = Arrays.asList(7, 7, 7, 7, 7, 7, 7);
-		List<Integer> sample1 = Arrays.asList(1, 2, 1, 2, 1, 2, 1, 2);
-		List<Integer> sample2 = Arrays.asList(3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
-		List<Integer> sample3 = Arrays.asList(85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99);
-		
-		expected.subList(0, 0).add(null);
-		actual.subList(0, 0).add(null);
-		assertEquals(expected, actual);
-		expected.subList(0, 0).addAll(sample0);
-		actual.subList(0, 0).addAll(sample0);
-		assertEquals(expected, actual);
-		expected.addAll(sample1.subList(1, 7));
-		actual.addAll(sample1.subList(1, 7));
-		assertEquals(expected, actual);
-		expected.addAll(sample1.subList(1, 3));
-		actual.addAll(sample1.subList(1, 3));
-		assertEquals(expected, actual);
-		expected.subList(15, 16).remove(0);
-		actual.subList(15, 16).remove(0);
-		assertEquals(expected, actual);
-		expected.subList(0, 14).addAll(0, sample2);
-		actual.subList(0, 14).addAll(0, sample2);
-		assertEquals(expected, actual);
-		expected.addAll(8, expected.subList(3, 8));
-		actual.addAll(8, actual.subList(3, 8));
-		assertEquals(expected, actual);
-		expected.addAll(16, sample3.subList(0, 15));
-		actual.addAll(16, sample3.subList(0, 15));
-		assertEquals(expected, actual);
-		expected.addAll(32, sample3.subList(0, 15));
-		actual.addAll(32, sample3.subList(0, 15));
-		assertEquals(expected, actual);
-		expected.addAll(65, sample3.subList(0, 15));
-		actual.addAll(65, sample3.subList(0, 15));
-		assertEquals(expected, actual);
-		expected.subList(0, 66).clear();
-		actual.subList(0, 66).clear();
-		assertEquals(expected, actual);
-		assertEquals(actual, actual.subList(0, expected.size()));
-		assertTrue(actual.subList(5, 5).isEmpty());
-	}
-	
-	// - performance tests
-	
-	@Test(timeout = 1000)
-	public void performanceTestInsertionsAndRemovalsAtTheBeginningAndTheMid() {
-		for (int i = 0; i < 1000; i++) {
-			actual.add(i);
-		}
-		for (int i = 0; i < 200000; i++) {
-			actual.add(32 + (i & 1), i & 63);
-		}
-		for (int i = 0; i < 100000; i++) {
-			actual.remove(100000 - i);
-		}
-		for (int i = 0; i < 100000; i++) {
-			actual.remove(i & 511);
-		}
-		assertTrue(actual.size() == 1000);
-	}
-	
-	@Test(timeout = 1000)
-	public void performanceTestGetOperation() {
-		for (int i = 0; i < 65536; i++) {
-			actual.add(i & 63);
-		}
-		for (int i = 0; i < 100000000; i++) {
-			actual.get(i & 65535);
-			actual.get((i + 40000) & 65535);
-		}
-	}
-	
-	@Test(timeout = 1000)
-	public void performanceTestAssureThatThereAreNoExcessiveMemoryThrashingDuringRemovalsAtTheEndOfBlock() {
-		Integer zero = 0;
-		int almostFilledBlockAtIndex = 65536-1024-1;
-		for (int i = 0; i < almostFilledBlockAtIndex; i++)
-			actual.add(zero);
-		for (int i = 0; i < 5000000; i++) {
-			actual.add(zero);
-			actual.add(zero);
-			actual.remove(almostFilledBlockAtIndex);
-			actual.remove(almostFilledBlockAtIndex);
-		}
-	}
-}
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import zjava.collection.DynamicList;
+
+public class DynamicListTest {
+	
+	private List<Integer> actual;
+	private List<Integer> expected;
+	
+	@Before
+	public void init() {
+		System.gc();
+		expected = new ArrayList<Integer>();
+		actual = new DynamicList<Integer>();
+	}
+	
+	// - edge cases
+	
+	@Test(timeout = 200)
+	public void iteratorNextOnEmptyListThrowsNoSuchElementException() {
+		try {
+			actual.iterator().next();
+		}
+		catch(NoSuchElementException e) {
+			return;
+		}
+		catch (Throwable e) {}
+		fail();
+	}
+	
+	@Test(timeout = 200)
+	public void ensureNullSupportForAllBasicOperations() {
+		try {
+			actual.add(null);
+			actual.add(null);
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			actual.set(0, null);
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			actual.remove(null);
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			assertNull(actual.get(0));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			assertTrue(actual.contains(null));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+	}
+	
+	@Test(timeout = 200)
+	public void ensureNullSupportForAllPositionalOperations() {
+		try {
+			actual.add(null);
+			actual.add(null);
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			assertEquals(0, actual.indexOf(null));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			assertEquals(1, actual.lastIndexOf(null));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+	}
+
+	@Test(timeout = 200)
+	public void ensureNullSupportForAllBulkOperations() {
+		try {
+			assertTrue(actual.addAll(Arrays.asList(null, null, 1)));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			assertTrue(actual.containsAll(Arrays.asList(null, 1)));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			assertTrue(actual.removeAll(Arrays.asList(null, 2)));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+		try {
+			assertTrue(actual.retainAll(Arrays.asList(null, 2)));
+		}
+		catch (NullPointerException npe) {
+			fail();
+		}
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void toStringOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1));
+		assertNotNull(list.toString());
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void containsOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1));
+		assertTrue(list.contains(list));
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void containsAllOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1));
+		assertTrue(list.containsAll(Arrays.asList(list)));
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void indexOfOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1, list));
+		assertEquals(1, list.indexOf(list));
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void lastIndexOfOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1, list));
+		assertEquals(3, list.lastIndexOf(list));
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void cloneOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1, list));
+		List clone = (List)(((DynamicList)list).clone());
+		assertFalse(list == clone);
+		assertTrue(list.getClass() == clone.getClass());
+		assertTrue(list.equals(clone));
+		clone.add(0, -1);
+		assertFalse(list.equals(clone));
+		assertTrue(list.get(1) == clone.get(2));
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void retainAllOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1, list));
+		assertTrue(list.retainAll(Arrays.asList(list)));
+		assertEquals(Arrays.asList(list, list), list);
+	}
+
+	@Test(timeout = 200)
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void removeAllOnListWhichContainsInself() {
+		List list = new DynamicList();
+		list.addAll(Arrays.asList(0, list, 1, list));
+		assertTrue(list.removeAll(Arrays.asList(list)));
+		assertEquals(Arrays.asList(0, 1), list);
+	}
+
+	// - basic operations tests
+
+	@Test(timeout = 2000)
+	public void dequeOperationsMatchArrayList() {
+		checkRandomOperationsAgainstArrayList(new DynamicList<Integer>(), new Random(7));
+	}
+
+	@Test(timeout = 2000)
+	public void deferredRebalancingMatchesArrayList() {
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		list.setDeferredRebalancing(true);
+		checkRandomOperationsAgainstArrayList(list, new Random(11));
+	}
+
+	@Test(timeout = 2000)
+	public void incrementalResizingMatchesArrayList() {
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		list.setIncrementalResizing(true);
+		checkRandomOperationsAgainstArrayList(list, new Random(19));
+	}
+
+	@Test(timeout = 2000)
+	public void incrementalResizingWithDeferredRebalancingMatchesArrayList() {
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		list.setIncrementalResizing(true);
+		list.setDeferredRebalancing(true);
+		checkRandomOperationsAgainstArrayList(list, new Random(23));
+	}
+
+	@Test(timeout = 1000)
+	public void incrementalResizingSpreadsConversionOverOperations() {
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		list.setIncrementalResizing(true);
+		List<Integer> expectedList = new ArrayList<Integer>();
+		boolean grown = false, shrunk = false;
+		for (int i = 0; i < 100000; i++) {
+			list.add(list.size() / 2, i);
+			expectedList.add(expectedList.size() / 2, i);
+			if (list.stats().isResizing() && (i & 7) == 0) {
+				grown = true;
+				// - snapshot taken in the middle of resizing must not be affected by the list
+				DynamicList<Integer> snapshot = list.snapshot();
+				List<Integer> expectedSnapshot = new ArrayList<Integer>(expectedList);
+				list.addFirst(-i);
+				expectedList.add(0, -i);
+				assertEquals(expectedList.remove(i / 3), list.remove(i / 3));
+				snapshot.add(i / 5, i);
+				expectedSnapshot.add(i / 5, i);
+				assertEquals(expectedSnapshot, snapshot);
+			}
+		}
+		assertEquals(expectedList, list);
+		while (list.size() > 10) {
+			assertEquals(expectedList.remove(expectedList.size() - 1), list.removeLast());
+			shrunk |= list.stats().isResizing();
+		}
+		assertTrue(grown);
+		assertTrue(shrunk);
+		assertTrue(list.stats().getCapacity() < 1024);
+		assertEquals(expectedList, list);
+	}
+
+	private void checkRandomOperationsAgainstArrayList(DynamicList<Integer> list, Random random) {
+		List<Integer> expectedList = new ArrayList<Integer>();
+		for (int i = 0; i < 200000; i++) {
+			int op = random.nextInt(100);
+			// - drift between growing and shrinking phases to trigger resizing in both directions
+			boolean grow = ((i >> 14) & 1) == 0;
+			if (op < (grow ? 30 : 20)) {
+				list.addFirst(i);
+				expectedList.add(0, i);
+			}
+			else if (op < (grow ? 60 : 40)) {
+				list.addLast(i);
+				expectedList.add(i);
+			}
+			else if (op < 70) {
+				assertEquals(expectedList.isEmpty() ? null : expectedList.remove(0), list.pollFirst());
+			}
+			else if (op < 80) {
+				assertEquals(expectedList.isEmpty() ? null : expectedList.remove(expectedList.size() - 1), list.pollLast());
+			}
+			else if (op < 85) {
+				int index = random.nextInt(expectedList.size() + 1);
+				list.add(index, i);
+				expectedList.add(index, i);
+			}
+			else if (op < 90 && !expectedList.isEmpty()) {
+				int index = random.nextInt(expectedList.size());
+				assertEquals(expectedList.remove(index), list.remove(index));
+			}
+			else if (op < 95 && !expectedList.isEmpty()) {
+				int index = random.nextInt(expectedList.size());
+				assertEquals(expectedList.get(index), list.get(index));
+			}
+			else if (op < 96) {
+				int index = random.nextInt(expectedList.size() + 1);
+				List<Integer> values = Collections.nCopies(random.nextInt(100), i);
+				list.addAll(index, values);
+				expectedList.addAll(index, values);
+			}
+			else if (op < 97 && !expectedList.isEmpty()) {
+				int from = random.nextInt(expectedList.size()), to = from + random.nextInt(Math.min(100, expectedList.size() - from) + 1);
+				list.subList(from, to).clear();
+				expectedList.subList(from, to).clear();
+			}
+			else if (op < 98 && !expectedList.isEmpty()) {
+				int index = random.nextInt(expectedList.size());
+				assertEquals(expectedList.set(index, i), list.set(index, i));
+			}
+			else if (!expectedList.isEmpty()) {
+				assertEquals(expectedList.get(0), list.peekFirst());
+				assertEquals(expectedList.get(expectedList.size() - 1), list.peekLast());
+			}
+			if ((i & 4095) == 0)
+				assertEquals(expectedList, Arrays.asList(list.toArray()));
+		}
+		assertEquals(expectedList, list);
+		List<Integer> reversed = new ArrayList<Integer>();
+		for (Iterator<Integer> iter = list.descendingIterator(); iter.hasNext(); )
+			reversed.add(iter.next());
+		Collections.reverse(reversed);
+		assertEquals(expectedList, reversed);
+	}
+
+	@Test(timeout = 200)
+	public void removeFirstOnEmptyListThrowsNoSuchElementException() {
+		try {
+			new DynamicList<Integer>().removeFirst();
+		}
+		catch (NoSuchElementException e) {
+			return;
+		}
+		fail();
+	}
+
+	@Test(timeout = 1000)
+	public void performanceTestDeferredInsertionsAndRemovalsInTheMid() {
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		Random random = new Random(5);
+		Integer zero = 0;
+		for (int i = 0; i < 1000000; i++)
+			list.add(zero);
+		list.setDeferredRebalancing(true);
+		for (int i = 0; i < 300000; i++) {
+			int index = random.nextInt(list.size());
+			list.add(index, zero);
+			list.remove(index + random.nextInt(2));
+		}
+		list.rebalance();
+		assertEquals(1000000, list.size());
+	}
+
+	@Test(timeout = 2000)
+	public void snapshotsOfListWithDeferredRebalancingAreIndependent() {
+		Random random = new Random(13);
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		list.setDeferredRebalancing(true);
+		List<Integer> expectedList = new ArrayList<Integer>();
+		for (int i = 0; i < 5000; i++) {
+			list.add(i);
+			expectedList.add(i);
+		}
+		for (int round = 0; round < 20; round++) {
+			DynamicList<Integer> snapshot = list.snapshot();
+			List<Integer> expectedSnapshot = new ArrayList<Integer>(expectedList);
+			for (int i = 0; i < 2000; i++) {
+				int index = random.nextInt(expectedList.size());
+				list.add(index, i);
+				expectedList.add(index, i);
+				index = random.nextInt(expectedList.size());
+				assertEquals(expectedList.remove(index), list.remove(index));
+				index = random.nextInt(expectedSnapshot.size());
+				snapshot.add(index, -i);
+				expectedSnapshot.add(index, -i);
+			}
+			assertEquals(expectedSnapshot, snapshot);
+		}
+		assertEquals(expectedList, list);
+	}
+
+	@Test(timeout = 1000)
+	public void blockSizeAdaptsToWorkload() {
+		DynamicList<Integer> stream = new DynamicList<Integer>();
+		DynamicList<Integer> editable = new DynamicList<Integer>();
+		Random random = new Random(17);
+		for (int i = 0; i < 100000; i++) {
+			stream.add(i);
+			editable.add(random.nextInt(editable.size() + 1), i);
+		}
+		DynamicList.Stats streamStats = stream.stats();
+		DynamicList.Stats editableStats = editable.stats();
+		assertEquals(0, streamStats.getMiddleOperations());
+		assertTrue(streamStats.getBlockSize() >= 1 << 16);
+		assertTrue(editableStats.getBlockSize() <= 1024);
+		assertTrue(editableStats.getUsedBlocks() >= 64);
+		assertTrue(editableStats.isRegularLayout());
+		// - shrinking of the list reduces size of the blocks
+		stream.subList(10, stream.size()).clear();
+		for (int i = 0; i < 10; i++)
+			stream.remove(stream.size() - 1);
+		assertTrue(stream.isEmpty());
+		assertTrue(stream.stats().getCapacity() < 1 << 16);
+	}
+
+	@Test(timeout = 2000)
+	public void sortIsStableAndMatchesCollectionsSort() {
+		// - values with the same key differ by their original position
+		Comparator<Integer> byKey = new Comparator<Integer>() {
+			public int compare(Integer o1, Integer o2) {
+				return (o1 / 100000) - (o2 / 100000);
+			}
+		};
+		Random random = new Random(29);
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		for (int i = 0; i < 50000; i++) {
+			Integer value = random.nextInt(100) * 100000 + i;
+			if (i % 3 == 0)
+				list.addFirst(value);
+			else
+				list.add(random.nextInt(list.size() + 1), value);
+		}
+		DynamicList<Integer> snapshot = list.snapshot();
+		List<Integer> original = new ArrayList<Integer>(list);
+		List<Integer> expected = new ArrayList<Integer>(list);
+		Collections.sort(expected, byKey);
+		list.sort(byKey);
+		assertEquals(expected, list);
+		assertEquals(original, snapshot);
+		DynamicList<Integer> parallel = new DynamicList<Integer>(original);
+		parallel.parallelSort(byKey);
+		assertEquals(expected, parallel);
+		Collections.sort(expected);
+		list.sort(null);
+		assertEquals(expected, list);
+	}
+
+	@Test(timeout = 2000)
+	public void sortOfListWithDeferredRebalancing() {
+		Random random = new Random(31);
+		DynamicList<Integer> list = new DynamicList<Integer>();
+		list.setDeferredRebalancing(true);
+		List<Integer> expected = new ArrayList<Integer>();
+		for (int i = 0; i < 100000; i++) {
+			Integer value = random.nextInt();
+			int index = random.nextInt(expected.size() + 1);
+			expected.add(index, value);
+			list.add(index, value);
+		}
+		Collections.sort(expected);
+		list.parallelSort(null);
+		assertEquals(expected, list);
+		list.add(0, Integer.MIN_VALUE);
+		assertEquals(Integer.MIN_VALUE, (int) list.get(0));
+	}
+
+	@Test(timeout = 1000)
+	public void performanceTestQueueOperations() {
+		DynamicList<Integer> queue = new DynamicList<Integer>();
+		Integer zero = 0;
+		for (int i = 0; i < 1000000; i++)
+			queue.offer(zero);
+		for (int i = 0; i < 5000000; i++) {
+			queue.offer(queue.poll());
+			queue.push(queue.pollLast());
+		}
+	}
+
+	@Test(timeout = 2000)
+	public void snapshotsAreIndependentFromEachOther() {
+		Random random = new Random(3);
+		List<DynamicList<Integer>> actuals = new ArrayList<DynamicList<Integer>>();
+		List<List<Integer>> expecteds = new ArrayList<List<Integer>>();
+		actuals.add(new DynamicList<Integer>());
+		expecteds.add(new ArrayList<Integer>());
+		for (int i = 0; i < 20000; i++) {
+			int k = random.nextInt(actuals.size());
+			DynamicList<Integer> list = actuals.get(k);
+			List<Integer> expectedList = expecteds.get(k);
+			int op = random.nextInt(100);
+			int size = expectedList.size();
+			if (op < 2) {
+				actuals.add(list.snapshot());
+				expecteds.add(new ArrayList<Integer>(expectedList));
+			}
+			else if (op < 3) {
+				list.clear();
+				expectedList.clear();
+			}
+			else if (op < 5) {
+				List<Integer> values = new ArrayList<Integer>();
+				for (int j = random.nextInt(200); j > 0; j--)
+					values.add(i);
+				int index = random.nextInt(size + 1);
+				list.addAll(index, values);
+				expectedList.addAll(index, values);
+			}
+			else if (op < 6 && size > 0) {
+				int from = random.nextInt(size), to = from + random.nextInt(size - from + 1);
+				list.subList(from, to).clear();
+				expectedList.subList(from, to).clear();
+			}
+			else if (op < 30 && size > 0) {
+				int index = random.nextInt(size);
+				assertEquals(expectedList.set(index, i), list.set(index, i));
+			}
+			else if (op < 55 && size > 0) {
+				int index = random.nextInt(size);
+				assertEquals(expectedList.remove(index), list.remove(index));
+			}
+			else {
+				int index = random.nextInt(size + 1);
+				list.add(index, i);
+				expectedList.add(index, i);
+			}
+		}
+		assertEquals(expecteds, actuals);
+	}
+	
+	@Test(timeout = 200)
+	public void basicAddCheck() {
+		for (int i = 0; i < 1000; i++) {
+			Integer value = i;
+			expected.add(value);
+			actual.add(value);
+		}
+		assertEquals(expected, actual);
+		for (int i = 0; i < 1000; i++) {
+			int index = 1000-i;
+			Integer value = i;
+			expected.add(index, value);
+			actual.add(index, value);
+		}
+		assertEquals(expected, actual);
+	}
+	
+	@Test(timeout=200)
+	public void basicToArrayCheck() {
+		for (int i = 0; i < 1000; i++) {
+			Integer value = i;
+			expected.add(value);
+			actual.add(value);
+		}
+		for (int i = 0; i < 1000; i++) {
+			int index = 1000-i;
+			Integer value = i;
+			expected.add(index, value);
+			actual.add(index, value);
+		}
+		assertArrayEquals(expected.toArray(), actual.toArray());
+	}
+
+	
+	@Test(timeout=200)
+	public void basicRemoveCheck() {
+		for (int i = 0; i < 1000; i++) {
+			Integer value = i;
+			expected.add(value);
+			actual.add(value);
+		}
+		for (int i = 0; i < 1000; i++) {
+			int index = 1000-i;
+			Integer value = i;
+			expected.add(index, value);
+			actual.add(index, value);
+		}
+		for (int i = 1; i < 2000; i += 3) {
+			int index = 2000 - i;
+			assertEquals(expected.remove(index), actual.remove(index));
+		}
+		assertArrayEquals(expected.toArray(), actual.toArray());
+	}
+	
+	@Test(timeout = 200)
+	public void basicAddAllCheck() {
+		List<Integer> valuesToAdd = Arrays.asList(2, 3, 5, null, 7, 13, 1, 8, null);
+		expected.addAll(valuesToAdd);
+		actual.addAll(valuesToAdd);
+		assertEquals(expected, actual);
+	}
+
+	@Test(timeout = 200)
+	public void basicRemoveAllCheck() {
+		List<Integer> valuesToAdd = Arrays.asList(2, 3, 5, null, 7, 13, 1, 8, null);
+		expected.addAll(valuesToAdd);
+		actual.addAll(valuesToAdd);
+		List<Integer> valuesToRemove = Arrays.asList(2, 5, 1, null, 2);
+		expected.removeAll(valuesToRemove);
+		actual.removeAll(valuesToRemove);
+		assertEquals(expected, actual);
+	}
+
+	@Test(timeout = 200)
+	public void basicRetainAllCheck() {
+		List<Integer> valuesToAdd = Arrays.asList(2, 3, 5, null, 7, 13, 1, 8, null);
+		expected.addAll(valuesToAdd);
+		actual.addAll(valuesToAdd);
+		List<Integer> valuesToRemove = Arrays.asList(2, 5, 1, null, 2);
+		expected.removeAll(valuesToRemove);
+		actual.removeAll(valuesToRemove);
+		assertEquals(expected, actual);
+	}
+
+	@Test(timeout = 200)
+	public void complexBulkOperationsCheck() {
+		List<Integer> sample0 = Arrays.asList(7, 7, 7, 7, 7, 7, 7);
+		List<Integer> sample1 = Arrays.asList(1, 2, 1, 2, 1, 2, 1, 2);
+		List<Integer> sample2 = Arrays.asList(3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+		List<Integer> sample3 = Arrays.asList(85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99);
+		List<Integer> sample4 = new ArrayList<Integer>();
+		for (int i = 100; i < 200; i++) sample4.add(i);
+		expected.add(null);
+		actual.add(null);
+		assertEquals(expected, actual);
+		expected.addAll(1, sample0);
+		actual.addAll(1, sample0);
+		assertEquals(expected, actual);
+		expected.addAll(0, sample1);
+		actual.addAll(0, sample1);
+		assertEquals(expected, actual);
+		expected.remove(15);
+		actual.remove(15);
+		assertEquals(expected, actual);
+		expected.addAll(14, sample2);
+		actual.addAll(14, sample2);	
+		assertEquals(expected, actual);
+		expected.addAll(4, sample3);
+		actual.addAll(4, sample3);
+		assertEquals(expected, actual);
+		expected.addAll(8, sample3);
+		actual.addAll(8, sample3);
+		assertEquals(expected, actual);
+		expected.addAll(16, sample3);
+		actual.addAll(16, sample3);
+		assertEquals(expected, actual);
+		expected.addAll(32, sample3);
+		actual.addAll(32, sample3);
+		assertEquals(expected, actual);
+		expected.addAll(64, sample3);
+		actual.addAll(64, sample3);
+		assertEquals(expected, actual);
+		expected.addAll(65, sample3);
+		actual.addAll(65, sample3);
+		assertEquals(expected, actual);
+		expected.addAll(50, sample4);
+		actual.addAll(50, sample4);
+		assertEquals(expected, actual);
+		expected.removeAll(sample4);
+		actual.removeAll(sample4);
+		assertEquals(expected, actual);
+		expected.retainAll(sample3);
+		actual.retainAll(sample3);
+		assertEquals(expected, actual);
+	}
+	
+	@Test(timeout = 200)
+	public void subListCheck() {
+		List<Integer> sample0 = Arrays.asList(7, 7, 7, 7, 7, 7, 7);
+		List<Integer> sample1 = Arrays.asList(1, 2, 1, 2, 1, 2, 1, 2);
+		List<Integer> sample2 = Arrays.asList(3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+		List<Integer> sample3 = Arrays.asList(85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99);
+		
+		expected.subList(0, 0).add(null);
+		actual.subList(0, 0).add(null);
+		assertEquals(expected, actual);
+		expected.subList(0, 0).addAll(sample0);
+		actual.subList(0, 0).addAll(sample0);
+		assertEquals(expected, actual);
+		expected.addAll(sample1.subList(1, 7));
+		actual.addAll(sample1.subList(1, 7));
+		assertEquals(expected, actual);
+		expected.addAll(sample1.subList(1, 3));
+		actual.addAll(sample1.subList(1, 3));
+		assertEquals(expected, actual);
+		expected.subList(15, 16).remove(0);
+		actual.subList(15, 16).remove(0);
+		assertEquals(expected, actual);
+		expected.subList(0, 14).addAll(0, sample2);
+		actual.subList(0, 14).addAll(0, sample2);
+		assertEquals(expected, actual);
+		expected.addAll(8, expected.subList(3, 8));
+		actual.addAll(8, actual.subList(3, 8));
+		assertEquals(expected, actual);
+		expected.addAll(16, sample3.subList(0, 15));
+		actual.addAll(16, sample3.subList(0, 15));
+		assertEquals(expected, actual);
+		expected.addAll(32, sample3.subList(0, 15));
+		actual.addAll(32, sample3.subList(0, 15));
+		assertEquals(expected, actual);
+		expected.addAll(65, sample3.subList(0, 15));
+		actual.addAll(65, sample3.subList(0, 15));
+		assertEquals(expected, actual);
+		expected.subList(0, 66).clear();
+		actual.subList(0, 66).clear();
+		assertEquals(expected, actual);
+		assertEquals(actual, actual.subList(0, expected.size()));
+		assertTrue(actual.subList(5, 5).isEmpty());
+	}
+	
+	// - performance tests
+	
+	@Test(timeout = 1000)
+	public void performanceTestInsertionsAndRemovalsAtTheBeginningAndTheMid() {
+		for (int i = 0; i < 1000; i++) {
+			actual.add(i);
+		}
+		for (int i = 0; i < 200000; i++) {
+			actual.add(32 + (i & 1), i & 63);
+		}
+		for (int i = 0; i < 100000; i++) {
+			actual.remove(100000 - i);
+		}
+		for (int i = 0; i < 100000; i++) {
+			actual.remove(i & 511);
+		}
+		assertTrue(actual.size() == 1000);
+	}
+	
+	@Test(timeout = 1000)
+	public void performanceTestGetOperation() {
+		for (int i = 0; i < 65536; i++) {
+			actual.add(i & 63);
+		}
+		for (int i = 0; i < 100000000; i++) {
+			actual.get(i & 65535);
+			actual.get((i + 40000) & 65535);
+		}
+	}
+	
+	@Test(timeout = 1000)
+	public void performanceTestAssureThatThereAreNoExcessiveMemoryThrashingDuringRemovalsAtTheEndOfBlock() {
+		Integer zero = 0;
+		int almostFilledBlockAtIndex = 65536-1024-1;
+		for (int i = 0; i < almostFilledBlockAtIndex; i++)
+			actual.add(zero);
+		for (int i = 0; i < 5000000; i++) {
+			actual.add(zero);
+			actual.add(zero);
+			actual.remove(almostFilledBlockAtIndex);
+			actual.remove(almostFilledBlockAtIndex);
+		}
+	}
+}
@@ -0,0 +1,122 @@
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import zjava.collection.CompactSortedSet;
+import zjava.collection.FrozenSortedSet;
+
+public class FrozenSortedSetTest {
+
+	private CompactSortedSet<Integer> source;
+
+	@Before
+	public void init() {
+		System.gc();
+		source = new CompactSortedSet<Integer>();
+	}
+
+	// - edge cases
+
+	@Test(timeout = 200)
+	public void firstOnEmptySnapshotThrowsNoSuchElementException() {
+		try {
+			source.snapshot().first();
+		}
+		catch (NoSuchElementException e) {
+			return;
+		}
+		fail();
+	}
+
+	@Test(timeout = 200)
+	public void subSetWithInvertedBoundsThrowsIllegalArgumentException() {
+		source.add(1);
+		try {
+			source.snapshot().subSet(5, 3);
+		}
+		catch (IllegalArgumentException e) {
+			return;
+		}
+		fail();
+	}
+
+	@Test(timeout = 200)
+	public void snapshotDoesNotPermitModifications() {
+		source.add(1);
+		FrozenSortedSet<Integer> snapshot = source.snapshot();
+		try {
+			snapshot.remove(1);
+		}
+		catch (UnsupportedOperationException e) {
+			assertEquals(1, snapshot.size());
+			return;
+		}
+		fail();
+	}
+
+	// - basic operations tests
+
+	@Test(timeout = 200)
+	public void snapshotUsesComparatorOfSourceSet() {
+		source = new CompactSortedSet<Integer>(Collections.<Integer>reverseOrder());
+		for (int i = 0; i < 10; i++)
+			source.add(i);
+		FrozenSortedSet<Integer> snapshot = source.snapshot();
+		assertEquals(9, (int) snapshot.first());
+		assertEquals(0, (int) snapshot.last());
+		assertTrue(snapshot.contains(4));
+		assertEquals(3, snapshot.headSet(6).size());
+	}
+
+	@Test(timeout = 1000)
+	public void snapshotAndItsViewsMatchTreeSet() {
+		Random random = new Random(5);
+		TreeSet<Integer> expected = new TreeSet<Integer>();
+		for (int i = 0; i < 3000; i++) {
+			int v = random.nextInt(10000);
+			expected.add(v);
+			source.add(v);
+		}
+		FrozenSortedSet<Integer> snapshot = source.snapshot();
+		assertEquals(expected, snapshot);
+		for (int i = 0; i < 100; i++) {
+			int from = random.nextInt(10000), to = from + random.nextInt(3000);
+			SortedSet<Integer> expectedView = expected.subSet(from, to);
+			SortedSet<Integer> actualView = snapshot.subSet(from, to);
+			assertEquals(expectedView.size(), actualView.size());
+			assertEquals(expectedView, actualView);
+			assertEquals(expected.headSet(to), snapshot.headSet(to));
+			assertEquals(expected.tailSet(from), snapshot.tailSet(from));
+			for (int key = from - 5; key < to + 5; key += 3)
+				assertEquals(expectedView.contains(key), actualView.contains(key));
+		}
+	}
+
+	// - performance tests
+
+	@Test(timeout = 1000)
+	public void performanceTestSnapshotLookups() {
+		Random random = new Random(37);
+		for (int i = 0; i < 300000; i++)
+			source.add(4 * i + random.nextInt(4));
+		FrozenSortedSet<Integer> snapshot = source.snapshot();
+		Integer[] keys = new Integer[1 << 16];
+		for (int i = 0; i < keys.length; i++)
+			keys[i] = random.nextInt(1200000);
+		int found = 0;
+		for (int i = 0; i < 1000000; i++) {
+			if (snapshot.contains(keys[i & (keys.length - 1)]))
+				found++;
+		}
+		assertTrue(found > 0);
+	}
+}
@@ -0,0 +1,303 @@
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import zjava.collection.HashStats;
+import zjava.collection.HashedSet;
+import zjava.collection.Hasher;
+import zjava.collection.Hasherz;
+
+public class HashedSetTest {
+
+	// - returns 2^n distinct strings with the same hash code
+	private static List<String> collidingStrings(int n) {
+		List<String> strings = new ArrayList<String>();
+		strings.add("");
+		for (int i = 0; i < n; i++) {
+			List<String> longer = new ArrayList<String>();
+			for (String s : strings) {
+				longer.add(s + "Aa");
+				longer.add(s + "BB");
+			}
+			strings = longer;
+		}
+		return strings;
+	}
+
+	/** Key which can't be ordered and has the same hash code as any other key */
+	private static class CollidingKey {
+		final int id;
+
+		CollidingKey(int id) {
+			this.id = id;
+		}
+
+		public boolean equals(Object o) {
+			return (o instanceof CollidingKey) && ((CollidingKey) o).id == id;
+		}
+
+		public int hashCode() {
+			return 42;
+		}
+	}
+
+	@Test(timeout = 2000)
+	public void collidingComparableKeys() {
+		List<String> keys = collidingStrings(15);
+		HashedSet<String> set = new HashedSet<String>();
+		for (String key : keys)
+			assertTrue(set.add(key));
+		for (String key : keys)
+			assertFalse(set.add(key));
+		assertEquals(keys.size(), set.size());
+		for (int i = 0; i < keys.size(); i += 2)
+			assertTrue(set.remove(keys.get(i)));
+		for (int i = 0; i < keys.size(); i++)
+			assertEquals(i % 2 == 1, set.contains(keys.get(i)));
+		assertFalse(set.contains(keys.get(1) + "Aa"));
+		assertEquals(keys.size() / 2, set.size());
+	}
+
+	@Test(timeout = 2000)
+	public void collidingKeysWhichCanNotBeOrdered() {
+		HashedSet<CollidingKey> set = new HashedSet<CollidingKey>();
+		for (int i = 0; i < 1000; i++)
+			assertTrue(set.add(new CollidingKey(i)));
+		for (int i = 0; i < 1000; i += 3)
+			assertTrue(set.remove(new CollidingKey(i)));
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i % 3 != 0, set.contains(new CollidingKey(i)));
+		assertFalse(set.remove(new CollidingKey(0)));
+		assertTrue(set.add(new CollidingKey(0)));
+	}
+
+	@Test(timeout = 2000)
+	public void collidingKeysWithCustomEquality() {
+		// - case insensitive equality isn't consistent with natural ordering of strings
+		Hasher<String> caseInsensitive = new Hasher<String>() {
+			private static final long serialVersionUID = 1L;
+
+			public int hashCode(String s) {
+				return 7;
+			}
+
+			public boolean equals(String s1, String s2) {
+				return s1.equalsIgnoreCase(s2);
+			}
+		};
+		HashedSet<String> set = new HashedSet<String>(caseInsensitive);
+		for (int i = 0; i < 500; i++)
+			assertTrue(set.add("key" + i));
+		for (int i = 0; i < 500; i++) {
+			assertTrue(set.contains("KEY" + i));
+			assertFalse(set.add("Key" + i));
+		}
+		assertTrue(set.remove("KEY250"));
+		assertFalse(set.contains("key250"));
+		assertEquals(499, set.size());
+	}
+
+	@Test(timeout = 2000)
+	@SuppressWarnings("unchecked")
+	public void cloneKeepsCollidingKeys() {
+		List<String> keys = collidingStrings(10);
+		HashedSet<String> set = new HashedSet<String>();
+		for (String key : keys)
+			set.add(key);
+		HashedSet<String> clone = (HashedSet<String>) set.clone();
+		set.remove(keys.get(0));
+		clone.remove(keys.get(1));
+		assertTrue(clone.contains(keys.get(0)));
+		assertFalse(clone.contains(keys.get(1)));
+		assertTrue(set.contains(keys.get(1)));
+		for (int i = 2; i < keys.size(); i++)
+			assertTrue(clone.contains(keys.get(i)));
+	}
+
+	@Test(timeout = 2000)
+	public void iterationVisitsEachElementOnce() {
+		HashedSet<Integer> set = new HashedSet<Integer>();
+		Set<Integer> expected = new HashSet<Integer>();
+		set.add(null);
+		expected.add(null);
+		for (int i = 0; i < 200000; i++) {
+			set.add(i * 31);
+			expected.add(i * 31);
+		}
+		for (int i = 0; i < 200000; i += 3) {
+			set.remove(i * 31);
+			expected.remove(i * 31);
+		}
+		Set<Integer> actual = new HashSet<Integer>();
+		for (Integer e : set)
+			assertTrue(actual.add(e));
+		assertEquals(expected, actual);
+		assertEquals(expected, set);
+	}
+
+	@Test(timeout = 2000)
+	public void iteratorRemovesElements() {
+		HashedSet<String> set = new HashedSet<String>();
+		set.add(null);
+		for (String key : collidingStrings(8))
+			set.add(key);
+		for (int i = 0; i < 5000; i++)
+			set.add("key" + i);
+		final int size = set.size();
+		int removed = 0;
+		for (Iterator<String> iter = set.iterator(); iter.hasNext(); ) {
+			String e = iter.next();
+			if (e == null || e.hashCode() % 2 == 0) {
+				iter.remove();
+				removed++;
+			}
+		}
+		assertEquals(size - removed, set.size());
+		assertFalse(set.contains(null));
+		int count = 0;
+		for (String e : set) {
+			assertTrue(e.hashCode() % 2 != 0);
+			assertTrue(set.contains(e));
+			count++;
+		}
+		assertEquals(set.size(), count);
+	}
+
+	@Test(timeout = 2000)
+	public void partitionedIterationCoversSet() {
+		HashedSet<Long> set = new HashedSet<Long>();
+		set.add(null);
+		for (long i = 0; i < 100000; i++)
+			set.add(i << 20);
+		for (int parts : new int[] {1, 3, 16, 1000000}) {
+			List<Iterator<Long>> iterators = set.iterators(parts);
+			assertTrue(iterators.size() <= parts);
+			Set<Long> actual = new HashSet<Long>();
+			for (Iterator<Long> iter : iterators)
+				while (iter.hasNext())
+					assertTrue(actual.add(iter.next()));
+			assertEquals(set, actual);
+		}
+	}
+
+	private static List<Long> range(long from, long to, long step) {
+		List<Long> values = new ArrayList<Long>();
+		for (long i = from; i < to; i += step)
+			values.add(i);
+		return values;
+	}
+
+	@Test(timeout = 2000)
+	public void bulkOperationsWithOtherCollections() {
+		HashedSet<Long> set = new HashedSet<Long>();
+		Set<Long> expected = new HashSet<Long>();
+		List<Long> values = range(0, 30000, 1);
+		values.add(null);
+		values.addAll(range(0, 10000, 7));
+		assertTrue(set.addAll(values));
+		expected.addAll(values);
+		assertFalse(set.addAll(values));
+		assertEquals(expected, set);
+		assertTrue(set.containsAll(range(0, 30000, 3)));
+		assertFalse(set.containsAll(range(0, 30001, 3)));
+		assertTrue(set.removeAll(range(0, 40000, 2)));
+		expected.removeAll(range(0, 40000, 2));
+		assertEquals(expected, set);
+		List<Long> retained = range(0, 20000, 3);
+		retained.add(null);
+		assertTrue(set.retainAll(retained));
+		expected.retainAll(retained);
+		assertEquals(expected, set);
+		assertEquals(expected.size(), set.size());
+	}
+
+	@Test(timeout = 2000)
+	public void bulkOperationsWithCompatibleSets() {
+		HashedSet<Long> a = new HashedSet<Long>(Hasherz.longHasher(1));
+		HashedSet<Long> b = new HashedSet<Long>(Hasherz.longHasher(1));
+		a.addAll(range(0, 50000, 2));
+		b.addAll(range(0, 50000, 3));
+		b.add(null);
+		HashedSet<Long> copy = new HashedSet<Long>(Hasherz.longHasher(1));
+		assertTrue(copy.addAll(b));
+		assertEquals(b, copy);
+		copy.remove(3L);
+		assertTrue(b.contains(3L));
+
+		Set<Long> expected = new HashSet<Long>(a);
+		expected.addAll(b);
+		HashedSet<Long> union = new HashedSet<Long>(Hasherz.longHasher(1));
+		union.add(-1L);
+		union.addAll(a);
+		union.addAll(b);
+		union.remove(-1L);
+		assertEquals(expected, union);
+		assertTrue(union.containsAll(a));
+		assertTrue(union.containsAll(b));
+		assertFalse(a.containsAll(union));
+
+		expected = new HashSet<Long>(a);
+		expected.retainAll(b);
+		HashedSet<Long> intersection = new HashedSet<Long>(Hasherz.longHasher(1));
+		intersection.addAll(a);
+		assertTrue(intersection.retainAll(b));
+		assertEquals(expected, intersection);
+		assertEquals(range(0, 50000, 6).size(), intersection.size());
+
+		expected = new HashSet<Long>(b);
+		expected.removeAll(a);
+		HashedSet<Long> difference = new HashedSet<Long>(Hasherz.longHasher(1));
+		difference.addAll(b);
+		assertTrue(difference.removeAll(a));
+		assertEquals(expected, difference);
+		assertTrue(union.removeAll(intersection));
+		assertEquals(a.size() + b.size() - 2 * intersection.size(), union.size());
+	}
+
+	private static long sum(long[] values) {
+		long sum = 0;
+		for (long value : values)
+			sum += value;
+		return sum;
+	}
+
+	@Test(timeout = 2000)
+	public void statsDescribeTableStructure() {
+		HashedSet<Long> set = new HashedSet<Long>();
+		HashStats empty = set.stats();
+		assertEquals(0, empty.size());
+		assertEquals(0, empty.averageProbes(), 0.0);
+		set.add(null);
+		for (long i = 0; i < 100000; i++)
+			set.add(i);
+		HashStats stats = set.stats();
+		assertEquals(100001, stats.size());
+		assertTrue(stats.tableSlots() >= 1024);
+		assertTrue(stats.blocks() > 1 && stats.blocks() <= stats.tableSlots());
+		assertEquals(stats.blocks(), sum(stats.blockLoadHistogram()));
+		assertEquals(100000, stats.averageBlockLoad() * stats.blocks(), 1e-6);
+		assertTrue(stats.averageProbes() >= 1);
+		assertTrue(stats.maxProbes() >= stats.averageProbes());
+		assertTrue(stats.estimatedMemory() > 100000 * 4);
+		assertTrue(stats.toString().startsWith("HashStats[size=100001"));
+
+		HashedSet<String> colliding = new HashedSet<String>();
+		for (String key : collidingStrings(10))
+			colliding.add(key);
+		stats = colliding.stats();
+		assertTrue(stats.collisionEntries() > 1024 - 64);
+		assertEquals(1, stats.trees());
+		assertEquals(1, sum(stats.collisionListHistogram()));
+		assertEquals(1024, stats.maxBlockLoad());
+		// - balanced tree keeps probe counts logarithmic
+		assertTrue(stats.maxProbes() < 64 + 60);
+	}
+}
@@ -0,0 +1,93 @@
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import zjava.collection.HashedSet;
+import zjava.collection.Hasher;
+import zjava.collection.Hasherz;
+
+public class HasherzTest {
+
+	// - number of distinct values of the lowest bits of hash codes
+	private static <T> int lowBitsSpread(Hasher<? super T> hasher, Iterable<T> values, int bits) {
+		Set<Integer> buckets = new HashSet<Integer>();
+		for (T value : values)
+			buckets.add(hasher.hashCode(value) & ((1 << bits) - 1));
+		return buckets.size();
+	}
+
+	@Test(timeout = 1000)
+	public void longsDifferingInHighBitsAreSpread() {
+		List<Long> values = new ArrayList<Long>();
+		HashedSet<Long> set = new HashedSet<Long>(Hasherz.LONG);
+		for (long i = 0; i < 4096; i++) {
+			values.add(i << 40);
+			set.add(i << 40);
+		}
+		assertEquals(4096, set.size());
+		assertEquals(1, lowBitsSpread(Hasher.DEFAULT, values, 8));
+		assertTrue(lowBitsSpread(Hasherz.LONG, values, 8) == 256);
+		assertTrue(lowBitsSpread(Hasherz.longHasher(42), values, 8) == 256);
+		assertTrue(set.contains(7L << 40));
+		assertFalse(set.contains(7L << 39));
+	}
+
+	@Test(timeout = 1000)
+	public void seedsChangeHashCodes() {
+		assertEquals(Hasherz.INTEGER.hashCode(12345), Hasherz.integerHasher(0).hashCode(12345));
+		assertFalse(Hasherz.INTEGER.hashCode(12345) == Hasherz.integerHasher(1).hashCode(12345));
+		assertFalse(Hasherz.STRING.hashCode("abc") == Hasherz.stringHasher(1).hashCode("abc"));
+		assertEquals(Hasherz.longHasher(7), Hasherz.longHasher(7));
+		assertFalse(Hasherz.longHasher(7).equals(Hasherz.longHasher(8)));
+		assertEquals(0, Hasherz.LONG.hashCode(null));
+	}
+
+	@Test(timeout = 1000)
+	public void charSequencesAreComparedByContent() {
+		Hasher<CharSequence> hasher = Hasherz.CHAR_SEQUENCE;
+		for (String s : new String[] {"", "a", "abcd", "abcde", "abcdefghi"}) {
+			StringBuilder sb = new StringBuilder(s);
+			assertEquals(hasher.hashCode(s), hasher.hashCode(sb));
+			assertEquals(Hasherz.STRING.hashCode(s), hasher.hashCode(sb));
+			assertTrue(hasher.equals(s, sb));
+			assertFalse(hasher.equals(s + "x", sb));
+		}
+		HashedSet<CharSequence> values = new HashedSet<CharSequence>(hasher);
+		values.add("abc");
+		assertTrue(values.contains(new StringBuilder("abc")));
+		assertFalse(hasher.hashCode("ab") == hasher.hashCode("ab\u0000"));
+	}
+
+	@Test(timeout = 1000)
+	public void byteArraysAreComparedByContent() {
+		HashedSet<byte[]> values = new HashedSet<byte[]>(Hasherz.BYTE_ARRAY);
+		for (int n = 0; n < 20; n++)
+			values.add(new byte[n]);
+		assertEquals(20, values.size());
+		assertTrue(values.contains(new byte[9]));
+		assertFalse(values.contains(new byte[] {1}));
+		assertFalse(Hasherz.BYTE_ARRAY.hashCode(new byte[] {1, 2}) == Hasherz.BYTE_ARRAY.hashCode(new byte[] {2, 1}));
+	}
+
+	@Test(timeout = 1000)
+	public void longHashCodesKeepAllBits() {
+		Set<Long> hashes = new HashSet<Long>();
+		for (long i = 0; i < 4096; i++) {
+			final long h = Hasherz.LONG.longHashCode(i << 40);
+			// - 32-bit hash code is folded from the 64-bit one
+			assertEquals((int) (h ^ (h >>> 32)), Hasherz.LONG.hashCode(i << 40));
+			assertTrue(hashes.add(h >>> 32));
+		}
+		assertEquals(Hasherz.STRING.longHashCode("abcde"), Hasherz.CHAR_SEQUENCE.longHashCode(new StringBuilder("abcde")));
+		assertEquals(0, Hasherz.STRING.longHashCode(null));
+		// - default implementation extends 32-bit hash code
+		assertEquals("abc".hashCode(), Hasher.DEFAULT.longHashCode("abc"));
+	}
+}
@@ -0,0 +1,165 @@
+package zjava.test.collection;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import zjava.collection.Hasher;
+import zjava.collection.LinkedHashedSet;
+
+public class LinkedHashedSetTest {
+
+	@Test(timeout = 2000)
+	public void keepsInsertionOrder() {
+		LinkedHashedSet<String> set = new LinkedHashedSet<String>();
+		assertTrue(set.add("c"));
+		assertTrue(set.add("a"));
+		assertTrue(set.add(null));
+		assertTrue(set.add("b"));
+		assertFalse(set.add("c"));
+		assertFalse(set.add(null));
+		assertEquals(Arrays.asList("c", "a", null, "b"), new ArrayList<String>(set));
+		assertTrue(set.remove("a"));
+		assertFalse(set.remove("a"));
+		assertTrue(set.add("a"));
+		assertEquals(Arrays.asList("c", null, "b", "a"), new ArrayList<String>(set));
+		assertTrue(set.contains(null));
+		assertTrue(set.remove(null));
+		assertFalse(set.contains(null));
+		assertEquals("[c, b, a]", set.toString());
+	}
+
+	@Test(timeout = 5000)
+	public void randomOperationsMatchLinkedHashSet() {
+		Random random = new Random(7);
+		LinkedHashedSet<Integer> set = new LinkedHashedSet<Integer>();
+		LinkedHashSet<Integer> expected = new LinkedHashSet<Integer>();
+		for (int i = 0; i < 200000; i++) {
+			Integer value = random.nextInt(5000);
+			switch (random.nextInt(3)) {
+				case 0:
+				case 1:
+					assertEquals(expected.add(value), set.add(value));
+					break;
+				default:
+					assertEquals(expected.remove(value), set.remove(value));
+			}
+			if (i % 20000 == 0)
+				assertEquals(new ArrayList<Integer>(expected), new ArrayList<Integer>(set));
+		}
+		assertEquals(expected.size(), set.size());
+		assertEquals(new ArrayList<Integer>(expected), new ArrayList<Integer>(set));
+		assertEquals(new ArrayList<Integer>(expected), Arrays.asList(set.toArray()));
+		assertEquals(expected, set);
+		assertEquals(expected.hashCode(), set.hashCode());
+	}
+
+	@Test(timeout = 2000)
+	public void removalFromHeadKeepsIterationFast() {
+		LinkedHashedSet<Integer> set = new LinkedHashedSet<Integer>();
+		for (int i = 0; i < 1000000; i++) {
+			set.add(i);
+			if (i >= 10)
+				set.remove(i - 10);
+			// - gaps at the beginning of the log must not be iterated over and over again
+			assertEquals(Math.max(0, i - 9), set.iterator().next().intValue());
+		}
+		assertEquals(10, set.size());
+	}
+
+	@Test(timeout = 2000)
+	public void iteratorRemove() {
+		LinkedHashedSet<Integer> set = new LinkedHashedSet<Integer>();
+		for (int i = 0; i < 10000; i++)
+			set.add(i);
+		for (Iterator<Integer> iter = set.iterator(); iter.hasNext(); )
+			if (iter.next() % 3 != 0)
+				iter.remove();
+		assertEquals(3334, set.size());
+		int expected = 0;
+		for (Integer value : set) {
+			assertEquals(expected, value.intValue());
+			expected += 3;
+		}
+		for (int i = 0; i < 10000; i++)
+			assertEquals(i % 3 == 0, set.contains(i));
+		Iterator<Integer> iter = set.iterator();
+		try {
+			iter.remove();
+			fail();
+		}
+		catch (IllegalStateException e) {}
+		iter.next();
+		set.add(-1);
+		try {
+			iter.next();
+			fail();
+		}
+		catch (ConcurrentModificationException e) {}
+	}
+
+	@Test(timeout = 2000)
+	public void customHasher() {
+		LinkedHashedSet<String> set = new LinkedHashedSet<String>(new Hasher<String>() {
+			private static final long serialVersionUID = 1L;
+
+			public int hashCode(String s) {
+				return s.toLowerCase().hashCode();
+			}
+
+			public boolean equals(String s1, String s2) {
+				return s1.equalsIgnoreCase(s2);
+			}
+		});
+		assertTrue(set.add("Hello"));
+		assertFalse(set.add("HELLO"));
+		assertTrue(set.contains("hello"));
+		assertTrue(set.remove("hElLo"));
+		assertTrue(set.isEmpty());
+	}
+
+	@Test(timeout = 2000)
+	@SuppressWarnings("unchecked")
+	public void cloneTrimAndSerialization() throws Exception {
+		LinkedHashedSet<Integer> set = new LinkedHashedSet<Integer>();
+		for (int i = 0; i < 1000; i++)
+			set.add(999 - i);
+		for (int i = 0; i < 1000; i += 2)
+			set.remove(i);
+		List<Integer> expected = new ArrayList<Integer>(set);
+
+		LinkedHashedSet<Integer> clone = (LinkedHashedSet<Integer>) set.clone();
+		clone.add(-1);
+		assertEquals(expected, new ArrayList<Integer>(set));
+
+		set.trimToSize();
+		assertEquals(expected, new ArrayList<Integer>(set));
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i % 2 == 1, set.contains(i));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(set);
+		out.close();
+		ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		LinkedHashedSet<Integer> copy = (LinkedHashedSet<Integer>) in.readObject();
+		assertEquals(expected, new ArrayList<Integer>(copy));
+		assertTrue(copy.add(-1));
+
+		set.clear();
+		assertTrue(set.isEmpty());
+		assertFalse(set.iterator().hasNext());
+	}
+}
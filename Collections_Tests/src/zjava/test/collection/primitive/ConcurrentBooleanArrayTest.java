@@ -0,0 +1,58 @@
+package zjava.test.collection.primitive;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import zjava.collection.primitive.BooleanArray;
+import zjava.collection.primitive.ConcurrentBooleanArray;
+
+public class ConcurrentBooleanArrayTest {
+
+	private static final int THREADS = 8;
+
+	@Test(timeout = 5000)
+	public void concurrentUpdatesOfTheSameWordsAreNotLost() throws InterruptedException {
+		final ConcurrentBooleanArray actual = new ConcurrentBooleanArray(1000003);
+		Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			final int first = t;
+			threads[t] = new Thread() {
+				public void run() {
+					// - neighbouring bits are set by different threads
+					for (long i = first; i < actual.size(); i += THREADS)
+						assertFalse(actual.setTrue(i));
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(actual.size(), actual.cardinality());
+		assertTrue(actual.compareAndSet(5, true, false));
+		assertFalse(actual.compareAndSet(5, true, false));
+		assertFalse(actual.getAndSet(5, true));
+		assertTrue(actual.get(5));
+	}
+
+	@Test(timeout = 200)
+	public void orMergesBitsOfOtherArrays() {
+		ConcurrentBooleanArray actual = new ConcurrentBooleanArray(1000);
+		BooleanArray plain = new BooleanArray(900);
+		ConcurrentBooleanArray concurrent = new ConcurrentBooleanArray(1000);
+		for (int i = 0; i < 900; i += 3)
+			plain.setTrue(i);
+		for (int i = 0; i < 1000; i += 5)
+			concurrent.setTrue(i);
+		actual.setTrue(1);
+		actual.or(plain);
+		actual.or(concurrent);
+		for (int i = 0; i < 1000; i++)
+			assertEquals(i == 1 || (i % 3 == 0 && i < 900) || i % 5 == 0, actual.get(i));
+		try {
+			new ConcurrentBooleanArray(10).or(actual);
+			fail();
+		}
+		catch (IllegalArgumentException expected) {}
+	}
+}
@@ -0,0 +1,67 @@
+package zjava.test.collection.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import zjava.collection.primitive.LazyDoubleArray;
+import zjava.collection.primitive.LazyLongArray;
+
+public class LazyLongArrayTest {
+
+	@Test(timeout = 500)
+	public void sparseArrayOfHugeSizeMatchesMap() {
+		LazyLongArray actual = new LazyLongArray(1L << 40);
+		Map<Long, Long> expected = new HashMap<Long, Long>();
+		Random random = new Random(47);
+		for (int i = 0; i < 10000; i++) {
+			long index = random.nextLong() >>> 24;
+			long value = random.nextLong();
+			Long previous = expected.put(index, value);
+			assertEquals(previous == null ? 0 : previous, actual.set(index, value));
+		}
+		for (Map.Entry<Long, Long> e : expected.entrySet())
+			assertEquals((long) e.getValue(), actual.get(e.getKey()));
+		assertEquals(0, actual.get(0));
+		assertEquals(0, actual.get((1L << 40) - 1));
+		try {
+			actual.get(1L << 40);
+			fail();
+		}
+		catch (IndexOutOfBoundsException expectedException) {}
+	}
+
+	@Test(timeout = 200)
+	public void reclaimFreesBlocksWithDefaultValuesOnly() {
+		LazyLongArray actual = new LazyLongArray(1L << 30, -1);
+		assertEquals(-1, actual.get(12345));
+		// - writing default value doesn't allocate blocks
+		actual.set(5, -1);
+		assertEquals(0, actual.reclaim());
+		for (long i = 0; i < 10; i++)
+			actual.set(i << 20, i);
+		assertEquals(-1, actual.get(1));
+		assertEquals(0, actual.reclaim());
+		for (long i = 0; i < 10; i += 2)
+			actual.set(i << 20, -1);
+		assertEquals(5, actual.reclaim());
+		assertEquals(-1, actual.get(2L << 20));
+		assertEquals(3, actual.get(3L << 20));
+		LazyLongArray clone = (LazyLongArray) actual.clone();
+		clone.set(3L << 20, 7);
+		assertEquals(3, actual.get(3L << 20));
+	}
+
+	@Test(timeout = 200)
+	public void reclaimTreatsNaNAsDefaultValue() {
+		LazyDoubleArray actual = new LazyDoubleArray(100000, Double.NaN);
+		assertTrue(Double.isNaN(actual.get(99999)));
+		actual.set(50000, 1.5);
+		actual.set(50000, Double.NaN);
+		assertEquals(1, actual.reclaim());
+	}
+}
@@ -0,0 +1,142 @@
+package zjava.test.collection.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import zjava.collection.primitive.ByteList;
+import zjava.collection.primitive.DoubleList;
+import zjava.collection.primitive.LongList;
+
+public class LongListTest {
+
+	private static long[] toArray(LongList list) {
+		long[] result = new long[(int) list.size()];
+		for (int i = 0; i < result.length; i++)
+			result[i] = list.get(i);
+		return result;
+	}
+
+	@Test(timeout = 200)
+	public void sortOfEmptyAndSingletonList() {
+		LongList list = new LongList();
+		list.sort();
+		assertEquals(0, list.size());
+		list.add(-1);
+		list.sort();
+		assertEquals(-1, list.get(0));
+	}
+
+	@Test(timeout = 2000)
+	public void sortMatchesArraysSort() {
+		Random random = new Random(5);
+		LongList list = new LongList();
+		long[] expected = new long[300000];
+		for (int i = 0; i < expected.length; i++) {
+			// - mix of extreme, small and arbitrary values
+			long value = (i % 7 == 0) ? Long.MIN_VALUE : (i % 5 == 0) ? Long.MAX_VALUE : (i % 3 == 0) ? random.nextInt(10) - 5 : random.nextLong();
+			expected[i] = value;
+			list.add(random.nextInt(i + 1), value);
+		}
+		// - order of insertions doesn't matter after the sort
+		Arrays.sort(expected);
+		list.sort();
+		assertArrayEquals(expected, toArray(list));
+		// - list remains fully functional
+		list.add(0, 1);
+		list.remove(0);
+		assertTrue(list.binarySearch(expected[expected.length / 2]) >= 0);
+	}
+
+	@Test(timeout = 200)
+	public void sortOfSmallValuesSkipsHighBytes() {
+		ByteList list = new ByteList();
+		byte[] expected = new byte[1000];
+		for (int i = 0; i < expected.length; i++) {
+			expected[i] = (byte) (i * 37);
+			list.add(expected[i]);
+		}
+		Arrays.sort(expected);
+		list.sort();
+		for (int i = 0; i < expected.length; i++)
+			assertEquals(expected[i], list.get(i));
+	}
+
+	@Test(timeout = 200)
+	public void sortOfDoublesUsesOrderOfArraysSort() {
+		double[] expected = {3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -7, Double.POSITIVE_INFINITY, 0.0, -0.0, Double.MIN_VALUE, -Double.MAX_VALUE};
+		DoubleList list = new DoubleList();
+		for (double value : expected)
+			list.add(value);
+		Arrays.sort(expected);
+		list.sort();
+		for (int i = 0; i < expected.length; i++)
+			assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(list.get(i)));
+	}
+
+	@Test(timeout = 200)
+	public void searchOfDoublesUsesOrderOfSort() {
+		double[] values = {3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -7, Double.POSITIVE_INFINITY, 0.0, -0.0, Double.NaN};
+		DoubleList list = new DoubleList();
+		for (double value : values)
+			list.add(value);
+		list.sort();
+		Arrays.sort(values);
+		for (double value : values) {
+			int expected = Arrays.binarySearch(values, value);
+			assertEquals(Double.doubleToLongBits(value), Double.doubleToLongBits(list.get(list.binarySearch(value))));
+			assertEquals(Double.doubleToLongBits(value), Double.doubleToLongBits(list.get(list.binarySearchNext(value) - 1)));
+			assertEquals(list.binarySearch(value), list.interpolationSearch(value));
+			assertEquals(list.binarySearch(value), list.exponentialSearch(value, expected));
+		}
+		// - -0.0 and 0.0 are different values, NaN is the greatest one
+		assertEquals(2, list.binarySearch(-0.0));
+		assertEquals(4, list.binarySearch(0.0));
+		assertEquals(4, list.binarySearchNext(-0.0));
+		assertEquals(8, list.binarySearch(Double.NaN));
+		assertEquals(10, list.binarySearchNext(Double.NaN));
+		assertEquals(~7, list.binarySearchNext(Double.MAX_VALUE));
+	}
+
+	@Test(timeout = 1000)
+	public void copyBetweenListsMatchesArrayCopy() {
+		Random random = new Random(41);
+		LongList a = new LongList();
+		LongList b = new LongList();
+		for (int i = 0; i < 5000; i++) {
+			// - insertions at the beginning rotate values inside of the blocks
+			a.add(0, i);
+			b.add(-i);
+		}
+		long[] expectedA = toArray(a);
+		long[] expectedB = toArray(b);
+		for (int i = 0; i < 300; i++) {
+			int length = random.nextInt(3000);
+			int from = random.nextInt(5000 - length + 1);
+			int to = random.nextInt(5000 - length + 1);
+			switch (random.nextInt(3)) {
+			case 0:
+				LongList.copy(a, from, b, to, length);
+				System.arraycopy(expectedA, from, expectedB, to, length);
+				break;
+			case 1:
+				LongList.copy(b, from, a, to, length);
+				System.arraycopy(expectedB, from, expectedA, to, length);
+				break;
+			default:
+				LongList.copy(a, from, a, to, length);
+				System.arraycopy(expectedA, from, expectedA, to, length);
+			}
+			assertArrayEquals(expectedA, toArray(a));
+			assertArrayEquals(expectedB, toArray(b));
+		}
+		try {
+			LongList.copy(a, 1, b, 0, 5000);
+			fail();
+		}
+		catch (IndexOutOfBoundsException expected) {}
+	}
+}
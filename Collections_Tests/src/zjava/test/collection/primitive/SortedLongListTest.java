@@ -0,0 +1,157 @@
+package zjava.test.collection.primitive;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import zjava.collection.primitive.LongList;
+import zjava.collection.primitive.SortedLongList;
+
+public class SortedLongListTest {
+
+	// - edge cases
+
+	@Test(timeout = 200)
+	public void firstOnEmptyListThrowsNoSuchElementException() {
+		try {
+			new SortedLongList().first();
+		}
+		catch (NoSuchElementException e) {
+			return;
+		}
+		fail();
+	}
+
+	@Test(timeout = 200)
+	public void navigationOnEmptyListReturnsMinusOne() {
+		SortedLongList actual = new SortedLongList();
+		assertEquals(-1, actual.floorIndex(0));
+		assertEquals(-1, actual.ceilingIndex(0));
+		assertEquals(-1, actual.lowerIndex(0));
+		assertEquals(-1, actual.higherIndex(0));
+		assertEquals(-1, actual.indexOf(0));
+		assertFalse(actual.contains(0));
+	}
+
+	@Test(timeout = 200)
+	public void extremeValuesAreOrderedCorrectly() {
+		SortedLongList actual = new SortedLongList();
+		actual.add(0);
+		actual.add(Long.MAX_VALUE);
+		actual.add(Long.MIN_VALUE);
+		actual.add(-1);
+		assertEquals(Long.MIN_VALUE, actual.first());
+		assertEquals(Long.MAX_VALUE, actual.last());
+		assertEquals(-1, actual.get(1));
+		assertEquals(0, actual.get(2));
+	}
+
+	// - basic operations tests
+
+	@Test(timeout = 200)
+	public void distinctListRejectsDuplicates() {
+		SortedLongList actual = new SortedLongList(true);
+		assertTrue(actual.add(5));
+		assertFalse(actual.add(5));
+		assertTrue(actual.add(3));
+		assertEquals(2, actual.size());
+		assertTrue(actual.remove(5));
+		assertFalse(actual.remove(5));
+		assertEquals(1, actual.size());
+	}
+
+	@Test(timeout = 200)
+	public void duplicatesAreKeptTogether() {
+		SortedLongList actual = new SortedLongList();
+		for (int i = 0; i < 100; i++) {
+			actual.add(i % 10);
+		}
+		assertEquals(100, actual.size());
+		for (int v = 0; v < 10; v++) {
+			assertEquals(v * 10, actual.indexOf(v));
+			assertEquals(v * 10 + 9, actual.lastIndexOf(v));
+		}
+	}
+
+	@Test(timeout = 200)
+	public void navigationMethodsReturnCorrectIndexes() {
+		SortedLongList actual = new SortedLongList();
+		for (long v : new long[] {10, 20, 20, 30})
+			actual.add(v);
+		assertEquals(0, actual.floorIndex(10));
+		assertEquals(2, actual.floorIndex(25));
+		assertEquals(-1, actual.floorIndex(9));
+		assertEquals(1, actual.ceilingIndex(11));
+		assertEquals(1, actual.ceilingIndex(20));
+		assertEquals(-1, actual.ceilingIndex(31));
+		assertEquals(0, actual.lowerIndex(20));
+		assertEquals(3, actual.higherIndex(20));
+		assertEquals(-1, actual.higherIndex(30));
+		assertEquals(20, actual.floor(29));
+		assertEquals(30, actual.ceiling(21));
+	}
+
+	@Test(timeout = 1000)
+	public void randomOperationsMatchSortedArrayList() {
+		Random random = new Random(4711);
+		SortedLongList actual = new SortedLongList();
+		List<Long> expected = new ArrayList<Long>();
+		for (int i = 0; i < 20000; i++) {
+			long v = random.nextInt(5000) - 2500;
+			if (random.nextInt(3) > 0) {
+				actual.add(v);
+				int pos = Collections.binarySearch(expected, v);
+				expected.add(pos < 0 ? ~pos : pos, v);
+			}
+			else {
+				assertEquals(expected.remove(v), actual.remove(v));
+			}
+		}
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++)
+			assertEquals((long) expected.get(i), actual.get(i));
+		for (long v = -2600; v < 2600; v++) {
+			assertEquals(expected.contains(v), actual.contains(v));
+			assertEquals(expected.indexOf(v), actual.indexOf(v));
+			assertEquals(expected.lastIndexOf(v), actual.lastIndexOf(v));
+		}
+	}
+
+	@Test(timeout = 1000)
+	public void blockAwareSearchMatchesLinearScan() {
+		LongList list = new LongList();
+		for (long v = 0; v < 100000; v++)
+			list.add(3 * v);
+		for (long v = -5; v < 300010; v += 7) {
+			long expected = (v < 0) ? ~0L : (v % 3 == 0 && v < 300000) ? v / 3 : ~Math.min((v + 2) / 3, 100000);
+			assertEquals(expected, list.binarySearch(v));
+		}
+	}
+
+	@Test(timeout = 1000)
+	public void interpolationAndExponentialSearchMatchBinarySearch() {
+		Random random = new Random(17);
+		LongList list = new LongList();
+		long v = Long.MIN_VALUE / 2;
+		for (int i = 0; i < 5000; i++) {
+			list.add(v);
+			// - mix of duplicates, small and huge gaps
+			int kind = random.nextInt(4);
+			v += (kind == 0) ? 0 : (kind == 1) ? random.nextInt(10) : (long) (random.nextInt() >>> 1) << 20;
+		}
+		for (int i = 0; i < 5000; i++) {
+			long key = (random.nextBoolean()) ? list.get(random.nextInt(5000)) + random.nextInt(3) - 1 : random.nextLong();
+			long expected = list.binarySearch(key);
+			assertEquals(expected, list.interpolationSearch(key));
+			assertEquals(expected, list.exponentialSearch(key, random.nextInt(5001)));
+		}
+		assertEquals(~0L, new LongList().interpolationSearch(1));
+		assertEquals(~0L, new LongList().exponentialSearch(1, 0));
+	}
+}
@@ -0,0 +1,114 @@
+package zjava.test.collection.sketch;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import zjava.collection.Hasher;
+import zjava.collection.Hasherz;
+import zjava.collection.sketch.BloomFilter;
+
+public class BloomFilterTest {
+
+	@Test(timeout = 2000)
+	public void noFalseNegativesAndBoundedFalsePositives() {
+		final int n = 100000;
+		BloomFilter<Integer> filter = new BloomFilter<Integer>(n, 0.01);
+		for (int i = 0; i < n; i++)
+			filter.put(i);
+		for (int i = 0; i < n; i++)
+			assertTrue(filter.mightContain(i));
+		int falsePositives = 0;
+		for (int i = n; i < 2*n; i++) {
+			if (filter.mightContain(i))
+				falsePositives++;
+		}
+		assertTrue("False positives: " + falsePositives, falsePositives < 0.015 * n);
+		assertEquals(0.01, filter.expectedFalsePositiveProbability(), 0.005);
+		assertEquals(n, filter.approximateElementCount(), n / 50);
+	}
+
+	@Test(timeout = 2000)
+	public void falsePositivesDontDependOnNumberOf32BitHashCodes() {
+		// - hasher with only 2^10 distinct 32-bit hash codes models the filter
+		// - with much more than 2^32 elements at the size of the test
+		Hasher<Long> hasher = new Hasher<Long>() {
+			private static final long serialVersionUID = 1L;
+
+			public int hashCode(Long o) {
+				return Hasherz.LONG.hashCode(o) & 0x3FF;
+			}
+
+			public long longHashCode(Long o) {
+				return Hasherz.LONG.longHashCode(o);
+			}
+		};
+		final int n = 100000;
+		BloomFilter<Long> filter = new BloomFilter<Long>(n, 0.01, hasher);
+		for (long i = 0; i < n; i++)
+			filter.put(i);
+		int falsePositives = 0;
+		for (long i = n; i < 2*n; i++) {
+			if (filter.mightContain(i))
+				falsePositives++;
+		}
+		assertTrue("False positives: " + falsePositives, falsePositives < 0.015 * n);
+	}
+
+	@Test(timeout = 200)
+	public void putReportsNewElements() {
+		BloomFilter<String> filter = new BloomFilter<String>(100, 0.001);
+		assertFalse(filter.mightContain("a"));
+		assertTrue(filter.put("a"));
+		assertFalse(filter.put("a"));
+		assertTrue(filter.mightContain("a"));
+	}
+
+	@Test(timeout = 200)
+	public void mergeCombinesElements() {
+		BloomFilter<Integer> a = new BloomFilter<Integer>(1000, 0.01);
+		BloomFilter<Integer> b = new BloomFilter<Integer>(1000, 0.01);
+		for (int i = 0; i < 500; i++) {
+			a.put(i);
+			b.put(-i);
+		}
+		a.merge(b);
+		for (int i = 0; i < 500; i++) {
+			assertTrue(a.mightContain(i));
+			assertTrue(a.mightContain(-i));
+		}
+	}
+
+	@Test(timeout = 200, expected = IllegalArgumentException.class)
+	public void mergeOfIncompatibleFiltersIsRejected() {
+		new BloomFilter<Integer>(1000, 0.01).merge(new BloomFilter<Integer>(1000, 0.02));
+	}
+
+	@Test(timeout = 200, expected = IllegalArgumentException.class)
+	public void invalidProbabilityIsRejected() {
+		new BloomFilter<Integer>(1000, 1.0);
+	}
+
+	@Test(timeout = 1000)
+	@SuppressWarnings("unchecked")
+	public void serializationPreservesContent() throws Exception {
+		BloomFilter<Long> filter = new BloomFilter<Long>(10000, 0.01);
+		for (long i = 0; i < 10000; i++)
+			filter.put(i * i);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ObjectOutputStream out = new ObjectOutputStream(bytes);
+		out.writeObject(filter);
+		out.close();
+		BloomFilter<Long> copy = (BloomFilter<Long>) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+		assertEquals(filter.bitSize(), copy.bitSize());
+		assertEquals(filter.hashFunctions(), copy.hashFunctions());
+		for (long i = 0; i < 10000; i++)
+			assertTrue(copy.mightContain(i * i));
+		copy.merge(filter);
+	}
+}
@@ -0,0 +1,52 @@
+package zjava.test.collection.sketch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import zjava.collection.sketch.CountMinSketch;
+
+public class CountMinSketchTest {
+
+	@Test(timeout = 1000)
+	public void countsAreNeverUnderestimated() {
+		CountMinSketch<Integer> sketch = new CountMinSketch<Integer>(0.001, 0.01);
+		for (int i = 0; i < 10000; i++)
+			sketch.add(i, i % 100);
+		sketch.add(-1, 1000000);
+		long total = sketch.totalCount();
+		int badEstimates = 0;
+		for (int i = 0; i < 10000; i++) {
+			long estimate = sketch.estimateCount(i);
+			assertTrue(estimate >= i % 100);
+			if (estimate > i % 100 + 0.001 * total)
+				badEstimates++;
+		}
+		assertTrue(badEstimates < 0.01 * 10000);
+		assertTrue(sketch.estimateCount(-1) >= 1000000);
+	}
+
+	@Test(timeout = 200)
+	public void mergeAddsCounts() {
+		CountMinSketch<String> a = new CountMinSketch<String>(0.01, 0.01);
+		CountMinSketch<String> b = new CountMinSketch<String>(0.01, 0.01);
+		a.add("x", 5);
+		b.add("x", 7);
+		b.add("y");
+		a.merge(b);
+		assertEquals(12, a.estimateCount("x"));
+		assertEquals(1, a.estimateCount("y"));
+		assertEquals(13, a.totalCount());
+	}
+
+	@Test(timeout = 200)
+	public void halveAgesCounts() {
+		CountMinSketch<String> sketch = new CountMinSketch<String>(0.01, 0.01);
+		sketch.add("x", 9);
+		sketch.add("y", 1);
+		sketch.halve();
+		assertEquals(4, sketch.estimateCount("x"));
+		assertEquals(0, sketch.estimateCount("y"));
+		assertEquals(5, sketch.totalCount());
+	}
+}
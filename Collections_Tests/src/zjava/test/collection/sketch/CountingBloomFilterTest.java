@@ -0,0 +1,69 @@
+package zjava.test.collection.sketch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import zjava.collection.sketch.CountingBloomFilter;
+
+public class CountingBloomFilterTest {
+
+	@Test(timeout = 2000)
+	public void removedElementsAreNotFound() {
+		final int n = 50000;
+		CountingBloomFilter<Integer> filter = new CountingBloomFilter<Integer>(n, 0.01);
+		for (int i = 0; i < n; i++)
+			filter.put(i);
+		for (int i = 0; i < n; i += 2)
+			assertTrue(filter.remove(i));
+		int falsePositives = 0;
+		for (int i = 0; i < n; i++) {
+			if (i % 2 == 1)
+				assertTrue(filter.mightContain(i));
+			else if (filter.mightContain(i))
+				falsePositives++;
+		}
+		assertTrue("False positives: " + falsePositives, falsePositives < 0.015 * n);
+	}
+
+	@Test(timeout = 200)
+	public void duplicatesAreCounted() {
+		CountingBloomFilter<String> filter = new CountingBloomFilter<String>(100, 0.001);
+		assertFalse(filter.remove("a"));
+		assertTrue(filter.put("a"));
+		assertFalse(filter.put("a"));
+		assertTrue(filter.remove("a"));
+		assertTrue(filter.mightContain("a"));
+		assertTrue(filter.remove("a"));
+		assertFalse(filter.mightContain("a"));
+	}
+
+	@Test(timeout = 200)
+	public void saturatedCountersAreNeverDecremented() {
+		CountingBloomFilter<String> filter = new CountingBloomFilter<String>(100, 0.01);
+		for (int i = 0; i < 20; i++)
+			filter.put("a");
+		for (int i = 0; i < 20; i++)
+			filter.remove("a");
+		assertTrue(filter.mightContain("a"));
+	}
+
+	@Test(timeout = 200)
+	public void mergeCombinesElements() {
+		CountingBloomFilter<Integer> a = new CountingBloomFilter<Integer>(1000, 0.01);
+		CountingBloomFilter<Integer> b = new CountingBloomFilter<Integer>(1000, 0.01);
+		for (int i = 0; i < 500; i++) {
+			a.put(i);
+			b.put(-i);
+		}
+		a.merge(b);
+		for (int i = 1; i < 500; i++) {
+			assertTrue(a.mightContain(i));
+			assertTrue(a.mightContain(-i));
+		}
+		for (int i = 1; i < 500; i++)
+			assertTrue(a.remove(-i));
+		for (int i = 0; i < 500; i++)
+			assertTrue(a.mightContain(i));
+	}
+}
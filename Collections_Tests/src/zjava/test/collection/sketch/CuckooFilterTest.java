@@ -0,0 +1,115 @@
+package zjava.test.collection.sketch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import zjava.collection.Hasher;
+import zjava.collection.Hasherz;
+import zjava.collection.sketch.CuckooFilter;
+
+public class CuckooFilterTest {
+
+	@Test(timeout = 2000)
+	public void noFalseNegativesAndBoundedFalsePositives() {
+		final int n = 200000;
+		CuckooFilter<Integer> filter = new CuckooFilter<Integer>(n);
+		for (int i = 0; i < n; i++)
+			assertTrue(filter.put(i));
+		assertEquals(n, filter.size());
+		for (int i = 0; i < n; i++)
+			assertTrue(filter.mightContain(i));
+		int falsePositives = 0;
+		for (int i = n; i < 2*n; i++) {
+			if (filter.mightContain(i))
+				falsePositives++;
+		}
+		assertTrue("False positives: " + falsePositives, falsePositives < 0.001 * n);
+	}
+
+	@Test(timeout = 2000)
+	public void bucketsAndFingerprintsUseAllBitsOfLongHashCodes() {
+		// - hasher with only 2^10 distinct 32-bit hash codes models the filter
+		// - with much more than 2^32 elements at the size of the test
+		Hasher<Long> hasher = new Hasher<Long>() {
+			private static final long serialVersionUID = 1L;
+
+			public int hashCode(Long o) {
+				return Hasherz.LONG.hashCode(o) & 0x3FF;
+			}
+
+			public long longHashCode(Long o) {
+				return Hasherz.LONG.longHashCode(o);
+			}
+		};
+		final int n = 200000;
+		CuckooFilter<Long> filter = new CuckooFilter<Long>(n, hasher);
+		for (long i = 0; i < n; i++)
+			assertTrue(filter.put(i));
+		int falsePositives = 0;
+		for (long i = n; i < 2*n; i++) {
+			if (filter.mightContain(i))
+				falsePositives++;
+		}
+		assertTrue("False positives: " + falsePositives, falsePositives < 0.001 * n);
+	}
+
+	@Test(timeout = 2000)
+	public void removedElementsAreNotFound() {
+		final int n = 100000;
+		CuckooFilter<Integer> filter = new CuckooFilter<Integer>(n);
+		for (int i = 0; i < n; i++)
+			filter.put(i);
+		for (int i = 0; i < n; i += 2)
+			assertTrue(filter.remove(i));
+		assertEquals(n / 2, filter.size());
+		int falsePositives = 0;
+		for (int i = 0; i < n; i++) {
+			if (i % 2 == 1)
+				assertTrue(filter.mightContain(i));
+			else if (filter.mightContain(i))
+				falsePositives++;
+		}
+		assertTrue("False positives: " + falsePositives, falsePositives < 0.001 * n);
+	}
+
+	@Test(timeout = 200)
+	public void duplicatesAreCounted() {
+		CuckooFilter<String> filter = new CuckooFilter<String>(100);
+		assertFalse(filter.remove("a"));
+		assertTrue(filter.put("a"));
+		assertTrue(filter.put("a"));
+		assertTrue(filter.remove("a"));
+		assertTrue(filter.mightContain("a"));
+		assertTrue(filter.remove("a"));
+		assertFalse(filter.mightContain("a"));
+		assertEquals(0, filter.size());
+	}
+
+	@Test(timeout = 1000)
+	public void fullFilterRejectsInsertionsWithoutLosingElements() {
+		CuckooFilter<Integer> filter = new CuckooFilter<Integer>(1000);
+		int n = 0;
+		while (filter.put(n))
+			n++;
+		assertTrue(n > 0.9 * filter.capacity());
+		assertEquals(n, filter.size());
+		for (int i = 0; i < n; i++)
+			assertTrue(filter.mightContain(i));
+		assertTrue(filter.remove(0));
+		assertTrue(filter.put(-1));
+		for (int i = 1; i < n; i++)
+			assertTrue(filter.mightContain(i));
+		assertTrue(filter.mightContain(-1));
+	}
+
+	@Test(timeout = 2000)
+	public void filterSpanningSeveralPages() {
+		CuckooFilter<Long> filter = new CuckooFilter<Long>(6000000);
+		assertEquals(1L << 23, filter.capacity());
+		for (long i = 0; i < 100000; i++)
+			filter.put(i * 0x10001);
+		for (long i = 0; i < 100000; i++)
+			assertTrue(filter.mightContain(i * 0x10001));
+	}
+}
@@ -0,0 +1,84 @@
+package zjava.test.collection.sketch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import zjava.collection.Hasher;
+import zjava.collection.Hasherz;
+import zjava.collection.sketch.HyperLogLog;
+
+public class HyperLogLogTest {
+
+	@Test(timeout = 200)
+	public void smallCardinalitiesAreNearlyExact() {
+		HyperLogLog<Integer> sketch = new HyperLogLog<Integer>();
+		assertEquals(0, sketch.cardinality());
+		for (int i = 0; i < 1000; i++) {
+			sketch.add(i);
+			sketch.add(i);
+		}
+		assertEquals(1000, sketch.cardinality(), 2);
+	}
+
+	@Test(timeout = 2000)
+	public void largeCardinalitiesAreEstimated() {
+		for (int precision : new int[] {10, 14}) {
+			HyperLogLog<Long> sketch = new HyperLogLog<Long>(precision);
+			final double error = 1.04 / Math.sqrt(1 << precision);
+			for (long i = 1; i <= 1000000; i++) {
+				sketch.add(i);
+				if (i == 3000 || i == 30000 || i == 1000000)
+					assertEquals(i, sketch.cardinality(), 4 * error * i);
+			}
+		}
+	}
+
+	@Test(timeout = 2000)
+	public void cardinalitiesAreNotCappedByNumberOf32BitHashCodes() {
+		// - hasher with only 2^16 distinct 32-bit hash codes models the sketch
+		// - with much more than 2^32 distinct elements at the size of the test
+		Hasher<Long> hasher = new Hasher<Long>() {
+			private static final long serialVersionUID = 1L;
+
+			public int hashCode(Long o) {
+				return Hasherz.LONG.hashCode(o) & 0xFFFF;
+			}
+
+			public long longHashCode(Long o) {
+				return Hasherz.LONG.longHashCode(o);
+			}
+		};
+		HyperLogLog<Long> sketch = new HyperLogLog<Long>(14, hasher);
+		final double error = 1.04 / Math.sqrt(1 << 14);
+		for (long i = 1; i <= 1000000; i++)
+			sketch.add(i);
+		assertEquals(1000000, sketch.cardinality(), 4 * error * 1000000);
+	}
+
+	@Test(timeout = 1000)
+	public void mergeGivesCardinalityOfUnion() {
+		HyperLogLog<Integer> a = new HyperLogLog<Integer>(12);
+		HyperLogLog<Integer> b = new HyperLogLog<Integer>(12);
+		HyperLogLog<Integer> c = new HyperLogLog<Integer>(12);
+		for (int i = 0; i < 100; i++)
+			a.add(i);
+		for (int i = 50; i < 100000; i++)
+			b.add(i);
+		for (int i = 50; i < 150; i++)
+			c.add(i);
+		HyperLogLog<Integer> sparse = new HyperLogLog<Integer>(12);
+		sparse.merge(a);
+		sparse.merge(c);
+		assertEquals(150, sparse.cardinality(), 1);
+		a.merge(b);
+		assertEquals(100000, a.cardinality(), 100000 * 0.05);
+		b.merge(c);
+		assertEquals(100000, b.cardinality(), 100000 * 0.05);
+	}
+
+	@Test(timeout = 200, expected = IllegalArgumentException.class)
+	public void mergeOfDifferentPrecisionsIsRejected() {
+		new HyperLogLog<Integer>(12).merge(new HyperLogLog<Integer>(14));
+	}
+}
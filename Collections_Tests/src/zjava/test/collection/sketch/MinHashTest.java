@@ -0,0 +1,29 @@
+package zjava.test.collection.sketch;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import zjava.collection.sketch.MinHash;
+
+public class MinHashTest {
+
+	@Test(timeout = 1000)
+	public void similarityApproximatesJaccardIndex() {
+		MinHash<Integer> a = new MinHash<Integer>(256);
+		MinHash<Integer> b = new MinHash<Integer>(256);
+		for (int i = 0; i < 3000; i++)
+			a.add(i);
+		for (int i = 1000; i < 4000; i++)
+			b.add(i);
+		// - intersection 2000, union 4000
+		assertEquals(0.5, a.similarity(b), 0.1);
+		assertEquals(1.0, a.similarity(a), 0.0);
+		a.merge(b);
+		assertEquals(1.0, a.similarity(a), 0.0);
+		MinHash<Integer> union = new MinHash<Integer>(256);
+		for (int i = 0; i < 4000; i++)
+			union.add(i);
+		assertEquals(1.0, a.similarity(union), 0.0);
+	}
+}